@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.sdk.appsync.core.authorizers
+
+import com.amazonaws.sdk.appsync.core.AppSyncAuthorizer
+import com.amazonaws.sdk.appsync.core.AppSyncRequest
+import com.amazonaws.sdk.appsync.core.HeaderKeys
+import com.amazonaws.sdk.appsync.core.util.JwtExpiry
+import java.util.concurrent.TimeUnit
+import kotlin.coroutines.Continuation
+import kotlin.coroutines.cancellation.CancellationException
+import kotlin.coroutines.suspendCoroutine
+import org.jetbrains.annotations.VisibleForTesting
+
+/**
+ * [AppSyncAuthorizer] that wraps another authorizer, and reuses the headers it returns for as long as the token
+ * they carry is valid, rather than fetching the token again for every request and WebSocket message. Headers are
+ * kept when their Authorization header is a JSON Web Token, such as a Cognito User Pools or OIDC token, until
+ * [refreshBeforeExpirySeconds] before the token expires. Callers that need headers while the wrapped authorizer is
+ * fetching them wait for that fetch rather than starting their own.
+ *
+ * Other headers, such as API key headers or SigV4 signatures, which are specific to each request, are not kept:
+ * once the wrapped authorizer has returned such headers, every call goes straight to it.
+ * @param delegate The authorizer to wrap
+ * @param refreshBeforeExpirySeconds How long before the token expires new headers are fetched. Defaults to 60.
+ */
+class CachingAuthorizer @VisibleForTesting internal constructor(
+    private val delegate: AppSyncAuthorizer,
+    private val refreshBeforeExpirySeconds: Long,
+    private val currentTimeMillis: () -> Long
+) : AppSyncAuthorizer {
+
+    @JvmOverloads
+    constructor(
+        delegate: AppSyncAuthorizer,
+        refreshBeforeExpirySeconds: Long = DEFAULT_REFRESH_BEFORE_EXPIRY_SECONDS
+    ) : this(delegate, refreshBeforeExpirySeconds, System::currentTimeMillis)
+
+    private val lock = Any()
+
+    @Volatile
+    private var passThrough = false
+
+    // Guarded by the lock.
+    private var cached: CachedHeaders? = null
+    private var refresh: Refresh? = null
+
+    override suspend fun getAuthorizationHeaders(request: AppSyncRequest): Map<String, String> {
+        if (passThrough) {
+            return delegate.getAuthorizationHeaders(request)
+        }
+        val ongoingRefresh: Refresh?
+        val newRefresh: Refresh
+        synchronized(lock) {
+            cached?.takeIf { currentTimeMillis() < it.refreshAtMillis }?.let { return it.headers }
+            ongoingRefresh = refresh
+            newRefresh = ongoingRefresh ?: Refresh().also { refresh = it }
+        }
+        if (ongoingRefresh != null) {
+            // Headers that cannot be shared are fetched for this request.
+            return ongoingRefresh.await() ?: delegate.getAuthorizationHeaders(request)
+        }
+
+        val result = runCatching { delegate.getAuthorizationHeaders(request) }
+        val headers = result.getOrNull()
+        val expiresAtMillis = headers?.get(HeaderKeys.AUTHORIZATION)?.let { JwtExpiry.expiresAtMillis(it) }
+        synchronized(lock) {
+            refresh = null
+            if (headers != null && expiresAtMillis == null) {
+                passThrough = true
+            } else if (expiresAtMillis != null) {
+                val refreshAtMillis = expiresAtMillis - TimeUnit.SECONDS.toMillis(refreshBeforeExpirySeconds)
+                cached = CachedHeaders(headers, refreshAtMillis)
+            }
+        }
+        newRefresh.complete(
+            when {
+                expiresAtMillis != null -> result
+                // A canceled caller leaves the others to fetch their own headers.
+                result.exceptionOrNull() is CancellationException -> Result.success(null)
+                headers != null -> Result.success(null)
+                else -> result
+            }
+        )
+        return result.getOrThrow()
+    }
+
+    /**
+     * Drops the headers kept, so that the next call fetches new ones, for instance after a request has been
+     * rejected as unauthorized, or after the user has signed out.
+     */
+    fun invalidate() {
+        synchronized(lock) {
+            cached = null
+        }
+    }
+
+    private class CachedHeaders(val headers: Map<String, String>, val refreshAtMillis: Long)
+
+    // A fetch of headers, whose result is shared with the callers that wait for it. A null result means that the
+    // headers are specific to the request they were fetched for.
+    private class Refresh {
+        private var result: Result<Map<String, String>?>? = null
+        private val waiters = mutableListOf<Continuation<Map<String, String>?>>()
+
+        suspend fun await(): Map<String, String>? = suspendCoroutine { continuation ->
+            val completed = synchronized(this) {
+                result.also { if (it == null) waiters += continuation }
+            }
+            completed?.let { continuation.resumeWith(it) }
+        }
+
+        fun complete(result: Result<Map<String, String>?>) {
+            val toResume = synchronized(this) {
+                this.result = result
+                waiters.toList().also { waiters.clear() }
+            }
+            toResume.forEach { it.resumeWith(result) }
+        }
+    }
+
+    private companion object {
+        const val DEFAULT_REFRESH_BEFORE_EXPIRY_SECONDS = 60L
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.sdk.appsync.core.util
+
+import java.io.ByteArrayOutputStream
+
+/**
+ * Reads the expiry of a JSON Web Token, such as a Cognito User Pools or OIDC token, from its exp claim. The
+ * signature of the token is not verified, since the expiry is only used to decide how long to keep the token.
+ */
+internal object JwtExpiry {
+    private const val BASE64_URL_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+    private const val BITS_PER_CHAR = 6
+    private const val BITS_PER_BYTE = 8
+    private const val BYTE_MASK = 0xFF
+    private const val MILLIS_PER_SECOND = 1000L
+    private val EXP_CLAIM = Regex("\"exp\"\\s*:\\s*(\\d+)")
+
+    /**
+     * Returns the expiry of a token, in milliseconds since the epoch, or null if the token is not a JWT with an
+     * exp claim. A "Bearer " prefix is ignored.
+     */
+    fun expiresAtMillis(token: String): Long? {
+        val parts = token.removePrefix("Bearer ").trim().split('.')
+        if (parts.size != 3) {
+            return null
+        }
+        val payload = decodeBase64Url(parts[1]) ?: return null
+        val expiry = EXP_CLAIM.find(payload)?.groupValues?.get(1)?.toLongOrNull() ?: return null
+        return expiry * MILLIS_PER_SECOND
+    }
+
+    // java.util.Base64 is not available on all of the Android versions this library supports.
+    private fun decodeBase64Url(value: String): String? {
+        val bytes = ByteArrayOutputStream()
+        var buffer = 0
+        var bits = 0
+        for (char in value.trimEnd('=')) {
+            val index = BASE64_URL_ALPHABET.indexOf(char)
+            if (index < 0) {
+                return null
+            }
+            buffer = (buffer shl BITS_PER_CHAR) or index
+            bits += BITS_PER_CHAR
+            if (bits >= BITS_PER_BYTE) {
+                bits -= BITS_PER_BYTE
+                bytes.write((buffer shr bits) and BYTE_MASK)
+                buffer = buffer and ((1 shl bits) - 1)
+            }
+        }
+        return bytes.toString(Charsets.UTF_8.name())
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.sdk.appsync.core.authorizers
+
+import com.amazonaws.sdk.appsync.core.AppSyncAuthorizer
+import com.amazonaws.sdk.appsync.core.AppSyncRequest
+import com.amazonaws.sdk.appsync.core.HeaderKeys
+import io.kotest.matchers.shouldBe
+import java.util.Base64
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.test.runCurrent
+import kotlinx.coroutines.test.runTest
+import org.junit.Test
+
+class CachingAuthorizerTest {
+    private val request = object : AppSyncRequest {
+        override val method = AppSyncRequest.HttpMethod.POST
+        override val url = "url"
+        override val headers = emptyMap<String, String>()
+        override val body = null
+    }
+
+    private var now = 0L
+    private var calls = 0
+
+    // A token expiring 1000 seconds after the epoch
+    private val token = jwt("{\"sub\":\"user\",\"exp\":1000}")
+
+    private fun authorizer(delegate: AppSyncAuthorizer) = CachingAuthorizer(delegate, 60) { now }
+
+    private fun delegate(headers: () -> Map<String, String>) = object : AppSyncAuthorizer {
+        override suspend fun getAuthorizationHeaders(request: AppSyncRequest): Map<String, String> {
+            calls++
+            return headers()
+        }
+    }
+
+    @Test
+    fun `reuses token headers until shortly before the token expires`() = runTest {
+        val authorizer = authorizer(delegate { mapOf(HeaderKeys.AUTHORIZATION to token) })
+
+        authorizer.getAuthorizationHeaders(request)
+        now = 939_999
+        authorizer.getAuthorizationHeaders(request) shouldBe mapOf(HeaderKeys.AUTHORIZATION to token)
+        calls shouldBe 1
+
+        now = 940_000
+        authorizer.getAuthorizationHeaders(request)
+        calls shouldBe 2
+    }
+
+    @Test
+    fun `fetches new headers once invalidated`() = runTest {
+        val authorizer = authorizer(delegate { mapOf(HeaderKeys.AUTHORIZATION to token) })
+
+        authorizer.getAuthorizationHeaders(request)
+        authorizer.invalidate()
+        authorizer.getAuthorizationHeaders(request)
+
+        calls shouldBe 2
+    }
+
+    @Test
+    fun `concurrent callers share a single fetch`() = runTest {
+        val headers = CompletableDeferred<Map<String, String>>()
+        val authorizer = authorizer(object : AppSyncAuthorizer {
+            override suspend fun getAuthorizationHeaders(request: AppSyncRequest): Map<String, String> {
+                calls++
+                return headers.await()
+            }
+        })
+
+        val results = List(3) { async { authorizer.getAuthorizationHeaders(request) } }
+        runCurrent()
+        headers.complete(mapOf(HeaderKeys.AUTHORIZATION to token))
+
+        results.awaitAll() shouldBe List(3) { mapOf(HeaderKeys.AUTHORIZATION to token) }
+        calls shouldBe 1
+    }
+
+    @Test
+    fun `does not reuse headers that are not tokens`() = runTest {
+        val authorizer = authorizer(delegate { mapOf(HeaderKeys.API_KEY to "key") })
+
+        authorizer.getAuthorizationHeaders(request)
+        authorizer.getAuthorizationHeaders(request) shouldBe mapOf(HeaderKeys.API_KEY to "key")
+
+        calls shouldBe 2
+    }
+
+    @Test
+    fun `does not reuse tokens without an expiry`() = runTest {
+        val authorizer = authorizer(delegate { mapOf(HeaderKeys.AUTHORIZATION to jwt("{\"sub\":\"user\"}")) })
+
+        authorizer.getAuthorizationHeaders(request)
+        authorizer.getAuthorizationHeaders(request)
+
+        calls shouldBe 2
+    }
+
+    private fun jwt(payload: String): String {
+        val encoder = Base64.getUrlEncoder().withoutPadding()
+        val header = encoder.encodeToString("{\"alg\":\"none\"}".toByteArray())
+        return "$header.${encoder.encodeToString(payload.toByteArray())}.signature"
+    }
+}
@@ -79,10 +79,18 @@ class Events(
          * @param loggerProvider allows the EventsWebSocketClient to emit logs to a provided logger
          * @param okHttpConfigurationProvider provides the OkHttp.Builder used by the EventsWebSocketClient,
          * enabling further networking customizations
+         * @property subscriptionBuffer sets how the messages of subscriptions are buffered until collected, unless
+         * given for a subscription
          */
         class WebSocket(
             loggerProvider: LoggerProvider? = null,
-            okHttpConfigurationProvider: OkHttpConfigurationProvider? = null
-        ) : Options(loggerProvider, okHttpConfigurationProvider)
+            okHttpConfigurationProvider: OkHttpConfigurationProvider? = null,
+            val subscriptionBuffer: SubscriptionBufferOptions = SubscriptionBufferOptions()
+        ) : Options(loggerProvider, okHttpConfigurationProvider) {
+            constructor(
+                loggerProvider: LoggerProvider?,
+                okHttpConfigurationProvider: OkHttpConfigurationProvider?
+            ) : this(loggerProvider, okHttpConfigurationProvider, SubscriptionBufferOptions())
+        }
     }
 }
@@ -25,11 +25,13 @@ import com.amazonaws.sdk.appsync.events.data.toEventsException
 import com.amazonaws.sdk.appsync.events.utils.ConnectionTimeoutTimer
 import com.amazonaws.sdk.appsync.events.utils.HeaderKeys
 import com.amazonaws.sdk.appsync.events.utils.HeaderValues
+import java.util.concurrent.atomic.AtomicLong
 import kotlinx.coroutines.CompletableDeferred
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.CoroutineScope
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.async
+import kotlinx.coroutines.channels.BufferOverflow
 import kotlinx.coroutines.coroutineScope
 import kotlinx.coroutines.flow.MutableSharedFlow
 import kotlinx.coroutines.flow.asSharedFlow
@@ -56,10 +58,16 @@ internal class EventsWebSocket(
     private val okHttpClient: OkHttpClient,
     private val json: Json,
     loggerProvider: LoggerProvider?,
-    private val ioDispatcher: CoroutineDispatcher = Dispatchers.IO
+    private val ioDispatcher: CoroutineDispatcher = Dispatchers.IO,
+    unmatchedMessages: AtomicLong = AtomicLong()
 ) : WebSocketListener() {
 
-    private val _events = MutableSharedFlow<WebSocketMessage>(extraBufferCapacity = Int.MAX_VALUE)
+    // Messages about the connection itself, and its closure. Messages addressed to a publish or a subscription are
+    // routed by the dispatcher instead, and buffered per subscription.
+    private val _events = MutableSharedFlow<WebSocketMessage>(
+        extraBufferCapacity = EVENTS_BUFFER_CAPACITY,
+        onBufferOverflow = BufferOverflow.DROP_OLDEST
+    )
     val events = _events.asSharedFlow() // publicly exposed as read-only shared flow
 
     private lateinit var webSocket: WebSocket
@@ -72,6 +80,7 @@ internal class EventsWebSocket(
     )
     val preAuthPublishHeaders: Map<String, String> by lazy { mapOf(HeaderKeys.HOST to eventsEndpoints.host) }
     private val logger = loggerProvider?.getLogger(TAG)
+    val dispatcher = WebSocketMessageDispatcher(logger, unmatchedMessages)
 
     @Throws(ConnectException::class)
     suspend fun connect() = coroutineScope {
@@ -222,12 +231,16 @@ internal class EventsWebSocket(
 
     private fun emitEvent(event: WebSocketMessage) {
         logger?.debug { "emit ${event::class.java}" }
-        _events.tryEmit(event)
+        val dispatched = dispatcher.dispatch(event)
+        if (!dispatched || event is WebSocketMessage.Closed) {
+            _events.tryEmit(event)
+        }
     }
 
     companion object {
         const val TAG = "EventsWebSocket"
         const val NORMAL_CLOSE_CODE = 1000
+        private const val EVENTS_BUFFER_CAPACITY = 64
 
         private fun createPreAuthConnectRequest(eventsEndpoints: EventsEndpoints): Request = Request.Builder().apply {
             url(eventsEndpoints.websocketRealtimeEndpoint)
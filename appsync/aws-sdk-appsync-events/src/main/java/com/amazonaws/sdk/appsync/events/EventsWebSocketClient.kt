@@ -24,14 +24,11 @@ import com.amazonaws.sdk.appsync.events.data.WebSocketMessage
 import com.amazonaws.sdk.appsync.events.data.toEventsException
 import com.amazonaws.sdk.appsync.events.utils.JsonUtils
 import java.util.UUID
-import kotlinx.coroutines.CompletableDeferred
+import java.util.concurrent.atomic.AtomicLong
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.Dispatchers
-import kotlinx.coroutines.async
-import kotlinx.coroutines.coroutineScope
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.catch
-import kotlinx.coroutines.flow.first
 import kotlinx.coroutines.flow.flow
 import kotlinx.coroutines.flow.flowOn
 import kotlinx.coroutines.flow.onCompletion
@@ -61,15 +58,26 @@ class EventsWebSocketClient internal constructor(
 
     private val json = JsonUtils.createJsonForLibrary()
 
+    private val unmatchedMessages = AtomicLong()
+
     private val eventsWebSocketProvider = EventsWebSocketProvider(
         endpoints,
         connectAuthorizer,
         okHttpClient,
         json,
         options.loggerProvider,
-        ioDispatcher
+        ioDispatcher,
+        unmatchedMessages
     )
 
+    /**
+     * Number of messages received by this client, over any of its WebSockets, that were addressed to a publish or a
+     * subscription no longer awaited, such as the data of a channel received after unsubscribing from it. They are
+     * dropped; a count that keeps growing points at subscriptions or publishes abandoned before their response.
+     */
+    val unmatchedMessageCount: Long
+        get() = unmatchedMessages.get()
+
     private val logger = options.loggerProvider?.getLogger(TAG)
 
     /**
@@ -79,14 +87,31 @@ class EventsWebSocketClient internal constructor(
      * @param authorizer for the subscribe call. The subscribeAuthorizer passed to the client will be used as default.
      * @return flow of event messages. Collect flow to receive messages.
      */
-    fun subscribe(channelName: String, authorizer: AppSyncAuthorizer = this.subscribeAuthorizer): Flow<EventsMessage> {
-        val subscriptionHolder = SubscriptionHolder()
+    fun subscribe(channelName: String, authorizer: AppSyncAuthorizer = this.subscribeAuthorizer): Flow<EventsMessage> =
+        subscribe(channelName, authorizer, options.subscriptionBuffer)
+
+    /**
+     * Subscribe to a channel, buffering its messages until collected as set by the given options.
+     *
+     * @param channelName of the channel to subscribe to.
+     * @param authorizer for the subscribe call.
+     * @param bufferOptions for the messages of the subscription, in place of those of the client options.
+     * @return flow of event messages. Collect flow to receive messages.
+     */
+    fun subscribe(
+        channelName: String,
+        authorizer: AppSyncAuthorizer,
+        bufferOptions: SubscriptionBufferOptions
+    ): Flow<EventsMessage> {
+        val subscriptionHolder = SubscriptionHolder(SubscriptionBuffer(channelName, bufferOptions, logger))
         return createSubscriptionEventDataFlow(subscriptionHolder)
             .onStart {
                 // block completes complete before event messages begin emitting through flow
                 // get a connected websocket
                 val newWebSocket = eventsWebSocketProvider.getConnectedWebSocket()
                 subscriptionHolder.webSocket = newWebSocket
+                // Data may follow the subscription response closely, so it is routed to the buffer beforehand
+                newWebSocket.dispatcher.addSubscription(subscriptionHolder.id, subscriptionHolder.buffer)
                 // + send subscription. Returns true if successfully subscribed
                 val isSubscribed = initiateSubscription(
                     channelName,
@@ -104,6 +129,8 @@ class EventsWebSocketClient internal constructor(
             }.flowOn(ioDispatcher) // io used for authorizers to pull headers asynchronously
             .onCompletion {
                 completeSubscription(subscriptionHolder, it)
+                subscriptionHolder.webSocket?.dispatcher?.removeSubscription(subscriptionHolder.id)
+                subscriptionHolder.buffer.cancel()
                 subscriptionHolder.webSocket = null
             }
             .catchUserClosedException() // allow emitting all exceptions but user initiated close
@@ -171,20 +198,18 @@ class EventsWebSocketClient internal constructor(
 
         val webSocket = eventsWebSocketProvider.getConnectedWebSocket()
 
-        val listeningForPublishSignal = CompletableDeferred<Unit>()
-        val deferredResponse = async {
-            getPublishResponse(webSocket, publishId) {
-                listeningForPublishSignal.complete(Unit)
+        val response = try {
+            val deferredResponse = webSocket.dispatcher.expectResponse(publishId)
+            val queued = webSocket.sendWithAuthorizer(publishMessage, authorizer)
+            if (!queued) {
+                throw webSocket.disconnectReason?.toCloseException() ?: ConnectionClosedException()
             }
+            deferredResponse.await()
+        } finally {
+            webSocket.dispatcher.removeResponse(publishId)
         }
-        listeningForPublishSignal.await()
 
-        val queued = webSocket.sendWithAuthorizer(publishMessage, authorizer)
-        if (!queued) {
-            throw webSocket.disconnectReason?.toCloseException() ?: ConnectionClosedException()
-        }
-
-        return@withContext when (val response = deferredResponse.await()) {
+        return@withContext when (response) {
             is WebSocketMessage.Received.PublishSuccess -> {
                 response
             }
@@ -204,28 +229,30 @@ class EventsWebSocketClient internal constructor(
     }
 
     private fun createSubscriptionEventDataFlow(subscriptionHolder: SubscriptionHolder): Flow<EventsMessage> = flow {
-        subscriptionHolder.webSocket?.events?.collect {
+        if (subscriptionHolder.webSocket == null) {
+            throw EventsException.unknown("EventsWebSocket was null when attempting to collect.")
+        }
+        subscriptionHolder.buffer.messages.collect { message ->
             // First part of chained flow which not only receives Data message, but also detects
             // ConnectionClosed. This allows us to complete the flow when the websocket closes
-            when {
-                it is WebSocketMessage.Received.Subscription.Data && it.id == subscriptionHolder.id -> {
-                    emit(EventsMessage(it.event))
+            when (message) {
+                is WebSocketMessage.Received.Subscription.Data -> {
+                    emit(EventsMessage(message.event))
                 }
 
-                it is WebSocketMessage.Closed -> {
-                    throw it.reason.toCloseException()
+                is WebSocketMessage.Closed -> {
+                    throw message.reason.toCloseException()
                 }
 
-                it is WebSocketMessage.ErrorContainer && it.id == subscriptionHolder.id -> {
+                is WebSocketMessage.ErrorContainer -> {
                     val exceptionMessage = "Received error for subscription"
-                    throw it.errors.firstOrNull()?.toEventsException(exceptionMessage)
+                    throw message.errors.firstOrNull()?.toEventsException(exceptionMessage)
                         ?: EventsException(exceptionMessage)
                 }
 
                 else -> Unit
             }
         }
-            ?: throw EventsException.unknown("EventsWebSocket was null when attempting to collect.")
     }
 
     private suspend fun initiateSubscription(
@@ -233,33 +260,32 @@ class EventsWebSocketClient internal constructor(
         webSocket: EventsWebSocket,
         subscriptionId: String,
         authorizer: AppSyncAuthorizer
-    ): Boolean = coroutineScope {
-        // create a deferred holder for subscription response
-        val listeningForSubscriptionSignal = CompletableDeferred<Unit>()
-        val deferredSubscriptionResponse =
-            async {
-                getSubscriptionResponse(webSocket, subscriptionId) {
-                    listeningForSubscriptionSignal.complete(Unit)
-                }
+    ): Boolean {
+        val response = try {
+            // register for the subscription response before subscribing
+            val deferredSubscriptionResponse = webSocket.dispatcher.expectResponse(subscriptionId)
+
+            // Publish subscription to websocket
+            val queued = webSocket.sendWithAuthorizer(
+                webSocketMessage = WebSocketMessage.Send.Subscription.Subscribe(
+                    id = subscriptionId,
+                    channel = channelName
+                ),
+                authorizer = authorizer
+            )
+            if (!queued) {
+                throw webSocket.disconnectReason?.toCloseException() ?: ConnectionClosedException()
             }
-        listeningForSubscriptionSignal.await()
-
-        // Publish subscription to websocket
-        val queued = webSocket.sendWithAuthorizer(
-            webSocketMessage = WebSocketMessage.Send.Subscription.Subscribe(
-                id = subscriptionId,
-                channel = channelName
-            ),
-            authorizer = authorizer
-        )
-        if (!queued) {
-            throw webSocket.disconnectReason?.toCloseException() ?: ConnectionClosedException()
+
+            // Wait for subscription result to return
+            deferredSubscriptionResponse.await()
+        } finally {
+            webSocket.dispatcher.removeResponse(subscriptionId)
         }
 
-        // Wait for subscription result to return
-        when (val response = deferredSubscriptionResponse.await()) {
+        return when (response) {
             is WebSocketMessage.Received.Subscription.SubscribeSuccess -> {
-                return@coroutineScope true
+                true
             }
 
             is WebSocketMessage.ErrorContainer -> {
@@ -277,38 +303,6 @@ class EventsWebSocketClient internal constructor(
         }
     }
 
-    private suspend fun getSubscriptionResponse(
-        webSocket: EventsWebSocket,
-        subscriptionId: String,
-        onListening: () -> Unit
-    ): WebSocketMessage = webSocket.events
-        .onStart { onListening.invoke() }
-        .onCompletion { onListening.invoke() } // just in case. No impact of calling onListening multiple times
-        .first {
-            when {
-                it is WebSocketMessage.Received.Subscription && it.id == subscriptionId -> true
-                it is WebSocketMessage.ErrorContainer && it.id == subscriptionId -> true
-                it is WebSocketMessage.Closed -> true
-                else -> false
-            }
-        }
-
-    private suspend fun getPublishResponse(
-        webSocket: EventsWebSocket,
-        publishId: String,
-        onListening: () -> Unit
-    ): WebSocketMessage = webSocket.events
-        .onStart { onListening.invoke() }
-        .onCompletion { onListening.invoke() } // just in case. No impact of calling onListening multiple times
-        .first {
-            when {
-                it is WebSocketMessage.Received.PublishSuccess && it.id == publishId -> true
-                it is WebSocketMessage.ErrorContainer && it.id == publishId -> true
-                it is WebSocketMessage.Closed -> true
-                else -> false
-            }
-        }
-
     private fun completeSubscription(subscriptionHolder: SubscriptionHolder, throwable: Throwable?) {
         // only unsubscribe if already subscribed and websocket is still open
         val currentWebSocket = subscriptionHolder.webSocket
@@ -329,6 +323,7 @@ class EventsWebSocketClient internal constructor(
      * Holds mutable details about a subscription including the websocket and whether or not subscribe was successful
      */
     internal data class SubscriptionHolder(
+        val buffer: SubscriptionBuffer,
         var webSocket: EventsWebSocket? = null,
         var subscriptionState: SubscriptionState = SubscriptionState.PENDING
     ) {
@@ -17,6 +17,7 @@ package com.amazonaws.sdk.appsync.events
 
 import com.amazonaws.sdk.appsync.core.AppSyncAuthorizer
 import com.amazonaws.sdk.appsync.core.LoggerProvider
+import java.util.concurrent.atomic.AtomicLong
 import java.util.concurrent.atomic.AtomicReference
 import kotlinx.coroutines.CoroutineDispatcher
 import kotlinx.coroutines.Deferred
@@ -34,7 +35,8 @@ internal class EventsWebSocketProvider(
     private val okHttpClient: OkHttpClient,
     private val json: Json,
     private val loggerProvider: LoggerProvider?,
-    private val ioDispatcher: CoroutineDispatcher = Dispatchers.IO
+    private val ioDispatcher: CoroutineDispatcher = Dispatchers.IO,
+    private val unmatchedMessages: AtomicLong = AtomicLong()
 ) {
     private val mutex = Mutex()
     private val connectionResultReference = AtomicReference<Result<EventsWebSocket>?>(null)
@@ -96,7 +98,8 @@ internal class EventsWebSocketProvider(
             okHttpClient,
             json,
             loggerProvider,
-            ioDispatcher
+            ioDispatcher,
+            unmatchedMessages
         )
         eventsWebSocket.connect()
         Result.success(eventsWebSocket)
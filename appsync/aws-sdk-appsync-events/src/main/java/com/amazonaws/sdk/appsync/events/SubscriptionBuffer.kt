@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.sdk.appsync.events
+
+import com.amazonaws.sdk.appsync.core.Logger
+import com.amazonaws.sdk.appsync.events.SubscriptionBufferOptions.BufferOverflow
+import com.amazonaws.sdk.appsync.events.data.WebSocketMessage
+import java.util.concurrent.atomic.AtomicLong
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.channels.ClosedSendChannelException
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.runBlocking
+
+/**
+ * Holds the messages received for a subscription until its flow collects them, within the bounds of its options.
+ * Messages are offered from the thread reading the WebSocket, and only from it.
+ */
+internal class SubscriptionBuffer(
+    private val channelName: String,
+    private val options: SubscriptionBufferOptions,
+    private val logger: Logger? = null
+) {
+    private val channel = Channel<WebSocketMessage>(
+        if (options.overflow == BufferOverflow.KEEP_LATEST) 1 else options.capacity
+    )
+    private val droppedMessages = AtomicLong()
+
+    @Volatile
+    private var closed: WebSocketMessage.Closed? = null
+
+    val droppedMessageCount: Long
+        get() = droppedMessages.get()
+
+    /**
+     * Messages of the subscription, followed by the closure of the WebSocket if it closes. The closure is kept
+     * apart from the buffer, so that it is never dropped nor waits for room.
+     */
+    val messages: Flow<WebSocketMessage> = flow {
+        for (message in channel) {
+            emit(message)
+        }
+        closed?.let { emit(it) }
+    }
+
+    fun offer(message: WebSocketMessage) {
+        if (channel.trySend(message).isSuccess) {
+            return
+        }
+        when (options.overflow) {
+            BufferOverflow.SUSPEND -> try {
+                // Blocks the thread reading the WebSocket until the subscription makes room
+                runBlocking { channel.send(message) }
+            } catch (e: ClosedSendChannelException) {
+                // the subscription has completed
+            } catch (e: CancellationException) {
+                // the subscription has completed
+            }
+
+            BufferOverflow.DROP_OLDEST, BufferOverflow.KEEP_LATEST -> {
+                while (!channel.trySend(message).isSuccess && !channel.isClosedForSend) {
+                    // The subscription may have taken the oldest message in the meantime, which frees room as well
+                    if (channel.tryReceive().isSuccess) {
+                        onDropped()
+                    }
+                }
+            }
+        }
+    }
+
+    fun close(closed: WebSocketMessage.Closed) {
+        this.closed = closed
+        channel.close()
+    }
+
+    // Called once the subscription has completed, which releases a reader waiting for room
+    fun cancel() {
+        channel.cancel()
+    }
+
+    private fun onDropped() {
+        val droppedCount = droppedMessages.incrementAndGet()
+        logger?.debug { "Dropped a message of $channelName, $droppedCount so far" }
+        options.droppedMessagesListener?.onMessagesDropped(channelName, droppedCount)
+    }
+}
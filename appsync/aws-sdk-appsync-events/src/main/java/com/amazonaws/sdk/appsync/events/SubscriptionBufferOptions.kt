@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.sdk.appsync.events
+
+/**
+ * How the messages received for a subscription are buffered until its flow collects them. The buffer is bounded,
+ * so that a subscription collected more slowly than its channel receives messages does not hold an ever-growing
+ * backlog in memory. By default, a full buffer drops its oldest message, so that reading the WebSocket never waits
+ * for a subscription; set [droppedMessagesListener] to be told when it does.
+ *
+ * @property capacity maximum number of messages buffered for the subscription. Defaults to 1000.
+ * @property overflow what happens to a message received while the buffer is full. Defaults to
+ * [BufferOverflow.DROP_OLDEST].
+ * @property droppedMessagesListener notified whenever a message of the subscription is dropped
+ */
+class SubscriptionBufferOptions @JvmOverloads constructor(
+    val capacity: Int = DEFAULT_CAPACITY,
+    val overflow: BufferOverflow = BufferOverflow.DROP_OLDEST,
+    val droppedMessagesListener: DroppedMessagesListener? = null
+) {
+    init {
+        require(capacity > 0) { "capacity must be positive, but was $capacity" }
+    }
+
+    /**
+     * What happens to a message received for a subscription whose buffer is full
+     */
+    enum class BufferOverflow {
+        /**
+         * Wait for the subscription to collect a message before reading from the WebSocket again. No message is
+         * lost, but the messages of the other subscriptions, and the responses to publishes, wait as well.
+         *
+         * A collector of the subscription must therefore never wait for the WebSocket itself: one that publishes
+         * over the same WebSocket while collecting deadlocks once the buffer is full, as the publish waits for a
+         * response that cannot be read until the collector makes room.
+         */
+        SUSPEND,
+
+        /**
+         * Drop the oldest message buffered to make room for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Keep only the latest message received, regardless of the capacity.
+         */
+        KEEP_LATEST
+    }
+
+    private companion object {
+        const val DEFAULT_CAPACITY = 1000
+    }
+}
+
+/**
+ * Notified when messages of a subscription are dropped because its buffer is full
+ */
+fun interface DroppedMessagesListener {
+    /**
+     * Called after a message of a subscription has been dropped.
+     *
+     * @param channelName of the subscription
+     * @param droppedCount number of messages of the subscription dropped so far
+     */
+    fun onMessagesDropped(channelName: String, droppedCount: Long)
+}
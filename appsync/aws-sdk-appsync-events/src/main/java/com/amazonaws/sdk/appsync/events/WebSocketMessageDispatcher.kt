@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.sdk.appsync.events
+
+import com.amazonaws.sdk.appsync.core.Logger
+import com.amazonaws.sdk.appsync.events.data.WebSocketMessage
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+import kotlinx.coroutines.CompletableDeferred
+
+/**
+ * Routes the messages received over a WebSocket to the publish or subscription they are addressed to, looked up
+ * by their id, rather than having each pending publish and subscription check every message.
+ *
+ * A message is delivered to the response expected for its id if there is one, and otherwise to the subscription
+ * with that id. The closure of the WebSocket is delivered to every pending response and subscription. Messages
+ * addressed to an id that nothing waits for are dropped and counted, in a count that may be shared with the
+ * dispatchers of the other WebSockets of a client.
+ */
+internal class WebSocketMessageDispatcher(
+    private val logger: Logger? = null,
+    private val unmatchedMessages: AtomicLong = AtomicLong()
+) {
+    private val responses = ConcurrentHashMap<String, CompletableDeferred<WebSocketMessage>>()
+    private val subscriptions = ConcurrentHashMap<String, SubscriptionBuffer>()
+
+    @Volatile
+    private var closed: WebSocketMessage.Closed? = null
+
+    /**
+     * Number of messages received for an id that no response or subscription was registered for
+     */
+    val unmatchedMessageCount: Long
+        get() = unmatchedMessages.get()
+
+    /**
+     * Registers the response to a message about to be sent. It must be registered before the message is sent, so
+     * that a quick response is not missed, and removed with [removeResponse] once it is no longer awaited.
+     *
+     * @param id of the message sent
+     * @return the response, or the closure of the WebSocket
+     */
+    fun expectResponse(id: String): CompletableDeferred<WebSocketMessage> {
+        val response = CompletableDeferred<WebSocketMessage>()
+        responses[id] = response
+        closed?.let { response.complete(it) }
+        return response
+    }
+
+    fun removeResponse(id: String) {
+        responses.remove(id)
+    }
+
+    /**
+     * Registers a subscription, whose data and errors are offered to the given buffer, which is then closed along
+     * with the WebSocket.
+     *
+     * @param id of the subscription
+     * @param buffer receiving the messages of the subscription
+     */
+    fun addSubscription(id: String, buffer: SubscriptionBuffer) {
+        subscriptions[id] = buffer
+        closed?.let { buffer.close(it) }
+    }
+
+    fun removeSubscription(id: String) {
+        subscriptions.remove(id)
+    }
+
+    /**
+     * Delivers a message to whatever it is addressed to.
+     *
+     * @param message received over the WebSocket
+     * @return true if the message was addressed by id or broadcast. False if it concerns the connection itself.
+     */
+    fun dispatch(message: WebSocketMessage): Boolean {
+        if (message is WebSocketMessage.Closed) {
+            closed = message
+            responses.values.forEach { it.complete(message) }
+            subscriptions.values.forEach { it.close(message) }
+            return true
+        }
+        val id = message.addressedId ?: return false
+
+        val response = responses.remove(id)
+        if (response != null) {
+            response.complete(message)
+            return true
+        }
+        val subscription = subscriptions[id]
+        when {
+            subscription != null -> subscription.offer(message)
+            // Unsubscribe acknowledgements arrive after their subscription has completed, and are not awaited.
+            message is WebSocketMessage.Received.Subscription.UnsubscribeSuccess -> Unit
+            else -> {
+                unmatchedMessages.incrementAndGet()
+                logger?.debug { "Dropped ${message::class.java.simpleName} for unknown id: $id" }
+            }
+        }
+        return true
+    }
+
+    // Id of the publish or subscription a message is addressed to, if any
+    private val WebSocketMessage.addressedId: String?
+        get() = when (this) {
+            is WebSocketMessage.Received.ConnectionError -> null
+            is WebSocketMessage.Received.Subscription -> id
+            is WebSocketMessage.ErrorContainer -> id
+            else -> null
+        }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.sdk.appsync.events
+
+import com.amazonaws.sdk.appsync.events.SubscriptionBufferOptions.BufferOverflow
+import com.amazonaws.sdk.appsync.events.data.WebSocketMessage
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.matchers.shouldBe
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.test.runTest
+import kotlinx.serialization.json.JsonPrimitive
+import org.junit.Test
+
+class SubscriptionBufferTest {
+    private val closed = WebSocketMessage.Closed(WebSocketDisconnectReason.Service())
+    private val dropped = mutableListOf<Pair<String, Long>>()
+    private val listener = DroppedMessagesListener { channelName, count -> dropped += channelName to count }
+
+    private fun data(index: Int) = WebSocketMessage.Received.Subscription.Data("sub", JsonPrimitive(index))
+
+    private fun buffer(overflow: BufferOverflow) =
+        SubscriptionBuffer("default/channel", SubscriptionBufferOptions(3, overflow, listener))
+
+    private fun SubscriptionBuffer.offerAll(count: Int) = repeat(count) { offer(data(it)) }
+
+    @Test
+    fun `drops the oldest messages once full`() = runTest {
+        val buffer = buffer(BufferOverflow.DROP_OLDEST)
+
+        buffer.offerAll(5)
+        buffer.close(closed)
+
+        buffer.messages.toList() shouldBe listOf(data(2), data(3), data(4), closed)
+        buffer.droppedMessageCount shouldBe 2
+        dropped shouldBe listOf("default/channel" to 1L, "default/channel" to 2L)
+    }
+
+    @Test
+    fun `keeps only the latest message`() = runTest {
+        val buffer = buffer(BufferOverflow.KEEP_LATEST)
+
+        buffer.offerAll(5)
+        buffer.close(closed)
+
+        buffer.messages.toList() shouldBe listOf(data(4), closed)
+        buffer.droppedMessageCount shouldBe 4
+    }
+
+    @Test
+    fun `keeps every message within capacity`() = runTest {
+        val buffer = buffer(BufferOverflow.SUSPEND)
+
+        buffer.offerAll(3)
+        buffer.close(closed)
+
+        buffer.messages.toList() shouldBe listOf(data(0), data(1), data(2), closed)
+        dropped shouldBe emptyList()
+    }
+
+    @Test
+    fun `stops waiting for room once cancelled`() {
+        val buffer = SubscriptionBuffer("default/channel", SubscriptionBufferOptions(1, BufferOverflow.SUSPEND))
+        buffer.offer(data(0))
+        val cancellation = Thread {
+            Thread.sleep(CANCEL_DELAY_MS)
+            buffer.cancel()
+        }
+        cancellation.start()
+
+        // Blocks until the buffer is cancelled
+        buffer.offer(data(1))
+
+        cancellation.join()
+        buffer.droppedMessageCount shouldBe 0
+    }
+
+    @Test
+    fun `drops the oldest messages by default, rather than waiting for room`() = runTest {
+        val buffer = SubscriptionBuffer("default/channel", SubscriptionBufferOptions(capacity = 1))
+
+        // Returns without waiting for the subscription to collect
+        buffer.offerAll(2)
+        buffer.close(closed)
+
+        buffer.messages.toList() shouldBe listOf(data(1), closed)
+        buffer.droppedMessageCount shouldBe 1
+    }
+
+    @Test
+    fun `rejects a capacity that is not positive`() {
+        shouldThrow<IllegalArgumentException> { SubscriptionBufferOptions(0) }
+    }
+
+    private companion object {
+        const val CANCEL_DELAY_MS = 50L
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.sdk.appsync.events
+
+import com.amazonaws.sdk.appsync.events.data.WebSocketMessage
+import io.kotest.matchers.shouldBe
+import java.util.concurrent.atomic.AtomicLong
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.test.runTest
+import kotlinx.serialization.json.JsonPrimitive
+import org.junit.Test
+
+class WebSocketMessageDispatcherTest {
+    private val dispatcher = WebSocketMessageDispatcher()
+
+    @Test
+    fun `routes responses to the message they answer`() = runTest {
+        val first = dispatcher.expectResponse("1")
+        val second = dispatcher.expectResponse("2")
+        val response = WebSocketMessage.Received.PublishSuccess("2", emptyList(), emptyList())
+
+        dispatcher.dispatch(response) shouldBe true
+
+        second.await() shouldBe response
+        first.isCompleted shouldBe false
+    }
+
+    @Test
+    fun `routes data to its subscription`() = runTest {
+        val buffer = SubscriptionBuffer("default/channel", SubscriptionBufferOptions())
+        dispatcher.addSubscription("sub", buffer)
+        val data = WebSocketMessage.Received.Subscription.Data("sub", JsonPrimitive("event"))
+
+        dispatcher.dispatch(data)
+        dispatcher.dispatch(WebSocketMessage.Received.Subscription.Data("other", JsonPrimitive("event")))
+
+        val closed = WebSocketMessage.Closed(WebSocketDisconnectReason.UserInitiated)
+        dispatcher.dispatch(closed)
+        buffer.messages.toList() shouldBe listOf(data, closed)
+        dispatcher.unmatchedMessageCount shouldBe 1
+    }
+
+    @Test
+    fun `prefers the response awaited for an id over its subscription`() = runTest {
+        val buffer = SubscriptionBuffer("default/channel", SubscriptionBufferOptions())
+        dispatcher.addSubscription("sub", buffer)
+        val response = dispatcher.expectResponse("sub")
+        val success = WebSocketMessage.Received.Subscription.SubscribeSuccess("sub")
+
+        dispatcher.dispatch(success)
+
+        response.await() shouldBe success
+        buffer.close(WebSocketMessage.Closed(WebSocketDisconnectReason.UserInitiated))
+        buffer.messages.toList().size shouldBe 1
+    }
+
+    @Test
+    fun `delivers closure to every waiter, including later ones`() = runTest {
+        val buffer = SubscriptionBuffer("default/channel", SubscriptionBufferOptions())
+        dispatcher.addSubscription("sub", buffer)
+        val response = dispatcher.expectResponse("1")
+        val closed = WebSocketMessage.Closed(WebSocketDisconnectReason.UserInitiated)
+
+        dispatcher.dispatch(closed) shouldBe true
+
+        response.await() shouldBe closed
+        buffer.messages.toList() shouldBe listOf(closed)
+        dispatcher.expectResponse("2").await() shouldBe closed
+    }
+
+    @Test
+    fun `leaves connection messages to the caller`() {
+        dispatcher.dispatch(WebSocketMessage.Received.ConnectionAck(1000)) shouldBe false
+        dispatcher.dispatch(WebSocketMessage.Received.KeepAlive) shouldBe false
+        dispatcher.unmatchedMessageCount shouldBe 0
+    }
+
+    @Test
+    fun `counts unmatched messages in the count shared by the dispatchers of a client`() {
+        val unmatchedMessages = AtomicLong()
+        val first = WebSocketMessageDispatcher(unmatchedMessages = unmatchedMessages)
+        val second = WebSocketMessageDispatcher(unmatchedMessages = unmatchedMessages)
+
+        first.dispatch(WebSocketMessage.Received.Subscription.Data("sub", JsonPrimitive("event")))
+        second.dispatch(WebSocketMessage.Received.Subscription.Data("sub", JsonPrimitive("event")))
+
+        unmatchedMessages.get() shouldBe 2
+        second.unmatchedMessageCount shouldBe 2
+    }
+}
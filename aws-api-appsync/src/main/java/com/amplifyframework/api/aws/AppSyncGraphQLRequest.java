@@ -17,6 +17,7 @@ package com.amplifyframework.api.aws;
 
 import android.text.TextUtils;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.core.util.ObjectsCompat;
 
 import com.amplifyframework.AmplifyException;
@@ -51,6 +52,10 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
     private final Map<String, String> variableTypes;
     private final AuthorizationType authorizationType;
     private final AuthModeStrategyType authModeStrategyType;
+    @Nullable
+    private final GraphQLDocumentCache.Document document;
+    @Nullable
+    private final Boolean deduplicate;
 
     /**
      * Constructor for AppSyncGraphQLRequest.
@@ -64,6 +69,8 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
         this.variableTypes = Immutable.of(builder.variableTypes);
         this.authorizationType = builder.authorizationType;
         this.authModeStrategyType = builder.authModeStrategyType;
+        this.document = builder.document;
+        this.deduplicate = builder.deduplicate;
     }
 
     /**
@@ -87,6 +94,23 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
         return Immutable.of(variables);
     }
 
+    /**
+     * Returns the {@link SelectionSet} for this request.
+     * @return the {@link SelectionSet} for this request.
+     */
+    SelectionSet getSelectionSet() {
+        return selectionSet;
+    }
+
+    /**
+     * Returns whether this request may share the response of an identical request in flight.
+     * @return whether this request is deduplicated, or null to use the plugin's default.
+     */
+    @Nullable
+    Boolean getDeduplicate() {
+        return deduplicate;
+    }
+
     /**
      * Returns the {@link AuthorizationType} for this request.
      * @return the {@link AuthorizationType} for this request.
@@ -138,23 +162,86 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
      */
     @Override
     public String getQuery() {
+        // A request built from a cached document shares its selection set, so it shares its rendered
+        // text too, for as long as the variable types match.
+        if (document != null && document.getSelectionSet() == selectionSet) {
+            return document.getQuery(variableTypes, this::renderQuery);
+        }
+        return renderQuery();
+    }
+
+    private String renderQuery() {
         String inputTypeString = "";
-        String inputParameterString = "";
         if (variableTypes.size() > 0) {
             List<String> inputKeys = new ArrayList<>(variableTypes.keySet());
             Collections.sort(inputKeys);
 
             List<String> inputTypes = new ArrayList<>();
-            List<String> inputParameters = new ArrayList<>();
             for (String key : inputKeys) {
                 inputTypes.add("$" + key + ": " + variableTypes.get(key));
-                inputParameters.add(key + ": $" + key);
             }
 
             inputTypeString = Wrap.inParentheses(TextUtils.join(", ", inputTypes));
-            inputParameterString = Wrap.inParentheses(TextUtils.join(", ", inputParameters));
         }
 
+        String operationString = getFieldName() + renderArguments("") + selectionSet.toString("  ");
+
+        return operation.getOperationType().getName() +
+                " " +
+                Casing.from(Casing.CaseType.SCREAMING_SNAKE_CASE).to(Casing.CaseType.PASCAL_CASE)
+                    .convert(operation.toString()) +
+                renderModelName() +
+                inputTypeString +
+                Wrap.inPrettyBraces(operationString, "", "  ") +
+                "\n";
+    }
+
+    /**
+     * Returns the name of the top-level field this request selects, such as getPerson.
+     * @return the name of the top-level field this request selects.
+     */
+    String getFieldName() {
+        return Casing.from(Casing.CaseType.SCREAMING_SNAKE_CASE)
+                .to(Casing.CaseType.CAMEL_CASE)
+                .convert(operation.toString()) +
+            renderModelName();
+    }
+
+    /**
+     * Returns the GraphQL types of the variables of this request, by variable name.
+     * @return the GraphQL types of the variables of this request.
+     */
+    Map<String, String> getVariableTypes() {
+        return variableTypes;
+    }
+
+    /**
+     * Renders the top-level field of this request under an alias, so that it can be selected
+     * alongside the fields of other requests in a single document. Its variables are renamed with
+     * the given prefix, to keep them apart from the variables of the other requests.
+     * @param alias Alias of the field
+     * @param variablePrefix Prefix of the renamed variables
+     * @return the aliased field, with its arguments and selection set.
+     */
+    String renderAliasedField(String alias, String variablePrefix) {
+        return alias + ": " + getFieldName() + renderArguments(variablePrefix) + selectionSet.toString("  ");
+    }
+
+    private String renderArguments(String variablePrefix) {
+        if (variableTypes.size() == 0) {
+            return "";
+        }
+        List<String> inputKeys = new ArrayList<>(variableTypes.keySet());
+        Collections.sort(inputKeys);
+
+        List<String> inputParameters = new ArrayList<>();
+        for (String key : inputKeys) {
+            inputParameters.add(key + ": $" + variablePrefix + key);
+        }
+        return Wrap.inParentheses(TextUtils.join(", ", inputParameters));
+    }
+
+    private String renderModelName() {
         String modelName = Casing.capitalizeFirst(modelSchema.getName());
         String pluralName = modelSchema.getPluralName() != null &&
                 !modelSchema.getPluralName().isEmpty()
@@ -174,23 +261,7 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
                     ? Casing.capitalizeFirst(modelSchema.getSyncPluralName())
                     : pluralName;
         }
-
-        String operationString =
-                Casing.from(Casing.CaseType.SCREAMING_SNAKE_CASE)
-                    .to(Casing.CaseType.CAMEL_CASE)
-                    .convert(operation.toString()) +
-                modelName +
-                inputParameterString +
-                selectionSet.toString("  ");
-
-        return operation.getOperationType().getName() +
-                " " +
-                Casing.from(Casing.CaseType.SCREAMING_SNAKE_CASE).to(Casing.CaseType.PASCAL_CASE)
-                    .convert(operation.toString()) +
-                modelName +
-                inputTypeString +
-                Wrap.inPrettyBraces(operationString, "", "  ") +
-                "\n";
+        return modelName;
     }
 
     @Override
@@ -261,6 +332,8 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
         private AuthorizationType authorizationType;
         private final Map<String, Object> variables;
         private final Map<String, String> variableTypes;
+        private GraphQLDocumentCache.Document document;
+        private Boolean deduplicate;
 
         Builder() {
             this.variables = new HashMap<>();
@@ -276,6 +349,7 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
             this.variableTypes = new HashMap<>(request.variableTypes);
             this.authorizationType = request.authorizationType;
             this.authModeStrategyType = request.authModeStrategyType;
+            this.deduplicate = request.deduplicate;
         }
 
         /**
@@ -359,6 +433,29 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
             return Builder.this;
         }
 
+        /**
+         * Sets whether a query may share the network call and the response of an identical query
+         * that is already in flight, overriding the default of the API plugin. Mutations are never
+         * deduplicated.
+         * @param deduplicate true to deduplicate the request, false to always send it.
+         * @return this builder instance.
+         */
+        public Builder deduplicate(boolean deduplicate) {
+            this.deduplicate = deduplicate;
+            return Builder.this;
+        }
+
+        /**
+         * Uses the schema and selection set of a cached document, unless they are set explicitly,
+         * and shares the document's rendered text with other requests built from it.
+         * @param document A cached document for this request's model class and operation
+         * @return this builder instance.
+         */
+        Builder document(@NonNull GraphQLDocumentCache.Document document) {
+            this.document = Objects.requireNonNull(document);
+            return Builder.this;
+        }
+
         /**
          * Sets a variable and returns this builder.
          * @param key the variable key.
@@ -384,6 +481,15 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
             Objects.requireNonNull(this.operation);
             Objects.requireNonNull(this.responseType);
 
+            if (document != null) {
+                if (modelSchema == null) {
+                    modelSchema = document.getModelSchema();
+                }
+                if (selectionSet == null) {
+                    selectionSet = document.getSelectionSet();
+                }
+            }
+
             // TODO: if the modelClass is contained within the modelSchema,
             // why can't we just extract it from the ModelSchema, instead of
             // having it as an outside parameter?
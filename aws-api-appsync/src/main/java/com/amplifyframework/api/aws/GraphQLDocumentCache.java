@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import androidx.annotation.NonNull;
+import androidx.core.util.ObjectsCompat;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.api.graphql.Operation;
+import com.amplifyframework.core.model.AuthRule;
+import com.amplifyframework.core.model.AuthStrategy;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.ModelSchema;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes the parts of a GraphQL document that depend only on the model class and the operation,
+ * so that building a request for a model only has to bind its variables.
+ *
+ * Building a {@link ModelSchema} and a {@link SelectionSet} both walk the model class reflectively,
+ * and rendering the document walks the whole selection set again. A {@link Document} holds the schema
+ * and selection set for a (model class, operation, selection options, owner fields) key, and the
+ * rendered document text for each set of variable types it is requested with.
+ *
+ * Documents must only be shared by requests that do not modify their selection set; requests built
+ * with a custom selection set, such as one including relationships, do not use this cache.
+ */
+final class GraphQLDocumentCache {
+    private final Map<Class<? extends Model>, ModelSchema> modelSchemas = new ConcurrentHashMap<>();
+    private final Map<Key, Document> documents = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the schema of a model class, building it on first use.
+     * @param modelClass Model class
+     * @return The schema of the model class
+     * @throws AmplifyException If a schema cannot be built from the model class
+     */
+    @NonNull
+    ModelSchema getModelSchema(@NonNull Class<? extends Model> modelClass) throws AmplifyException {
+        ModelSchema modelSchema = modelSchemas.get(modelClass);
+        if (modelSchema == null) {
+            // Racing threads may each build one; they are equal, and only the first is kept.
+            modelSchema = ModelSchema.fromModelClass(modelClass);
+            ModelSchema existing = modelSchemas.putIfAbsent(modelClass, modelSchema);
+            if (existing != null) {
+                modelSchema = existing;
+            }
+        }
+        return modelSchema;
+    }
+
+    /**
+     * Gets the document for an operation on a model class, building its selection set on first use.
+     * @param modelClass Model class
+     * @param operation Operation performed by the document
+     * @param requestOptions Options used to build the selection set
+     * @return The document for the operation
+     * @throws AmplifyException If the schema or the selection set cannot be built
+     */
+    @NonNull
+    Document getDocument(
+            @NonNull Class<? extends Model> modelClass,
+            @NonNull Operation operation,
+            @NonNull GraphQLRequestOptions requestOptions) throws AmplifyException {
+        ModelSchema modelSchema = getModelSchema(modelClass);
+        Key key = new Key(modelClass, operation, requestOptions, ownerFields(modelSchema));
+        Document document = documents.get(key);
+        if (document == null) {
+            SelectionSet selectionSet = SelectionSet.builder()
+                    .modelClass(modelClass)
+                    .modelSchema(modelSchema)
+                    .operation(operation)
+                    .requestOptions(requestOptions)
+                    .build();
+            document = new Document(modelSchema, selectionSet);
+            Document existing = documents.putIfAbsent(key, document);
+            if (existing != null) {
+                document = existing;
+            }
+        }
+        return document;
+    }
+
+    // The selection set of a model with owner-based auth rules includes the owner fields.
+    private static List<String> ownerFields(ModelSchema modelSchema) {
+        List<String> ownerFields = new ArrayList<>();
+        for (AuthRule authRule : modelSchema.getAuthRules()) {
+            if (AuthStrategy.OWNER.equals(authRule.getAuthStrategy())) {
+                ownerFields.add(authRule.getOwnerFieldOrDefault());
+            }
+        }
+        return ownerFields;
+    }
+
+    /**
+     * The cached parts of the GraphQL document for an operation on a model.
+     */
+    static final class Document {
+        private final ModelSchema modelSchema;
+        private final SelectionSet selectionSet;
+        private final Map<Map<String, String>, String> queries = new ConcurrentHashMap<>();
+
+        Document(@NonNull ModelSchema modelSchema, @NonNull SelectionSet selectionSet) {
+            this.modelSchema = Objects.requireNonNull(modelSchema);
+            this.selectionSet = Objects.requireNonNull(selectionSet);
+        }
+
+        @NonNull
+        ModelSchema getModelSchema() {
+            return modelSchema;
+        }
+
+        @NonNull
+        SelectionSet getSelectionSet() {
+            return selectionSet;
+        }
+
+        /**
+         * Gets the document text for a set of variable types, rendering it on first use.
+         * @param variableTypes Types of the variables of the request, by variable name; must not be modified later
+         * @param renderer Renders the document text, if it has not been rendered yet
+         * @return The document text
+         */
+        @NonNull
+        String getQuery(@NonNull Map<String, String> variableTypes, @NonNull Renderer renderer) {
+            String query = queries.get(variableTypes);
+            if (query == null) {
+                query = renderer.render();
+                queries.put(variableTypes, query);
+            }
+            return query;
+        }
+    }
+
+    /**
+     * Renders the text of a GraphQL document.
+     */
+    interface Renderer {
+        /**
+         * Renders the text of a GraphQL document.
+         * @return The document text
+         */
+        @NonNull
+        String render();
+    }
+
+    private static final class Key {
+        private final Class<? extends Model> modelClass;
+        private final Operation operation;
+        private final Class<?> requestOptionsClass;
+        private final int maxDepth;
+        private final LeafSerializationBehavior leafSerializationBehavior;
+        private final String listField;
+        private final List<String> paginationFields;
+        private final List<String> modelMetaFields;
+        private final List<String> ownerFields;
+
+        Key(Class<? extends Model> modelClass,
+            Operation operation,
+            GraphQLRequestOptions requestOptions,
+            List<String> ownerFields) {
+            this.modelClass = modelClass;
+            this.operation = operation;
+            this.requestOptionsClass = requestOptions.getClass();
+            this.maxDepth = requestOptions.maxDepth();
+            this.leafSerializationBehavior = requestOptions.leafSerializationBehavior();
+            this.listField = requestOptions.listField();
+            this.paginationFields = requestOptions.paginationFields();
+            this.modelMetaFields = requestOptions.modelMetaFields();
+            this.ownerFields = ownerFields;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object == null || getClass() != object.getClass()) {
+                return false;
+            }
+            Key that = (Key) object;
+            return maxDepth == that.maxDepth &&
+                    ObjectsCompat.equals(modelClass, that.modelClass) &&
+                    ObjectsCompat.equals(operation, that.operation) &&
+                    ObjectsCompat.equals(requestOptionsClass, that.requestOptionsClass) &&
+                    ObjectsCompat.equals(leafSerializationBehavior, that.leafSerializationBehavior) &&
+                    ObjectsCompat.equals(listField, that.listField) &&
+                    ObjectsCompat.equals(paginationFields, that.paginationFields) &&
+                    ObjectsCompat.equals(modelMetaFields, that.modelMetaFields) &&
+                    ObjectsCompat.equals(ownerFields, that.ownerFields);
+        }
+
+        @Override
+        public int hashCode() {
+            return ObjectsCompat.hash(modelClass, operation, requestOptionsClass, maxDepth,
+                    leafSerializationBehavior, listField, paginationFields, modelMetaFields, ownerFields);
+        }
+    }
+}
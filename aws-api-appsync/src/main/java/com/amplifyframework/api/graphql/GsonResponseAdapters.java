@@ -15,6 +15,7 @@
 
 package com.amplifyframework.api.graphql;
 
+import com.amplifyframework.annotations.InternalAmplifyApi;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelPage;
 import com.amplifyframework.datastore.appsync.ModelWithMetadata;
@@ -102,7 +103,14 @@ public final class GsonResponseAdapters {
             }
         }
 
-        private boolean shouldSkipQueryLevel(Type type) {
+        /**
+         * Checks whether the data of a response of the given type sits below a single top-level
+         * query field, which is skipped when deserializing the response.
+         * @param type Type of the response data
+         * @return true if the top-level query field is skipped for the given type
+         */
+        @InternalAmplifyApi
+        public static boolean shouldSkipQueryLevel(Type type) {
             if (type instanceof ParameterizedType) {
                 final Type rawType = ((ParameterizedType) type).getRawType();
                 if (ModelWithMetadata.class.equals(rawType)) {
@@ -32,6 +32,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
@@ -168,6 +169,25 @@ public final class SubscriptionEndpointTest extends DeviceFarmTestBase {
         assertEquals(2, counter.get());
     }
 
+    /**
+     * With a maximum number of subscriptions per connection, subscriptions are placed on the
+     * least-loaded connection with room for them, and a new connection is opened once none has.
+     * @throws ApiException On failure to subscribe
+     */
+    @Test
+    public void subscriptionsAreSpreadOverConnections() throws ApiException {
+        final GraphQLResponse.Factory responseFactory = new GsonGraphQLResponseFactory();
+        final SubscriptionAuthorizer authorizer = new SubscriptionAuthorizer(apiConfiguration);
+        this.subscriptionEndpoint = new SubscriptionEndpoint(apiConfiguration, null, responseFactory,
+                authorizer, null, null, 2);
+
+        for (int subscription = 0; subscription < 3; subscription++) {
+            subscriptionIdsForRelease.add(subscribeToEventComments(eventId));
+        }
+
+        assertEquals(Arrays.asList(2, 1), subscriptionEndpoint.getSubscriptionCounts());
+    }
+
     /**
      * Subscribe to comments on an event.
      * @param eventId ID of event for which comments are being made
@@ -29,21 +29,28 @@ import com.amplifyframework.api.aws.auth.ApiRequestDecoratorFactory;
 import com.amplifyframework.api.aws.auth.AuthRuleRequestDecorator;
 import com.amplifyframework.api.aws.auth.RequestDecorator;
 import com.amplifyframework.api.aws.operation.AWSRestOperation;
+import com.amplifyframework.api.aws.sigv4.DefaultCognitoUserPoolsAuthProvider;
 import com.amplifyframework.api.events.ApiEndpointStatusChangeEvent;
 import com.amplifyframework.api.events.ApiEndpointStatusChangeEvent.ApiEndpointStatus;
 import com.amplifyframework.api.graphql.GraphQLOperation;
 import com.amplifyframework.api.graphql.GraphQLRequest;
 import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.api.graphql.OperationType;
+import com.amplifyframework.api.graphql.PaginatedResult;
 import com.amplifyframework.api.rest.HttpMethod;
 import com.amplifyframework.api.rest.RestOperation;
 import com.amplifyframework.api.rest.RestOperationRequest;
 import com.amplifyframework.api.rest.RestOptions;
 import com.amplifyframework.api.rest.RestResponse;
+import com.amplifyframework.auth.AuthChannelEventName;
 import com.amplifyframework.core.Action;
 import com.amplifyframework.core.Amplify;
 import com.amplifyframework.core.Consumer;
+import com.amplifyframework.core.async.AmplifyExecutors;
 import com.amplifyframework.core.configuration.AmplifyOutputsData;
 import com.amplifyframework.hub.HubChannel;
+import com.amplifyframework.hub.HubEvent;
+import com.amplifyframework.hub.SubscriptionToken;
 import com.amplifyframework.util.Immutable;
 import com.amplifyframework.util.UserAgent;
 
@@ -58,8 +65,10 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import okhttp3.Call;
@@ -84,10 +93,25 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
     private final Map<String, ClientDetails> apiDetails;
     private final Map<String, OkHttpConfigurator> apiHttpClientConfigurators;
     private final Map<String, OkHttpConfigurator> apiWebsocketUpgradeClientConfigurators;
+    private final Map<String, HttpClientConfiguration> httpClientConfigurations;
+    private final Map<String, ApiConnectionEventListener> connectionListeners;
+    private final ConnectionPrewarmer connectionPrewarmer;
     private final GraphQLResponse.Factory gqlResponseFactory;
     private final ApiAuthProviders authProvider;
     private final ExecutorService executorService;
     private final AuthRuleRequestDecorator requestDecorator;
+    @Nullable
+    private final GraphQLCacheConfiguration cacheConfiguration;
+    @Nullable
+    private GraphQLResponseCache responseCache;
+    @Nullable
+    private SubscriptionToken authEventsSubscription;
+    private final boolean deduplicateQueries;
+    private final int maxSubscriptionsPerConnection;
+    private final AuthModeMemory authModeMemory;
+    private final InFlightQueries inFlightQueries;
+    @Nullable
+    private final QueryBatcher queryBatcher;
 
     private final Set<String> restApis;
     private final Set<String> gqlApis;
@@ -112,13 +136,38 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
     private AWSApiPlugin(@NonNull Builder builder) {
         this.apiDetails = new HashMap<>();
         this.gqlResponseFactory = new GsonGraphQLResponseFactory();
-        this.authProvider = builder.apiAuthProviders;
+        this.authProvider = withSharedCognitoUserPoolsAuthProvider(builder.apiAuthProviders);
         this.restApis = new HashSet<>();
         this.gqlApis = new HashSet<>();
-        this.executorService = Executors.newCachedThreadPool();
+        this.executorService = AmplifyExecutors.get(AmplifyExecutors.API);
         this.requestDecorator = new AuthRuleRequestDecorator(authProvider);
         this.apiHttpClientConfigurators = Immutable.of(builder.apiHttpClientConfigurators);
         this.apiWebsocketUpgradeClientConfigurators = Immutable.of(builder.apiWebsocketUpgradeClientConfigurators);
+        this.httpClientConfigurations = Immutable.of(builder.httpClientConfigurations);
+        this.connectionListeners = new ConcurrentHashMap<>();
+        this.connectionPrewarmer = new ConnectionPrewarmer();
+        this.cacheConfiguration = builder.cacheConfiguration;
+        this.deduplicateQueries = builder.deduplicateQueries;
+        this.maxSubscriptionsPerConnection = builder.maxSubscriptionsPerConnection;
+        this.authModeMemory = new AuthModeMemory();
+        this.inFlightQueries = new InFlightQueries();
+        this.queryBatcher = builder.queryBatchWindowMs > 0
+                ? new QueryBatcher(builder.queryBatchWindowMs, AmplifyExecutors.getScheduler(),
+                    gqlResponseFactory)
+                : null;
+    }
+
+    // Requests to all of the APIs use one Cognito User Pools provider, rather than one each, so that
+    // they share its cached token. Without a provider, requests fail as they would have before.
+    private static ApiAuthProviders withSharedCognitoUserPoolsAuthProvider(ApiAuthProviders providers) {
+        if (providers.getCognitoUserPoolsAuthProvider() != null) {
+            return providers;
+        }
+        try {
+            return providers.withCognitoUserPoolsAuthProvider(new DefaultCognitoUserPoolsAuthProvider());
+        } catch (ApiException.ApiAuthException exception) {
+            return providers;
+        }
     }
 
     /**
@@ -142,24 +191,35 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
     ) throws ApiException {
         // Null-check for configuration is done inside readFrom method
         AWSApiPluginConfiguration pluginConfig = AWSApiPluginConfigurationReader.readFrom(pluginConfiguration);
-        configure(pluginConfig);
+        configure(pluginConfig, context);
     }
 
     @Override
     @InternalAmplifyApi
     public void configure(@NonNull AmplifyOutputsData configuration, @NonNull Context context) throws AmplifyException {
         AWSApiPluginConfiguration pluginConfig = AWSApiPluginConfigurationReader.from(configuration);
-        configure(pluginConfig);
+        configure(pluginConfig, context);
     }
 
-    private void configure(AWSApiPluginConfiguration pluginConfig) {
+    private void configure(AWSApiPluginConfiguration pluginConfig, Context context) {
+        if (cacheConfiguration != null && responseCache == null) {
+            responseCache = GraphQLResponseCache.create(cacheConfiguration, context);
+        }
+        subscribeToAuthEvents();
         for (Map.Entry<String, ApiConfiguration> entry : pluginConfig.getApis().entrySet()) {
             final String apiName = entry.getKey();
             final ApiConfiguration apiConfiguration = entry.getValue();
             final EndpointType endpointType = apiConfiguration.getEndpointType();
             final OkHttpClient.Builder okHttpClientBuilder = new OkHttpClient.Builder();
             okHttpClientBuilder.addNetworkInterceptor(UserAgentInterceptor.using(UserAgent::string));
-            okHttpClientBuilder.eventListener(new ApiConnectionEventListener());
+            final ApiConnectionEventListener connectionListener = new ApiConnectionEventListener();
+            okHttpClientBuilder.eventListener(connectionListener);
+            connectionListeners.put(apiName, connectionListener);
+
+            final HttpClientConfiguration httpClientConfiguration = httpClientConfigurations.get(apiName);
+            if (httpClientConfiguration != null) {
+                httpClientConfiguration.applyTo(okHttpClientBuilder);
+            }
 
             OkHttpConfigurator configurator = apiHttpClientConfigurators.get(apiName);
             if (configurator != null) {
@@ -199,17 +259,88 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
                     apiWebsocketUpgradeClientConfigurators.get(apiName);
                 final SubscriptionEndpoint subscriptionEndpoint =
                     new SubscriptionEndpoint(apiConfiguration, websocketUpgradeConfigurator, gqlResponseFactory,
-                        subscriptionAuthorizer, apiName);
+                        subscriptionAuthorizer, apiName, responseCache, maxSubscriptionsPerConnection);
                 clientDetails = new ClientDetails(apiConfiguration,
                     okHttpClientBuilder.build(),
                     subscriptionEndpoint,
                     requestDecoratorFactory);
                 gqlApis.add(apiName);
+                // Only GraphQL endpoints are warmed up: AppSync rejects the request before it reaches a
+                // resolver, whereas a request to a REST API could run its integration.
+                if (httpClientConfiguration != null && httpClientConfiguration.isPreconnect()) {
+                    connectionPrewarmer.add(clientDetails.okHttpClient, apiConfiguration.getEndpoint());
+                }
             }
             if (clientDetails != null) {
                 apiDetails.put(apiName, clientDetails);
             }
         }
+        connectionPrewarmer.start(context);
+    }
+
+    /**
+     * Removes all cached responses, in memory and on disk. The cache is cleared whenever a user signs
+     * in or out, or is deleted, since its records are not kept per user.
+     */
+    public void clearCache() {
+        final GraphQLResponseCache cache = responseCache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Removes the subscription to Auth events made when the plugin was configured. Call this once the
+     * plugin is no longer used, such as after removing it from Amplify; configuring the plugin again
+     * subscribes it again.
+     */
+    public synchronized void reset() {
+        if (authEventsSubscription != null) {
+            Amplify.Hub.unsubscribe(authEventsSubscription);
+            authEventsSubscription = null;
+        }
+    }
+
+    // Subscribes to the Auth events once, however many times the plugin is configured.
+    private synchronized void subscribeToAuthEvents() {
+        reset();
+        authEventsSubscription = Amplify.Hub.subscribe(HubChannel.AUTH, this::onAuthEvent);
+    }
+
+    // The authorization modes that succeed, and the token of the Cognito User Pools provider, depend on
+    // the signed-in user, who may change on any Auth event.
+    private void onAuthEvent(HubEvent<?> event) {
+        authModeMemory.forget();
+        if (authProvider.getCognitoUserPoolsAuthProvider() instanceof DefaultCognitoUserPoolsAuthProvider) {
+            ((DefaultCognitoUserPoolsAuthProvider) authProvider.getCognitoUserPoolsAuthProvider()).invalidate();
+        }
+        if (isUserChange(event.getName())) {
+            clearCache();
+        }
+    }
+
+    private static boolean isUserChange(String eventName) {
+        return AuthChannelEventName.SIGNED_IN.name().equals(eventName) ||
+                AuthChannelEventName.SIGNED_OUT.name().equals(eventName) ||
+                AuthChannelEventName.USER_DELETED.name().equals(eventName);
+    }
+
+    @VisibleForTesting
+    AuthModeMemory getAuthModeMemory() {
+        return authModeMemory;
+    }
+
+    /**
+     * Gets counts of the connections used by the HTTP requests made to an API, such as how many
+     * requests reused an open connection.
+     * @param apiName Name of the API
+     * @return Counts of the connections used since the plugin was configured, or null if there is no
+     *         API by that name
+     */
+    @Nullable
+    public ConnectionStats getConnectionStats(@NonNull String apiName) {
+        ApiConnectionEventListener connectionListener = connectionListeners.get(apiName);
+        return connectionListener != null ? connectionListener.getStats() : null;
     }
 
     @NonNull
@@ -251,9 +382,198 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
             @NonNull GraphQLRequest<R> graphQLRequest,
             @NonNull Consumer<GraphQLResponse<R>> onResponse,
             @NonNull Consumer<ApiException> onFailure) {
+        FetchPolicy fetchPolicy = responseCache != null
+                ? responseCache.getDefaultFetchPolicy()
+                : FetchPolicy.NETWORK_ONLY;
+        return query(apiName, graphQLRequest, fetchPolicy, onResponse, onFailure);
+    }
+
+    /**
+     * Queries a GraphQL API, answering the query from the response cache according to a fetch
+     * policy. See {@link GraphQLCacheConfiguration}. If the plugin was built without a cache
+     * configuration, the query is always sent to the API.
+     * @param graphQLRequest The query
+     * @param fetchPolicy Whether, and when, the query is answered from the cache
+     * @param onResponse Receives the response; it is called twice for
+     *                   {@link FetchPolicy#CACHE_AND_NETWORK} if the cache can answer the query
+     * @param onFailure Receives the failure, if the query fails
+     * @param <R> Type of the response data
+     * @return The operation, or null if it could not be started
+     */
+    @Nullable
+    public <R> GraphQLOperation<R> query(
+            @NonNull GraphQLRequest<R> graphQLRequest,
+            @NonNull FetchPolicy fetchPolicy,
+            @NonNull Consumer<GraphQLResponse<R>> onResponse,
+            @NonNull Consumer<ApiException> onFailure) {
+        final String apiName;
         try {
-            final GraphQLOperation<R> operation =
-                    buildAppSyncGraphQLOperation(apiName, graphQLRequest, onResponse, onFailure);
+            apiName = getSelectedApiName(EndpointType.GRAPHQL);
+        } catch (ApiException exception) {
+            onFailure.accept(exception);
+            return null;
+        }
+        return query(apiName, graphQLRequest, fetchPolicy, onResponse, onFailure);
+    }
+
+    /**
+     * Queries the named GraphQL API, answering the query from the response cache according to a
+     * fetch policy. See {@link #query(GraphQLRequest, FetchPolicy, Consumer, Consumer)}.
+     * @param apiName Name of the API to query
+     * @param graphQLRequest The query
+     * @param fetchPolicy Whether, and when, the query is answered from the cache
+     * @param onResponse Receives the response
+     * @param onFailure Receives the failure, if the query fails
+     * @param <R> Type of the response data
+     * @return The operation, or null if it could not be started
+     */
+    @Nullable
+    public <R> GraphQLOperation<R> query(
+            @NonNull String apiName,
+            @NonNull GraphQLRequest<R> graphQLRequest,
+            @NonNull FetchPolicy fetchPolicy,
+            @NonNull Consumer<GraphQLResponse<R>> onResponse,
+            @NonNull Consumer<ApiException> onFailure) {
+        Objects.requireNonNull(fetchPolicy);
+        try {
+            GraphQLOperation<R> operation = shouldDeduplicate(graphQLRequest)
+                    ? inFlightQueries.deduplicate(inFlightKey(apiName, graphQLRequest), graphQLRequest,
+                        gqlResponseFactory, (onSharedResponse, onSharedFailure) ->
+                            buildQueryOperation(apiName, graphQLRequest, onSharedResponse, onSharedFailure),
+                        onResponse, onFailure)
+                    : buildQueryOperation(apiName, graphQLRequest, onResponse, onFailure);
+            if (responseCache != null && !FetchPolicy.NETWORK_ONLY.equals(fetchPolicy)) {
+                operation = new CachedGraphQLOperation<>(apiName, graphQLRequest, gqlResponseFactory,
+                        responseCache, fetchPolicy, operation, onResponse, executorService);
+            }
+            operation.start();
+            return operation;
+        } catch (ApiException exception) {
+            onFailure.accept(exception);
+            return null;
+        }
+    }
+
+    // Mutations are never deduplicated, as each one is meant to take effect.
+    private boolean shouldDeduplicate(GraphQLRequest<?> graphQLRequest) {
+        if (graphQLRequest instanceof AppSyncGraphQLRequest<?>) {
+            AppSyncGraphQLRequest<?> appSyncRequest = (AppSyncGraphQLRequest<?>) graphQLRequest;
+            Boolean deduplicate = appSyncRequest.getDeduplicate();
+            return (deduplicate != null ? deduplicate : deduplicateQueries) &&
+                OperationType.QUERY.equals(appSyncRequest.getOperation().getOperationType());
+        }
+        String document = graphQLRequest.getQuery().trim();
+        return deduplicateQueries && (document.startsWith("query") || document.startsWith("{"));
+    }
+
+    // Queries are batched with queries to the same API and with the same authorization mode. Only
+    // queries built from models are batched, as their top-level field can be aliased, and only
+    // those with the API's default authorization mode, as a batch is sent with that mode.
+    @SuppressWarnings("unchecked")
+    private <R> GraphQLOperation<R> buildQueryOperation(
+            @NonNull String apiName,
+            @NonNull GraphQLRequest<R> graphQLRequest,
+            @NonNull Consumer<GraphQLResponse<R>> onResponse,
+            @NonNull Consumer<ApiException> onFailure) throws ApiException {
+        final ClientDetails clientDetails = apiDetails.get(apiName);
+        if (queryBatcher == null || clientDetails == null ||
+            !(graphQLRequest instanceof AppSyncGraphQLRequest<?>) ||
+            AuthModeStrategyType.MULTIAUTH.equals(getAuthModeStrategyType(graphQLRequest))) {
+            return buildAppSyncGraphQLOperation(apiName, graphQLRequest, onResponse, onFailure);
+        }
+        AppSyncGraphQLRequest<R> appSyncRequest = (AppSyncGraphQLRequest<R>) graphQLRequest;
+        AuthorizationType authorizationType = clientDetails.getApiConfiguration().getAuthorizationType();
+        if (!OperationType.QUERY.equals(appSyncRequest.getOperation().getOperationType()) ||
+            (appSyncRequest.getAuthorizationType() != null &&
+                !appSyncRequest.getAuthorizationType().equals(authorizationType))) {
+            return buildAppSyncGraphQLOperation(apiName, graphQLRequest, onResponse, onFailure);
+        }
+        return queryBatcher.batch(apiName + "\n" + authorizationType, apiName, appSyncRequest,
+            (batchRequest, onBatchJson, onBatchFailure) -> AppSyncGraphQLOperation.<String>builder()
+                .apiName(apiName)
+                .endpoint(clientDetails.getApiConfiguration().getEndpoint())
+                .client(clientDetails.getOkHttpClient())
+                .request(batchRequest)
+                .apiRequestDecoratorFactory(clientDetails.getApiRequestDecoratorFactory())
+                .responseFactory(gqlResponseFactory)
+                .executorService(executorService)
+                .onResponse(response -> { })
+                .onFailure(onBatchFailure)
+                .onResponseJson(onBatchJson)
+                .build(),
+            cacheWriter(apiName, graphQLRequest), onResponse, onFailure);
+    }
+
+    // Identical queries are sent to the same API, with the same authorization mode, document and
+    // variables, and are decoded into the same type.
+    private String inFlightKey(String apiName, GraphQLRequest<?> graphQLRequest) {
+        String authMode = "DEFAULT";
+        if (graphQLRequest instanceof AppSyncGraphQLRequest<?> &&
+            ((AppSyncGraphQLRequest<?>) graphQLRequest).getAuthorizationType() != null) {
+            authMode = ((AppSyncGraphQLRequest<?>) graphQLRequest).getAuthorizationType().name();
+        } else if (AuthModeStrategyType.MULTIAUTH.equals(getAuthModeStrategyType(graphQLRequest))) {
+            authMode = AuthModeStrategyType.MULTIAUTH.name();
+        }
+        return apiName + "\n" + authMode + "\n" + graphQLRequest.getResponseType() + "\n" +
+            graphQLRequest.getContent();
+    }
+
+    /**
+     * Queries a page of items from a GraphQL API, and emits each item to a consumer as soon as it
+     * has been decoded, rather than once the whole page has been received. The response passed to
+     * onResponse afterwards carries the errors, if any, and the request for the next page, but
+     * none of the items, so they need not all be held in memory at once.
+     *
+     * The items are decoded while the response is still being received, unless the request uses
+     * multiple authorization modes; such a request may be retried with another mode after its
+     * response has been decoded, so its items are emitted once the final response is known.
+     * Streamed pages are neither read from nor written to the response cache.
+     * @param graphQLRequest Request for a page of items
+     * @param onItem Receives each item of the page, in order
+     * @param onResponse Receives the response once all of its items have been emitted
+     * @param onFailure Receives the failure, if the query fails
+     * @param <T> Type of the items
+     * @return The operation, or null if it could not be started
+     */
+    @Nullable
+    public <T> GraphQLOperation<PaginatedResult<T>> streamingQuery(
+            @NonNull GraphQLRequest<PaginatedResult<T>> graphQLRequest,
+            @NonNull Consumer<T> onItem,
+            @NonNull Consumer<GraphQLResponse<PaginatedResult<T>>> onResponse,
+            @NonNull Consumer<ApiException> onFailure) {
+        final String apiName;
+        try {
+            apiName = getSelectedApiName(EndpointType.GRAPHQL);
+        } catch (ApiException exception) {
+            onFailure.accept(exception);
+            return null;
+        }
+        return streamingQuery(apiName, graphQLRequest, onItem, onResponse, onFailure);
+    }
+
+    /**
+     * Queries a page of items from the named GraphQL API, emitting each item as soon as it has been
+     * decoded. See {@link #streamingQuery(GraphQLRequest, Consumer, Consumer, Consumer)}.
+     * @param apiName Name of the API to query
+     * @param graphQLRequest Request for a page of items
+     * @param onItem Receives each item of the page, in order
+     * @param onResponse Receives the response once all of its items have been emitted
+     * @param onFailure Receives the failure, if the query fails
+     * @param <T> Type of the items
+     * @return The operation, or null if it could not be started
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> GraphQLOperation<PaginatedResult<T>> streamingQuery(
+            @NonNull String apiName,
+            @NonNull GraphQLRequest<PaginatedResult<T>> graphQLRequest,
+            @NonNull Consumer<T> onItem,
+            @NonNull Consumer<GraphQLResponse<PaginatedResult<T>>> onResponse,
+            @NonNull Consumer<ApiException> onFailure) {
+        Objects.requireNonNull(onItem);
+        try {
+            final GraphQLOperation<PaginatedResult<T>> operation = buildAppSyncGraphQLOperation(
+                    apiName, graphQLRequest, onResponse, onFailure, item -> onItem.accept((T) item));
             operation.start();
             return operation;
         } catch (ApiException exception) {
@@ -640,6 +960,7 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
                                                 .onSubscriptionError(onSubscriptionFailure)
                                                 .onSubscriptionComplete(onSubscriptionComplete)
                                                 .requestDecorator(requestDecorator)
+                                                .authModeMemory(authModeMemory)
                                                 .build();
         }
         // Not a multiauth request.
@@ -674,6 +995,16 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
             @NonNull Consumer<GraphQLResponse<R>> onResponse,
             @NonNull Consumer<ApiException> onFailure)
             throws ApiException {
+        return buildAppSyncGraphQLOperation(apiName, graphQLRequest, onResponse, onFailure, null);
+    }
+
+    private <R> GraphQLOperation<R> buildAppSyncGraphQLOperation(
+            @NonNull String apiName,
+            @NonNull GraphQLRequest<R> graphQLRequest,
+            @NonNull Consumer<GraphQLResponse<R>> onResponse,
+            @NonNull Consumer<ApiException> onFailure,
+            @Nullable Consumer<Object> onListItem)
+            throws ApiException {
         final ClientDetails clientDetails = apiDetails.get(apiName);
         if (clientDetails == null) {
             throw new AppSyncInvalidConfigException(
@@ -683,6 +1014,9 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
             );
         }
 
+        // Responses update the cache, except for streamed pages, whose items are not all kept.
+        final Consumer<String> onResponseJson = onListItem == null ? cacheWriter(apiName, graphQLRequest) : null;
+
         AuthModeStrategyType authModeStrategyType = getAuthModeStrategyType(graphQLRequest);
         if (AuthModeStrategyType.MULTIAUTH.equals(authModeStrategyType)) {
             return MultiAuthAppSyncGraphQLOperation.<R>builder()
@@ -692,9 +1026,11 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
                 .request(graphQLRequest)
                 .apiRequestDecoratorFactory(clientDetails.getApiRequestDecoratorFactory())
                 .responseFactory(gqlResponseFactory)
-                .onResponse(onResponse)
+                .onResponse(onListItem == null ? onResponse : emitListItems(onResponse, onListItem))
                 .onFailure(onFailure)
+                .onResponseJson(onResponseJson)
                 .executorService(executorService)
+                .authModeMemory(authModeMemory)
                 .build();
         }
         // Not multiauth, so just return the default operation.
@@ -708,9 +1044,41 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
             .executorService(executorService)
             .onResponse(onResponse)
             .onFailure(onFailure)
+            .onListItem(onListItem)
+            .onResponseJson(onResponseJson)
             .build();
     }
 
+    @Nullable
+    private Consumer<String> cacheWriter(String apiName, GraphQLRequest<?> graphQLRequest) {
+        final GraphQLResponseCache cache = responseCache;
+        if (cache == null || !GraphQLResponseCache.isCacheable(graphQLRequest)) {
+            return null;
+        }
+        // The response is dropped if the cache is cleared while the request is in flight.
+        final int generation = cache.getGeneration();
+        return json -> cache.write(apiName, graphQLRequest, json, generation);
+    }
+
+    // Emits the items of a decoded page, then passes on the response without them.
+    @SuppressWarnings("unchecked")
+    private static <R> Consumer<GraphQLResponse<R>> emitListItems(
+            Consumer<GraphQLResponse<R>> onResponse, Consumer<Object> onListItem) {
+        return response -> {
+            if (!(response.getData() instanceof PaginatedResult)) {
+                onResponse.accept(response);
+                return;
+            }
+            PaginatedResult<Object> page = (PaginatedResult<Object>) response.getData();
+            for (Object item : page.getItems()) {
+                onListItem.accept(item);
+            }
+            PaginatedResult<Object> emptyPage =
+                    new PaginatedResult<>(Collections.emptyList(), page.getRequestForNextResult());
+            onResponse.accept(new GraphQLResponse<>((R) emptyPage, response.getErrors()));
+        };
+    }
+
     /**
      * Creates a HTTP REST operation.
      * @param type     Operation type
@@ -738,7 +1106,7 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
             // These ones are special, they don't use any data.
             case HEAD:
             case GET:
-                if (options.hasData()) {
+                if (options.hasData() || options.hasStreamingBody()) {
                     throw new AppSyncRequestValidationException(
                             "HTTP method does not support data object! " + type,
                             null, "Try sending the request without any data in the options.");
@@ -746,24 +1114,21 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
                 operationRequest = new RestOperationRequest(
                         type,
                         options.getPath(),
+                        null,
+                        null,
                         options.getHeaders(),
-                        options.getQueryParameters());
+                        options.getQueryParameters(),
+                        options.isResponseBodyStreamed());
                 break;
             case DELETE:
-                if (options.hasData()) {
-                    operationRequest = new RestOperationRequest(
-                            type,
-                            options.getPath(),
-                            options.getData(),
-                            options.getHeaders(),
-                            options.getQueryParameters());
-                } else {
-                    operationRequest = new RestOperationRequest(
-                            type,
-                            options.getPath(),
-                            options.getHeaders(),
-                            options.getQueryParameters());
-                }
+                operationRequest = new RestOperationRequest(
+                        type,
+                        options.getPath(),
+                        options.getData(),
+                        options.getStreamingBody(),
+                        options.getHeaders(),
+                        options.getQueryParameters(),
+                        options.isResponseBodyStreamed());
                 break;
             case PUT:
             case POST:
@@ -772,8 +1137,10 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
                         type,
                         options.getPath(),
                         options.getData() == null ? new byte[0] : options.getData(),
+                        options.getStreamingBody(),
                         options.getHeaders(),
-                        options.getQueryParameters());
+                        options.getQueryParameters(),
+                        options.isResponseBodyStreamed());
                 break;
             default:
                 throw new AppSyncRequestValidationException("Unknown REST operation type: " + type,
@@ -863,9 +1230,24 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
      */
     private static final class ApiConnectionEventListener extends EventListener {
         private final AtomicReference<ApiEndpointStatus> currentNetworkStatus;
+        private final AtomicLong openedConnections;
+        private final AtomicLong acquiredConnections;
+        private final AtomicLong failedConnections;
 
         ApiConnectionEventListener() {
             currentNetworkStatus = new AtomicReference<>(ApiEndpointStatus.UNKOWN);
+            openedConnections = new AtomicLong();
+            acquiredConnections = new AtomicLong();
+            failedConnections = new AtomicLong();
+        }
+
+        @Override
+        public void connectEnd(@NonNull Call call,
+                               @NonNull InetSocketAddress inetSocketAddress,
+                               @NonNull Proxy proxy,
+                               @Nullable Protocol protocol) {
+            super.connectEnd(call, inetSocketAddress, proxy, protocol);
+            openedConnections.incrementAndGet();
         }
 
         @Override
@@ -875,15 +1257,24 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
                                   @Nullable Protocol protocol,
                                   @NonNull IOException ioe) {
             super.connectFailed(call, inetSocketAddress, proxy, protocol, ioe);
+            failedConnections.incrementAndGet();
             transitionTo(ApiEndpointStatus.NOT_REACHABLE);
         }
 
         @Override
         public void connectionAcquired(@NonNull Call call, @NonNull Connection connection) {
             super.connectionAcquired(call, connection);
+            acquiredConnections.incrementAndGet();
             transitionTo(ApiEndpointStatus.REACHABLE);
         }
 
+        // Every connection is acquired by the call that opened it; later acquisitions are reuses.
+        ConnectionStats getStats() {
+            long opened = openedConnections.get();
+            long reused = Math.max(0, acquiredConnections.get() - opened);
+            return new ConnectionStats(opened, reused, failedConnections.get());
+        }
+
         private void transitionTo(ApiEndpointStatus newStatus) {
             ApiEndpointStatus previousStatus = currentNetworkStatus.getAndSet(newStatus);
             if (previousStatus != newStatus) {
@@ -900,11 +1291,17 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
         private ApiAuthProviders apiAuthProviders;
         private final Map<String, OkHttpConfigurator> apiHttpClientConfigurators;
         private final Map<String, OkHttpConfigurator> apiWebsocketUpgradeClientConfigurators;
+        private final Map<String, HttpClientConfiguration> httpClientConfigurations;
+        private GraphQLCacheConfiguration cacheConfiguration;
+        private boolean deduplicateQueries;
+        private long queryBatchWindowMs;
+        private int maxSubscriptionsPerConnection;
 
         private Builder() {
             this.apiAuthProviders = ApiAuthProviders.noProviderOverrides();
             this.apiHttpClientConfigurators = new HashMap<>();
             this.apiWebsocketUpgradeClientConfigurators = new HashMap<>();
+            this.httpClientConfigurations = new HashMap<>();
         }
 
         /**
@@ -951,6 +1348,90 @@ public final class AWSApiPlugin extends ApiPlugin<Map<String, OkHttpClient>> {
             return this;
         }
 
+        /**
+         * Tunes the HTTP client of a particular API, and whether it is pre-connected.
+         * See {@link HttpClientConfiguration}.
+         * @param forApiName The name of the API for which this configuration should apply.
+         *                   This can be found in your `amplifyconfiguration.json` file.
+         * @param httpClientConfiguration Configuration of the HTTP client of the API
+         * @return A builder instance, to continue chaining configurations
+         */
+        @NonNull
+        public Builder httpClientConfiguration(
+                @NonNull String forApiName, @NonNull HttpClientConfiguration httpClientConfiguration) {
+            this.httpClientConfigurations.put(Objects.requireNonNull(forApiName),
+                Objects.requireNonNull(httpClientConfiguration));
+            return this;
+        }
+
+        /**
+         * Enables the normalized cache of GraphQL responses. See {@link GraphQLCacheConfiguration}.
+         * The cache is disabled by default.
+         * @param cacheConfiguration Configuration of the cache
+         * @return A builder instance, to continue chaining configurations
+         */
+        @NonNull
+        public Builder cacheConfiguration(@NonNull GraphQLCacheConfiguration cacheConfiguration) {
+            this.cacheConfiguration = Objects.requireNonNull(cacheConfiguration);
+            return this;
+        }
+
+        /**
+         * Sets whether a GraphQL query shares the network call and the decoded response of an
+         * identical query that is already in flight, rather than making its own call. Queries are
+         * identical if they are made to the same API, with the same authorization mode, document
+         * and variables. Mutations are never deduplicated. Individual requests may override this
+         * with {@link AppSyncGraphQLRequest.Builder#deduplicate(boolean)}. Defaults to false.
+         * @param deduplicateQueries true to deduplicate identical queries in flight
+         * @return A builder instance, to continue chaining configurations
+         */
+        @NonNull
+        public Builder deduplicateQueries(boolean deduplicateQueries) {
+            this.deduplicateQueries = deduplicateQueries;
+            return this;
+        }
+
+        /**
+         * Enables batching of GraphQL queries: queries to the same API, with the same authorization
+         * mode, that are started within the given window of the first of them are sent together,
+         * as a single document in which the top-level field of each query is aliased. The response
+         * is split back into a response for each query, with its own data and errors. A batch is
+         * sent early once it holds 20 queries. Only queries built from models, such as those of
+         * {@link com.amplifyframework.api.graphql.model.ModelQuery}, and using the API's default
+         * authorization mode, are batched. Batching is disabled by default.
+         * @param window Time for which a batch collects queries, after its first query
+         * @param unit Unit of the window
+         * @return A builder instance, to continue chaining configurations
+         */
+        @NonNull
+        public Builder batchQueries(long window, @NonNull TimeUnit unit) {
+            if (window <= 0) {
+                throw new IllegalArgumentException("window must be positive, but was " + window);
+            }
+            this.queryBatchWindowMs = Math.max(1, Objects.requireNonNull(unit).toMillis(window));
+            return this;
+        }
+
+        /**
+         * Limits the number of GraphQL subscriptions that share a WebSocket connection. Once every
+         * connection of an API holds this many subscriptions, a new subscription opens another
+         * connection; otherwise, it is placed on the connection holding the fewest subscriptions.
+         * A connection is closed once its last subscription has been released, and if it drops,
+         * only the subscriptions on it fail. By default, all of the subscriptions to an API share
+         * a single connection.
+         * @param maxSubscriptionsPerConnection Maximum number of subscriptions on a connection
+         * @return A builder instance, to continue chaining configurations
+         */
+        @NonNull
+        public Builder maxSubscriptionsPerConnection(int maxSubscriptionsPerConnection) {
+            if (maxSubscriptionsPerConnection <= 0) {
+                throw new IllegalArgumentException(
+                    "maxSubscriptionsPerConnection must be positive, but was " + maxSubscriptionsPerConnection);
+            }
+            this.maxSubscriptionsPerConnection = maxSubscriptionsPerConnection;
+            return this;
+        }
+
         /**
          * Builds an {@link AWSApiPlugin}.
          * @return An AWSApiPlugin
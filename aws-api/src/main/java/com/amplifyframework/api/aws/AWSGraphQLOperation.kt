@@ -21,6 +21,8 @@ import com.amplifyframework.api.aws.AppSyncDeserializationException
 import com.amplifyframework.api.graphql.GraphQLOperation
 import com.amplifyframework.api.graphql.GraphQLRequest
 import com.amplifyframework.api.graphql.GraphQLResponse
+import com.amplifyframework.core.Consumer
+import java.io.Reader
 
 /**
  * A Base AWS GraphQLOperation that also takes an apiName to allow LazyModel support.
@@ -58,4 +60,26 @@ abstract class AWSGraphQLOperation<R>(
             AmplifyException.TODO_RECOVERY_SUGGESTION
         )
     }
+
+    /**
+     * Decodes a response directly from a stream of JSON, such as the body of an HTTP response.
+     * @param responseJson Stream of the response JSON
+     * @param onListItem If non-null, receives the items of a paginated result as they are decoded
+     */
+    @Throws(ApiException::class)
+    protected fun wrapResponse(responseJson: Reader, onListItem: Consumer<Any>?): GraphQLResponse<R> = try {
+        (responseFactory as? GsonGraphQLResponseFactory)?.buildResponse(request, responseJson, apiName, onListItem)
+            ?: throw AppSyncDeserializationException(
+                "Amplify encountered an error while deserializing an object. " +
+                    "GraphQLResponse.Factory was not of type GsonGraphQLResponseFactory",
+                null,
+                AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+            )
+    } catch (cce: ClassCastException) {
+        throw AppSyncDeserializationException(
+            "Amplify encountered an error while deserializing an object",
+            cce,
+            AmplifyException.TODO_RECOVERY_SUGGESTION
+        )
+    }
 }
@@ -86,6 +86,17 @@ public final class ApiAuthProviders {
         return this.functionAuthProvider;
     }
 
+    // Returns a copy of these providers, with the given Cognito User Pools provider.
+    ApiAuthProviders withCognitoUserPoolsAuthProvider(@NonNull CognitoUserPoolsAuthProvider provider) {
+        Builder builder = builder();
+        builder.apiKeyAuthProvider = apiKeyAuthProvider;
+        builder.awsCredentialsProvider = awsCredentialsProvider;
+        builder.cognitoUserPoolsAuthProvider = Objects.requireNonNull(provider);
+        builder.oidcAuthProvider = oidcAuthProvider;
+        builder.functionAuthProvider = functionAuthProvider;
+        return builder.build();
+    }
+
     /**
      * Statically gets the builder for conveniently
      * configuring an immutable instance of {@link ApiAuthProviders}.
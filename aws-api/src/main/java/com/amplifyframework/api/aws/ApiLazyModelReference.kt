@@ -38,7 +38,9 @@ internal class ApiLazyModelReference<M : Model> internal constructor(
     // API name is important to provide to future query calls. If a custom API name was used for the original call,
     // the apiName must be provided to the following lazy call to fetch the value.
     private val apiName: String? = null,
-    private val apiCategory: ApiCategory = Amplify.API
+    private val apiCategory: ApiCategory = Amplify.API,
+    // Batches the fetches of lazy references made at about the same time into a single query.
+    private val loader: LazyQueryLoader = LazyQueryLoader.shared
 ) : LazyModelReference<M> {
     private val cachedValue = AtomicReference<LoadedValue<M>?>(null)
     private val mutex = Mutex() // prevents multiple fetches
@@ -107,7 +109,7 @@ internal class ApiLazyModelReference<M : Model> internal constructor(
                     *variables.toTypedArray()
                 )
 
-                val value = query(
+                val value = loader.load(
                     apiCategory,
                     request,
                     apiName
@@ -45,7 +45,9 @@ internal class ApiLazyModelList<out M : Model> constructor(
     // API name is important to provide to future query calls. If a custom API name was used for the original call,
     // the apiName must be provided to the following lazy calls to fetch the lazy list
     private val apiName: String?,
-    private val apiCategory: ApiCategory = Amplify.API
+    private val apiCategory: ApiCategory = Amplify.API,
+    // Batches the pages of lazy lists fetched at about the same time into a single query.
+    private val loader: LazyQueryLoader = LazyQueryLoader.shared
 ) : LazyModelList<M> {
 
     private val callbackScope = CoroutineScope(Dispatchers.IO)
@@ -53,7 +55,7 @@ internal class ApiLazyModelList<out M : Model> constructor(
 
     override suspend fun fetchPage(paginationToken: PaginationToken?): ModelPage<M> {
         try {
-            val response = query(apiCategory, createRequest(paginationToken), apiName)
+            val response = loader.load(apiCategory, createRequest(paginationToken), apiName)
             return response.data
         } catch (error: AmplifyException) {
             throw createLazyException(error)
@@ -63,6 +63,10 @@ public final class AppSyncGraphQLOperation<R> extends AWSGraphQLOperation<R> {
     private final Consumer<ApiException> onFailure;
     private final ExecutorService executorService;
     private final ApiRequestDecoratorFactory apiRequestDecoratorFactory;
+    @Nullable
+    private final Consumer<Object> onListItem;
+    @Nullable
+    private final Consumer<String> onResponseJson;
 
     @Nullable
     private Call ongoingCall;
@@ -79,6 +83,8 @@ public final class AppSyncGraphQLOperation<R> extends AWSGraphQLOperation<R> {
         this.executorService = Objects.requireNonNull(builder.executorService);
         this.onResponse = Objects.requireNonNull(builder.onResponse);
         this.onFailure = Objects.requireNonNull(builder.onFailure);
+        this.onListItem = builder.onListItem;
+        this.onResponseJson = builder.onResponseJson;
     }
 
     @Override
@@ -132,6 +138,20 @@ public final class AppSyncGraphQLOperation<R> extends AWSGraphQLOperation<R> {
         @Override
         public void onResponse(@NonNull Call call, @NonNull Response response) {
             final ResponseBody responseBody = response.body();
+            if (responseBody != null && onResponseJson == null && !isClientError(response.code())) {
+                // Decode straight from the body stream, so that the raw response is never held
+                // in memory as a whole alongside the decoded objects.
+                final GraphQLResponse<R> graphQLResponse;
+                try (ResponseBody body = responseBody) {
+                    graphQLResponse = wrapResponse(body.charStream(), onListItem);
+                } catch (ApiException exception) {
+                    onFailure.accept(exception);
+                    return;
+                }
+                onResponse.accept(graphQLResponse);
+                return;
+            }
+
             String jsonResponse = null;
             if (responseBody != null) {
                 try {
@@ -145,7 +165,7 @@ public final class AppSyncGraphQLOperation<R> extends AWSGraphQLOperation<R> {
                     return;
                 }
             }
-            if (response.code() >= START_OF_CLIENT_ERROR_CODE && response.code() <= END_OF_CLIENT_ERROR_CODE) {
+            if (isClientError(response.code())) {
                 IOException cause;
                 try {
                     JSONObject responseJson = new JSONObject(jsonResponse);
@@ -161,12 +181,22 @@ public final class AppSyncGraphQLOperation<R> extends AWSGraphQLOperation<R> {
                 return;
             }
 
+            final GraphQLResponse<R> graphQLResponse;
             try {
-                onResponse.accept(wrapResponse(jsonResponse));
-                //TODO: Dispatch to hub
+                graphQLResponse = wrapResponse(jsonResponse);
             } catch (ApiException exception) {
                 onFailure.accept(exception);
+                return;
+            }
+            if (onResponseJson != null && jsonResponse != null) {
+                onResponseJson.accept(jsonResponse);
             }
+            onResponse.accept(graphQLResponse);
+            //TODO: Dispatch to hub
+        }
+
+        private boolean isClientError(int code) {
+            return code >= START_OF_CLIENT_ERROR_CODE && code <= END_OF_CLIENT_ERROR_CODE;
         }
 
         @Override
@@ -190,6 +220,8 @@ public final class AppSyncGraphQLOperation<R> extends AWSGraphQLOperation<R> {
         private Consumer<ApiException> onFailure;
         private ExecutorService executorService;
         private String apiName;
+        private Consumer<Object> onListItem;
+        private Consumer<String> onResponseJson;
 
         Builder<R> endpoint(@NonNull String endpoint) {
             this.endpoint = Objects.requireNonNull(endpoint);
@@ -236,6 +268,18 @@ public final class AppSyncGraphQLOperation<R> extends AWSGraphQLOperation<R> {
             return this;
         }
 
+        Builder<R> onListItem(@Nullable Consumer<Object> onListItem) {
+            this.onListItem = onListItem;
+            return this;
+        }
+
+        // Receives the JSON of each successfully decoded response. The response is then read into a
+        // String, rather than decoded straight from the body stream.
+        Builder<R> onResponseJson(@Nullable Consumer<String> onResponseJson) {
+            this.onResponseJson = onResponseJson;
+            return this;
+        }
+
         @SuppressLint("SyntheticAccessor")
         AppSyncGraphQLOperation<R> build() {
             return new AppSyncGraphQLOperation<>(this);
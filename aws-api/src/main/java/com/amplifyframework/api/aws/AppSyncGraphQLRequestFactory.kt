@@ -24,7 +24,6 @@ import com.amplifyframework.api.graphql.SubscriptionType
 import com.amplifyframework.core.model.Model
 import com.amplifyframework.core.model.ModelIdentifier
 import com.amplifyframework.core.model.ModelPath
-import com.amplifyframework.core.model.ModelSchema
 import com.amplifyframework.core.model.PropertyContainerPath
 import com.amplifyframework.core.model.query.predicate.QueryPredicate
 import com.amplifyframework.core.model.query.predicate.QueryPredicates
@@ -39,6 +38,10 @@ import java.lang.reflect.Type
 object AppSyncGraphQLRequestFactory {
     private const val DEFAULT_QUERY_LIMIT = 1000
 
+    // Schemas, selection sets and rendered documents are the same for every request for a given
+    // model and operation, so they are built once and shared; building a request only binds variables.
+    private val documentCache = GraphQLDocumentCache()
+
     /**
      * Creates a [GraphQLRequest] that represents a query that expects a single value as a result. The request
      * will be created with the correct document based on the model schema and variables based on given
@@ -53,7 +56,7 @@ object AppSyncGraphQLRequestFactory {
     @JvmStatic
     fun <R, T : Model> buildQuery(modelClass: Class<T>, objectId: String): GraphQLRequest<R> {
         val variable: GraphQLRequestVariable = try {
-            val modelSchema = ModelSchema.fromModelClass(modelClass)
+            val modelSchema = documentCache.getModelSchema(modelClass)
             val primaryKeyName = modelSchema.primaryKeyName
             // Find target field to pull type info
             val targetField = requireNotNull(modelSchema.fields[primaryKeyName])
@@ -87,7 +90,7 @@ object AppSyncGraphQLRequestFactory {
         includes: ((P) -> List<PropertyContainerPath>)
     ): GraphQLRequest<R> {
         val variable: GraphQLRequestVariable = try {
-            val modelSchema = ModelSchema.fromModelClass(modelClass)
+            val modelSchema = documentCache.getModelSchema(modelClass)
             val primaryKeyName = modelSchema.primaryKeyName
             // Find target field to pull type info
             val targetField = requireNotNull(modelSchema.fields[primaryKeyName])
@@ -115,7 +118,7 @@ object AppSyncGraphQLRequestFactory {
     @JvmStatic
     fun <R, T : Model> buildQuery(modelClass: Class<T>, modelIdentifier: ModelIdentifier<T>): GraphQLRequest<R> {
         try {
-            val modelSchema = ModelSchema.fromModelClass(modelClass)
+            val modelSchema = documentCache.getModelSchema(modelClass)
             val primaryIndexFields = modelSchema.primaryIndexFields
             val sortedKeys = modelIdentifier.sortedKeys()
             val variables = primaryIndexFields.mapIndexed { i, key ->
@@ -162,7 +165,7 @@ object AppSyncGraphQLRequestFactory {
         includes: ((P) -> List<PropertyContainerPath>)
     ): GraphQLRequest<R> {
         try {
-            val modelSchema = ModelSchema.fromModelClass(modelClass)
+            val modelSchema = documentCache.getModelSchema(modelClass)
             val primaryIndexFields = modelSchema.primaryIndexFields
             val sortedKeys = modelIdentifier.sortedKeys()
             val variables = primaryIndexFields.mapIndexed { i, key ->
@@ -194,17 +197,22 @@ object AppSyncGraphQLRequestFactory {
         includes: ((P) -> List<PropertyContainerPath>)?,
         vararg variables: GraphQLRequestVariable
     ): GraphQLRequest<R> = try {
+        val requestOptions = ApiGraphQLRequestOptions()
         val builder = AppSyncGraphQLRequest.builder()
             .modelClass(modelClass)
             .operation(QueryType.GET)
-            .requestOptions(ApiGraphQLRequestOptions())
+            .requestOptions(requestOptions)
             .responseType(modelClass)
         for ((key, value, type) in variables) {
             builder.variable(key, type, value)
         }
 
         val customSelectionSet = includes?.let { createApiSelectionSet(modelClass, QueryType.GET, it) }
-        customSelectionSet?.let { builder.selectionSet(it) }
+        if (customSelectionSet != null) {
+            builder.selectionSet(customSelectionSet)
+        } else {
+            builder.document(documentCache.getDocument(modelClass, QueryType.GET, requestOptions))
+        }
 
         builder.build()
     } catch (exception: AmplifyException) {
@@ -339,13 +347,12 @@ object AppSyncGraphQLRequestFactory {
         includes: ((P) -> List<PropertyContainerPath>)?,
         pageToken: String? = null
     ): GraphQLRequest<R> = try {
-        val modelName = ModelSchema.fromModelClass(
-            modelClass
-        ).name
+        val modelName = documentCache.getModelSchema(modelClass).name
+        val requestOptions = ApiGraphQLRequestOptions()
         val builder = AppSyncGraphQLRequest.builder()
             .modelClass(modelClass)
             .operation(QueryType.LIST)
-            .requestOptions(ApiGraphQLRequestOptions())
+            .requestOptions(requestOptions)
             .responseType(responseType)
         if (QueryPredicates.all() != predicate) {
             val filterType = "Model" + Casing.capitalizeFirst(modelName) + "FilterInput"
@@ -362,7 +369,11 @@ object AppSyncGraphQLRequestFactory {
         }
 
         val customSelectionSet = includes?.let { createApiSelectionSet(modelClass, QueryType.LIST, it) }
-        customSelectionSet?.let { builder.selectionSet(it) }
+        if (customSelectionSet != null) {
+            builder.selectionSet(customSelectionSet)
+        } else {
+            builder.document(documentCache.getDocument(modelClass, QueryType.LIST, requestOptions))
+        }
 
         builder.build()
     } catch (exception: AmplifyException) {
@@ -413,12 +424,13 @@ object AppSyncGraphQLRequestFactory {
         includes: ((P) -> List<PropertyContainerPath>)?
     ): GraphQLRequest<R> = try {
         val modelClass: Class<out Model> = model.javaClass
-        val schema = ModelSchema.fromModelClass(modelClass)
+        val schema = documentCache.getModelSchema(modelClass)
         val graphQlTypeName = schema.name
+        val requestOptions = ApiGraphQLRequestOptions()
         val builder = AppSyncGraphQLRequest.builder()
             .operation(type)
             .modelClass(modelClass)
-            .requestOptions(ApiGraphQLRequestOptions())
+            .requestOptions(requestOptions)
             .responseType(modelClass)
         val inputType = Casing.capitalize(type.toString()) +
             Casing.capitalizeFirst(graphQlTypeName) +
@@ -448,7 +460,11 @@ object AppSyncGraphQLRequestFactory {
         }
 
         val customSelectionSet = includes?.let { createApiSelectionSet(modelClass, type, it) }
-        customSelectionSet?.let { builder.selectionSet(it) }
+        if (customSelectionSet != null) {
+            builder.selectionSet(customSelectionSet)
+        } else {
+            builder.document(documentCache.getDocument(modelClass, type, requestOptions))
+        }
 
         builder.build()
     } catch (exception: AmplifyException) {
@@ -494,14 +510,19 @@ object AppSyncGraphQLRequestFactory {
         subscriptionType: SubscriptionType,
         includes: ((P) -> List<PropertyContainerPath>)?
     ): GraphQLRequest<R> = try {
+        val requestOptions = ApiGraphQLRequestOptions()
         val builder = AppSyncGraphQLRequest.builder()
             .modelClass(modelClass)
             .operation(subscriptionType)
-            .requestOptions(ApiGraphQLRequestOptions())
+            .requestOptions(requestOptions)
             .responseType(modelClass)
 
         val customSelectionSet = includes?.let { createApiSelectionSet(modelClass, subscriptionType, it) }
-        customSelectionSet?.let { builder.selectionSet(it) }
+        if (customSelectionSet != null) {
+            builder.selectionSet(customSelectionSet)
+        } else {
+            builder.document(documentCache.getDocument(modelClass, subscriptionType, requestOptions))
+        }
 
         builder.build()
     } catch (exception: AmplifyException) {
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+
+import com.amplifyframework.core.model.ModelOperation;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.core.model.auth.AuthorizationTypeIterator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Remembers, for each model and operation, the authorization mode with which a multi-auth request
+ * last succeeded, so that later requests try that mode first, rather than paying for the failed
+ * attempts of the modes that precede it in the order of {@link MultiAuthModeStrategy}. The other
+ * modes are then tried in that order, if the remembered one fails.
+ *
+ * Which modes succeed depends on the signed-in user, so the memory is scoped to them: it is
+ * forgotten whenever the user changes, as announced by Auth events such as a sign-in or a sign-out,
+ * and a success of a request started before that is not remembered.
+ */
+final class AuthModeMemory {
+    private final Map<String, AuthMode> lastSucceeded = new ConcurrentHashMap<>();
+    private final AtomicInteger generation = new AtomicInteger();
+
+    /**
+     * Gets the authorization modes to try for an operation on a model, starting with the mode
+     * that last succeeded for them, if any.
+     * @param modelSchema Schema of the model
+     * @param operation Operation on the model
+     * @return The modes to try, in order
+     */
+    @NonNull
+    Attempts attemptsFor(@NonNull ModelSchema modelSchema, @NonNull ModelOperation operation) {
+        final String key = modelSchema.getName() + "\n" + operation.name();
+        final int attemptsGeneration = generation.get();
+        AuthorizationTypeIterator strategyModes = MultiAuthModeStrategy.getInstance()
+            .authTypesFor(modelSchema, operation);
+        List<AuthMode> modes = new ArrayList<>();
+        while (strategyModes.hasNext()) {
+            AuthorizationType authorizationType = strategyModes.next();
+            modes.add(new AuthMode(authorizationType, strategyModes.isOwnerBasedRule()));
+        }
+        AuthMode remembered = lastSucceeded.get(key);
+        if (remembered != null && modes.remove(remembered)) {
+            modes.add(0, remembered);
+        }
+        return new Attempts(key, attemptsGeneration, modes);
+    }
+
+    /**
+     * Forgets every remembered mode, as the signed-in user has changed.
+     */
+    void forget() {
+        generation.incrementAndGet();
+        lastSucceeded.clear();
+    }
+
+    /**
+     * The authorization modes to try for a request, in order.
+     */
+    final class Attempts implements AuthorizationTypeIterator {
+        private final String key;
+        private final int attemptsGeneration;
+        private final Iterator<AuthMode> modes;
+        @Nullable
+        private AuthMode current;
+
+        private Attempts(String key, int attemptsGeneration, List<AuthMode> modes) {
+            this.key = key;
+            this.attemptsGeneration = attemptsGeneration;
+            this.modes = modes.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return modes.hasNext();
+        }
+
+        @Override
+        public AuthorizationType next() {
+            current = modes.next();
+            return current.authorizationType;
+        }
+
+        @Override
+        public boolean isOwnerBasedRule() {
+            return current != null && current.ownerBased;
+        }
+
+        /**
+         * Remembers the current mode, with which the request has succeeded.
+         */
+        void succeeded() {
+            if (current != null && generation.get() == attemptsGeneration) {
+                lastSucceeded.put(key, current);
+            }
+        }
+    }
+
+    private static final class AuthMode {
+        private final AuthorizationType authorizationType;
+        private final boolean ownerBased;
+
+        AuthMode(AuthorizationType authorizationType, boolean ownerBased) {
+            this.authorizationType = authorizationType;
+            this.ownerBased = ownerBased;
+        }
+
+        @Override
+        public boolean equals(Object thatObject) {
+            if (this == thatObject) {
+                return true;
+            }
+            if (thatObject == null || getClass() != thatObject.getClass()) {
+                return false;
+            }
+            AuthMode that = (AuthMode) thatObject;
+            return ownerBased == that.ownerBased &&
+                ObjectsCompat.equals(authorizationType, that.authorizationType);
+        }
+
+        @Override
+        public int hashCode() {
+            return ObjectsCompat.hash(authorizationType, ownerBased);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.api.ApiException;
+import com.amplifyframework.api.graphql.GraphQLOperation;
+import com.amplifyframework.api.graphql.GraphQLRequest;
+import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.core.Amplify;
+import com.amplifyframework.core.Consumer;
+import com.amplifyframework.core.category.CategoryType;
+import com.amplifyframework.logging.Logger;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A query that may be answered from a {@link GraphQLResponseCache}, according to its
+ * {@link FetchPolicy}, before or instead of being sent by a network operation.
+ *
+ * The cache is read on the executor, as it may be backed by a database.
+ * @param <R> Type of the response data
+ */
+final class CachedGraphQLOperation<R> extends AWSGraphQLOperation<R> {
+    private static final Logger LOG = Amplify.Logging.logger(CategoryType.API, "amplify:aws-api");
+
+    private final String apiName;
+    private final GraphQLResponseCache cache;
+    private final FetchPolicy fetchPolicy;
+    private final GraphQLOperation<R> networkOperation;
+    private final Consumer<GraphQLResponse<R>> onResponse;
+    private final ExecutorService executorService;
+    private volatile boolean canceled;
+
+    /**
+     * Constructs a new CachedGraphQLOperation.
+     * @param apiName Name of the API being queried
+     * @param request The query
+     * @param responseFactory Factory that decodes the cached response
+     * @param cache Cache that may answer the query
+     * @param fetchPolicy Whether, and when, the query is answered from the cache
+     * @param networkOperation Operation that sends the query, delivering its response to onResponse
+     * @param onResponse Receives the cached response
+     * @param executorService Executor that reads the cache
+     */
+    CachedGraphQLOperation(
+            @NonNull String apiName,
+            @NonNull GraphQLRequest<R> request,
+            @NonNull GraphQLResponse.Factory responseFactory,
+            @NonNull GraphQLResponseCache cache,
+            @NonNull FetchPolicy fetchPolicy,
+            @NonNull GraphQLOperation<R> networkOperation,
+            @NonNull Consumer<GraphQLResponse<R>> onResponse,
+            @NonNull ExecutorService executorService) {
+        super(request, responseFactory, apiName);
+        this.apiName = Objects.requireNonNull(apiName);
+        this.cache = Objects.requireNonNull(cache);
+        this.fetchPolicy = Objects.requireNonNull(fetchPolicy);
+        this.networkOperation = Objects.requireNonNull(networkOperation);
+        this.onResponse = Objects.requireNonNull(onResponse);
+        this.executorService = Objects.requireNonNull(executorService);
+    }
+
+    @Override
+    public void start() {
+        if (FetchPolicy.NETWORK_ONLY.equals(fetchPolicy)) {
+            networkOperation.start();
+        } else {
+            executorService.submit(this::respondFromCache);
+        }
+    }
+
+    private void respondFromCache() {
+        GraphQLResponse<R> cachedResponse = null;
+        String cachedJson = cache.read(apiName, getRequest());
+        if (cachedJson != null) {
+            try {
+                cachedResponse = wrapResponse(cachedJson);
+            } catch (ApiException exception) {
+                // The query is sent instead, as if the cache had not had the response.
+                LOG.warn("Failed to decode a cached response.", exception);
+            }
+        }
+        if (canceled) {
+            return;
+        }
+        if (cachedResponse != null) {
+            onResponse.accept(cachedResponse);
+            if (FetchPolicy.CACHE_FIRST.equals(fetchPolicy)) {
+                return;
+            }
+        }
+        if (!canceled) {
+            networkOperation.start();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        canceled = true;
+        networkOperation.cancel();
+    }
+}
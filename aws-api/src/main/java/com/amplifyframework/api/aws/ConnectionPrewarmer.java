@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.core.Amplify;
+import com.amplifyframework.core.category.CategoryType;
+import com.amplifyframework.logging.Logger;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Opens connections to the endpoints of the APIs that are to be pre-connected, so that their first
+ * request does not pay for the DNS lookup and the TCP and TLS handshakes. An endpoint is warmed up by
+ * a HEAD request, sent without authorization, whose connection stays in the pool of its client. Since
+ * it is an application request, only GraphQL endpoints are warmed up, as AppSync rejects it before it
+ * reaches a resolver; a REST API could pass it on to its integration. The
+ * endpoints are warmed up again whenever the device regains a network, after the connections opened
+ * on the previous one have been evicted.
+ */
+final class ConnectionPrewarmer {
+    private static final Logger LOG = Amplify.Logging.logger(CategoryType.API, "amplify:aws-api");
+
+    private final List<Endpoint> endpoints = new CopyOnWriteArrayList<>();
+    private ConnectivityManager.NetworkCallback networkCallback;
+
+    /**
+     * Adds an endpoint to warm up.
+     * @param client Client of the API, whose connection pool keeps the connection
+     * @param endpoint URL of the endpoint
+     */
+    void add(@NonNull OkHttpClient client, @NonNull String endpoint) {
+        // Authorization is not needed to open a connection, so the interceptors that add it are left out.
+        OkHttpClient.Builder warmUpClient = client.newBuilder();
+        warmUpClient.interceptors().clear();
+        endpoints.add(new Endpoint(warmUpClient.build(), endpoint));
+    }
+
+    /**
+     * Warms up the endpoints now, and whenever the device regains a network.
+     * @param context An Android Context
+     */
+    synchronized void start(@NonNull Context context) {
+        if (endpoints.isEmpty() || networkCallback != null) {
+            return;
+        }
+        warmUp();
+        ConnectivityManager connectivityManager = context.getSystemService(ConnectivityManager.class);
+        if (connectivityManager == null) {
+            return;
+        }
+        try {
+            networkCallback = new WarmUpOnNetworkChange(connectivityManager.getActiveNetwork());
+            connectivityManager.registerDefaultNetworkCallback(networkCallback);
+        } catch (SecurityException | IllegalArgumentException exception) {
+            LOG.warn("Unable to watch the network to pre-connect the APIs again.", exception);
+        }
+    }
+
+    private void warmUp() {
+        for (Endpoint endpoint : endpoints) {
+            Request request = new Request.Builder().url(endpoint.url).head().build();
+            endpoint.client.newCall(request).enqueue(new Callback() {
+                @Override
+                public void onResponse(@NonNull Call call, @NonNull Response response) {
+                    response.close();
+                }
+
+                @Override
+                public void onFailure(@NonNull Call call, @NonNull IOException exception) {
+                    LOG.debug("Failed to pre-connect " + endpoint.url + ": " + exception.getMessage());
+                }
+            });
+        }
+    }
+
+    // Warms up the endpoints when the default network changes. The callback is also called as soon as it is
+    // registered, for the network the endpoints have just been warmed up on, which is skipped.
+    private final class WarmUpOnNetworkChange extends ConnectivityManager.NetworkCallback {
+        private Network currentNetwork;
+
+        WarmUpOnNetworkChange(@Nullable Network currentNetwork) {
+            this.currentNetwork = currentNetwork;
+        }
+
+        @Override
+        public synchronized void onAvailable(@NonNull Network network) {
+            if (network.equals(currentNetwork)) {
+                return;
+            }
+            currentNetwork = network;
+            for (Endpoint endpoint : endpoints) {
+                // Idle connections opened on the previous network can no longer be used.
+                endpoint.client.connectionPool().evictAll();
+            }
+            warmUp();
+        }
+
+        @Override
+        public synchronized void onLost(@NonNull Network network) {
+            if (network.equals(currentNetwork)) {
+                currentNetwork = null;
+            }
+        }
+    }
+
+    private static final class Endpoint {
+        private final OkHttpClient client;
+        private final String url;
+
+        Endpoint(OkHttpClient client, String url) {
+            this.client = client;
+            this.url = url;
+        }
+    }
+}
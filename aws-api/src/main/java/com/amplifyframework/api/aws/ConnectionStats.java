@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Counts of the connections used by the HTTP requests made to an API since the plugin was
+ * configured: how many were opened, how many requests reused an open connection, and how many
+ * connection attempts failed.
+ */
+public final class ConnectionStats {
+    private final long openedConnections;
+    private final long reusedConnections;
+    private final long failedConnections;
+
+    ConnectionStats(long openedConnections, long reusedConnections, long failedConnections) {
+        this.openedConnections = openedConnections;
+        this.reusedConnections = reusedConnections;
+        this.failedConnections = failedConnections;
+    }
+
+    /**
+     * Gets the number of connections opened.
+     * @return Number of connections opened
+     */
+    public long getOpenedConnections() {
+        return openedConnections;
+    }
+
+    /**
+     * Gets the number of requests that reused a connection opened before them.
+     * @return Number of requests that reused a connection
+     */
+    public long getReusedConnections() {
+        return reusedConnections;
+    }
+
+    /**
+     * Gets the number of connection attempts that failed.
+     * @return Number of failed connection attempts
+     */
+    public long getFailedConnections() {
+        return failedConnections;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object thatObject) {
+        if (this == thatObject) {
+            return true;
+        }
+        if (thatObject == null || getClass() != thatObject.getClass()) {
+            return false;
+        }
+        ConnectionStats that = (ConnectionStats) thatObject;
+        return openedConnections == that.openedConnections &&
+            reusedConnections == that.reusedConnections &&
+            failedConnections == that.failedConnections;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(openedConnections);
+        result = 31 * result + Long.hashCode(reusedConnections);
+        result = 31 * result + Long.hashCode(failedConnections);
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "ConnectionStats{" +
+            "openedConnections=" + openedConnections +
+            ", reusedConnections=" + reusedConnections +
+            ", failedConnections=" + failedConnections +
+            '}';
+    }
+}
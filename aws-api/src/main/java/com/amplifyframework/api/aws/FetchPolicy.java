@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+/**
+ * Where a GraphQL query gets its response from, when the plugin has a response cache.
+ * See {@link GraphQLCacheConfiguration}.
+ */
+public enum FetchPolicy {
+
+    /**
+     * Responds from the cache if it can answer the query; otherwise queries the API.
+     */
+    CACHE_FIRST,
+
+    /**
+     * Responds from the cache if it can answer the query, and then also queries the API, and
+     * responds again with its response. The response consumer may be called twice.
+     */
+    CACHE_AND_NETWORK,
+
+    /**
+     * Always queries the API. Its response is still written to the cache.
+     */
+    NETWORK_ONLY
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import android.annotation.SuppressLint;
+import androidx.annotation.NonNull;
+
+import java.util.Objects;
+
+/**
+ * Configures the normalized response cache of the AWS API plugin.
+ *
+ * The cache holds the models returned by model-based GraphQL requests, such as those built by
+ * {@link com.amplifyframework.api.graphql.model.ModelQuery}, keyed by their type and primary key.
+ * Get and list queries can be answered from it, depending on their {@link FetchPolicy}, and it is
+ * kept up to date by the responses to mutations and by subscription events. It is kept in memory,
+ * up to a maximum number of records, and optionally also in a database on the device, so that it
+ * outlives the process.
+ */
+public final class GraphQLCacheConfiguration {
+    private static final int DEFAULT_MAX_ENTRIES = 1_000;
+
+    private final int maxEntries;
+    private final boolean persistent;
+    private final FetchPolicy defaultFetchPolicy;
+
+    private GraphQLCacheConfiguration(@NonNull Builder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.persistent = builder.persistent;
+        this.defaultFetchPolicy = builder.defaultFetchPolicy;
+    }
+
+    /**
+     * Gets the maximum number of records kept in memory.
+     * @return Maximum number of records kept in memory
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Gets whether the cache is also kept in a database on the device.
+     * @return true if the cache is persisted
+     */
+    public boolean isPersistent() {
+        return persistent;
+    }
+
+    /**
+     * Gets the fetch policy of queries that do not specify one.
+     * @return The default fetch policy
+     */
+    @NonNull
+    public FetchPolicy getDefaultFetchPolicy() {
+        return defaultFetchPolicy;
+    }
+
+    /**
+     * Gets a configuration builder instance.
+     * @return A configuration builder instance
+     */
+    @SuppressLint("SyntheticAccessor")
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Constructs configuration objects through fluent method chaining.
+     */
+    public static final class Builder {
+        private int maxEntries;
+        private boolean persistent;
+        private FetchPolicy defaultFetchPolicy;
+
+        private Builder() {
+            this.maxEntries = DEFAULT_MAX_ENTRIES;
+            this.persistent = false;
+            this.defaultFetchPolicy = FetchPolicy.NETWORK_ONLY;
+        }
+
+        /**
+         * Sets the maximum number of records kept in memory. The least recently used records are
+         * evicted beyond it. Defaults to 1000.
+         * @param maxEntries Maximum number of records kept in memory
+         * @return Current builder instance, for fluent method chaining
+         */
+        @NonNull
+        public Builder maxEntries(int maxEntries) {
+            if (maxEntries <= 0) {
+                throw new IllegalArgumentException("maxEntries must be positive, but was " + maxEntries);
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets whether the cache is also kept in a database on the device. Defaults to false.
+         * @param persistent true to persist the cache
+         * @return Current builder instance, for fluent method chaining
+         */
+        @NonNull
+        public Builder persistent(boolean persistent) {
+            this.persistent = persistent;
+            return this;
+        }
+
+        /**
+         * Sets the fetch policy of queries that do not specify one. Defaults to
+         * {@link FetchPolicy#NETWORK_ONLY}, so that the cache is only read by queries which ask for it.
+         * @param defaultFetchPolicy The default fetch policy
+         * @return Current builder instance, for fluent method chaining
+         */
+        @NonNull
+        public Builder defaultFetchPolicy(@NonNull FetchPolicy defaultFetchPolicy) {
+            this.defaultFetchPolicy = Objects.requireNonNull(defaultFetchPolicy);
+            return this;
+        }
+
+        /**
+         * Constructs a new GraphQLCacheConfiguration from the values staged in this builder.
+         * @return A new GraphQLCacheConfiguration
+         */
+        @SuppressLint("SyntheticAccessor")
+        @NonNull
+        public GraphQLCacheConfiguration build() {
+            return new GraphQLCacheConfiguration(this);
+        }
+    }
+}
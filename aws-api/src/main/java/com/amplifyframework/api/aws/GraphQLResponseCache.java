@@ -0,0 +1,405 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.api.graphql.GraphQLRequest;
+import com.amplifyframework.api.graphql.MutationType;
+import com.amplifyframework.api.graphql.Operation;
+import com.amplifyframework.api.graphql.PaginatedResult;
+import com.amplifyframework.api.graphql.QueryType;
+import com.amplifyframework.api.graphql.SubscriptionType;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.ModelSchema;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A normalized cache of the responses to model-based GraphQL requests.
+ *
+ * Each model returned by a request is stored once, as an entity keyed by its API, its model type
+ * and its primary key, so that every query that returned it sees the latest version of it. A list
+ * query is stored as a query record, keyed by the API and the request content, listing the keys of
+ * the entities on its page. Get and list queries are answered by rebuilding their response from
+ * these records; the rebuilt response is decoded like any other.
+ *
+ * Created and updated models, from mutation responses and subscription events, are merged into
+ * their entities; deleted ones are removed. Either invalidates the query records of their model
+ * type, as the change may add a model to, or remove one from, any of those pages.
+ *
+ * The model type is the name of the request's {@link ModelSchema}, and only the models at the top
+ * level of a response are normalized; models nested below them stay part of their parent entity.
+ * A query is only answered from the cache if the cached records contain every field of its
+ * selection set, so a query for more fields than were cached goes to the network.
+ *
+ * Clearing the cache starts a new generation of it. A response is written along with the
+ * generation in which its request was made, and is dropped if the cache has been cleared since,
+ * so that a response to a request made for one user is not cached once the next user signs in.
+ */
+final class GraphQLResponseCache {
+    private static final String DATA_KEY = "data";
+    private static final String ERRORS_KEY = "errors";
+    private static final String ITEMS_KEY = "items";
+    private static final String DELETED_KEY = "_deleted";
+    private static final String ENTITY_KEYS_KEY = "__entityKeys";
+    // The name of the top-level query field of a rebuilt response; it is skipped when decoding.
+    private static final String CACHED_QUERY_FIELD = "cached";
+
+    private final NormalizedCacheStore store;
+    private final FetchPolicy defaultFetchPolicy;
+    private int generation;
+
+    /**
+     * Constructs a new GraphQLResponseCache.
+     * @param store Store of the cache records
+     * @param defaultFetchPolicy Fetch policy of queries that do not specify one
+     */
+    GraphQLResponseCache(@NonNull NormalizedCacheStore store, @NonNull FetchPolicy defaultFetchPolicy) {
+        this.store = Objects.requireNonNull(store);
+        this.defaultFetchPolicy = Objects.requireNonNull(defaultFetchPolicy);
+    }
+
+    /**
+     * Creates a cache as described by a cache configuration.
+     * @param configuration Cache configuration
+     * @param context Android context, used to open the database of a persistent cache
+     * @return A new cache
+     */
+    @NonNull
+    static GraphQLResponseCache create(
+            @NonNull GraphQLCacheConfiguration configuration, @NonNull Context context) {
+        NormalizedCacheStore persistentStore = configuration.isPersistent()
+                ? new SQLiteNormalizedCacheStore(context)
+                : null;
+        return new GraphQLResponseCache(
+                new LruNormalizedCacheStore(configuration.getMaxEntries(), persistentStore),
+                configuration.getDefaultFetchPolicy());
+    }
+
+    @NonNull
+    FetchPolicy getDefaultFetchPolicy() {
+        return defaultFetchPolicy;
+    }
+
+    /**
+     * Checks whether the response to a request updates the cache.
+     * @param request A GraphQL request
+     * @return true if the response to the request should be passed to {@link #write}
+     */
+    static boolean isCacheable(@NonNull GraphQLRequest<?> request) {
+        if (!(request instanceof AppSyncGraphQLRequest) ||
+                ((AppSyncGraphQLRequest<?>) request).getModelSchema() == null) {
+            return false;
+        }
+        Operation operation = ((AppSyncGraphQLRequest<?>) request).getOperation();
+        return QueryType.GET.equals(operation) ||
+                QueryType.LIST.equals(operation) ||
+                operation instanceof MutationType ||
+                operation instanceof SubscriptionType;
+    }
+
+    /**
+     * Rebuilds the response to a query from the cache.
+     * @param apiName Name of the API the query is for
+     * @param request The query
+     * @return The response JSON, or null if the cache cannot answer the query
+     */
+    @Nullable
+    String read(@NonNull String apiName, @NonNull GraphQLRequest<?> request) {
+        if (!isCacheable(request)) {
+            return null;
+        }
+        AppSyncGraphQLRequest<?> appSyncRequest = (AppSyncGraphQLRequest<?>) request;
+        ModelSchema modelSchema = appSyncRequest.getModelSchema();
+        Operation operation = appSyncRequest.getOperation();
+        Type responseType = appSyncRequest.getResponseType();
+
+        final JsonElement result;
+        if (QueryType.GET.equals(operation) && isModelType(responseType)) {
+            String entityKey = entityKey(apiName, modelSchema, appSyncRequest.getVariables());
+            NormalizedCacheStore.Record entity = entityKey == null ? null : store.get(entityKey);
+            if (entity == null) {
+                return null;
+            }
+            result = entity.getJson();
+        } else if (QueryType.LIST.equals(operation) && isPaginatedResultType(responseType)) {
+            result = readPage(queryKey(apiName, appSyncRequest));
+            if (result == null) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+
+        SelectionSet selectionSet = appSyncRequest.getSelectionSet();
+        if (selectionSet != null && !covers(result, selectionSet)) {
+            return null;
+        }
+        JsonObject data = new JsonObject();
+        data.add(CACHED_QUERY_FIELD, result);
+        JsonObject response = new JsonObject();
+        response.add(DATA_KEY, data);
+        return response.toString();
+    }
+
+    @Nullable
+    private JsonObject readPage(String queryKey) {
+        NormalizedCacheStore.Record query = store.get(queryKey);
+        if (query == null) {
+            return null;
+        }
+        JsonObject page = query.getJson().deepCopy();
+        JsonElement entityKeys = page.remove(ENTITY_KEYS_KEY);
+        if (entityKeys == null || !entityKeys.isJsonArray()) {
+            return null;
+        }
+        JsonArray items = new JsonArray();
+        for (JsonElement entityKey : entityKeys.getAsJsonArray()) {
+            NormalizedCacheStore.Record entity = store.get(entityKey.getAsString());
+            if (entity == null) {
+                // The entity has been evicted or deleted since, so the page cannot be rebuilt.
+                return null;
+            }
+            items.add(entity.getJson());
+        }
+        page.add(ITEMS_KEY, items);
+        return page;
+    }
+
+    /**
+     * Gets the current generation of the cache, which changes whenever it is cleared. It is taken
+     * when a request is made, to write its response with.
+     * @return Current generation of the cache
+     */
+    synchronized int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Updates the cache from the response to a request. Responses with errors are ignored, as
+     * their data may be partial, as are responses to requests made before the cache was cleared.
+     * @param apiName Name of the API the request was made to
+     * @param request The request
+     * @param responseJson JSON of the response to the request
+     * @param requestGeneration Generation of the cache when the request was made
+     */
+    synchronized void write(@NonNull String apiName, @NonNull GraphQLRequest<?> request,
+            @NonNull String responseJson, int requestGeneration) {
+        if (requestGeneration != generation || !isCacheable(request)) {
+            return;
+        }
+        final JsonObject response;
+        try {
+            response = JsonParser.parseString(responseJson).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException exception) {
+            // The response is reported as malformed when it is decoded.
+            return;
+        }
+        JsonElement errors = response.get(ERRORS_KEY);
+        if (errors != null && errors.isJsonArray() && errors.getAsJsonArray().size() > 0) {
+            return;
+        }
+        JsonElement result = queryResult(response);
+        if (result == null) {
+            return;
+        }
+
+        AppSyncGraphQLRequest<?> appSyncRequest = (AppSyncGraphQLRequest<?>) request;
+        ModelSchema modelSchema = appSyncRequest.getModelSchema();
+        Operation operation = appSyncRequest.getOperation();
+        if (QueryType.GET.equals(operation)) {
+            if (result.isJsonObject()) {
+                putEntity(apiName, modelSchema, result.getAsJsonObject());
+            } else if (result.isJsonNull()) {
+                // The model does not exist (any more).
+                String entityKey = entityKey(apiName, modelSchema, appSyncRequest.getVariables());
+                if (entityKey != null) {
+                    store.remove(entityKey);
+                }
+            }
+        } else if (QueryType.LIST.equals(operation)) {
+            if (result.isJsonObject()) {
+                putPage(apiName, appSyncRequest, result.getAsJsonObject());
+            }
+        } else if (result.isJsonObject()) {
+            JsonObject model = result.getAsJsonObject();
+            if (MutationType.DELETE.equals(operation) ||
+                    SubscriptionType.ON_DELETE.equals(operation) ||
+                    isDeleted(model)) {
+                String entityKey = entityKey(apiName, modelSchema, model);
+                if (entityKey != null) {
+                    store.remove(entityKey);
+                }
+            } else {
+                putEntity(apiName, modelSchema, model);
+            }
+            store.removeQueries(modelSchema.getName());
+        }
+    }
+
+    /**
+     * Removes all records from the cache, and starts a new generation of it, so that the responses
+     * to the requests made until now are no longer written.
+     */
+    synchronized void clear() {
+        generation++;
+        store.clear();
+    }
+
+    private void putPage(String apiName, AppSyncGraphQLRequest<?> request, JsonObject page) {
+        JsonElement items = page.remove(ITEMS_KEY);
+        if (items == null || !items.isJsonArray()) {
+            return;
+        }
+        ModelSchema modelSchema = request.getModelSchema();
+        JsonArray entityKeys = new JsonArray();
+        for (JsonElement item : items.getAsJsonArray()) {
+            if (!item.isJsonObject()) {
+                // Null items are dropped from a PaginatedResult, so they are not cached either.
+                continue;
+            }
+            String entityKey = putEntity(apiName, modelSchema, item.getAsJsonObject());
+            if (entityKey == null) {
+                // A page with an item that cannot be keyed cannot be rebuilt.
+                return;
+            }
+            entityKeys.add(entityKey);
+        }
+        // The rest of the page, such as its nextToken, is kept as is.
+        page.add(ENTITY_KEYS_KEY, entityKeys);
+        store.put(queryKey(apiName, request), new NormalizedCacheStore.Record(modelSchema.getName(), true, page));
+    }
+
+    // Merges a model into its entity, and returns the key of the entity, or null if it has none.
+    @Nullable
+    private String putEntity(String apiName, ModelSchema modelSchema, JsonObject model) {
+        String entityKey = entityKey(apiName, modelSchema, model);
+        if (entityKey == null) {
+            return null;
+        }
+        NormalizedCacheStore.Record existing = store.get(entityKey);
+        JsonObject entity = model;
+        if (existing != null) {
+            // Fields selected by an earlier request, but not by this one, are kept.
+            entity = existing.getJson().deepCopy();
+            for (Map.Entry<String, JsonElement> field : model.entrySet()) {
+                entity.add(field.getKey(), field.getValue());
+            }
+        }
+        store.put(entityKey, new NormalizedCacheStore.Record(modelSchema.getName(), false, entity));
+        return entityKey;
+    }
+
+    // Skips the data member and the single top-level query field.
+    @Nullable
+    private static JsonElement queryResult(JsonObject response) {
+        JsonElement data = response.get(DATA_KEY);
+        if (data == null || !data.isJsonObject() || data.getAsJsonObject().size() != 1) {
+            return null;
+        }
+        return data.getAsJsonObject().entrySet().iterator().next().getValue();
+    }
+
+    private static boolean isDeleted(JsonObject model) {
+        JsonElement deleted = model.get(DELETED_KEY);
+        return deleted != null && deleted.isJsonPrimitive() && deleted.getAsJsonPrimitive().isBoolean() &&
+                deleted.getAsBoolean();
+    }
+
+    // Checks that the cached JSON contains every field selected by the selection set.
+    private static boolean covers(JsonElement json, SelectionSet selectionSet) {
+        if (selectionSet.getNodes().isEmpty() || json.isJsonNull()) {
+            return true;
+        }
+        if (json.isJsonArray()) {
+            for (JsonElement element : json.getAsJsonArray()) {
+                if (!covers(element, selectionSet)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (!json.isJsonObject()) {
+            return false;
+        }
+        JsonObject object = json.getAsJsonObject();
+        for (SelectionSet node : selectionSet.getNodes()) {
+            JsonElement field = object.get(node.getValue());
+            if (field == null || !covers(field, node)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static String entityKey(String apiName, ModelSchema modelSchema, JsonObject model) {
+        JsonArray primaryKey = new JsonArray();
+        for (String field : modelSchema.getPrimaryIndexFields()) {
+            JsonElement value = model.get(field);
+            if (value == null || !value.isJsonPrimitive()) {
+                return null;
+            }
+            primaryKey.add(value.getAsString());
+        }
+        return entityKey(apiName, modelSchema, primaryKey);
+    }
+
+    // The variables of a get query are the fields of the primary key.
+    @Nullable
+    private static String entityKey(String apiName, ModelSchema modelSchema, Map<String, Object> variables) {
+        JsonArray primaryKey = new JsonArray();
+        for (String field : modelSchema.getPrimaryIndexFields()) {
+            Object value = variables.get(field);
+            JsonElement json = value == null ? null : GsonFactory.instance().toJsonTree(value);
+            if (json == null || !json.isJsonPrimitive()) {
+                return null;
+            }
+            primaryKey.add(json.getAsString());
+        }
+        return entityKey(apiName, modelSchema, primaryKey);
+    }
+
+    private static String entityKey(String apiName, ModelSchema modelSchema, JsonArray primaryKey) {
+        return "entity\n" + apiName + "\n" + modelSchema.getName() + "\n" + primaryKey;
+    }
+
+    private static String queryKey(String apiName, GraphQLRequest<?> request) {
+        return "query\n" + apiName + "\n" + request.getContent();
+    }
+
+    private static boolean isModelType(Type type) {
+        return type instanceof Class && Model.class.isAssignableFrom((Class<?>) type);
+    }
+
+    private static boolean isPaginatedResultType(Type type) {
+        return type instanceof ParameterizedType &&
+                PaginatedResult.class.equals(((ParameterizedType) type).getRawType()) &&
+                isModelType(((ParameterizedType) type).getActualTypeArguments()[0]);
+    }
+}
@@ -24,6 +24,7 @@ import com.amplifyframework.api.ApiException;
 import com.amplifyframework.api.graphql.GraphQLRequest;
 import com.amplifyframework.api.graphql.GraphQLResponse;
 import com.amplifyframework.api.graphql.PaginatedResult;
+import com.amplifyframework.core.Consumer;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelReference;
 import com.amplifyframework.util.Empty;
@@ -36,19 +37,40 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Converts JSON strings into models of a given type, using Gson.
+ *
+ * Building a Gson instance rebuilds its whole adapter graph, so one response Gson is built per API
+ * name and reused for every response decoded for that API. Gson itself caches the adapters it builds
+ * for each response type. The only request-specific state needed while decoding, the request used to
+ * build the request for the next page of a {@link PaginatedResult}, is passed to the shared
+ * {@link IterableDeserializer} through a {@link IterableDeserializer#withRequest thread-bound context}.
+ *
+ * Responses can also be decoded straight from a stream, see
+ * {@link #buildResponse(GraphQLRequest, Reader, String, Consumer)}.
  */
 final class GsonGraphQLResponseFactory implements GraphQLResponse.Factory {
     private final Gson gson;
 
     private final AWSApiSchemaRegistry schemaRegistry = new AWSApiSchemaRegistry();
+    private final IterableDeserializer iterableDeserializer = new IterableDeserializer();
+    private final Map<String, Gson> responseGsonByApiName = new ConcurrentHashMap<>();
+    private final Map<Type, Type> responseTypes = new ConcurrentHashMap<>();
+    // ConcurrentHashMap does not accept null keys, so the Gson for a null API name is kept aside.
+    private volatile Gson defaultApiResponseGson;
 
     GsonGraphQLResponseFactory() {
         this(GsonFactory.instance());
@@ -75,27 +97,13 @@ final class GsonGraphQLResponseFactory implements GraphQLResponse.Factory {
             );
         }
 
-        Type responseType = TypeMaker.getParameterizedType(
-                GraphQLResponse.class,
-                request.getResponseType()
+        Type responseType = responseTypes.computeIfAbsent(
+                request.getResponseType(),
+                type -> TypeMaker.getParameterizedType(GraphQLResponse.class, type)
         );
         try {
-            Gson responseGson = gson.newBuilder()
-                    .registerTypeHierarchyAdapter(
-                            Iterable.class,
-                            new IterableDeserializer<>(request)
-                    )
-                    .registerTypeAdapter(
-                            ModelReference.class,
-                            new ModelReferenceDeserializer<Model>(apiName, schemaRegistry)
-                    )
-                    .registerTypeAdapterFactory(
-                            // register Model post processing to inject lazy types for fields that
-                            // were missing from json response
-                            new ModelPostProcessingTypeAdapter(apiName, schemaRegistry)
-                    )
-                    .create();
-            return responseGson.fromJson(responseJson, responseType);
+            Gson responseGson = getResponseGson(apiName);
+            return iterableDeserializer.withRequest(request, () -> responseGson.fromJson(responseJson, responseType));
         } catch (JsonParseException jsonParseException) {
             throw new AppSyncDeserializationException(
                     "Amplify encountered an error while deserializing an object.",
@@ -104,6 +112,120 @@ final class GsonGraphQLResponseFactory implements GraphQLResponse.Factory {
         }
     }
 
+    /**
+     * Decodes a GraphQL response directly from a stream, such as the body of an HTTP response,
+     * without first reading the whole response into a String.
+     * @param request Request the response belongs to
+     * @param responseJson Stream of the response JSON; it is read to the end of the response, but not closed
+     * @param apiName Name of the API the response came from
+     * @param onListItem If non-null, receives the items of a {@link PaginatedResult} as soon as each
+     *                   has been decoded; the items are then not retained in the returned result
+     * @param <T> Type of the response data
+     * @return The decoded response
+     * @throws ApiException If the stream cannot be read, or does not contain a GraphQL response
+     */
+    <T> GraphQLResponse<T> buildResponse(
+            @NonNull GraphQLRequest<T> request,
+            @NonNull Reader responseJson,
+            @Nullable String apiName,
+            @Nullable Consumer<Object> onListItem
+    ) throws ApiException {
+        JsonReader jsonReader = getResponseGson(apiName).newJsonReader(responseJson);
+        try {
+            jsonReader.peek();
+        } catch (EOFException emptyResponse) {
+            throw new AppSyncDeserializationException(
+                    "Amplify encountered an error while deserializing an object.",
+                    new JsonParseException("Empty response.", emptyResponse),
+                    AmplifyException.TODO_RECOVERY_SUGGESTION);
+        } catch (IOException malformedResponse) {
+            throw new AppSyncDeserializationException(
+                    "Amplify encountered an error while deserializing an object.",
+                    malformedResponse,
+                    AmplifyException.TODO_RECOVERY_SUGGESTION);
+        }
+        return buildResponse(request, jsonReader, apiName, onListItem);
+    }
+
+    /**
+     * Decodes a GraphQL response that is a value within a larger JSON document, such as the payload
+     * of a subscription message, directly from a reader positioned at the start of the response.
+     * The reader is left positioned after the response.
+     * @param request Request the response belongs to
+     * @param responseJson Reader positioned at the start of the response
+     * @param apiName Name of the API the response came from
+     * @param <T> Type of the response data
+     * @return The decoded response
+     * @throws ApiException If the reader cannot be read, or is not positioned at a GraphQL response
+     */
+    <T> GraphQLResponse<T> buildResponse(
+            @NonNull GraphQLRequest<T> request,
+            @NonNull JsonReader responseJson,
+            @Nullable String apiName
+    ) throws ApiException {
+        return buildResponse(request, responseJson, apiName, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> GraphQLResponse<T> buildResponse(
+            GraphQLRequest<T> request,
+            JsonReader jsonReader,
+            @Nullable String apiName,
+            @Nullable Consumer<Object> onListItem
+    ) throws ApiException {
+        StreamingGraphQLResponseReader responseReader =
+                new StreamingGraphQLResponseReader(getResponseGson(apiName), request, onListItem);
+        try {
+            return (GraphQLResponse<T>) iterableDeserializer.withRequest(request, () -> {
+                try {
+                    return responseReader.read(jsonReader);
+                } catch (MalformedJsonException | IllegalStateException malformedResponse) {
+                    throw new JsonParseException(malformedResponse);
+                } catch (IOException readFailure) {
+                    throw new ResponseReadException(readFailure);
+                }
+            });
+        } catch (ResponseReadException readFailure) {
+            throw new AppSyncDeserializationException(
+                    "Could not retrieve the response body from the returned JSON",
+                    readFailure.getCause(),
+                    AmplifyException.TODO_RECOVERY_SUGGESTION);
+        } catch (JsonParseException jsonParseException) {
+            throw new AppSyncDeserializationException(
+                    "Amplify encountered an error while deserializing an object.",
+                    jsonParseException,
+                    AmplifyException.TODO_RECOVERY_SUGGESTION);
+        }
+    }
+
+    @VisibleForTesting
+    Gson getResponseGson(@Nullable String apiName) {
+        if (apiName == null) {
+            Gson responseGson = defaultApiResponseGson;
+            if (responseGson == null) {
+                // Racing threads may each build one; they are equivalent, and only one is kept.
+                responseGson = createResponseGson(null);
+                defaultApiResponseGson = responseGson;
+            }
+            return responseGson;
+        }
+        return responseGsonByApiName.computeIfAbsent(apiName, this::createResponseGson);
+    }
+
+    private Gson createResponseGson(@Nullable String apiName) {
+        return gson.newBuilder()
+                .registerTypeHierarchyAdapter(Iterable.class, iterableDeserializer)
+                .registerTypeAdapter(
+                        ModelReference.class,
+                        new ModelReferenceDeserializer<Model>(apiName, schemaRegistry)
+                )
+                .registerTypeAdapterFactory(
+                        // register Model post processing to inject lazy types for fields that
+                        // were missing from json response
+                        new ModelPostProcessingTypeAdapter(apiName, schemaRegistry)
+                )
+                .create();
+    }
 
     // Do not use this method. Instead opt for overload with apiName API name is important for
     // lazy model types because the apiName must be passed into the response builder in order
@@ -115,14 +237,33 @@ final class GsonGraphQLResponseFactory implements GraphQLResponse.Factory {
         return buildResponse(request, responseJson, null);
     }
 
-    static final class IterableDeserializer<R> implements JsonDeserializer<Iterable<Object>> {
+    static final class IterableDeserializer implements JsonDeserializer<Iterable<Object>> {
         private static final String ITEMS_KEY = "items";
         private static final String NEXT_TOKEN_KEY = "nextToken";
 
-        private final GraphQLRequest<R> request;
+        private final ThreadLocal<GraphQLRequest<?>> currentRequest = new ThreadLocal<>();
 
-        IterableDeserializer(GraphQLRequest<R> request) {
-            this.request = request;
+        /**
+         * Runs a decode of the response to the given request, making the request available
+         * to this deserializer on the calling thread for the duration of the decode.
+         * @param request Request whose response is being decoded
+         * @param decode Decodes the response
+         * @param <T> Type of the decoded response
+         * @return The decoded response
+         */
+        <T> T withRequest(GraphQLRequest<?> request, Decoder<T> decode) {
+            // Restore, rather than clear, the outer request in case decodes are ever nested.
+            GraphQLRequest<?> outerRequest = currentRequest.get();
+            currentRequest.set(request);
+            try {
+                return decode.decode();
+            } finally {
+                if (outerRequest == null) {
+                    currentRequest.remove();
+                } else {
+                    currentRequest.set(outerRequest);
+                }
+            }
         }
 
         @Override
@@ -201,20 +342,61 @@ final class GsonGraphQLResponseFactory implements GraphQLResponse.Factory {
             GraphQLRequest<PaginatedResult<Object>> requestForNextPage = null;
             if (nextTokenElement != null && nextTokenElement.isJsonPrimitive()) {
                 String nextToken = nextTokenElement.getAsJsonPrimitive().getAsString();
-                try {
-                    if (request instanceof AppSyncGraphQLRequest) {
-                        requestForNextPage = ((AppSyncGraphQLRequest<R>) request).newBuilder()
-                                .variable(NEXT_TOKEN_KEY, "String", nextToken)
-                                .build();
-                    }
-                } catch (AmplifyException exception) {
-                    throw new JsonParseException(
-                        "Failed to create requestForNextPage with nextToken variable",
-                        exception
-                    );
-                }
+                requestForNextPage = buildRequestForNextPage(currentRequest.get(), nextToken);
             }
             return new PaginatedResult<>(items, requestForNextPage);
         }
+
+        /**
+         * Builds the request for the page of results following the page returned for a request.
+         * @param request Request that returned a page of results
+         * @param nextToken Token identifying the next page
+         * @return The request for the next page, or null if it cannot be derived from the given request
+         * @throws JsonParseException If the request for the next page cannot be built
+         */
+        @Nullable
+        static GraphQLRequest<PaginatedResult<Object>> buildRequestForNextPage(
+                @Nullable GraphQLRequest<?> request,
+                @NonNull String nextToken
+        ) throws JsonParseException {
+            if (!(request instanceof AppSyncGraphQLRequest)) {
+                return null;
+            }
+            try {
+                return ((AppSyncGraphQLRequest<?>) request).newBuilder()
+                        .variable(NEXT_TOKEN_KEY, "String", nextToken)
+                        .build();
+            } catch (AmplifyException exception) {
+                throw new JsonParseException(
+                    "Failed to create requestForNextPage with nextToken variable",
+                    exception
+                );
+            }
+        }
+
+        /**
+         * Decodes a response.
+         * @param <T> Type of the decoded response
+         */
+        interface Decoder<T> {
+            /**
+             * Decodes the response.
+             * @return The decoded response
+             * @throws JsonParseException If the response cannot be decoded
+             */
+            T decode() throws JsonParseException;
+        }
+    }
+
+    /**
+     * Carries a failure to read the response stream out of a decode, so that it can be told apart
+     * from a response that was read but could not be decoded.
+     */
+    private static final class ResponseReadException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        ResponseReadException(IOException cause) {
+            super(cause);
+        }
     }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import android.annotation.SuppressLint;
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * Configures the HTTP client of an API of the AWS API plugin: the size of its connection pool,
+ * how long idle connections are kept alive, how many requests it runs at once, and whether
+ * connections to the API are opened ahead of the first request.
+ *
+ * Pre-connecting spares the first request the DNS lookup and the TCP and TLS handshakes. A
+ * connection is opened once the plugin is configured, and again whenever the device regains a
+ * network, since the connections opened on the previous network can no longer be used.
+ *
+ * The defaults are those of OkHttp. Customizations applied with
+ * {@link AWSApiPlugin.Builder#configureClient(String, OkHttpConfigurator)} take precedence.
+ */
+public final class HttpClientConfiguration {
+    private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    private static final long DEFAULT_KEEP_ALIVE_MS = TimeUnit.MINUTES.toMillis(5);
+    private static final int DEFAULT_MAX_REQUESTS = 64;
+    private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
+
+    private final int maxIdleConnections;
+    private final long keepAliveMs;
+    private final int maxRequests;
+    private final int maxRequestsPerHost;
+    private final boolean preconnect;
+
+    private HttpClientConfiguration(@NonNull Builder builder) {
+        this.maxIdleConnections = builder.maxIdleConnections;
+        this.keepAliveMs = builder.keepAliveMs;
+        this.maxRequests = builder.maxRequests;
+        this.maxRequestsPerHost = builder.maxRequestsPerHost;
+        this.preconnect = builder.preconnect;
+    }
+
+    /**
+     * Gets the maximum number of idle connections kept in the pool.
+     * @return Maximum number of idle connections
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Gets how long an idle connection is kept in the pool.
+     * @return Keep-alive duration, in milliseconds
+     */
+    public long getKeepAliveMs() {
+        return keepAliveMs;
+    }
+
+    /**
+     * Gets the maximum number of requests run at once.
+     * @return Maximum number of concurrent requests
+     */
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * Gets the maximum number of requests run at once against a single host.
+     * @return Maximum number of concurrent requests per host
+     */
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    /**
+     * Gets whether a connection to the API is opened ahead of the first request. Only GraphQL
+     * APIs are pre-connected.
+     * @return true if the API is pre-connected
+     */
+    public boolean isPreconnect() {
+        return preconnect;
+    }
+
+    void applyTo(@NonNull OkHttpClient.Builder builder) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        builder.dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveMs, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Gets a configuration builder instance.
+     * @return A configuration builder instance
+     */
+    @SuppressLint("SyntheticAccessor")
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Constructs configuration objects through fluent method chaining.
+     */
+    public static final class Builder {
+        private int maxIdleConnections;
+        private long keepAliveMs;
+        private int maxRequests;
+        private int maxRequestsPerHost;
+        private boolean preconnect;
+
+        private Builder() {
+            this.maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+            this.keepAliveMs = DEFAULT_KEEP_ALIVE_MS;
+            this.maxRequests = DEFAULT_MAX_REQUESTS;
+            this.maxRequestsPerHost = DEFAULT_MAX_REQUESTS_PER_HOST;
+            this.preconnect = false;
+        }
+
+        /**
+         * Sets the maximum number of idle connections kept in the pool. Defaults to 5.
+         * @param maxIdleConnections Maximum number of idle connections
+         * @return Current builder instance, for fluent method chaining
+         */
+        @NonNull
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            if (maxIdleConnections < 0) {
+                throw new IllegalArgumentException(
+                    "maxIdleConnections must not be negative, but was " + maxIdleConnections);
+            }
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * Sets how long an idle connection is kept in the pool. Defaults to 5 minutes.
+         * @param duration Keep-alive duration
+         * @param unit Unit of the duration
+         * @return Current builder instance, for fluent method chaining
+         */
+        @NonNull
+        public Builder keepAlive(long duration, @NonNull TimeUnit unit) {
+            if (duration <= 0) {
+                throw new IllegalArgumentException("Keep-alive duration must be positive, but was " + duration);
+            }
+            this.keepAliveMs = unit.toMillis(duration);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests run at once. Defaults to 64.
+         * @param maxRequests Maximum number of concurrent requests
+         * @return Current builder instance, for fluent method chaining
+         */
+        @NonNull
+        public Builder maxRequests(int maxRequests) {
+            if (maxRequests <= 0) {
+                throw new IllegalArgumentException("maxRequests must be positive, but was " + maxRequests);
+            }
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests run at once against a single host. Defaults to 5.
+         * @param maxRequestsPerHost Maximum number of concurrent requests per host
+         * @return Current builder instance, for fluent method chaining
+         */
+        @NonNull
+        public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+            if (maxRequestsPerHost <= 0) {
+                throw new IllegalArgumentException(
+                    "maxRequestsPerHost must be positive, but was " + maxRequestsPerHost);
+            }
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * Sets whether a connection to the API is opened once the plugin is configured, and
+         * whenever the device regains a network. Defaults to false. Only GraphQL APIs are
+         * pre-connected: the connection is opened by a request to the endpoint, which a REST
+         * API could pass on to its integration, so the setting is ignored for REST APIs.
+         * @param preconnect true to pre-connect the API
+         * @return Current builder instance, for fluent method chaining
+         */
+        @NonNull
+        public Builder preconnect(boolean preconnect) {
+            this.preconnect = preconnect;
+            return this;
+        }
+
+        /**
+         * Constructs a new HttpClientConfiguration from the values staged in this builder.
+         * @return A new HttpClientConfiguration
+         */
+        @SuppressLint("SyntheticAccessor")
+        @NonNull
+        public HttpClientConfiguration build() {
+            return new HttpClientConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.api.ApiException;
+import com.amplifyframework.api.graphql.GraphQLOperation;
+import com.amplifyframework.api.graphql.GraphQLRequest;
+import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.core.Consumer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Single-flight deduplication of GraphQL queries: while a query is in flight, an identical query
+ * joins it, rather than making a network call of its own, and receives the same decoded response.
+ *
+ * Queries are identical if they have the same key; see {@link AWSApiPlugin}, which keys them by
+ * API name, authorization mode, response type, document and variables. A query that is started
+ * after the response to an identical one has been delivered makes a new network call. Canceling
+ * one of the queries sharing a call only stops its own callbacks; the call itself is canceled
+ * once every query sharing it has been canceled.
+ */
+final class InFlightQueries {
+    private final Map<String, Flight<?>> flights = new HashMap<>();
+
+    /**
+     * Creates an operation that shares its network call with identical queries in flight.
+     * @param key Key of the query; identical queries have equal keys
+     * @param request The query
+     * @param responseFactory Response factory of the operation
+     * @param networkOperationFactory Builds the network operation, if no identical query is in flight
+     * @param onResponse Receives the response
+     * @param onFailure Receives the failure, if the query fails
+     * @param <R> Type of the response data
+     * @return An operation, not yet started
+     */
+    @NonNull
+    <R> GraphQLOperation<R> deduplicate(
+            @NonNull String key,
+            @NonNull GraphQLRequest<R> request,
+            @NonNull GraphQLResponse.Factory responseFactory,
+            @NonNull NetworkOperationFactory<R> networkOperationFactory,
+            @NonNull Consumer<GraphQLResponse<R>> onResponse,
+            @NonNull Consumer<ApiException> onFailure) {
+        return new DeduplicatedOperation<>(Objects.requireNonNull(key), request, responseFactory,
+                Objects.requireNonNull(networkOperationFactory),
+                new Caller<>(Objects.requireNonNull(onResponse), Objects.requireNonNull(onFailure)));
+    }
+
+    /**
+     * Checks whether any query is in flight.
+     * @return true if a query is in flight
+     */
+    boolean isEmpty() {
+        synchronized (flights) {
+            return flights.isEmpty();
+        }
+    }
+
+    /**
+     * Builds the operation making the network call of a query.
+     * @param <R> Type of the response data
+     */
+    interface NetworkOperationFactory<R> {
+        /**
+         * Builds the operation making the network call of a query.
+         * @param onResponse Receives the response
+         * @param onFailure Receives the failure, if the query fails
+         * @return An operation, not yet started
+         * @throws ApiException If the operation cannot be built
+         */
+        @NonNull
+        GraphQLOperation<R> build(
+                @NonNull Consumer<GraphQLResponse<R>> onResponse,
+                @NonNull Consumer<ApiException> onFailure) throws ApiException;
+    }
+
+    private final class DeduplicatedOperation<R> extends GraphQLOperation<R> {
+        private final String key;
+        private final NetworkOperationFactory<R> networkOperationFactory;
+        private final Caller<R> caller;
+        @Nullable
+        private Flight<R> flight;
+
+        DeduplicatedOperation(
+                String key,
+                GraphQLRequest<R> request,
+                GraphQLResponse.Factory responseFactory,
+                NetworkOperationFactory<R> networkOperationFactory,
+                Caller<R> caller) {
+            super(request, responseFactory);
+            this.key = key;
+            this.networkOperationFactory = networkOperationFactory;
+            this.caller = caller;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked") // Identical queries have the same response type.
+        public void start() {
+            final Flight<R> joined;
+            final boolean isLeader;
+            synchronized (flights) {
+                if (flight != null) {
+                    return;
+                }
+                Flight<R> existing = (Flight<R>) flights.get(key);
+                isLeader = existing == null;
+                joined = isLeader ? new Flight<>(key) : existing;
+                if (isLeader) {
+                    flights.put(key, joined);
+                }
+                joined.callers.add(caller);
+                flight = joined;
+            }
+            if (isLeader) {
+                joined.begin(networkOperationFactory);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            final Flight<R> joined;
+            synchronized (flights) {
+                joined = flight;
+            }
+            if (joined != null) {
+                joined.leave(caller);
+            }
+        }
+    }
+
+    private final class Flight<R> {
+        private final String key;
+        // Guarded by the flights map.
+        private final List<Caller<R>> callers = new ArrayList<>();
+        @Nullable
+        private GraphQLOperation<R> networkOperation;
+        private boolean abandoned;
+
+        Flight(String key) {
+            this.key = key;
+        }
+
+        void begin(NetworkOperationFactory<R> networkOperationFactory) {
+            final GraphQLOperation<R> operation;
+            try {
+                operation = networkOperationFactory.build(this::respond, this::fail);
+            } catch (ApiException exception) {
+                fail(exception);
+                return;
+            }
+            synchronized (flights) {
+                if (abandoned) {
+                    return;
+                }
+                networkOperation = operation;
+            }
+            operation.start();
+        }
+
+        void leave(Caller<R> caller) {
+            GraphQLOperation<R> operationToCancel = null;
+            synchronized (flights) {
+                if (!callers.remove(caller) || !callers.isEmpty()) {
+                    return;
+                }
+                abandoned = true;
+                flights.remove(key, this);
+                operationToCancel = networkOperation;
+            }
+            if (operationToCancel != null) {
+                operationToCancel.cancel();
+            }
+        }
+
+        private void respond(GraphQLResponse<R> response) {
+            for (Caller<R> caller : land()) {
+                caller.onResponse.accept(response);
+            }
+        }
+
+        private void fail(ApiException exception) {
+            for (Caller<R> caller : land()) {
+                caller.onFailure.accept(exception);
+            }
+        }
+
+        // Ends the flight, so that later identical queries make a new call, and returns its callers.
+        private List<Caller<R>> land() {
+            synchronized (flights) {
+                flights.remove(key, this);
+                List<Caller<R>> landed = new ArrayList<>(callers);
+                callers.clear();
+                return landed;
+            }
+        }
+    }
+
+    private static final class Caller<R> {
+        private final Consumer<GraphQLResponse<R>> onResponse;
+        private final Consumer<ApiException> onFailure;
+
+        Caller(Consumer<GraphQLResponse<R>> onResponse, Consumer<ApiException> onFailure) {
+            this.onResponse = onResponse;
+            this.onFailure = onFailure;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws
+
+import com.amplifyframework.api.ApiCategory
+import com.amplifyframework.api.ApiException
+import com.amplifyframework.api.graphql.GraphQLRequest
+import com.amplifyframework.api.graphql.GraphQLResponse
+import com.google.gson.JsonNull
+import com.google.gson.JsonObject
+import com.google.gson.JsonParseException
+import com.google.gson.JsonParser
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.launch
+
+/**
+ * Loads lazy model references and lazy model lists in batches. The queries made within a short window of each
+ * other, against the same API, are collected, repeated queries are merged into one, and the distinct queries are
+ * sent as a single document in which each one selects its top-level field under an alias. This turns the lazy
+ * fields of a list of models, resolved one model after the other, into a single round trip.
+ *
+ * A query whose part of the batched response has errors, or whose batch fails as a whole, is sent again on its
+ * own, so that it gets the response or the error it would have got unbatched, for instance with the
+ * authorization mode chosen for its model.
+ *
+ * The loader is shared by the whole process, so a batch that fails unexpectedly neither cancels the other batches,
+ * as its scope is supervised, nor leaves its queries waiting: each of them fails with an [ApiException].
+ */
+internal class LazyQueryLoader(
+    private val windowMs: Long = DEFAULT_WINDOW_MS,
+    private val scope: CoroutineScope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
+) {
+    private val responseFactory = GsonGraphQLResponseFactory()
+
+    // Guarded by itself.
+    private val openBatches = mutableMapOf<BatchKey, Batch>()
+
+    /**
+     * Queries the API, in a batch with the other queries made to the same API within the window.
+     */
+    suspend fun <R> load(apiCategory: ApiCategory, request: GraphQLRequest<R>, apiName: String?): GraphQLResponse<R> {
+        if (request !is AppSyncGraphQLRequest<*>) {
+            return query(apiCategory, request, apiName)
+        }
+        val result = synchronized(openBatches) {
+            val key = BatchKey(apiCategory, apiName)
+            val batch = openBatches.getOrPut(key) {
+                Batch(key).also { batch ->
+                    scope.launch {
+                        delay(windowMs)
+                        send(batch)
+                    }
+                }
+            }
+            val result = batch.queries.getOrPut(request) { CompletableDeferred() }
+            if (batch.queries.size >= QueryBatcher.MAX_BATCH_SIZE) {
+                openBatches.remove(key)
+                scope.launch { send(batch) }
+            }
+            result
+        }
+        @Suppress("UNCHECKED_CAST")
+        return result.await() as GraphQLResponse<R>
+    }
+
+    private suspend fun send(batch: Batch) {
+        val queries = synchronized(openBatches) {
+            openBatches.remove(batch.key, batch)
+            if (batch.sent) {
+                return
+            }
+            batch.sent = true
+            batch.queries.toList()
+        }
+        var error: Exception? = null
+        try {
+            // The queries sent again on their own are awaited too, so that none is left behind if any of this fails.
+            coroutineScope { sendQueries(batch.key, queries) }
+        } catch (exception: Exception) {
+            error = exception
+        } finally {
+            // Whatever happened, no query is left waiting for a response that will never come.
+            if (queries.any { (_, result) -> !result.isCompleted }) {
+                val failure = asApiException(error)
+                queries.forEach { (_, result) -> result.completeExceptionally(failure) }
+            }
+        }
+    }
+
+    private suspend fun CoroutineScope.sendQueries(
+        key: BatchKey,
+        queries: List<Pair<AppSyncGraphQLRequest<*>, CompletableDeferred<GraphQLResponse<*>>>>
+    ) {
+        if (queries.size == 1) {
+            val (request, result) = queries.single()
+            sendAlone(key, request, result)
+            return
+        }
+
+        val requestsByAlias = LinkedHashMap<String, AppSyncGraphQLRequest<*>>()
+        queries.forEachIndexed { index, (request, _) -> requestsByAlias["q$index"] = request }
+        val response = try {
+            query(key.apiCategory, QueryBatcher.buildBatchRequest(requestsByAlias), key.apiName)
+        } catch (error: Exception) {
+            null
+        }
+        val data = response?.data?.let { parseObject(it) }
+        // Errors without a path into one of the queries concern the document as a whole.
+        val failedAliases = response?.errors.orEmpty().map { error ->
+            error.path?.firstOrNull()?.takeIf { it.isString }?.asString?.takeIf { it in requestsByAlias } ?: ""
+        }.toSet()
+
+        queries.forEachIndexed { index, (request, result) ->
+            val alias = "q$index"
+            val queryResponse = if (data != null && alias !in failedAliases && "" !in failedAliases) {
+                decode(request, data, alias, key.apiName)
+            } else {
+                null
+            }
+            if (queryResponse != null) {
+                result.complete(queryResponse)
+            } else {
+                sendAlone(key, request, result)
+            }
+        }
+    }
+
+    private fun CoroutineScope.sendAlone(
+        key: BatchKey,
+        request: AppSyncGraphQLRequest<*>,
+        result: CompletableDeferred<GraphQLResponse<*>>
+    ) {
+        launch {
+            try {
+                result.complete(query(key.apiCategory, request, key.apiName))
+            } catch (error: Exception) {
+                result.completeExceptionally(asApiException(error))
+            }
+        }
+    }
+
+    // The lazy model types expect their queries to fail with an ApiException.
+    private fun asApiException(error: Exception?) = error as? ApiException
+        ?: ApiException("Failed to load a lazy query.", error, "See attached exception for details.")
+
+    // Decodes the data of a query from the data of its batch, as if it had been sent on its own.
+    private fun decode(
+        request: AppSyncGraphQLRequest<*>,
+        data: JsonObject,
+        alias: String,
+        apiName: String?
+    ): GraphQLResponse<*>? {
+        val queryData = JsonObject()
+        queryData.add(request.fieldName, data.get(alias) ?: JsonNull.INSTANCE)
+        val queryResponse = JsonObject()
+        queryResponse.add(DATA_KEY, queryData)
+        return try {
+            responseFactory.buildResponse(request, queryResponse.toString(), apiName)
+        } catch (error: Exception) {
+            // The query is sent again on its own, to get the response or the error it would have got unbatched.
+            null
+        }
+    }
+
+    private fun parseObject(json: String): JsonObject? = try {
+        JsonParser.parseString(json).takeIf { it.isJsonObject }?.asJsonObject
+    } catch (error: JsonParseException) {
+        null
+    }
+
+    private data class BatchKey(val apiCategory: ApiCategory, val apiName: String?)
+
+    private class Batch(val key: BatchKey) {
+        // Guarded by the open batches.
+        val queries = LinkedHashMap<AppSyncGraphQLRequest<*>, CompletableDeferred<GraphQLResponse<*>>>()
+        var sent = false
+    }
+
+    internal companion object {
+        private const val DEFAULT_WINDOW_MS = 10L
+        private const val DATA_KEY = "data"
+
+        /**
+         * Loader shared by the lazy model types.
+         */
+        val shared by lazy { LazyQueryLoader() }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An in-memory {@link NormalizedCacheStore} that holds up to a maximum number of records,
+ * evicting the least recently used one beyond it.
+ *
+ * It may sit in front of a slower store, such as a database. Writes then go through to that
+ * store, and records missing from memory are looked up in it, and kept in memory again.
+ */
+final class LruNormalizedCacheStore implements NormalizedCacheStore {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<String, Record> records;
+    @Nullable
+    private final NormalizedCacheStore backingStore;
+
+    /**
+     * Constructs a new LruNormalizedCacheStore.
+     * @param maxEntries Maximum number of records held in memory
+     * @param backingStore If non-null, store that all records are also written to
+     */
+    LruNormalizedCacheStore(int maxEntries, @Nullable NormalizedCacheStore backingStore) {
+        // An access-ordered map, so that the eldest entry is the least recently used one.
+        this.records = new LinkedHashMap<String, Record>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Record> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.backingStore = backingStore;
+    }
+
+    @Nullable
+    @Override
+    public Record get(@NonNull String key) {
+        synchronized (records) {
+            Record record = records.get(key);
+            if (record != null) {
+                return record;
+            }
+        }
+        if (backingStore == null) {
+            return null;
+        }
+        Record record = backingStore.get(key);
+        if (record != null) {
+            synchronized (records) {
+                // A write racing with the lookup wins over the record read from the backing store.
+                if (!records.containsKey(key)) {
+                    records.put(key, record);
+                }
+            }
+        }
+        return record;
+    }
+
+    @Override
+    public void put(@NonNull String key, @NonNull Record record) {
+        synchronized (records) {
+            records.put(key, record);
+        }
+        if (backingStore != null) {
+            backingStore.put(key, record);
+        }
+    }
+
+    @Override
+    public void remove(@NonNull String key) {
+        synchronized (records) {
+            records.remove(key);
+        }
+        if (backingStore != null) {
+            backingStore.remove(key);
+        }
+    }
+
+    @Override
+    public void removeQueries(@NonNull String typename) {
+        synchronized (records) {
+            Iterator<Record> iterator = records.values().iterator();
+            while (iterator.hasNext()) {
+                Record record = iterator.next();
+                if (record.isQuery() && record.getTypename().equals(typename)) {
+                    iterator.remove();
+                }
+            }
+        }
+        if (backingStore != null) {
+            backingStore.removeQueries(typename);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (records) {
+            records.clear();
+        }
+        if (backingStore != null) {
+            backingStore.clear();
+        }
+    }
+}
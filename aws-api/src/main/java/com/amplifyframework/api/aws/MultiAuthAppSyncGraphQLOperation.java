@@ -17,6 +17,7 @@ package com.amplifyframework.api.aws;
 
 import android.annotation.SuppressLint;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.ApiException;
@@ -28,7 +29,6 @@ import com.amplifyframework.api.graphql.GraphQLResponse;
 import com.amplifyframework.core.Amplify;
 import com.amplifyframework.core.Consumer;
 import com.amplifyframework.core.category.CategoryType;
-import com.amplifyframework.core.model.auth.AuthorizationTypeIterator;
 import com.amplifyframework.datastore.appsync.AppSyncExtensions;
 import com.amplifyframework.logging.Logger;
 import com.amplifyframework.util.Empty;
@@ -62,8 +62,10 @@ public final class MultiAuthAppSyncGraphQLOperation<R> extends AWSGraphQLOperati
     private final Consumer<ApiException> onFailure;
     private final ApiRequestDecoratorFactory apiRequestDecoratorFactory;
     private final ExecutorService executorService;
+    @Nullable
+    private final Consumer<String> onResponseJson;
 
-    private AuthorizationTypeIterator authTypes;
+    private AuthModeMemory.Attempts authTypes;
     private Call ongoingCall;
 
     /**
@@ -78,6 +80,7 @@ public final class MultiAuthAppSyncGraphQLOperation<R> extends AWSGraphQLOperati
         this.onResponse = builder.onResponse;
         this.onFailure = builder.onFailure;
         this.executorService = builder.executorService;
+        this.onResponseJson = builder.onResponseJson;
 
         if (!(getRequest() instanceof AppSyncGraphQLRequest)) {
             onFailure.accept(new AppSyncRequestValidationException(
@@ -87,9 +90,10 @@ public final class MultiAuthAppSyncGraphQLOperation<R> extends AWSGraphQLOperati
             return;
         }
         AppSyncGraphQLRequest<R> appSyncRequest = (AppSyncGraphQLRequest<R>) getRequest();
-        this.authTypes = MultiAuthModeStrategy.getInstance()
-                                              .authTypesFor(appSyncRequest.getModelSchema(),
-                                                            appSyncRequest.getAuthRuleOperation());
+        AuthModeMemory authModeMemory =
+            builder.authModeMemory != null ? builder.authModeMemory : new AuthModeMemory();
+        this.authTypes = authModeMemory.attemptsFor(appSyncRequest.getModelSchema(),
+                                                    appSyncRequest.getAuthRuleOperation());
     }
 
     @Override
@@ -162,38 +166,51 @@ public final class MultiAuthAppSyncGraphQLOperation<R> extends AWSGraphQLOperati
         @Override
         public void onResponse(@NonNull Call call, @NonNull Response response) {
             final ResponseBody responseBody = response.body();
+            final GraphQLResponse<R> graphQLResponse;
             String jsonResponse = null;
-            if (responseBody != null) {
-                try {
-                    jsonResponse = responseBody.string();
-                } catch (IOException exception) {
-                    onFailure.accept(new AppSyncDeserializationException(
-                        "Could not retrieve the response body from the returned JSON",
-                        exception,
-                        AmplifyException.TODO_RECOVERY_SUGGESTION));
-                    return;
-                }
-            }
-
             try {
-                GraphQLResponse<R> graphQLResponse = wrapResponse(jsonResponse);
-                if (graphQLResponse.hasErrors() && hasAuthRelatedErrors(graphQLResponse)) {
-                    if (authTypes.hasNext()) {
-                        executorService.submit(MultiAuthAppSyncGraphQLOperation.this::dispatchRequest);
-                    } else {
-                        onFailure.accept(new AppSyncAuthExhaustedException(
-                                "Unable to successfully complete request with any of the compatible auth types.",
-                                null,
-                                "Check your application logs for detail."
-                        ));
+                if (responseBody == null) {
+                    graphQLResponse = wrapResponse((String) null);
+                } else if (onResponseJson != null) {
+                    try (ResponseBody body = responseBody) {
+                        jsonResponse = body.string();
                     }
+                    graphQLResponse = wrapResponse(jsonResponse);
                 } else {
-                    onResponse.accept(graphQLResponse);
+                    // Decode straight from the body stream, rather than reading it into a String first.
+                    try (ResponseBody body = responseBody) {
+                        graphQLResponse = wrapResponse(body.charStream(), null);
+                    }
                 }
-                //TODO: Dispatch to hub
+            } catch (IOException exception) {
+                onFailure.accept(new AppSyncDeserializationException(
+                    "Could not retrieve the response body from the returned JSON",
+                    exception,
+                    AmplifyException.TODO_RECOVERY_SUGGESTION));
+                return;
             } catch (ApiException exception) {
                 onFailure.accept(exception);
+                return;
             }
+
+            if (graphQLResponse.hasErrors() && hasAuthRelatedErrors(graphQLResponse)) {
+                if (authTypes.hasNext()) {
+                    executorService.submit(MultiAuthAppSyncGraphQLOperation.this::dispatchRequest);
+                } else {
+                    onFailure.accept(new AppSyncAuthExhaustedException(
+                            "Unable to successfully complete request with any of the compatible auth types.",
+                            null,
+                            "Check your application logs for detail."
+                    ));
+                }
+            } else {
+                authTypes.succeeded();
+                if (onResponseJson != null && jsonResponse != null) {
+                    onResponseJson.accept(jsonResponse);
+                }
+                onResponse.accept(graphQLResponse);
+            }
+            //TODO: Dispatch to hub
         }
 
         @Override
@@ -215,6 +232,8 @@ public final class MultiAuthAppSyncGraphQLOperation<R> extends AWSGraphQLOperati
         private Consumer<ApiException> onFailure;
         private ExecutorService executorService;
         private String apiName;
+        private Consumer<String> onResponseJson;
+        private AuthModeMemory authModeMemory;
 
         Builder<R> endpoint(@NonNull String endpoint) {
             this.endpoint = Objects.requireNonNull(endpoint);
@@ -261,6 +280,18 @@ public final class MultiAuthAppSyncGraphQLOperation<R> extends AWSGraphQLOperati
             return this;
         }
 
+        // Receives the JSON of the final response, once no other authorization type is to be tried.
+        Builder<R> onResponseJson(@Nullable Consumer<String> onResponseJson) {
+            this.onResponseJson = onResponseJson;
+            return this;
+        }
+
+        // Remembers the authorization mode that succeeds, to try it first for later requests.
+        Builder<R> authModeMemory(@Nullable AuthModeMemory authModeMemory) {
+            this.authModeMemory = authModeMemory;
+            return this;
+        }
+
         @SuppressLint("SyntheticAccessor")
         MultiAuthAppSyncGraphQLOperation<R> build() {
             return new MultiAuthAppSyncGraphQLOperation<>(this);
@@ -16,6 +16,7 @@
 package com.amplifyframework.api.aws;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
 import com.amplifyframework.api.ApiException;
@@ -27,7 +28,6 @@ import com.amplifyframework.core.Action;
 import com.amplifyframework.core.Amplify;
 import com.amplifyframework.core.Consumer;
 import com.amplifyframework.core.category.CategoryType;
-import com.amplifyframework.core.model.auth.AuthorizationTypeIterator;
 import com.amplifyframework.datastore.appsync.AppSyncExtensions;
 import com.amplifyframework.logging.Logger;
 import com.amplifyframework.util.Empty;
@@ -48,7 +48,7 @@ final class MultiAuthSubscriptionOperation<T> extends AWSGraphQLOperation<T> {
     private final Action onSubscriptionComplete;
     private final AtomicBoolean canceled;
     private final AuthRuleRequestDecorator requestDecorator;
-    private AuthorizationTypeIterator authTypes;
+    private AuthModeMemory.Attempts authTypes;
     private String subscriptionId;
     private Future<?> subscriptionFuture;
 
@@ -62,9 +62,10 @@ final class MultiAuthSubscriptionOperation<T> extends AWSGraphQLOperation<T> {
         this.executorService = builder.executorService;
         this.canceled = new AtomicBoolean(false);
         this.requestDecorator = builder.requestDecorator;
-        this.authTypes = MultiAuthModeStrategy.getInstance()
-                                              .authTypesFor(builder.graphQlRequest.getModelSchema(),
-                                                            builder.graphQlRequest.getAuthRuleOperation());
+        AuthModeMemory authModeMemory =
+            builder.authModeMemory != null ? builder.authModeMemory : new AuthModeMemory();
+        this.authTypes = authModeMemory.attemptsFor(builder.graphQlRequest.getModelSchema(),
+                                                    builder.graphQlRequest.getAuthRuleOperation());
     }
 
     @NonNull
@@ -112,10 +113,7 @@ final class MultiAuthSubscriptionOperation<T> extends AWSGraphQLOperation<T> {
             subscriptionEndpoint.requestSubscription(
                 request,
                 authorizationType,
-                subscriptionId -> {
-                    MultiAuthSubscriptionOperation.this.subscriptionId = subscriptionId;
-                    onSubscriptionStart.accept(subscriptionId);
-                },
+                this::onSubscriptionStarted,
                 response -> {
                     if (response.hasErrors() && hasAuthRelatedErrors(response) && authTypes.hasNext()) {
                         // If there are auth-related errors queue up a retry with the next authType
@@ -153,21 +151,39 @@ final class MultiAuthSubscriptionOperation<T> extends AWSGraphQLOperation<T> {
     public synchronized void cancel() {
         if (subscriptionId != null && !canceled.get()) {
             canceled.set(true);
-            executorService.execute(() -> {
-                try {
-                    LOG.debug("Cancelling subscription: " + subscriptionId);
-                    subscriptionEndpoint.releaseSubscription(subscriptionId);
-                } catch (ApiException exception) {
-                    onSubscriptionError.accept(exception);
-                }
-            });
+            releaseSubscription(subscriptionId);
         } else if (subscriptionFuture != null && subscriptionFuture.cancel(true)) {
             LOG.debug("Subscription attempt was canceled.");
+        } else if (subscriptionFuture != null && subscriptionId == null) {
+            // The start message may already be on its way. Release the subscription once it's acknowledged.
+            canceled.set(true);
+            LOG.debug("Subscription attempt was canceled before it was acknowledged.");
         } else {
             LOG.debug("Nothing to cancel. Subscription not yet created, or already cancelled.");
         }
     }
 
+    private void releaseSubscription(String subscriptionId) {
+        executorService.execute(() -> {
+            try {
+                LOG.debug("Cancelling subscription: " + subscriptionId);
+                subscriptionEndpoint.releaseSubscription(subscriptionId);
+            } catch (ApiException exception) {
+                onSubscriptionError.accept(exception);
+            }
+        });
+    }
+
+    private synchronized void onSubscriptionStarted(String subscriptionId) {
+        this.subscriptionId = subscriptionId;
+        authTypes.succeeded();
+        if (canceled.get()) {
+            releaseSubscription(subscriptionId);
+            return;
+        }
+        onSubscriptionStart.accept(subscriptionId);
+    }
+
     private boolean hasAuthRelatedErrors(GraphQLResponse<T> response) {
         for (GraphQLResponse.Error error : response.getErrors()) {
             if (!Empty.check(error.getExtensions())) {
@@ -209,6 +225,7 @@ final class MultiAuthSubscriptionOperation<T> extends AWSGraphQLOperation<T> {
         private Action onSubscriptionComplete;
         private AuthRuleRequestDecorator requestDecorator;
         private String apiName;
+        private AuthModeMemory authModeMemory;
 
         @NonNull
         public Builder<T> subscriptionEndpoint(@NonNull SubscriptionEndpoint subscriptionEndpoint) {
@@ -269,6 +286,12 @@ final class MultiAuthSubscriptionOperation<T> extends AWSGraphQLOperation<T> {
             return this;
         }
 
+        @NonNull
+        public Builder<T> authModeMemory(@Nullable AuthModeMemory authModeMemory) {
+            this.authModeMemory = authModeMemory;
+            return this;
+        }
+
         @NonNull
         public MultiAuthSubscriptionOperation<T> build() {
             return new MultiAuthSubscriptionOperation<>(this);
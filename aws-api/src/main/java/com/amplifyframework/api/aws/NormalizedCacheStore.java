@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.google.gson.JsonObject;
+
+import java.util.Objects;
+
+/**
+ * Storage for the records of a {@link GraphQLResponseCache}.
+ *
+ * A record is either an entity, which is the JSON of a single model, or a query record, which
+ * lists the entities returned by a list query. Both are tagged with the model type they belong
+ * to, so that the query records of a type can be dropped when one of its entities changes.
+ * Records handed to and returned by a store must not be modified.
+ */
+interface NormalizedCacheStore {
+    /**
+     * Gets a record.
+     * @param key Key of the record
+     * @return The record, or null if there is none
+     */
+    @Nullable
+    Record get(@NonNull String key);
+
+    /**
+     * Adds or replaces a record.
+     * @param key Key of the record
+     * @param record The record
+     */
+    void put(@NonNull String key, @NonNull Record record);
+
+    /**
+     * Removes a record, if there is one.
+     * @param key Key of the record
+     */
+    void remove(@NonNull String key);
+
+    /**
+     * Removes all of the query records of a model type.
+     * @param typename Model type
+     */
+    void removeQueries(@NonNull String typename);
+
+    /**
+     * Removes all records.
+     */
+    void clear();
+
+    /**
+     * A record of the cache, along with the model type it belongs to.
+     */
+    final class Record {
+        private final String typename;
+        private final boolean isQuery;
+        private final JsonObject json;
+
+        /**
+         * Constructs a new Record.
+         * @param typename Model type the record belongs to
+         * @param isQuery Whether the record is a query record, rather than an entity
+         * @param json Content of the record
+         */
+        Record(@NonNull String typename, boolean isQuery, @NonNull JsonObject json) {
+            this.typename = Objects.requireNonNull(typename);
+            this.isQuery = isQuery;
+            this.json = Objects.requireNonNull(json);
+        }
+
+        @NonNull
+        String getTypename() {
+            return typename;
+        }
+
+        boolean isQuery() {
+            return isQuery;
+        }
+
+        @NonNull
+        JsonObject getJson() {
+            return json;
+        }
+    }
+}
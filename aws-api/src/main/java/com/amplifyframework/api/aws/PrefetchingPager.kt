@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws
+
+import com.amplifyframework.api.ApiCategory
+import com.amplifyframework.api.ApiException
+import com.amplifyframework.api.graphql.GraphQLRequest
+import com.amplifyframework.api.graphql.PaginatedResult
+import com.amplifyframework.core.model.LazyModelList
+import com.amplifyframework.core.model.Model
+import com.amplifyframework.core.model.PaginationToken
+import kotlin.math.ceil
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.launch
+
+/**
+ * Options of a prefetching pager.
+ * @param prefetchThreshold Fraction of a page after which the consumer's progress starts fetching the next
+ * page, from 0, as soon as the page is reached, to 1, once it has been consumed. Defaults to 0.5.
+ * @param pagesAhead Number of pages fetched ahead of the page being consumed, which bounds the pages held in
+ * memory to this number plus one. Defaults to 1.
+ */
+class PrefetchOptions(
+    val prefetchThreshold: Double = DEFAULT_PREFETCH_THRESHOLD,
+    val pagesAhead: Int = DEFAULT_PAGES_AHEAD
+) {
+    init {
+        require(prefetchThreshold in 0.0..1.0) {
+            "prefetchThreshold must be within 0 and 1, but was $prefetchThreshold"
+        }
+        require(pagesAhead > 0) { "pagesAhead must be positive, but was $pagesAhead" }
+    }
+
+    private companion object {
+        const val DEFAULT_PREFETCH_THRESHOLD = 0.5
+        const val DEFAULT_PAGES_AHEAD = 1
+    }
+}
+
+/**
+ * Returns the items of a paginated query, across all of its pages. The next page is requested with the
+ * `nextToken` of the previous one, and is fetched while the items of the previous one are being consumed, once
+ * the consumer gets past the threshold of the options. Pages are fetched while the flow is being collected, and
+ * the items of a page are dropped once they have been emitted.
+ * @param request Query of the first page
+ * @param apiName Name of the API to query, or null for the only API configured
+ * @param options When to fetch pages ahead of the consumer
+ * @return The items of every page
+ */
+fun <T> ApiCategory.prefetchingItems(
+    request: GraphQLRequest<PaginatedResult<T>>,
+    apiName: String? = null,
+    options: PrefetchOptions = PrefetchOptions()
+): Flow<T> = prefetchingQuery(this, request, apiName, options)
+
+/**
+ * Returns the models of a lazy list, across all of its pages, fetching the next page while the models of the
+ * previous one are being consumed. See [prefetchingItems].
+ * @param options When to fetch pages ahead of the consumer
+ * @return The models of every page
+ */
+fun <M : Model> LazyModelList<M>.prefetchingItems(options: PrefetchOptions = PrefetchOptions()): Flow<M> =
+    prefetchingFlow(options) { paginationToken: PaginationToken? ->
+        val page = fetchPage(paginationToken)
+        FetchedPage(page.items, page.nextToken)
+    }
+
+// Kept apart from the extension, in which the query methods of the receiver would hide the query function.
+private fun <T> prefetchingQuery(
+    apiCategory: ApiCategory,
+    request: GraphQLRequest<PaginatedResult<T>>,
+    apiName: String?,
+    options: PrefetchOptions
+): Flow<T> = prefetchingFlow(options) { nextRequest: GraphQLRequest<PaginatedResult<T>>? ->
+    val response = query(apiCategory, nextRequest ?: request, apiName)
+    val result = response.data
+    if (result == null && response.hasErrors()) {
+        throw ApiException(
+            "Failed to fetch a page of results: ${response.errors.joinToString { it.message }}",
+            "Check the errors of the GraphQL response for the cause."
+        )
+    }
+    FetchedPage(
+        result?.items?.toList() ?: emptyList(),
+        if (result != null && result.hasNextResult()) result.requestForNextResult else null
+    )
+}
+
+internal class FetchedPage<out T, out K : Any>(val items: List<T>, val next: K?)
+
+/*
+ * Emits the items of the pages fetched one after the other by fetchPage, starting from a null cursor. A producer
+ * fetches the first page right away, and page n once the consumer has got past the threshold of page
+ * n - pagesAhead. It hands pages over through an unbounded channel, which holds no more than pagesAhead pages
+ * as a result.
+ */
+internal fun <T, K : Any> prefetchingFlow(
+    options: PrefetchOptions,
+    fetchPage: suspend (K?) -> FetchedPage<T, K>
+): Flow<T> = flow {
+    coroutineScope {
+        val requestedPages = MutableStateFlow(0)
+        val pages = Channel<FetchedPage<T, K>>(Channel.UNLIMITED)
+        launch {
+            var cursor: K? = null
+            var pageIndex = 0
+            do {
+                val index = pageIndex
+                requestedPages.first { it >= index }
+                val page = fetchPage(cursor)
+                pages.send(page)
+                cursor = page.next
+                pageIndex++
+            } while (cursor != null)
+            pages.close()
+        }
+
+        var pageIndex = 0
+        for (page in pages) {
+            val prefetchIndex = ceil(page.items.size * options.prefetchThreshold).toInt()
+            if (prefetchIndex == 0) {
+                requestedPages.value = pageIndex + options.pagesAhead
+            }
+            page.items.forEachIndexed { index, item ->
+                emit(item)
+                if (index + 1 == prefetchIndex) {
+                    requestedPages.value = pageIndex + options.pagesAhead
+                }
+            }
+            pageIndex++
+        }
+    }
+}
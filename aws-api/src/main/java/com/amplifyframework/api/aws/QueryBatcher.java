@@ -0,0 +1,398 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.api.ApiException;
+import com.amplifyframework.api.graphql.GraphQLOperation;
+import com.amplifyframework.api.graphql.GraphQLRequest;
+import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.api.graphql.SimpleGraphQLRequest;
+import com.amplifyframework.core.Consumer;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batches queries started within a short window of each other into a single document, in which
+ * the top-level field of each query is selected under an alias, and its variables are renamed
+ * with that alias as a prefix. The document is sent once, and its response is split back into a
+ * response for each query, made of the data under its alias and the errors whose path starts
+ * there. Errors without such a path, which concern the document as a whole, go to every query.
+ *
+ * Queries are only batched with queries of the same key; see {@link AWSApiPlugin}, which keys
+ * them by API and authorization mode. A batch is sent when its window ends, or as soon as it
+ * holds {@link #MAX_BATCH_SIZE} queries.
+ */
+final class QueryBatcher {
+    static final int MAX_BATCH_SIZE = 20;
+
+    private static final String DATA_KEY = "data";
+    private static final String ERRORS_KEY = "errors";
+    private static final String PATH_KEY = "path";
+
+    private final long windowMs;
+    private final ScheduledExecutorService scheduler;
+    private final GraphQLResponse.Factory responseFactory;
+    private final Map<String, Batch> openBatches = new HashMap<>();
+
+    /**
+     * Constructs a new QueryBatcher.
+     * @param windowMs Time for which a batch collects queries, after its first query
+     * @param scheduler Executor that sends batches at the end of their window
+     * @param responseFactory Factory that decodes the response of each query
+     */
+    QueryBatcher(
+            long windowMs,
+            @NonNull ScheduledExecutorService scheduler,
+            @NonNull GraphQLResponse.Factory responseFactory) {
+        this.windowMs = windowMs;
+        this.scheduler = Objects.requireNonNull(scheduler);
+        this.responseFactory = Objects.requireNonNull(responseFactory);
+    }
+
+    /**
+     * Creates an operation that sends its query in a batch with other queries of the same key.
+     * @param key Key of the query; only queries with equal keys are batched together
+     * @param apiName Name of the API being queried
+     * @param request The query
+     * @param batchSender Sends the batch, if the query starts a new batch
+     * @param onResponseJson If non-null, receives the JSON of the response of the query
+     * @param onResponse Receives the response
+     * @param onFailure Receives the failure, if the query fails
+     * @param <R> Type of the response data
+     * @return An operation, not yet started
+     */
+    @NonNull
+    <R> GraphQLOperation<R> batch(
+            @NonNull String key,
+            @NonNull String apiName,
+            @NonNull AppSyncGraphQLRequest<R> request,
+            @NonNull BatchSender batchSender,
+            @Nullable Consumer<String> onResponseJson,
+            @NonNull Consumer<GraphQLResponse<R>> onResponse,
+            @NonNull Consumer<ApiException> onFailure) {
+        return new BatchedOperation<>(Objects.requireNonNull(key), apiName, request,
+                Objects.requireNonNull(batchSender), onResponseJson,
+                Objects.requireNonNull(onResponse), Objects.requireNonNull(onFailure));
+    }
+
+    /**
+     * Builds the operation sending a batch.
+     */
+    interface BatchSender {
+        /**
+         * Builds the operation sending a batch.
+         * @param batchRequest The batched document and its variables
+         * @param onResponseJson Receives the JSON of the response of the batch
+         * @param onFailure Receives the failure, if the batch fails
+         * @return An operation, not yet started
+         * @throws ApiException If the operation cannot be built
+         */
+        @NonNull
+        GraphQLOperation<String> send(
+                @NonNull GraphQLRequest<String> batchRequest,
+                @NonNull Consumer<String> onResponseJson,
+                @NonNull Consumer<ApiException> onFailure) throws ApiException;
+    }
+
+    /**
+     * Builds the document selecting the top-level field of each request under its alias, with the
+     * variables of each request renamed with its alias as a prefix. Its response data is the JSON
+     * of the data of the document, with the data of each request under its alias.
+     * @param requestsByAlias Requests, by alias
+     * @return The batched request
+     */
+    @NonNull
+    static GraphQLRequest<String> buildBatchRequest(@NonNull Map<String, AppSyncGraphQLRequest<?>> requestsByAlias) {
+        List<String> variableTypes = new ArrayList<>();
+        StringBuilder fields = new StringBuilder();
+        Map<String, Object> variables = new HashMap<>();
+        for (Map.Entry<String, AppSyncGraphQLRequest<?>> aliasedRequest : requestsByAlias.entrySet()) {
+            AppSyncGraphQLRequest<?> request = aliasedRequest.getValue();
+            String alias = aliasedRequest.getKey();
+            String variablePrefix = alias + "_";
+            for (Map.Entry<String, String> variableType : request.getVariableTypes().entrySet()) {
+                variableTypes.add("$" + variablePrefix + variableType.getKey() + ": " + variableType.getValue());
+            }
+            for (Map.Entry<String, Object> variable : request.getVariables().entrySet()) {
+                variables.put(variablePrefix + variable.getKey(), variable.getValue());
+            }
+            fields.append("  ").append(request.renderAliasedField(alias, variablePrefix)).append("\n");
+        }
+        String document = "query BatchedQueries" +
+                (variableTypes.isEmpty() ? "" : "(" + TextUtils.join(", ", variableTypes) + ")") +
+                " {\n" + fields + "}\n";
+        return new SimpleGraphQLRequest<>(document, variables, String.class, new GsonVariablesSerializer());
+    }
+
+    private void send(Batch batch) {
+        final List<BatchedOperation<?>> queries;
+        synchronized (openBatches) {
+            openBatches.remove(batch.key, batch);
+            if (batch.sent) {
+                return;
+            }
+            batch.sent = true;
+            if (batch.flushTask != null) {
+                batch.flushTask.cancel(false);
+            }
+            queries = new ArrayList<>(batch.queries);
+        }
+        if (queries.isEmpty()) {
+            return;
+        }
+
+        Map<String, AppSyncGraphQLRequest<?>> requestsByAlias = new LinkedHashMap<>();
+        for (BatchedOperation<?> query : queries) {
+            requestsByAlias.put(query.alias, query.appSyncRequest);
+        }
+        GraphQLRequest<String> batchRequest = buildBatchRequest(requestsByAlias);
+
+        final GraphQLOperation<String> operation;
+        try {
+            operation = batch.sender.send(batchRequest,
+                json -> respond(queries, json), failure -> fail(queries, failure));
+        } catch (ApiException exception) {
+            fail(queries, exception);
+            return;
+        }
+        synchronized (openBatches) {
+            if (batch.abandoned) {
+                return;
+            }
+            batch.operation = operation;
+        }
+        operation.start();
+    }
+
+    private void respond(List<BatchedOperation<?>> queries, String json) {
+        final JsonObject response;
+        try {
+            response = JsonParser.parseString(json).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException exception) {
+            fail(queries, new AppSyncDeserializationException(
+                    "Amplify encountered an error while deserializing a batched response.",
+                    exception, AmplifyException.TODO_RECOVERY_SUGGESTION));
+            return;
+        }
+        JsonElement data = response.get(DATA_KEY);
+        JsonElement errors = response.get(ERRORS_KEY);
+        Set<String> aliases = new HashSet<>();
+        for (BatchedOperation<?> query : queries) {
+            aliases.add(query.alias);
+        }
+
+        for (BatchedOperation<?> query : queries) {
+            JsonObject queryResponse = new JsonObject();
+            if (data != null && data.isJsonObject()) {
+                JsonObject queryData = new JsonObject();
+                JsonElement fieldData = data.getAsJsonObject().get(query.alias);
+                queryData.add(query.appSyncRequest.getFieldName(), fieldData != null ? fieldData : JsonNull.INSTANCE);
+                queryResponse.add(DATA_KEY, queryData);
+            } else {
+                queryResponse.add(DATA_KEY, JsonNull.INSTANCE);
+            }
+            if (errors != null && errors.isJsonArray()) {
+                JsonArray queryErrors = errorsOf(query, errors.getAsJsonArray(), aliases);
+                if (queryErrors.size() > 0) {
+                    queryResponse.add(ERRORS_KEY, queryErrors);
+                }
+            }
+            query.respond(queryResponse.toString());
+        }
+    }
+
+    // Picks the errors of a query from the errors of its batch, restoring the field name at the
+    // start of their paths. Errors without a path into any query of the batch go to every query.
+    private static JsonArray errorsOf(BatchedOperation<?> query, JsonArray errors, Set<String> aliases) {
+        JsonArray queryErrors = new JsonArray();
+        for (JsonElement error : errors) {
+            String alias = pathStart(error);
+            if (query.alias.equals(alias)) {
+                JsonObject queryError = error.getAsJsonObject().deepCopy();
+                queryError.getAsJsonArray(PATH_KEY).set(0, new JsonPrimitive(query.appSyncRequest.getFieldName()));
+                queryErrors.add(queryError);
+            } else if (alias == null || !aliases.contains(alias)) {
+                queryErrors.add(error);
+            }
+        }
+        return queryErrors;
+    }
+
+    @Nullable
+    private static String pathStart(JsonElement error) {
+        if (!error.isJsonObject()) {
+            return null;
+        }
+        JsonElement path = error.getAsJsonObject().get(PATH_KEY);
+        if (path == null || !path.isJsonArray() || path.getAsJsonArray().size() == 0) {
+            return null;
+        }
+        JsonElement start = path.getAsJsonArray().get(0);
+        return start.isJsonPrimitive() && start.getAsJsonPrimitive().isString() ? start.getAsString() : null;
+    }
+
+    private static void fail(List<BatchedOperation<?>> queries, ApiException exception) {
+        for (BatchedOperation<?> query : queries) {
+            query.fail(exception);
+        }
+    }
+
+    private final class BatchedOperation<R> extends GraphQLOperation<R> {
+        private final String key;
+        private final String apiName;
+        private final AppSyncGraphQLRequest<R> appSyncRequest;
+        private final BatchSender batchSender;
+        @Nullable
+        private final Consumer<String> onResponseJson;
+        private final Consumer<GraphQLResponse<R>> onResponse;
+        private final Consumer<ApiException> onFailure;
+        // Guarded by the open batches.
+        @Nullable
+        private Batch batch;
+        private String alias;
+        private volatile boolean canceled;
+
+        BatchedOperation(
+                String key,
+                String apiName,
+                AppSyncGraphQLRequest<R> request,
+                BatchSender batchSender,
+                @Nullable Consumer<String> onResponseJson,
+                Consumer<GraphQLResponse<R>> onResponse,
+                Consumer<ApiException> onFailure) {
+            super(request, responseFactory);
+            this.key = key;
+            this.apiName = apiName;
+            this.appSyncRequest = request;
+            this.batchSender = batchSender;
+            this.onResponseJson = onResponseJson;
+            this.onResponse = onResponse;
+            this.onFailure = onFailure;
+        }
+
+        @Override
+        public void start() {
+            final Batch full;
+            synchronized (openBatches) {
+                if (batch != null || canceled) {
+                    return;
+                }
+                Batch open = openBatches.get(key);
+                if (open == null) {
+                    open = new Batch(key, batchSender);
+                    openBatches.put(key, open);
+                    final Batch scheduled = open;
+                    open.flushTask = scheduler.schedule(() -> send(scheduled), windowMs, TimeUnit.MILLISECONDS);
+                }
+                alias = "q" + open.aliasCount++;
+                open.queries.add(this);
+                batch = open;
+                full = open.queries.size() >= MAX_BATCH_SIZE ? open : null;
+            }
+            if (full != null) {
+                send(full);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            GraphQLOperation<String> operationToCancel = null;
+            synchronized (openBatches) {
+                canceled = true;
+                if (batch == null || !batch.queries.remove(this) || !batch.queries.isEmpty()) {
+                    return;
+                }
+                // The last query of the batch has been canceled, so the batch is not needed.
+                if (batch.flushTask != null) {
+                    batch.flushTask.cancel(false);
+                }
+                openBatches.remove(key, batch);
+                batch.abandoned = true;
+                batch.sent = true;
+                operationToCancel = batch.operation;
+            }
+            if (operationToCancel != null) {
+                operationToCancel.cancel();
+            }
+        }
+
+        void respond(String json) {
+            if (canceled) {
+                return;
+            }
+            final GraphQLResponse<R> response;
+            try {
+                response = responseFactory.buildResponse(appSyncRequest, json, apiName);
+            } catch (ApiException exception) {
+                onFailure.accept(exception);
+                return;
+            }
+            if (onResponseJson != null) {
+                onResponseJson.accept(json);
+            }
+            onResponse.accept(response);
+        }
+
+        void fail(ApiException exception) {
+            if (!canceled) {
+                onFailure.accept(exception);
+            }
+        }
+    }
+
+    private static final class Batch {
+        private final String key;
+        private final BatchSender sender;
+        // Guarded by the open batches.
+        private final List<BatchedOperation<?>> queries = new ArrayList<>();
+        private int aliasCount;
+        @Nullable
+        private ScheduledFuture<?> flushTask;
+        @Nullable
+        private GraphQLOperation<String> operation;
+        private boolean sent;
+        private boolean abandoned;
+
+        Batch(String key, BatchSender sender) {
+            this.key = key;
+            this.sender = sender;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteOpenHelper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.core.Amplify;
+import com.amplifyframework.core.category.CategoryType;
+import com.amplifyframework.logging.Logger;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * A {@link NormalizedCacheStore} kept in a SQLite database on the device, so that the cache
+ * outlives the process. It is meant to sit behind a {@link LruNormalizedCacheStore}.
+ *
+ * The cache is only an optimization, so a failure to read or write the database is logged, and
+ * the store then behaves as though it did not have the record.
+ */
+final class SQLiteNormalizedCacheStore extends SQLiteOpenHelper implements NormalizedCacheStore {
+    private static final Logger LOG = Amplify.Logging.logger(CategoryType.API, "amplify:aws-api");
+    private static final String DATABASE_NAME = "amplify_api_cache.db";
+    private static final int DATABASE_VERSION = 1;
+    private static final String TABLE_NAME = "records";
+    private static final String COLUMN_KEY = "key";
+    private static final String COLUMN_TYPENAME = "typename";
+    private static final String COLUMN_IS_QUERY = "is_query";
+    private static final String COLUMN_JSON = "json";
+
+    /**
+     * Constructs a new SQLiteNormalizedCacheStore. The database is opened on first use.
+     * @param context Android context
+     */
+    SQLiteNormalizedCacheStore(@NonNull Context context) {
+        super(context, DATABASE_NAME, null, DATABASE_VERSION);
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE " + TABLE_NAME + " (" +
+                COLUMN_KEY + " TEXT PRIMARY KEY NOT NULL, " +
+                COLUMN_TYPENAME + " TEXT NOT NULL, " +
+                COLUMN_IS_QUERY + " INTEGER NOT NULL, " +
+                COLUMN_JSON + " TEXT NOT NULL)");
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        // The records can always be fetched again, so they are simply dropped.
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE_NAME);
+        onCreate(db);
+    }
+
+    @Nullable
+    @Override
+    public Record get(@NonNull String key) {
+        String[] columns = {COLUMN_TYPENAME, COLUMN_IS_QUERY, COLUMN_JSON};
+        try (Cursor cursor = getReadableDatabase().query(TABLE_NAME, columns,
+                COLUMN_KEY + " = ?", new String[] {key}, null, null, null)) {
+            if (!cursor.moveToFirst()) {
+                return null;
+            }
+            JsonObject json = JsonParser.parseString(cursor.getString(2)).getAsJsonObject();
+            return new Record(cursor.getString(0), cursor.getInt(1) != 0, json);
+        } catch (SQLiteException | JsonParseException | IllegalStateException exception) {
+            LOG.warn("Failed to read a record from the API cache.", exception);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(@NonNull String key, @NonNull Record record) {
+        ContentValues values = new ContentValues();
+        values.put(COLUMN_KEY, key);
+        values.put(COLUMN_TYPENAME, record.getTypename());
+        values.put(COLUMN_IS_QUERY, record.isQuery() ? 1 : 0);
+        values.put(COLUMN_JSON, record.getJson().toString());
+        try {
+            getWritableDatabase().insertWithOnConflict(TABLE_NAME, null, values, SQLiteDatabase.CONFLICT_REPLACE);
+        } catch (SQLiteException exception) {
+            LOG.warn("Failed to write a record to the API cache.", exception);
+        }
+    }
+
+    @Override
+    public void remove(@NonNull String key) {
+        delete(COLUMN_KEY + " = ?", new String[] {key});
+    }
+
+    @Override
+    public void removeQueries(@NonNull String typename) {
+        delete(COLUMN_TYPENAME + " = ? AND " + COLUMN_IS_QUERY + " = 1", new String[] {typename});
+    }
+
+    @Override
+    public void clear() {
+        delete(null, null);
+    }
+
+    private void delete(@Nullable String whereClause, @Nullable String[] whereArgs) {
+        try {
+            getWritableDatabase().delete(TABLE_NAME, whereClause, whereArgs);
+        } catch (SQLiteException exception) {
+            LOG.warn("Failed to remove records from the API cache.", exception);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.api.graphql.GraphQLRequest;
+import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.api.graphql.GsonResponseAdapters;
+import com.amplifyframework.api.graphql.PaginatedResult;
+import com.amplifyframework.core.Consumer;
+import com.amplifyframework.util.TypeMaker;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads a GraphQL response directly from a stream of JSON, without first buffering the whole
+ * response document.
+ *
+ * The envelope of the response (the data, errors and extensions members, the single top-level
+ * query field, and the items and nextToken members of a {@link PaginatedResult}) is walked token
+ * by token. Only the values below it, such as a single error or a single item of a list, are
+ * handed to the response {@link Gson}, so they are decoded by the same adapters as a response that
+ * was read into a String first. The top-level extensions member is not modeled by
+ * {@link GraphQLResponse}, and is skipped, as it is when decoding from a String.
+ *
+ * When an item consumer is provided, the items of a {@link PaginatedResult} are passed to it as
+ * soon as each has been decoded, instead of being collected, and the returned result has no items.
+ */
+final class StreamingGraphQLResponseReader {
+    private static final String DATA_KEY = "data";
+    private static final String ERRORS_KEY = "errors";
+    private static final String ITEMS_KEY = "items";
+    private static final String NEXT_TOKEN_KEY = "nextToken";
+    private static final Type ERROR_LIST_TYPE =
+            TypeMaker.getParameterizedType(ArrayList.class, GraphQLResponse.Error.class);
+
+    private final Gson responseGson;
+    private final GraphQLRequest<?> request;
+    private final Type dataType;
+    private final Consumer<Object> onListItem;
+
+    /**
+     * Constructs a new StreamingGraphQLResponseReader.
+     * @param responseGson Gson used to decode the values within the response
+     * @param request Request the response belongs to
+     * @param onListItem If non-null, receives the items of a paginated result as they are decoded
+     */
+    StreamingGraphQLResponseReader(
+            @NonNull Gson responseGson,
+            @NonNull GraphQLRequest<?> request,
+            @Nullable Consumer<Object> onListItem) {
+        this.responseGson = Objects.requireNonNull(responseGson);
+        this.request = Objects.requireNonNull(request);
+        this.dataType = request.getResponseType();
+        this.onListItem = onListItem;
+    }
+
+    /**
+     * Reads a complete GraphQL response.
+     * @param reader Reader positioned at the start of the response document
+     * @return The response, with data of the request's response type
+     * @throws IOException If the stream cannot be read, or does not contain valid JSON
+     * @throws JsonParseException If the JSON does not have the shape of a GraphQL response
+     */
+    GraphQLResponse<Object> read(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            throw new JsonParseException(
+                "Expected a JsonObject while deserializing GraphQLResponse but found " + reader.peek()
+            );
+        }
+        Object data = null;
+        List<GraphQLResponse.Error> errors = Collections.emptyList();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case DATA_KEY:
+                    data = readData(reader);
+                    break;
+                case ERRORS_KEY:
+                    errors = readErrors(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return new GraphQLResponse<>(data, errors);
+    }
+
+    private List<GraphQLResponse.Error> readErrors(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return Collections.emptyList();
+        }
+        return responseGson.fromJson(reader, ERROR_LIST_TYPE);
+    }
+
+    private Object readData(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        if (!GsonResponseAdapters.ResponseDeserializer.shouldSkipQueryLevel(dataType)) {
+            return responseGson.fromJson(reader, dataType);
+        }
+
+        // Skips the single top-level query field, to get the content of the query.
+        reader.beginObject();
+        if (!reader.hasNext()) {
+            throw new JsonParseException(
+                    "Amplify encountered an error while serializing/deserializing an object.  " +
+                            "Please add a single top level field in your query."
+            );
+        }
+        reader.nextName();
+        Object data = readQueryResult(reader);
+        if (reader.hasNext()) {
+            throw new JsonParseException(
+                    "Amplify encountered an error while serializing/deserializing an object.  " +
+                            "Please reduce your query to a single top level field."
+            );
+        }
+        reader.endObject();
+        return data;
+    }
+
+    private Object readQueryResult(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        if (reader.peek() == JsonToken.BEGIN_OBJECT &&
+                dataType instanceof ParameterizedType &&
+                PaginatedResult.class.equals(((ParameterizedType) dataType).getRawType())) {
+            Type itemType = ((ParameterizedType) dataType).getActualTypeArguments()[0];
+            return readPaginatedResult(reader, itemType);
+        }
+        return responseGson.fromJson(reader, dataType);
+    }
+
+    /*
+     * Reads JSON such as the following, one item at a time:
+     *   {
+     *      "items" : [
+     *          {
+     *              "id": "92863611-684a-424d-b3e5-94d42c4914c9",
+     *              "name": "some name"
+     *          }
+     *      ],
+     *      "nextToken" : "some_next_token"
+     *   }
+     */
+    private PaginatedResult<Object> readPaginatedResult(JsonReader reader, Type itemType) throws IOException {
+        List<Object> items = null;
+        String nextToken = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (ITEMS_KEY.equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                items = readItems(reader, itemType);
+            } else if (NEXT_TOKEN_KEY.equals(name) && isPrimitive(reader.peek())) {
+                nextToken = reader.peek() == JsonToken.BOOLEAN
+                        ? String.valueOf(reader.nextBoolean())
+                        : reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        if (items == null) {
+            throw new JsonParseException(
+                "Got JSON from an API call which was supposed to go with a List " +
+                    "but is in the form of an object rather than an array. " +
+                    "It also is not in the standard format of having an items " +
+                    "property with the actual array of data so we do not know how " +
+                    "to deserialize it."
+            );
+        }
+        GraphQLRequest<PaginatedResult<Object>> requestForNextPage = nextToken == null
+                ? null
+                : GsonGraphQLResponseFactory.IterableDeserializer.buildRequestForNextPage(request, nextToken);
+        return new PaginatedResult<>(items, requestForNextPage);
+    }
+
+    private List<Object> readItems(JsonReader reader, Type itemType) throws IOException {
+        List<Object> items = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            Object item = responseGson.fromJson(reader, itemType);
+            if (onListItem != null) {
+                // Null items are dropped from a PaginatedResult, so they are not emitted either.
+                if (item != null) {
+                    onListItem.accept(item);
+                }
+            } else {
+                items.add(item);
+            }
+        }
+        reader.endArray();
+        return items;
+    }
+
+    private static boolean isPrimitive(JsonToken token) {
+        return token == JsonToken.STRING || token == JsonToken.NUMBER || token == JsonToken.BOOLEAN;
+    }
+}
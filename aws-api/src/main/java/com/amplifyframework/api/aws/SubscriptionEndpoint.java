@@ -18,6 +18,7 @@ package com.amplifyframework.api.aws;
 import android.net.Uri;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.util.ObjectsCompat;
 
 import com.amplifyframework.AmplifyException;
@@ -29,26 +30,43 @@ import com.amplifyframework.api.graphql.GraphQLResponse;
 import com.amplifyframework.core.Action;
 import com.amplifyframework.core.Amplify;
 import com.amplifyframework.core.Consumer;
+import com.amplifyframework.core.async.AmplifyExecutors;
 import com.amplifyframework.core.category.CategoryType;
 import com.amplifyframework.logging.Logger;
 import com.amplifyframework.util.UserAgent;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
 import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import okhttp3.OkHttpClient;
@@ -58,26 +76,50 @@ import okhttp3.WebSocket;
 import okhttp3.WebSocketListener;
 
 /**
- * Manages the lifecycle of a single WebSocket connection,
- * and multiple GraphQL subscriptions that work on top of it.
+ * Manages the lifecycle of the WebSocket connections of an API,
+ * and multiple GraphQL subscriptions that work on top of them.
+ *
+ * By default, all of the subscriptions share a single connection. If a maximum number of
+ * subscriptions per connection is set, the subscriptions are spread over as many connections as
+ * are needed: a new subscription is placed on the least-loaded connection that has room for it,
+ * and a new connection is opened only if none has. When a connection drops, only the
+ * subscriptions on it fail; they are placed anew when they are subscribed again.
+ *
+ * No thread waits on the connection or on the subscriptions: the state of the connection is kept
+ * by its {@link AmplifyWebSocketListener}, which starts the subscriptions waiting for it once it
+ * has been acknowledged, and the acknowledgement of each subscription's start and stop messages is
+ * handled as it arrives, or when a timer for it elapses. A connection is shared by the
+ * subscriptions using it, and is closed once the last of them has been released. The callbacks of
+ * each subscription are invoked in order, off the thread reading the connection, so that a slow
+ * callback does not hold up the other subscriptions on the connection.
  */
 final class SubscriptionEndpoint {
     private static final Logger LOG = Amplify.Logging.logger(CategoryType.API, "amplify:aws-api");
     private static final int CONNECTION_ACKNOWLEDGEMENT_TIMEOUT = 30 /* seconds */;
     private static final int NORMAL_CLOSURE_STATUS = 1000;
     private static final String UNAUTHORIZED_EXCEPTION = "UnauthorizedException";
+    private static final int ACKNOWLEDGEMENT_TIMER_KEEP_ALIVE = 60 /* seconds */;
+    private static final String TYPE_KEY = "type";
+    private static final String ID_KEY = "id";
+    private static final String PAYLOAD_KEY = "payload";
+    private static final String CONNECTION_TIMEOUT_KEY = "connectionTimeoutMs";
+    // The tokens of a keep-alive message, {"type":"ka"}, between which there may be whitespace.
+    private static final String[] KEEP_ALIVE_TOKENS = {"{", "\"type\"", ":", "\"ka\"", "}"};
+    private static final int KEEP_ALIVE_MAX_LENGTH = 32;
 
     private final ApiConfiguration apiConfiguration;
     private final SubscriptionAuthorizer authorizer;
     private final Map<String, Subscription<?>> subscriptions;
     private final GraphQLResponse.Factory responseFactory;
-    private final TimeoutWatchdog timeoutWatchdog;
     private final Set<String> pendingSubscriptionIds;
     private final OkHttpClient okHttpClient;
-    private final Object webSocketLock = new Object();
-    private WebSocket webSocket;
-    private AmplifyWebSocketListener webSocketListener;
+    private final ScheduledExecutorService acknowledgementTimer;
+    private final Executor callbackExecutor;
+    private final List<AmplifyWebSocketListener> connections;
+    private final int maxSubscriptionsPerConnection;
     private String apiName;
+    @Nullable
+    private final GraphQLResponseCache responseCache;
 
     SubscriptionEndpoint(
             @NonNull ApiConfiguration apiConfiguration,
@@ -86,14 +128,48 @@ final class SubscriptionEndpoint {
             @NonNull SubscriptionAuthorizer authorizer,
             @Nullable String apiName
     ) {
+        this(apiConfiguration, configurator, responseFactory, authorizer, apiName, null, 0);
+    }
+
+    SubscriptionEndpoint(
+            @NonNull ApiConfiguration apiConfiguration,
+            @Nullable OkHttpConfigurator configurator,
+            @NonNull GraphQLResponse.Factory responseFactory,
+            @NonNull SubscriptionAuthorizer authorizer,
+            @Nullable String apiName,
+            @Nullable GraphQLResponseCache responseCache,
+            int maxSubscriptionsPerConnection
+    ) {
+        this(apiConfiguration, responseFactory, authorizer, apiName, responseCache, maxSubscriptionsPerConnection,
+            buildOkHttpClient(configurator), createAcknowledgementTimer());
+    }
+
+    @VisibleForTesting
+    SubscriptionEndpoint(
+            @NonNull ApiConfiguration apiConfiguration,
+            @NonNull GraphQLResponse.Factory responseFactory,
+            @NonNull SubscriptionAuthorizer authorizer,
+            @Nullable String apiName,
+            @Nullable GraphQLResponseCache responseCache,
+            int maxSubscriptionsPerConnection,
+            @NonNull OkHttpClient okHttpClient,
+            @NonNull ScheduledExecutorService acknowledgementTimer
+    ) {
+        this.responseCache = responseCache;
         this.apiConfiguration = Objects.requireNonNull(apiConfiguration);
         this.subscriptions = new ConcurrentHashMap<>();
         this.responseFactory = Objects.requireNonNull(responseFactory);
         this.authorizer = Objects.requireNonNull(authorizer);
-        this.timeoutWatchdog = new TimeoutWatchdog();
-        this.pendingSubscriptionIds = Collections.synchronizedSet(new HashSet<>());
+        this.pendingSubscriptionIds = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        this.connections = new ArrayList<>();
+        this.maxSubscriptionsPerConnection = maxSubscriptionsPerConnection;
         this.apiName = apiName;
+        this.okHttpClient = Objects.requireNonNull(okHttpClient);
+        this.acknowledgementTimer = Objects.requireNonNull(acknowledgementTimer);
+        this.callbackExecutor = AmplifyExecutors.get(AmplifyExecutors.API);
+    }
 
+    private static OkHttpClient buildOkHttpClient(@Nullable OkHttpConfigurator configurator) {
         OkHttpClient.Builder okHttpClientBuilder = new OkHttpClient.Builder()
                 .retryOnConnectionFailure(true);
 
@@ -101,7 +177,17 @@ final class SubscriptionEndpoint {
             configurator.applyConfiguration(okHttpClientBuilder);
         }
 
-        this.okHttpClient = okHttpClientBuilder.build();
+        return okHttpClientBuilder.build();
+    }
+
+    // Acknowledgements are awaited by timers on this single thread, rather than by a blocked thread
+    // per subscription. The thread goes away while no acknowledgement is awaited.
+    private static ScheduledExecutorService createAcknowledgementTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1);
+        timer.setKeepAliveTime(ACKNOWLEDGEMENT_TIMER_KEEP_ALIVE, TimeUnit.SECONDS);
+        timer.allowCoreThreadTimeOut(true);
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
     }
 
     <T> void requestSubscription(
@@ -118,50 +204,14 @@ final class SubscriptionEndpoint {
         Objects.requireNonNull(onSubscriptionComplete);
 
         final String subscriptionId = UUID.randomUUID().toString();
-        final AmplifyWebSocketListener socketListener;
-        final WebSocket socket;
-
-        synchronized (webSocketLock) {
-            // The first call to subscribe OR a disconnected websocket listener will
-            // force a new connection to be created.
-            if (webSocketListener == null || webSocketListener.isDisconnectedState()) {
-                webSocketListener = new AmplifyWebSocketListener();
-                try {
-                    Request.Builder builder = new Request.Builder()
-                                                  .url(buildConnectionRequestUrl())
-                                                  .addHeader("Sec-WebSocket-Protocol", "graphql-ws")
-                                                  .header("User-Agent", UserAgent.string());
-                    // Add all authorization headers
-                    getConnectionAuthorizationHeaders(authType).forEach(builder::header);
-                    webSocket = okHttpClient.newWebSocket(builder.build(), webSocketListener);
-                } catch (ApiException apiException) {
-                    onSubscriptionError.accept(apiException);
-                    return;
-                }
-
-            }
-
-            pendingSubscriptionIds.add(subscriptionId);
-            socketListener = webSocketListener;
-            socket = webSocket;
-
-            // Every request waits here for the connection to be ready.
-            Connection connection = socketListener.waitForConnectionReady();
-            if (connection.hasFailure()) {
-                // If the latch didn't count all the way down
-                if (pendingSubscriptionIds.remove(subscriptionId)) {
-                    // The subscription was pending, so we need to emit an error.
-                    onSubscriptionError.accept(
-                        new AppSyncSubscriptionConnectionException(
-                            connection.getFailureReason(), connection.getFailureCause(),
-                            AmplifyException.TODO_RECOVERY_SUGGESTION));
-                    return;
-                }
-            }
-        }
+        // Events are only cached until the cache is cleared, as they may be for the user signed in now.
+        final int cacheGeneration = responseCache != null ? responseCache.getGeneration() : 0;
 
+        // The start message is built on the calling thread, as its authorization may need a token to be
+        // fetched; it is then sent from the connection's thread, once the connection has been acknowledged.
+        final String startMessage;
         try {
-            String jsonMessage = new JSONObject()
+            startMessage = new JSONObject()
                 .put("id", subscriptionId)
                 .put("type", "start")
                 .put("payload", new JSONObject()
@@ -169,34 +219,116 @@ final class SubscriptionEndpoint {
                 .put("extensions", new JSONObject()
                 .put("authorization", authorizer.createHeadersForSubscription(request, authType))))
                 .toString();
-
-            socket.send(jsonMessage);
+        } catch (ApiAuthException exception) {
+            // Don't wrap it if it's an ApiAuthException.
+            onSubscriptionError.accept(exception);
+            return;
         } catch (JSONException | ApiException exception) {
-            // If the subscriptionId was still pending, then we can call the onSubscriptionError
-            if (pendingSubscriptionIds.remove(subscriptionId)) {
-                if (exception instanceof ApiAuthException) {
-                    // Don't wrap it if it's an ApiAuthException.
-                    onSubscriptionError.accept((ApiAuthException) exception);
-                } else {
-                    onSubscriptionError.accept(new AppSyncUnknownException(
-                        "Failed to construct subscription registration message.",
-                        exception,
-                        AmplifyException.TODO_RECOVERY_SUGGESTION
-                    ));
-                }
+            onSubscriptionError.accept(new AppSyncUnknownException(
+                "Failed to construct subscription registration message.",
+                exception,
+                AmplifyException.TODO_RECOVERY_SUGGESTION
+            ));
+            return;
+        }
 
-            }
+        // The first call to subscribe OR a disconnected websocket listener will
+        // force a new connection to be created.
+        final AmplifyWebSocketListener connection;
+        try {
+            connection = acquireConnection(authType);
+        } catch (ApiException apiException) {
+            onSubscriptionError.accept(apiException);
             return;
         }
 
+        // Register the subscription before sending the start message, so that its start_ack can be matched
+        // to it by id, no matter how soon it arrives. This method then returns without waiting for the
+        // connection or the start_ack, so that many subscriptions can be started at once, without a
+        // thread waiting for each; onSubscriptionStarted is invoked once the start_ack is received.
         Subscription<T> subscription = new Subscription<>(
-            onNextItem, onSubscriptionError, onSubscriptionComplete,
-            responseFactory, request.getResponseType(), request, apiName
+            onSubscriptionStarted, onNextItem, onSubscriptionError, onSubscriptionComplete,
+            responseFactory, request, apiName, connection, callbackExecutor, cacheGeneration
         );
         subscriptions.put(subscriptionId, subscription);
-        if (subscription.awaitSubscriptionReady()) {
-            pendingSubscriptionIds.remove(subscriptionId);
-            onSubscriptionStarted.accept(subscriptionId);
+        pendingSubscriptionIds.add(subscriptionId);
+        connection.whenConnected(
+            () -> sendStartMessage(connection, subscriptionId, subscription, startMessage),
+            failure -> notifySubscriptionConnectionFailed(subscriptionId, failure)
+        );
+    }
+
+    // Uses the least-loaded connection that has not been disconnected, and has room for another
+    // subscription; if there is none, a new connection is opened. Only the choice of the connection is
+    // made under the lock: a new connection is opened, which may need a token to be fetched, outside of it.
+    private AmplifyWebSocketListener acquireConnection(AuthorizationType authType) throws ApiException {
+        final AmplifyWebSocketListener opened;
+        synchronized (connections) {
+            AmplifyWebSocketListener leastLoaded = null;
+            for (AmplifyWebSocketListener connection : connections) {
+                if (connection.isDisconnectedState() || !connection.hasRoom()) {
+                    continue;
+                }
+                if (leastLoaded == null || connection.getSubscriptionCount() < leastLoaded.getSubscriptionCount()) {
+                    leastLoaded = connection;
+                }
+            }
+            if (leastLoaded != null && leastLoaded.retain()) {
+                return leastLoaded;
+            }
+            opened = new AmplifyWebSocketListener();
+            connections.add(opened);
+        }
+        try {
+            opened.open(authType);
+        } catch (ApiException exception) {
+            opened.failConnection(new Connection("Failed to open connection.", exception));
+            opened.release();
+            throw exception;
+        }
+        return opened;
+    }
+
+    /**
+     * Gets the number of subscriptions on each open connection.
+     * @return Number of subscriptions on each connection, in the order the connections were opened
+     */
+    @VisibleForTesting
+    List<Integer> getSubscriptionCounts() {
+        List<Integer> counts = new ArrayList<>();
+        synchronized (connections) {
+            for (AmplifyWebSocketListener connection : connections) {
+                counts.add(connection.getSubscriptionCount());
+            }
+        }
+        return counts;
+    }
+
+    private void sendStartMessage(
+            AmplifyWebSocketListener connection,
+            String subscriptionId,
+            Subscription<?> subscription,
+            String startMessage) {
+        if (!pendingSubscriptionIds.contains(subscriptionId)) {
+            // Released while waiting for the connection.
+            return;
+        }
+        subscription.startAcknowledgementTimer(acknowledgementTimer, () -> notifySubscriptionTimedOut(subscriptionId));
+        if (!connection.send(startMessage)) {
+            notifySubscriptionConnectionFailed(subscriptionId, new Connection("Connection closed."));
+        }
+    }
+
+    private void notifySubscriptionConnectionFailed(String subscriptionId, Connection connection) {
+        if (pendingSubscriptionIds.remove(subscriptionId)) {
+            Subscription<?> subscription = subscriptions.get(subscriptionId);
+            if (subscription != null) {
+                subscription.cancelAcknowledgementTimer();
+                subscription.dispatchError(new AppSyncSubscriptionConnectionException(
+                    connection.getFailureReason(), connection.getFailureCause(),
+                    AmplifyException.TODO_RECOVERY_SUGGESTION));
+            }
+            removeSubscription(subscriptionId);
         }
     }
 
@@ -205,7 +337,7 @@ final class SubscriptionEndpoint {
         // If the subscription is still present (and it should also be pending if it hasn't been canceled),
         // then invoke the callback
         if (subscription != null && pendingSubscriptionIds.remove(subscriptionId)) {
-            subscription.acknowledgeSubscriptionReady();
+            subscription.acknowledgeSubscriptionReady(subscriptionId);
         } else {
             throw new AppSyncSubscriptionConnectionException(
                 "Acknowledgement for unknown subscription: " + subscriptionId, null,
@@ -220,11 +352,24 @@ final class SubscriptionEndpoint {
         }
     }
 
-    private void notifyAllSubscriptionsCompleted() {
+    private void notifySubscriptionTimedOut(final String subscriptionId) {
+        Subscription<?> subscription = subscriptions.get(subscriptionId);
+        if (subscription != null && pendingSubscriptionIds.remove(subscriptionId)) {
+            subscription.dispatchError(new AppSyncSubscriptionTimeoutException(
+                "Timed out waiting for subscription start_ack.",
+                null,
+                "Check your Internet connection. Is your device online?"));
+            removeSubscription(subscriptionId);
+        }
+    }
+
+    private void notifyAllSubscriptionsCompleted(AmplifyWebSocketListener connection) {
         // TODO: if the connection closes, but our subscription didn't ask for that,
         //  is that a failure, from its standpoint? Or not?
         for (Subscription<?> dispatcher : new HashSet<>(subscriptions.values())) {
-            dispatcher.dispatchCompleted();
+            if (dispatcher.isOn(connection)) {
+                dispatcher.dispatchCompleted();
+            }
         }
     }
 
@@ -237,19 +382,49 @@ final class SubscriptionEndpoint {
         }
 
         dispatcher.dispatchCompleted();
-        dispatcher.acknowledgeSubscriptionCompleted();
+        if (dispatcher.acknowledgeSubscriptionCompleted()) {
+            removeSubscription(subscriptionId);
+        }
     }
 
-    private void notifyError(Throwable error) {
-        for (Subscription<?> dispatcher : new HashSet<>(subscriptions.values())) {
+    private void notifyError(AmplifyWebSocketListener connection, Throwable error) {
+        for (String subscriptionId : new HashSet<>(subscriptions.keySet())) {
+            final Subscription<?> dispatcher = subscriptions.get(subscriptionId);
+            if (dispatcher == null || !dispatcher.isOn(connection)) {
+                continue;
+            }
+            // The error ends any subscription that was still waiting for its start_ack. As it was never
+            // started, it will not be released, so it is removed here.
+            boolean wasPending = pendingSubscriptionIds.remove(subscriptionId);
+            if (wasPending) {
+                dispatcher.cancelAcknowledgementTimer();
+            }
             dispatcher.dispatchError(new AppSyncSubscriptionConnectionException(
                 "Subscription failed.", error,
                 "Check your Internet connection. Is your device online?"
             ));
+            if (wasPending) {
+                removeSubscription(subscriptionId);
+            }
         }
     }
 
     private void notifySubscriptionData(String subscriptionId, String data) throws ApiException {
+        final Subscription<?> dispatcher = subscriptions.get(subscriptionId);
+        if (dispatcher == null) {
+            throw new AppSyncSubscriptionConnectionException(
+                "Got subscription data for unknown subscription ID: " + subscriptionId, null,
+                AmplifyException.TODO_RECOVERY_SUGGESTION);
+        }
+        if (responseCache != null && apiName != null) {
+            // Subscription events keep the cached models up to date.
+            responseCache.write(apiName, dispatcher.request, data, dispatcher.cacheGeneration);
+        }
+        dispatcher.dispatchNextMessage(data);
+    }
+
+    // Decodes the payload of a data message straight from the message, into the subscription's response type.
+    private void notifySubscriptionData(String subscriptionId, JsonReader data) throws ApiException {
         final Subscription<?> dispatcher = subscriptions.get(subscriptionId);
         if (dispatcher == null) {
             throw new AppSyncSubscriptionConnectionException(
@@ -271,17 +446,20 @@ final class SubscriptionEndpoint {
                 AmplifyException.TODO_RECOVERY_SUGGESTION);
         }
 
+        if (wasSubscriptionPending && subscription != null) {
+            subscription.cancelAcknowledgementTimer();
+        }
+
         // Only do this if the subscription was NOT pending.
         // Otherwise it would probably fail since it was never established in the first place.
-        final AmplifyWebSocketListener socketListener = webSocketListener;
+        final AmplifyWebSocketListener socketListener = subscription != null ? subscription.connection : null;
         if (!wasSubscriptionPending && socketListener != null && !socketListener.isDisconnectedState()) {
+            final String jsonMessage;
             try {
-                String jsonMessage = new JSONObject()
+                jsonMessage = new JSONObject()
                     .put("type", "stop")
                     .put("id", subscriptionId)
                     .toString();
-
-                webSocket.send(jsonMessage);
             } catch (JSONException jsonException) {
                 throw new AppSyncUnknownException(
                     "Failed to construct subscription release message.",
@@ -289,18 +467,29 @@ final class SubscriptionEndpoint {
                     AmplifyException.TODO_RECOVERY_SUGGESTION
                 );
             }
-            subscription.awaitSubscriptionCompleted();
+            // The subscription is removed once its completion is acknowledged, or once that times out,
+            // rather than by waiting for it here.
+            subscription.startCompletionTimer(acknowledgementTimer, () -> {
+                subscription.dispatchError(new AppSyncSubscriptionTimeoutException(
+                    "Subscription completion not acknowledged.",
+                    null,
+                    AmplifyException.TODO_RECOVERY_SUGGESTION));
+                removeSubscription(subscriptionId);
+            });
+            if (socketListener.send(jsonMessage) || !subscription.acknowledgeSubscriptionCompleted()) {
+                return;
+            }
         }
 
-        // If we have zero subscriptions, close the WebSocket
-        synchronized (webSocketLock) {
-            subscriptions.remove(subscriptionId);
-            if (subscriptions.isEmpty() && pendingSubscriptionIds.isEmpty()) {
-                LOG.info("No more active subscriptions. Closing web socket.");
-                timeoutWatchdog.stop();
-                webSocket.close(NORMAL_CLOSURE_STATUS, "No active subscriptions");
-                webSocketListener = null;
-            }
+        removeSubscription(subscriptionId);
+    }
+
+    // Removes a subscription, releasing its use of its connection; if it was the last subscription
+    // using the connection, the connection is closed.
+    private void removeSubscription(String subscriptionId) {
+        final Subscription<?> subscription = subscriptions.remove(subscriptionId);
+        if (subscription != null) {
+            subscription.connection.release();
         }
     }
 
@@ -351,104 +540,111 @@ final class SubscriptionEndpoint {
     static final class Subscription<T> {
         private static final int ACKNOWLEDGEMENT_TIMEOUT = 10 /* seconds */;
 
+        private final Consumer<String> onSubscriptionStarted;
         private final Consumer<GraphQLResponse<T>> onNextItem;
         private final Consumer<ApiException> onSubscriptionError;
         private final Action onSubscriptionComplete;
         private final GraphQLResponse.Factory responseFactory;
         private final Type responseType;
         private final GraphQLRequest<T> request;
-        private final CountDownLatch subscriptionReadyAcknowledgment;
-        private final CountDownLatch subscriptionCompletionAcknowledgement;
-        private boolean failed;
+        private final AtomicReference<ScheduledFuture<?>> completionTimer;
+        private final AtomicReference<ScheduledFuture<?>> acknowledgementTimer;
+        private final AmplifyWebSocketListener connection;
+        private final Executor callbackExecutor;
+        private final Queue<Runnable> pendingCallbacks;
+        private final AtomicBoolean invokingCallbacks;
+        private final int cacheGeneration;
         private String apiName;
 
+        @SuppressWarnings("checkstyle:ParameterNumber") // The callbacks, and the context they are invoked in
         Subscription(
+                Consumer<String> onSubscriptionStarted,
                 Consumer<GraphQLResponse<T>> onNextItem,
                 Consumer<ApiException> onSubscriptionError,
                 Action onSubscriptionComplete,
                 GraphQLResponse.Factory responseFactory,
-                Type responseType,
                 GraphQLRequest<T> request,
-                String apiName
+                String apiName,
+                AmplifyWebSocketListener connection,
+                Executor callbackExecutor,
+                int cacheGeneration
         ) {
+            this.onSubscriptionStarted = onSubscriptionStarted;
             this.onNextItem = onNextItem;
             this.onSubscriptionError = onSubscriptionError;
             this.onSubscriptionComplete = onSubscriptionComplete;
             this.responseFactory = responseFactory;
-            this.responseType = responseType;
+            this.responseType = request.getResponseType();
             this.request = request;
             this.apiName = apiName;
-            this.subscriptionReadyAcknowledgment = new CountDownLatch(1);
-            this.subscriptionCompletionAcknowledgement = new CountDownLatch(1);
-            this.failed = false;
+            this.connection = connection;
+            this.completionTimer = new AtomicReference<>();
+            this.acknowledgementTimer = new AtomicReference<>();
+            this.callbackExecutor = callbackExecutor;
+            this.pendingCallbacks = new ConcurrentLinkedQueue<>();
+            this.invokingCallbacks = new AtomicBoolean(false);
+            this.cacheGeneration = cacheGeneration;
         }
 
-        void acknowledgeSubscriptionReady() {
-            subscriptionReadyAcknowledgment.countDown();
+        boolean isOn(AmplifyWebSocketListener connection) {
+            return this.connection == connection;
         }
 
-        void acknowledgeSubscriptionFailure() {
-            failed = true;
-            subscriptionReadyAcknowledgment.countDown();
+        void startAcknowledgementTimer(ScheduledExecutorService timer, Runnable onTimeout) {
+            acknowledgementTimer.set(timer.schedule(onTimeout, ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS));
         }
 
-        boolean awaitSubscriptionReady() {
-            try {
-                if (!subscriptionReadyAcknowledgment.await(ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS)) {
-                    dispatchError(new AppSyncSubscriptionTimeoutException(
-                        "Timed out waiting for subscription start_ack.",
-                        null,
-                        "Check your Internet connection. Is your device online?"));
-                    return false;
-                } else if (failed) {
-                    // An error was already dispatched at the time of failure, so don't dispatch a second one.
-                    return false;
-                }
-            } catch (InterruptedException interruptedException) {
-                // Triggered when the Future created in SubscriptionOperation is cancelled, which happens when the
-                // subscription Observable is disposed, which happens when a SUBSCRIPTION_ERROR occurs.  Don't dispatch
-                // any error because the caller has likely already been disposed.
-                LOG.warn("Thread interrupted awaiting subscription acknowledgement.", interruptedException);
-                return false;
+        void cancelAcknowledgementTimer() {
+            ScheduledFuture<?> timeout = acknowledgementTimer.getAndSet(null);
+            if (timeout != null) {
+                timeout.cancel(false);
             }
+        }
 
-            return true;
+        void acknowledgeSubscriptionReady(String subscriptionId) {
+            cancelAcknowledgementTimer();
+            invokeCallback(() -> onSubscriptionStarted.accept(subscriptionId));
         }
 
-        void acknowledgeSubscriptionCompleted() {
-            subscriptionCompletionAcknowledgement.countDown();
+        void acknowledgeSubscriptionFailure() {
+            // The error itself is dispatched along with the SUBSCRIPTION_ERROR payload.
+            cancelAcknowledgementTimer();
         }
 
-        void awaitSubscriptionCompleted() {
-            try {
-                if (!subscriptionCompletionAcknowledgement.await(ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS)) {
-                    dispatchError(new AppSyncSubscriptionTimeoutException(
-                        "Subscription completion not acknowledged.",
-                        null,
-                        AmplifyException.TODO_RECOVERY_SUGGESTION));
+        void startCompletionTimer(ScheduledExecutorService timer, Runnable onTimeout) {
+            completionTimer.set(timer.schedule(() -> {
+                if (completionTimer.getAndSet(null) != null) {
+                    onTimeout.run();
                 }
-            } catch (InterruptedException interruptedException) {
-                dispatchError(new AppSyncSubscriptionConnectionException(
-                    "Thread interrupted awaiting subscription completion.", interruptedException,
-                    AmplifyException.TODO_RECOVERY_SUGGESTION
-                ));
+            }, ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS));
+        }
+
+        // Returns whether the completion was awaited, following a release of the subscription.
+        boolean acknowledgeSubscriptionCompleted() {
+            ScheduledFuture<?> timeout = completionTimer.getAndSet(null);
+            if (timeout != null) {
+                timeout.cancel(false);
+                return true;
             }
+            return false;
         }
 
         // This method should be used in place of GraphQLResponse.Factory buildResponse.
         // We need to use this method to pass apiName for LazyModel
         private GraphQLResponse<T> buildResponse(String jsonResponse) throws ApiException {
-            if (!(responseFactory instanceof GsonGraphQLResponseFactory)) {
+            try {
+                return gsonResponseFactory().buildResponse(request, jsonResponse, apiName);
+            } catch (ClassCastException cce) {
                 throw new AppSyncDeserializationException(
-                        "Amplify encountered an error while deserializing an object. " +
-                        "GraphQLResponse.Factory was not of type GsonGraphQLResponseFactory",
-                        null,
-                        AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION);
+                        "Amplify encountered an error while deserializing an object",
+                        cce,
+                        AmplifyException.TODO_RECOVERY_SUGGESTION);
             }
+        }
 
+        private GraphQLResponse<T> buildResponse(JsonReader jsonResponse) throws ApiException {
             try {
-                return ((GsonGraphQLResponseFactory) responseFactory)
-                        .buildResponse(request, jsonResponse, apiName);
+                return gsonResponseFactory().buildResponse(request, jsonResponse, apiName);
             } catch (ClassCastException cce) {
                 throw new AppSyncDeserializationException(
                         "Amplify encountered an error while deserializing an object",
@@ -457,20 +653,75 @@ final class SubscriptionEndpoint {
             }
         }
 
+        private GsonGraphQLResponseFactory gsonResponseFactory() throws ApiException {
+            if (!(responseFactory instanceof GsonGraphQLResponseFactory)) {
+                throw new AppSyncDeserializationException(
+                        "Amplify encountered an error while deserializing an object. " +
+                        "GraphQLResponse.Factory was not of type GsonGraphQLResponseFactory",
+                        null,
+                        AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION);
+            }
+            return (GsonGraphQLResponseFactory) responseFactory;
+        }
+
+        // Responses are decoded on the thread reading the connection, as the message is read, and are then
+        // handed to the subscription's callback.
         void dispatchNextMessage(String message) {
             try {
-                onNextItem.accept(buildResponse(message));
+                GraphQLResponse<T> response = buildResponse(message);
+                invokeCallback(() -> onNextItem.accept(response));
+            } catch (ApiException exception) {
+                dispatchError(exception);
+            }
+        }
+
+        void dispatchNextMessage(JsonReader message) {
+            try {
+                GraphQLResponse<T> response = buildResponse(message);
+                invokeCallback(() -> onNextItem.accept(response));
             } catch (ApiException exception) {
                 dispatchError(exception);
             }
         }
 
         void dispatchError(ApiException error) {
-            onSubscriptionError.accept(error);
+            invokeCallback(() -> onSubscriptionError.accept(error));
         }
 
         void dispatchCompleted() {
-            onSubscriptionComplete.call();
+            invokeCallback(onSubscriptionComplete::call);
+        }
+
+        // Invokes the callbacks of the subscription one after the other, in the order they were dispatched,
+        // on the callback executor. If the executor rejects them, as it does once an app has bounded it and it
+        // is saturated, they are invoked on the calling thread instead: neither are they left behind, nor does
+        // the rejection fail the connection, and every other subscription on it.
+        private void invokeCallback(Runnable callback) {
+            pendingCallbacks.add(callback);
+            if (invokingCallbacks.compareAndSet(false, true)) {
+                try {
+                    callbackExecutor.execute(this::invokePendingCallbacks);
+                } catch (RejectedExecutionException exception) {
+                    LOG.warn("Subscription callbacks were rejected by their executor; invoking them now.", exception);
+                    invokePendingCallbacks();
+                }
+            }
+        }
+
+        private void invokePendingCallbacks() {
+            do {
+                Runnable callback;
+                while ((callback = pendingCallbacks.poll()) != null) {
+                    try {
+                        callback.run();
+                    } catch (RuntimeException exception) {
+                        LOG.warn("Subscription callback failed.", exception);
+                    }
+                }
+                invokingCallbacks.set(false);
+                // A callback dispatched after the queue was found empty, but before the flag was cleared,
+                // is invoked here rather than left behind.
+            } while (!pendingCallbacks.isEmpty() && invokingCallbacks.compareAndSet(false, true));
         }
 
         @Override
@@ -484,6 +735,9 @@ final class SubscriptionEndpoint {
 
             Subscription<?> that = (Subscription<?>) thatObject;
 
+            if (!ObjectsCompat.equals(onSubscriptionStarted, that.onSubscriptionStarted)) {
+                return false;
+            }
             if (!ObjectsCompat.equals(onNextItem, that.onNextItem)) {
                 return false;
             }
@@ -499,40 +753,156 @@ final class SubscriptionEndpoint {
             if (!ObjectsCompat.equals(responseType, that.responseType)) {
                 return false;
             }
-            if (!ObjectsCompat.equals(subscriptionReadyAcknowledgment, that.subscriptionReadyAcknowledgment)) {
-                return false;
-            }
-            return ObjectsCompat.equals(
-                    subscriptionCompletionAcknowledgement,
-                    that.subscriptionCompletionAcknowledgement
-            );
+            return ObjectsCompat.equals(completionTimer, that.completionTimer);
         }
 
         @Override
         public int hashCode() {
-            int result = onNextItem.hashCode();
+            int result = onSubscriptionStarted.hashCode();
+            result = 31 * result + onNextItem.hashCode();
             result = 31 * result + onSubscriptionError.hashCode();
             result = 31 * result + onSubscriptionComplete.hashCode();
             result = 31 * result + responseFactory.hashCode();
             result = 31 * result + responseType.hashCode();
-            result = 31 * result + subscriptionReadyAcknowledgment.hashCode();
-            result = 31 * result + subscriptionCompletionAcknowledgement.hashCode();
+            result = 31 * result + completionTimer.hashCode();
             return result;
         }
     }
 
+    /**
+     * A WebSocket connection, and its state. Subscriptions waiting for the connection to be
+     * acknowledged are registered with {@link #whenConnected(Runnable, Consumer)}, and are notified
+     * on the connection's thread once it has been acknowledged, or has failed.
+     */
     final class AmplifyWebSocketListener extends WebSocketListener {
-        private final CountDownLatch connectionResponse;
+        // Count of references once the connection has been closed, after which it cannot be retained.
+        private static final int CLOSED = -1;
+
         private final AtomicReference<EndpointStatus> endpointStatus;
-        private Throwable connectionFailureCause;
+        private final Queue<ConnectionObserver> connectionObservers;
+        private final AtomicInteger references;
+        private final TimeoutWatchdog timeoutWatchdog;
+        private volatile WebSocket webSocket;
+        private volatile Connection connectionFailure;
+        private volatile ScheduledFuture<?> connectionTimeout;
 
         AmplifyWebSocketListener() {
-            this(new CountDownLatch(1));
+            this.endpointStatus = new AtomicReference<>(EndpointStatus.CONNECTING);
+            this.connectionObservers = new ConcurrentLinkedQueue<>();
+            // The connection is retained by whoever opens it.
+            this.references = new AtomicInteger(1);
+            this.timeoutWatchdog = new TimeoutWatchdog();
+        }
+
+        void open(AuthorizationType authType) throws ApiException {
+            Request.Builder builder = new Request.Builder()
+                                          .url(buildConnectionRequestUrl())
+                                          .addHeader("Sec-WebSocket-Protocol", "graphql-ws")
+                                          .header("User-Agent", UserAgent.string());
+            // Add all authorization headers
+            getConnectionAuthorizationHeaders(authType).forEach(builder::header);
+            webSocket = okHttpClient.newWebSocket(builder.build(), this);
+            connectionTimeout = acknowledgementTimer.schedule(() -> {
+                if (EndpointStatus.CONNECTING.equals(endpointStatus.get())) {
+                    LOG.warn("Timed out waiting for connection acknowledgement.");
+                    failConnection(new Connection("Timed out waiting for connection acknowledgement."));
+                    webSocket.cancel();
+                }
+            }, CONNECTION_ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS);
+        }
+
+        /**
+         * Retains the connection for a subscription, unless it has already been closed.
+         * @return true if the connection was retained
+         */
+        boolean retain() {
+            while (true) {
+                int count = references.get();
+                if (count == CLOSED) {
+                    return false;
+                }
+                if (references.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Checks whether another subscription may be placed on the connection.
+         * @return true if the connection is not closed, and holds fewer than the maximum number of subscriptions
+         */
+        boolean hasRoom() {
+            int count = references.get();
+            return count != CLOSED && (maxSubscriptionsPerConnection <= 0 || count < maxSubscriptionsPerConnection);
+        }
+
+        int getSubscriptionCount() {
+            return Math.max(0, references.get());
+        }
+
+        /**
+         * Releases the connection from a subscription, closing it if no subscription uses it anymore.
+         */
+        void release() {
+            if (references.decrementAndGet() == 0 && references.compareAndSet(0, CLOSED)) {
+                synchronized (connections) {
+                    connections.remove(this);
+                }
+                LOG.info("No more active subscriptions. Closing web socket.");
+                timeoutWatchdog.stop();
+                cancelConnectionTimeout();
+                endpointStatus.set(EndpointStatus.DISCONNECTED);
+                notifyConnectionObservers();
+                if (webSocket != null) {
+                    webSocket.close(NORMAL_CLOSURE_STATUS, "No active subscriptions");
+                }
+            }
+        }
+
+        /**
+         * Runs an action once the connection has been acknowledged, or right away if it already has been.
+         * @param onConnected Action run once the connection has been acknowledged
+         * @param onFailure Receives the failure, if the connection fails or closes instead
+         */
+        void whenConnected(Runnable onConnected, Consumer<Connection> onFailure) {
+            connectionObservers.add(new ConnectionObserver(onConnected, onFailure));
+            if (!EndpointStatus.CONNECTING.equals(endpointStatus.get())) {
+                notifyConnectionObservers();
+            }
+        }
+
+        boolean send(String message) {
+            return webSocket != null && webSocket.send(message);
+        }
+
+        void failConnection(Connection failure) {
+            connectionFailure = failure;
+            endpointStatus.set(EndpointStatus.CONNECTION_FAILED);
+            cancelConnectionTimeout();
+            notifyConnectionObservers();
         }
 
-        AmplifyWebSocketListener(CountDownLatch latch) {
-            this.connectionResponse = latch;
-            this.endpointStatus = new AtomicReference<>(EndpointStatus.DISCONNECTED);
+        // Each observer is removed from the queue before being notified, so it is notified only once,
+        // however many threads notify the observers at the same time.
+        private void notifyConnectionObservers() {
+            ConnectionObserver observer;
+            while ((observer = connectionObservers.poll()) != null) {
+                EndpointStatus status = endpointStatus.get();
+                if (EndpointStatus.CONNECTED.equals(status)) {
+                    observer.onConnected.run();
+                } else if (EndpointStatus.CONNECTION_FAILED.equals(status)) {
+                    observer.onFailure.accept(connectionFailure);
+                } else {
+                    observer.onFailure.accept(new Connection("Connection closed."));
+                }
+            }
+        }
+
+        private void cancelConnectionTimeout() {
+            ScheduledFuture<?> timeout = connectionTimeout;
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
         }
 
         @Override
@@ -542,57 +912,45 @@ final class SubscriptionEndpoint {
 
         @Override
         public void onMessage(@NonNull final WebSocket webSocket, @NonNull final String message) {
+            if (isKeepAlive(message)) {
+                timeoutWatchdog.reset();
+                return;
+            }
             try {
                 processJsonMessage(webSocket, message);
             } catch (ApiException exception) {
-                notifyError(exception);
+                notifyError(this, exception);
             }
         }
 
         @Override
         public void onClosing(@NonNull WebSocket webSocket, int code, @NonNull String reason) {
-            notifyAllSubscriptionsCompleted();
+            notifyAllSubscriptionsCompleted(this);
         }
 
         @Override
         public void onFailure(@NonNull WebSocket webSocket, @NonNull Throwable failure, Response response) {
             LOG.warn("Websocket connection failed.", failure);
-            endpointStatus.set(EndpointStatus.CONNECTION_FAILED);
-            connectionFailureCause = failure;
             webSocket.cancel();
-            // This will free up any pending subscriptions that haven't been established yet.
-            connectionResponse.countDown();
+            timeoutWatchdog.stop();
+            // This will fail any pending subscriptions that haven't been sent yet.
+            failConnection(new Connection("Connection failed.", failure));
             // This will broadcast the error to all subscriptions
-            notifyError(failure);
+            notifyError(this, failure);
         }
 
         @Override
         public void onClosed(@NonNull WebSocket webSocket, int code, @NonNull String reason) {
             super.onClosed(webSocket, code, reason);
+            timeoutWatchdog.stop();
             endpointStatus.set(EndpointStatus.DISCONNECTED);
+            notifyConnectionObservers();
         }
 
         public boolean isDisconnectedState() {
             return endpointStatus.get().isDisconnectedState();
         }
 
-        public Connection waitForConnectionReady() {
-            try {
-                if (!connectionResponse.await(CONNECTION_ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS)) {
-                    LOG.warn("Timed out waiting for connection acknowledgement.");
-                    return new Connection("Timed out waiting for connection acknowledgement.");
-                }
-            } catch (InterruptedException exception) {
-                LOG.warn("Thread interrupted waiting for connection acknowledgement");
-                return new Connection("Thread interrupted waiting for connection acknowledgement", exception);
-            }
-            LOG.debug("Current endpoint status: " + endpointStatus.get());
-            if (EndpointStatus.CONNECTION_FAILED.equals(endpointStatus.get())) {
-                return new Connection("Connection failed.", connectionFailureCause);
-            }
-            return new Connection();
-        }
-
         private void sendConnectionInit(WebSocket webSocket) {
             try {
                 String jsonMessage = new JSONObject()
@@ -601,79 +959,164 @@ final class SubscriptionEndpoint {
 
                 webSocket.send(jsonMessage);
             } catch (JSONException jsonException) {
-                notifyError(jsonException);
+                notifyError(this, jsonException);
             }
         }
 
+        // Reads the type and id of a message, and the payload of a data message, in a single pass over the
+        // message. The payload of a data message is decoded straight into the response type of its
+        // subscription, if the type and id precede it, as they do in the messages sent by AppSync.
+        // Otherwise, or if the payload is also written to the response cache, it is read into a tree first.
         private void processJsonMessage(WebSocket webSocket, String message) throws ApiException {
             try {
-                final JSONObject jsonMessage = new JSONObject(message);
-                final SubscriptionMessageType subscriptionMessageType =
-                    SubscriptionMessageType.from(jsonMessage.getString("type"));
-
-                switch (subscriptionMessageType) {
-                    case CONNECTION_ACK:
-                        timeoutWatchdog.start(() -> {
-                            LOG.warn("WebSocket closed due to timeout.");
-
-                            webSocket.close(
-                                    NORMAL_CLOSURE_STATUS,
-                                    "WebSocket closed due to timeout."
-                            );
-                        },
-                            Integer.parseInt(
-                                jsonMessage.getJSONObject("payload").getString("connectionTimeoutMs")
-                            )
-                        );
-                        endpointStatus.set(EndpointStatus.CONNECTED);
-                        connectionResponse.countDown();
-                        break;
-                    case CONNECTION_ERROR:
-                        endpointStatus.set(EndpointStatus.CONNECTION_FAILED);
-                        LOG.warn("Websocket listener received a CONNECTION_ERROR event. " + message);
-                        
-                        // Convert error payload to GraphQLResponseException
-                        try {
-                            if (jsonMessage.has("payload")) {
-                                JSONObject payload = jsonMessage.getJSONObject("payload");
-                                connectionFailureCause = new GraphQLResponseException(payload);
+                final JsonReader reader = new JsonReader(new StringReader(message));
+                SubscriptionMessageType subscriptionMessageType = null;
+                String id = null;
+                JsonElement payload = null;
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case TYPE_KEY:
+                            subscriptionMessageType = SubscriptionMessageType.from(reader.nextString());
+                            break;
+                        case ID_KEY:
+                            id = reader.nextString();
+                            break;
+                        case PAYLOAD_KEY:
+                            if (id != null && responseCache == null &&
+                                    SubscriptionMessageType.SUBSCRIPTION_DATA.equals(subscriptionMessageType)) {
+                                notifySubscriptionData(id, reader);
+                                return;
                             }
-                        } catch (JSONException exception) {
-                            LOG.warn("Failed to parse CONNECTION_ERROR payload as GraphQL error");
-                            // Fall back to simple IOException with JSONException as cause
-                            connectionFailureCause = new IOException(message, exception);
-                        }
-                        
-                        connectionResponse.countDown();
-                        break;
-                    case SUBSCRIPTION_ACK:
-                        notifySubscriptionAcknowledged(jsonMessage.getString("id"));
-                        break;
-                    case SUBSCRIPTION_COMPLETE:
-                        notifySubscriptionCompleted(jsonMessage.getString("id"));
-                        break;
-                    case CONNECTION_KEEP_ALIVE:
-                        timeoutWatchdog.reset();
-                        break;
-                    case SUBSCRIPTION_ERROR:
-                        notifySubscriptionFailure(jsonMessage.getString("id"));
-                        notifySubscriptionData(jsonMessage.getString("id"), jsonMessage.getString("payload"));
-                        break;
-                    case SUBSCRIPTION_DATA:
-                        notifySubscriptionData(jsonMessage.getString("id"), jsonMessage.getString("payload"));
-                        break;
-                    default:
-                        notifyError(new AppSyncUnknownException(
-                            "Got unknown message type: " + subscriptionMessageType, null,
-                            AmplifyException.TODO_RECOVERY_SUGGESTION));
+                            payload = JsonParser.parseReader(reader);
+                            break;
+                        default:
+                            reader.skipValue();
+                            break;
+                    }
+                }
+                if (subscriptionMessageType == null) {
+                    throw new JsonParseException("Message has no type: " + message);
                 }
-            } catch (JSONException exception) {
+                processMessage(webSocket, subscriptionMessageType, id, payload, message);
+            } catch (IOException | IllegalStateException | JsonParseException exception) {
                 throw new AppSyncDeserializationException(
                     "Error processing Json message in subscription endpoint.",
                     exception,
                     AmplifyException.TODO_RECOVERY_SUGGESTION);
             }
         }
+
+        private void processMessage(
+                WebSocket webSocket,
+                SubscriptionMessageType subscriptionMessageType,
+                @Nullable String id,
+                @Nullable JsonElement payload,
+                String message) throws ApiException {
+            switch (subscriptionMessageType) {
+                case CONNECTION_ACK:
+                    timeoutWatchdog.start(() -> {
+                        LOG.warn("WebSocket closed due to timeout.");
+
+                        webSocket.close(
+                                NORMAL_CLOSURE_STATUS,
+                                "WebSocket closed due to timeout."
+                        );
+                    },
+                        Integer.parseInt(
+                            require(require(payload, PAYLOAD_KEY).getAsJsonObject().get(CONNECTION_TIMEOUT_KEY),
+                                CONNECTION_TIMEOUT_KEY).getAsString()
+                        )
+                    );
+                    cancelConnectionTimeout();
+                    endpointStatus.compareAndSet(EndpointStatus.CONNECTING, EndpointStatus.CONNECTED);
+                    notifyConnectionObservers();
+                    break;
+                case CONNECTION_ERROR:
+                    LOG.warn("Websocket listener received a CONNECTION_ERROR event. " + message);
+
+                    // Convert error payload to GraphQLResponseException
+                    Throwable connectionFailureCause = null;
+                    try {
+                        if (payload != null) {
+                            connectionFailureCause = new GraphQLResponseException(new JSONObject(payload.toString()));
+                        }
+                    } catch (JSONException exception) {
+                        LOG.warn("Failed to parse CONNECTION_ERROR payload as GraphQL error");
+                        // Fall back to simple IOException with JSONException as cause
+                        connectionFailureCause = new IOException(message, exception);
+                    }
+
+                    failConnection(new Connection("Connection failed.", connectionFailureCause));
+                    break;
+                case SUBSCRIPTION_ACK:
+                    notifySubscriptionAcknowledged(require(id, ID_KEY));
+                    break;
+                case SUBSCRIPTION_COMPLETE:
+                    notifySubscriptionCompleted(require(id, ID_KEY));
+                    break;
+                case CONNECTION_KEEP_ALIVE:
+                    timeoutWatchdog.reset();
+                    break;
+                case SUBSCRIPTION_ERROR:
+                    notifySubscriptionFailure(require(id, ID_KEY));
+                    notifySubscriptionData(id, require(payload, PAYLOAD_KEY).toString());
+                    break;
+                case SUBSCRIPTION_DATA:
+                    notifySubscriptionData(require(id, ID_KEY), require(payload, PAYLOAD_KEY).toString());
+                    break;
+                default:
+                    notifyError(this, new AppSyncUnknownException(
+                        "Got unknown message type: " + subscriptionMessageType, null,
+                        AmplifyException.TODO_RECOVERY_SUGGESTION));
+            }
+        }
+    }
+
+    // Keep-alive messages, {"type":"ka"}, are the most frequent messages on a quiet connection, so they are
+    // recognized without being parsed, by matching their exact form, with optional whitespace. Any other
+    // message, including a keep-alive padded with more whitespace, is parsed.
+    static boolean isKeepAlive(String message) {
+        if (message.length() > KEEP_ALIVE_MAX_LENGTH) {
+            return false;
+        }
+        int position = 0;
+        for (String token : KEEP_ALIVE_TOKENS) {
+            position = skipWhitespace(message, position);
+            if (!message.startsWith(token, position)) {
+                return false;
+            }
+            position += token.length();
+        }
+        return skipWhitespace(message, position) == message.length();
+    }
+
+    private static int skipWhitespace(String message, int position) {
+        int next = position;
+        while (next < message.length() && Character.isWhitespace(message.charAt(next))) {
+            next++;
+        }
+        return next;
+    }
+
+    private static <V> V require(@Nullable V value, String key) throws AppSyncDeserializationException {
+        if (value == null) {
+            throw new AppSyncDeserializationException(
+                "Error processing Json message in subscription endpoint.",
+                new JsonParseException("Message has no " + key + "."),
+                AmplifyException.TODO_RECOVERY_SUGGESTION);
+        }
+        return value;
+    }
+
+    private static final class ConnectionObserver {
+        private final Runnable onConnected;
+        private final Consumer<Connection> onFailure;
+
+        ConnectionObserver(Runnable onConnected, Consumer<Connection> onFailure) {
+            this.onConnected = onConnected;
+            this.onFailure = onFailure;
+        }
     }
 
     static final class Connection {
@@ -77,10 +77,7 @@ final class SubscriptionOperation<T> extends AWSGraphQLOperation<T> {
             subscriptionEndpoint.requestSubscription(
                 getRequest(),
                 authorizationType,
-                subscriptionId -> {
-                    SubscriptionOperation.this.subscriptionId = subscriptionId;
-                    onSubscriptionStart.accept(subscriptionId);
-                },
+                this::onSubscriptionStarted,
                 onNextItem,
                 apiException -> {
                     cancel();
@@ -95,21 +92,38 @@ final class SubscriptionOperation<T> extends AWSGraphQLOperation<T> {
     public synchronized void cancel() {
         if (subscriptionId != null && !canceled.get()) {
             canceled.set(true);
-            executorService.execute(() -> {
-                try {
-                    LOG.debug("Cancelling subscription: " + subscriptionId);
-                    subscriptionEndpoint.releaseSubscription(subscriptionId);
-                } catch (ApiException exception) {
-                    onSubscriptionError.accept(exception);
-                }
-            });
+            releaseSubscription(subscriptionId);
         } else if (subscriptionFuture != null && subscriptionFuture.cancel(true)) {
             LOG.debug("Subscription attempt was canceled.");
+        } else if (subscriptionFuture != null && subscriptionId == null) {
+            // The start message may already be on its way. Release the subscription once it's acknowledged.
+            canceled.set(true);
+            LOG.debug("Subscription attempt was canceled before it was acknowledged.");
         } else {
             LOG.debug("Nothing to cancel. Subscription not yet created, or already cancelled.");
         }
     }
 
+    private void releaseSubscription(String subscriptionId) {
+        executorService.execute(() -> {
+            try {
+                LOG.debug("Cancelling subscription: " + subscriptionId);
+                subscriptionEndpoint.releaseSubscription(subscriptionId);
+            } catch (ApiException exception) {
+                onSubscriptionError.accept(exception);
+            }
+        });
+    }
+
+    private synchronized void onSubscriptionStarted(String subscriptionId) {
+        this.subscriptionId = subscriptionId;
+        if (canceled.get()) {
+            releaseSubscription(subscriptionId);
+            return;
+        }
+        onSubscriptionStart.accept(subscriptionId);
+    }
+
     static final class Builder<T> {
         private SubscriptionEndpoint subscriptionEndpoint;
         private GraphQLRequest<T> graphQlRequest;
@@ -15,28 +15,18 @@
 
 package com.amplifyframework.api.aws.auth;
 
+import androidx.annotation.NonNull;
+
 import com.amplifyframework.api.ApiException.ApiAuthException;
 import com.amplifyframework.api.aws.AppSyncSigningException;
 import com.amplifyframework.api.aws.sigv4.AWS4Signer;
 
-import aws.smithy.kotlin.runtime.net.url.Url;
-import aws.smithy.kotlin.runtime.net.url.UrlEncoding;
-
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.List;
-import java.util.Map;
 
 import aws.smithy.kotlin.runtime.auth.awscredentials.CredentialsProvider;
-import aws.smithy.kotlin.runtime.http.DeferredHeaders;
-import aws.smithy.kotlin.runtime.http.Headers;
-import aws.smithy.kotlin.runtime.http.HttpBody;
-import aws.smithy.kotlin.runtime.http.HttpMethod;
-import aws.smithy.kotlin.runtime.http.request.HttpRequest;
-import aws.smithy.kotlin.runtime.http.request.HttpRequestKt;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
-import okio.Buffer;
+import okio.BufferedSink;
 
 /**
  * Request decorator implementatioon that uses AWS SigV4 signing.
@@ -68,86 +58,72 @@ public class IamRequestDecorator implements RequestDecorator {
      * @throws ApiAuthException If the signing process fails.
      */
     public final okhttp3.Request decorate(okhttp3.Request req) throws ApiAuthException {
-        //set the request body
-        final byte[] bodyBytes = getBytes(req.body());
-        HttpBody body2 = HttpBody.Companion.fromBytes(bodyBytes);
-
-        HttpMethod method = HttpMethod.Companion.parse(req.method());
-        Url url = Url.Companion.parse(req.url().uri().toString(), UrlEncoding.Companion.getAll());
-        Headers headers = Headers.Companion.invoke((builder) -> {
-            for (String headerName : req.headers().names()) {
-                builder.set(headerName, req.header(headerName));
-            }
-
-            builder.set("Host", req.url().url().getHost());
-            return null;
-        });
-
-        HttpRequest req2 = HttpRequestKt.HttpRequest(method, url, headers, body2, DeferredHeaders.Companion.getEmpty());
-
-        HttpRequest request = v4Signer.signBlocking(req2, credentialsProvider, serviceName).getOutput();
+        try {
+            // The OkHttp request is signed directly; its body is hashed as it is written, rather than copied.
+            return v4Signer.signBlocking(withContentType(req), credentialsProvider, serviceName);
+        } catch (IOException exception) {
+            throw new AppSyncSigningException(
+                "Unable to calculate SigV4 signature for the request",
+                exception,
+                "Check your application logs for details.");
+        }
+    }
 
-        //Copy the signed/credentialed request back into an OKHTTP Request object.
-        okhttp3.Request.Builder okReqBuilder = new okhttp3.Request.Builder();
+    // Sets the MediaType of the request body from its content-type header, because OkHttp will overwrite
+    // content-type headers with it; by default, we send application/json content-type.
+    private okhttp3.Request withContentType(okhttp3.Request req) {
+        final RequestBody body = req.body();
+        if (body == null) {
+            return req;
+        }
 
-        // By default, we send application/json content-type
         String contentType = DEFAULT_CONTENT_TYPE;
-
-        for (Map.Entry<String, List<String>> e : request.getHeaders().entries()) {
-            String key = e.getKey();
-            String value = e.getValue().get(0);
-            okReqBuilder.addHeader(key, value);
-
+        for (String headerName : req.headers().names()) {
             // If content-type detected in headers, capture to use later
-            if ("content-type".equalsIgnoreCase(key)) {
-                contentType = value;
+            if ("content-type".equalsIgnoreCase(headerName)) {
+                contentType = req.header(headerName);
             }
         }
 
-        // Set MediaType for OkHttp request body, because it will overwrite content-type headers.
         MediaType mediaType = MediaType.parse(contentType);
         // If the provided content-type is not valid, reset to default MediaType
         if (mediaType == null) {
             mediaType = MediaType.parse(DEFAULT_CONTENT_TYPE);
         }
-
-        //Set the URL and Method
-        okReqBuilder.url(req.url());
-        final RequestBody requestBody;
-        if (req.body() == null) {
-            requestBody = null;
-        } else {
-            requestBody = RequestBody.create(bodyBytes, mediaType);
+        if (mediaType.equals(body.contentType())) {
+            return req;
         }
+        return req.newBuilder().method(req.method(), new ContentTypeRequestBody(body, mediaType)).build();
+    }
 
-        okReqBuilder.method(req.method(), requestBody);
+    // Writes a request body with a different MediaType, without copying it.
+    private static final class ContentTypeRequestBody extends RequestBody {
+        private final RequestBody body;
+        private final MediaType contentType;
 
-        //continue with chain.
-        return okReqBuilder.build();
-    }
+        ContentTypeRequestBody(RequestBody body, MediaType contentType) {
+            this.body = body;
+            this.contentType = contentType;
+        }
 
-    private byte[] getBytes(RequestBody body) throws ApiAuthException {
-        if (body == null) {
-            return "".getBytes();
+        @Override
+        public MediaType contentType() {
+            return contentType;
         }
 
-        final int BUFFER_SIZE = 1024 * 4;
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            //write the body to a byte array.
-            final Buffer buffer = new Buffer();
-            body.writeTo(buffer);
+        @Override
+        public long contentLength() throws IOException {
+            return body.contentLength();
+        }
 
-            final byte[] bytes = new byte[BUFFER_SIZE];
-            int n = 0;
-            while ((n = buffer.inputStream().read(bytes)) != -1) {
-                output.write(bytes, 0, n);
-            }
-            return output.toByteArray();
-        } catch (IOException exception) {
-            throw new AppSyncSigningException(
-                "Unable to calculate SigV4 signature for the request",
-                exception,
-                "Check your application logs for details.");
+        @Override
+        public boolean isOneShot() {
+            return body.isOneShot();
+        }
+
+        @Override
+        public void writeTo(@NonNull BufferedSink sink) throws IOException {
+            body.writeTo(sink);
         }
     }
 }
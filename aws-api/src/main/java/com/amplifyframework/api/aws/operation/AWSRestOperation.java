@@ -85,7 +85,12 @@ public final class AWSRestOperation extends RestOperation {
             URL url = RestRequestFactory.createURL(endpoint,
                     getRequest().getPath(),
                     getRequest().getQueryParameters());
-            Request request = RestRequestFactory.createRequest(url,
+            Request request = getRequest().getStreamingBody() != null
+                ? RestRequestFactory.createStreamingRequest(url,
+                    getRequest().getStreamingBody(),
+                    getRequest().getHeaders(),
+                    getRequest().getHttpMethod())
+                : RestRequestFactory.createRequest(url,
                     getRequest().getData(),
                     getRequest().getHeaders(),
                     getRequest().getHttpMethod());
@@ -126,7 +131,10 @@ public final class AWSRestOperation extends RestOperation {
                 }
             }
             RestResponse restResponse;
-            if (responseBody != null) {
+            if (responseBody != null && getRequest().isResponseBodyStreamed()) {
+                // The body is left open for the caller to read as it arrives, and then close.
+                restResponse = RestResponse.withBodyStream(statusCode, headersMap, responseBody.byteStream());
+            } else if (responseBody != null) {
                 final byte[] data = responseBody.bytes();
                 restResponse = new RestResponse(statusCode, headersMap, data);
             } else {
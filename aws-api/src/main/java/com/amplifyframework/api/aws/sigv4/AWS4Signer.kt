@@ -22,13 +22,18 @@ import aws.smithy.kotlin.runtime.auth.awssigning.AwsSigningConfig
 import aws.smithy.kotlin.runtime.auth.awssigning.AwsSigningResult
 import aws.smithy.kotlin.runtime.auth.awssigning.DefaultAwsSigner
 import aws.smithy.kotlin.runtime.http.request.HttpRequest
+import com.amplifyframework.annotations.InternalAmplifyApi
+import java.io.IOException
 import kotlinx.coroutines.runBlocking
+import okhttp3.Request
 
 /**
  * Abstraction for signing a HTTP Request using [aws.sdk.kotlin.runtime.auth.signing.sign]
  */
 abstract class AWS4Signer(private val regionName: String) {
     protected var awsSignedBodyHeaderType = AwsSignedBodyHeader.NONE
+    internal var spoolOneShotPayloads = false
+    private val okHttpSigner = OkHttpSigV4Signer(regionName)
 
     /**
      * Async signing
@@ -60,6 +65,22 @@ abstract class AWS4Signer(private val regionName: String) {
     ): AwsSigningResult<HttpRequest> = runBlocking {
         sign(httpRequest, credentialsProvider, serviceName)
     }
+
+    /**
+     * Sign an OkHttp request synchronously, without converting it to and from a Smithy request
+     */
+    @InternalAmplifyApi
+    @Throws(IOException::class)
+    fun signBlocking(request: Request, credentialsProvider: CredentialsProvider, serviceName: String): Request {
+        val credentials = runBlocking { credentialsProvider.resolve() }
+        return okHttpSigner.sign(
+            request,
+            credentials,
+            serviceName,
+            awsSignedBodyHeaderType == AwsSignedBodyHeader.X_AMZ_CONTENT_SHA256,
+            spoolOneShotPayloads
+        )
+    }
 }
 
 /**
@@ -72,6 +93,11 @@ class AppSyncV4Signer(regionName: String) : AWS4Signer(regionName) {
 }
 
 /**
- * Signer for API Gateway requests
+ * Signer for API Gateway requests. Streamed uploads are written to a temporary file as they are
+ * hashed, and sent from it, rather than being buffered in memory to be hashed.
  */
-class ApiGatewayIamSigner(regionName: String) : AWS4Signer(regionName)
+class ApiGatewayIamSigner(regionName: String) : AWS4Signer(regionName) {
+    init {
+        spoolOneShotPayloads = true
+    }
+}
@@ -15,27 +15,51 @@
 
 package com.amplifyframework.api.aws.sigv4;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
 import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.ApiException;
 import com.amplifyframework.api.ApiException.ApiAuthException;
 import com.amplifyframework.api.aws.AppSyncProviderNotConfiguredException;
 import com.amplifyframework.api.aws.AppSyncTokenFetchException;
+import com.amplifyframework.api.aws.auth.CognitoJWTParser;
 import com.amplifyframework.auth.AuthUser;
 import com.amplifyframework.auth.CognitoCredentialsProvider;
 import com.amplifyframework.core.Amplify;
+import com.amplifyframework.core.category.CategoryType;
+import com.amplifyframework.logging.Logger;
+import com.amplifyframework.util.Time;
 
+import java.util.Objects;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Basic retrieval of the Cognito Userpools token. The user must have already signed-in before using
  * this class as the retrieval mechanism.
  * to successfully fetch the token.
+ *
+ * The token is cached until shortly before it expires, as read from its {@code exp} claim, so that
+ * requests made while it is valid use it without waiting on Auth, or on each other. The first request
+ * made within the last minute of its validity refreshes it, while other requests keep using it; once
+ * it has expired, concurrent requests wait on, and share, a single refresh. The cache is cleared by
+ * {@link #invalidate()}, which the AWSApiPlugin calls for the provider it uses whenever an Auth
+ * event, such as a sign-out, is published to the Hub.
  */
 public final class DefaultCognitoUserPoolsAuthProvider implements CognitoUserPoolsAuthProvider {
+    private static final Logger LOG = Amplify.Logging.logger(CategoryType.API, "amplify:aws-api");
+    private static final long REFRESH_MARGIN_MS = TimeUnit.MINUTES.toMillis(1);
+    private static final String EXPIRATION_CLAIM = "exp";
 
-    private String token;
     private final CognitoCredentialsProvider credentialsProvider;
-    private String lastTokenRetrievalFailureMessage;
+    private final ReentrantLock refreshLock;
+    private final AtomicInteger invalidations;
+    private volatile CachedToken cachedToken;
     private AuthUser currentUser;
     private String currentUserRetrievalFailureMessage;
 
@@ -47,8 +71,19 @@ public final class DefaultCognitoUserPoolsAuthProvider implements CognitoUserPoo
      * @throws AppSyncProviderNotConfiguredException if auth plugin is missing.
      */
     public DefaultCognitoUserPoolsAuthProvider() throws ApiAuthException {
+        this(newCredentialsProvider());
+    }
+
+    @VisibleForTesting
+    DefaultCognitoUserPoolsAuthProvider(@NonNull CognitoCredentialsProvider credentialsProvider) {
+        this.credentialsProvider = Objects.requireNonNull(credentialsProvider);
+        this.refreshLock = new ReentrantLock();
+        this.invalidations = new AtomicInteger();
+    }
+
+    private static CognitoCredentialsProvider newCredentialsProvider() throws ApiAuthException {
         try {
-            this.credentialsProvider = new CognitoCredentialsProvider();
+            return new CognitoCredentialsProvider();
         } catch (IllegalStateException exception) {
             throw new AppSyncProviderNotConfiguredException(
                     "AWSApiPlugin depends on AWSCognitoAuthPlugin but it is currently missing",
@@ -59,14 +94,15 @@ public final class DefaultCognitoUserPoolsAuthProvider implements CognitoUserPoo
     }
 
     // Fetches token from the mobile client.
-    private synchronized void fetchToken() throws ApiException {
+    private String fetchToken() throws ApiException {
         final Semaphore semaphore = new Semaphore(0);
-        lastTokenRetrievalFailureMessage = null;
+        final AtomicReference<String> token = new AtomicReference<>();
+        final AtomicReference<String> tokenRetrievalFailureMessage = new AtomicReference<>();
         credentialsProvider.getAccessToken(value -> {
-            token = value;
+            token.set(value);
             semaphore.release();
         }, error -> {
-                lastTokenRetrievalFailureMessage = error.getLocalizedMessage();
+                tokenRetrievalFailureMessage.set(error.getLocalizedMessage());
                 semaphore.release();
             });
 
@@ -80,16 +116,53 @@ public final class DefaultCognitoUserPoolsAuthProvider implements CognitoUserPoo
             );
         }
 
-        if (lastTokenRetrievalFailureMessage != null) {
+        if (tokenRetrievalFailureMessage.get() != null) {
             throw new AppSyncTokenFetchException(
-                    lastTokenRetrievalFailureMessage, null, AmplifyException.TODO_RECOVERY_SUGGESTION);
+                    tokenRetrievalFailureMessage.get(), null, AmplifyException.TODO_RECOVERY_SUGGESTION);
         }
+        return token.get();
     }
 
     @Override
     public String getLatestAuthToken() throws ApiException {
-        fetchToken();
-        return token;
+        CachedToken cached = cachedToken;
+        if (cached != null && !cached.needsRefresh()) {
+            return cached.token;
+        }
+        if (cached != null && !cached.isExpired()) {
+            // Refreshed ahead of its expiry by one caller, while the others keep using it.
+            if (!refreshLock.tryLock()) {
+                return cached.token;
+            }
+        } else {
+            refreshLock.lock();
+        }
+        try {
+            // Another caller may have refreshed it while this one waited for the lock.
+            cached = cachedToken;
+            if (cached != null && !cached.needsRefresh()) {
+                return cached.token;
+            }
+            int generation = invalidations.get();
+            String token = fetchToken();
+            CachedToken fetched = CachedToken.from(token);
+            // A token fetched before an Auth event, such as a sign-out, is not cached.
+            if (fetched != null && generation == invalidations.get()) {
+                cachedToken = fetched;
+            }
+            return token;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Clears the cached token, so that the next request fetches a new one. Call this when the
+     * signed-in user changes, unless the provider is used by the AWSApiPlugin, which does so itself.
+     */
+    public void invalidate() {
+        invalidations.incrementAndGet();
+        cachedToken = null;
     }
 
     @Override
@@ -125,4 +198,37 @@ public final class DefaultCognitoUserPoolsAuthProvider implements CognitoUserPoo
             );
         }
     }
+
+    private static final class CachedToken {
+        private final String token;
+        private final long expiresAtMs;
+
+        private CachedToken(String token, long expiresAtMs) {
+            this.token = token;
+            this.expiresAtMs = expiresAtMs;
+        }
+
+        // Returns null if the token has no readable expiration, in which case it is not cached.
+        @Nullable
+        static CachedToken from(@Nullable String token) {
+            if (token == null) {
+                return null;
+            }
+            try {
+                String expiration = CognitoJWTParser.Companion.getClaim(token, EXPIRATION_CLAIM);
+                return new CachedToken(token, TimeUnit.SECONDS.toMillis(Long.parseLong(expiration)));
+            } catch (RuntimeException exception) {
+                LOG.debug("Cognito Userpools token has no readable expiration; it will not be cached.");
+                return null;
+            }
+        }
+
+        boolean needsRefresh() {
+            return Time.now() >= expiresAtMs - REFRESH_MARGIN_MS;
+        }
+
+        boolean isExpired() {
+            return Time.now() >= expiresAtMs;
+        }
+    }
 }
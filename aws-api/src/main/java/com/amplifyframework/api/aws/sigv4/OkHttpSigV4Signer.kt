@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws.sigv4
+
+import aws.smithy.kotlin.runtime.auth.awscredentials.Credentials
+import java.io.File
+import java.io.IOException
+import java.security.MessageDigest
+import java.text.SimpleDateFormat
+import java.util.Date
+import java.util.Locale
+import java.util.TimeZone
+import java.util.concurrent.ConcurrentHashMap
+import javax.crypto.Mac
+import javax.crypto.spec.SecretKeySpec
+import okhttp3.HttpUrl
+import okhttp3.MediaType
+import okhttp3.Request
+import okhttp3.RequestBody
+import okhttp3.RequestBody.Companion.toRequestBody
+import okio.Buffer
+import okio.BufferedSink
+import okio.ByteString.Companion.toByteString
+import okio.HashingSink
+import okio.blackholeSink
+import okio.buffer
+import okio.sink
+import okio.source
+
+/**
+ * Signs OkHttp requests with AWS Signature Version 4, in place: the canonical request is built
+ * straight from the OkHttp request, and the signature headers are added to a copy of it, without
+ * converting it to and from a Smithy request. The body is hashed as it is written, rather than
+ * copied, unless it can only be written once; a hash already given in the x-amz-content-sha256
+ * header is used as is. Bodies that can only be written once, such as streamed uploads, may instead
+ * be written to a temporary file as they are hashed, and sent from it, so that they are never held
+ * in memory.
+ *
+ * The signing key, derived from the secret key through four HMACs, is cached for each region and
+ * service until the date or the credentials change, so that signing a request only takes the HMAC
+ * of its string to sign. The cache is shared by all of the signers, as a signer
+ * is usually created for each request.
+ *
+ * The requests are signed as by [aws.smithy.kotlin.runtime.auth.awssigning.DefaultAwsSigner] with
+ * the configuration used by [AWS4Signer]: path segments are encoded twice, and the same headers are
+ * left unsigned.
+ */
+internal class OkHttpSigV4Signer(private val region: String) {
+    /**
+     * Signs a request.
+     * @param request Request to sign
+     * @param credentials Credentials to sign it with
+     * @param service Name of the service the request is made to
+     * @param addContentHashHeader Whether to add the hash of the body as the x-amz-content-sha256 header
+     * @param spoolOneShotPayload Whether to write a body that can only be written once to a temporary file to
+     * hash it, rather than buffering it in memory
+     * @param signingTime Time of the signature, in milliseconds since the epoch
+     * @return A copy of the request, with the signature headers
+     * @throws IOException If the body of the request cannot be written
+     */
+    @Throws(IOException::class)
+    fun sign(
+        request: Request,
+        credentials: Credentials,
+        service: String,
+        addContentHashHeader: Boolean,
+        spoolOneShotPayload: Boolean = false,
+        signingTime: Long = System.currentTimeMillis()
+    ): Request {
+        val builder = request.newBuilder()
+        val body = request.body
+        val givenHash = request.header(CONTENT_SHA256_HEADER)
+        val contentHash = when {
+            givenHash != null -> givenHash
+            body != null && body.isOneShot() && spoolOneShotPayload -> {
+                val spooledBody = SpooledRequestBody.spool(body)
+                builder.method(request.method, spooledBody)
+                spooledBody.sha256Hex
+            }
+            body != null && body.isOneShot() -> {
+                // Hashing the body consumes it, so it is buffered, to be written again when sent.
+                val buffer = Buffer()
+                body.writeTo(buffer)
+                val bufferedBody = buffer.readByteString().toRequestBody(body.contentType())
+                builder.method(request.method, bufferedBody)
+                sha256Hex(bufferedBody)
+            }
+            else -> sha256Hex(body)
+        }
+
+        val timestamp = formatTimestamp(signingTime)
+        val date = timestamp.substring(0, DATE_LENGTH)
+        builder.header(HOST_HEADER, request.url.host)
+        builder.header(DATE_HEADER, timestamp)
+        credentials.sessionToken?.let { builder.header(SECURITY_TOKEN_HEADER, it) }
+        if (addContentHashHeader) {
+            builder.header(CONTENT_SHA256_HEADER, contentHash)
+        }
+        builder.removeHeader(AUTHORIZATION_HEADER)
+        val unsigned = builder.build()
+
+        val canonicalHeaders = canonicalHeaders(unsigned)
+        val signedHeaders = canonicalHeaders.keys.joinToString(";")
+        val canonicalRequest = buildString {
+            append(unsigned.method).append('\n')
+            append(canonicalPath(unsigned.url)).append('\n')
+            append(canonicalQuery(unsigned.url)).append('\n')
+            canonicalHeaders.forEach { (name, value) -> append(name).append(':').append(value).append('\n') }
+            append('\n')
+            append(signedHeaders).append('\n')
+            append(contentHash)
+        }
+        val scope = "$date/$region/$service/$TERMINATOR"
+        val stringToSign = "$ALGORITHM\n$timestamp\n$scope\n${sha256Hex(canonicalRequest.toByteArray())}"
+        val signature = hmacSha256(signingKey(date, service, credentials), stringToSign).toByteString().hex()
+
+        return unsigned.newBuilder()
+            .header(
+                AUTHORIZATION_HEADER,
+                "$ALGORITHM Credential=${credentials.accessKeyId}/$scope, " +
+                    "SignedHeaders=$signedHeaders, Signature=$signature"
+            )
+            .build()
+    }
+
+    private fun signingKey(date: String, service: String, credentials: Credentials): ByteArray {
+        val scope = "$region/$service"
+        val cached = signingKeys[scope]
+        if (cached != null && cached.isFor(date, credentials)) {
+            return cached.key
+        }
+        val dateKey = hmacSha256("AWS4${credentials.secretAccessKey}".toByteArray(), date)
+        val regionKey = hmacSha256(dateKey, region)
+        val serviceKey = hmacSha256(regionKey, service)
+        val key = hmacSha256(serviceKey, TERMINATOR)
+        signingKeys[scope] = SigningKey(date, credentials.accessKeyId, credentials.secretAccessKey, key)
+        return key
+    }
+
+    /**
+     * A body that can only be written once, copied to a temporary file as it is hashed, and sent from
+     * the file. Like the body it replaces, it can only be written once: the file is deleted once it
+     * has been sent.
+     */
+    private class SpooledRequestBody(
+        private val file: File,
+        private val contentType: MediaType?,
+        val sha256Hex: String
+    ) : RequestBody() {
+        override fun contentType() = contentType
+
+        override fun contentLength() = file.length()
+
+        override fun isOneShot() = true
+
+        override fun writeTo(sink: BufferedSink) {
+            try {
+                file.source().use { sink.writeAll(it) }
+            } finally {
+                file.delete()
+            }
+        }
+
+        companion object {
+            @Throws(IOException::class)
+            fun spool(body: RequestBody): SpooledRequestBody {
+                val file = File.createTempFile(SPOOL_FILE_PREFIX, null)
+                try {
+                    val hashingSink = HashingSink.sha256(file.sink())
+                    hashingSink.buffer().use { sink -> body.writeTo(sink) }
+                    return SpooledRequestBody(file, body.contentType(), hashingSink.hash.hex())
+                } catch (exception: IOException) {
+                    file.delete()
+                    throw exception
+                }
+            }
+        }
+    }
+
+    private class SigningKey(
+        private val date: String,
+        private val accessKeyId: String,
+        private val secretAccessKey: String,
+        val key: ByteArray
+    ) {
+        fun isFor(date: String, credentials: Credentials) = this.date == date &&
+            accessKeyId == credentials.accessKeyId &&
+            secretAccessKey == credentials.secretAccessKey
+    }
+
+    companion object {
+        private const val ALGORITHM = "AWS4-HMAC-SHA256"
+        private const val TERMINATOR = "aws4_request"
+        private const val HMAC_SHA256 = "HmacSHA256"
+        private const val AUTHORIZATION_HEADER = "Authorization"
+        private const val HOST_HEADER = "Host"
+        private const val DATE_HEADER = "X-Amz-Date"
+        private const val SECURITY_TOKEN_HEADER = "X-Amz-Security-Token"
+        private const val CONTENT_SHA256_HEADER = "x-amz-content-sha256"
+        private const val SPOOL_FILE_PREFIX = "amplify-api-body"
+        private const val DATE_LENGTH = 8
+        private const val HEX_DIGITS = "0123456789ABCDEF"
+        private const val BYTE_MASK = 0xFF
+        private const val NIBBLE_BITS = 4
+        private const val NIBBLE_MASK = 0x0F
+
+        private val SPACES = Regex(" +")
+
+        // Signing keys by region and service.
+        private val signingKeys = ConcurrentHashMap<String, SigningKey>()
+
+        // Headers that proxies and the HTTP stack may change, which are therefore not signed.
+        private val UNSIGNED_HEADERS = setOf(
+            "authorization",
+            "connection",
+            "expect",
+            "sec-websocket-key",
+            "sec-websocket-protocol",
+            "sec-websocket-version",
+            "upgrade",
+            "user-agent",
+            "x-amzn-trace-id"
+        )
+
+        private val TIMESTAMP_FORMAT = object : ThreadLocal<SimpleDateFormat>() {
+            override fun initialValue() = SimpleDateFormat("yyyyMMdd'T'HHmmss'Z'", Locale.US).apply {
+                timeZone = TimeZone.getTimeZone("UTC")
+            }
+        }
+
+        private fun formatTimestamp(time: Long): String = TIMESTAMP_FORMAT.get()!!.format(Date(time))
+
+        @Throws(IOException::class)
+        private fun sha256Hex(body: RequestBody?): String {
+            val hashingSink = HashingSink.sha256(blackholeSink())
+            hashingSink.buffer().use { sink -> body?.writeTo(sink) }
+            return hashingSink.hash.hex()
+        }
+
+        private fun sha256Hex(bytes: ByteArray): String =
+            MessageDigest.getInstance("SHA-256").digest(bytes).toByteString().hex()
+
+        private fun hmacSha256(key: ByteArray, data: String): ByteArray = Mac.getInstance(HMAC_SHA256).run {
+            init(SecretKeySpec(key, HMAC_SHA256))
+            doFinal(data.toByteArray())
+        }
+
+        // Lowercase names, sorted, each with its values trimmed, with runs of spaces collapsed, and joined by commas.
+        private fun canonicalHeaders(request: Request): Map<String, String> {
+            val values = sortedMapOf<String, MutableList<String>>()
+            for ((name, value) in request.headers) {
+                val canonicalName = name.lowercase(Locale.US)
+                if (canonicalName !in UNSIGNED_HEADERS) {
+                    values.getOrPut(canonicalName) { mutableListOf() }
+                        .add(value.trim().replace(SPACES, " "))
+                }
+            }
+            return values.mapValuesTo(linkedMapOf()) { (_, headerValues) -> headerValues.joinToString(",") }
+        }
+
+        // Each segment of the path is encoded twice, as the services other than S3 expect.
+        private fun canonicalPath(url: HttpUrl): String =
+            url.pathSegments.joinToString("/", prefix = "/") { uriEncode(uriEncode(it)) }
+
+        private fun canonicalQuery(url: HttpUrl): String = (0 until url.querySize)
+            .map { uriEncode(url.queryParameterName(it)) to uriEncode(url.queryParameterValue(it) ?: "") }
+            .sortedWith(compareBy({ it.first }, { it.second }))
+            .joinToString("&") { (name, value) -> "$name=$value" }
+
+        // Encodes every byte but the unreserved characters, as required by SigV4.
+        private fun uriEncode(value: String): String = buildString {
+            for (byte in value.toByteArray()) {
+                val octet = byte.toInt() and BYTE_MASK
+                val char = octet.toChar()
+                if (char in 'A'..'Z' || char in 'a'..'z' || char in '0'..'9' || char in "-_.~") {
+                    append(char)
+                } else {
+                    append('%')
+                    append(HEX_DIGITS[octet shr NIBBLE_BITS])
+                    append(HEX_DIGITS[octet and NIBBLE_MASK])
+                }
+            }
+        }
+    }
+}
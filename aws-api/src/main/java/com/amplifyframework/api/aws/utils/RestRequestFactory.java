@@ -20,6 +20,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.amplifyframework.api.rest.HttpMethod;
+import com.amplifyframework.api.rest.StreamingBody;
 
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -106,6 +107,31 @@ public final class RestRequestFactory {
             @Nullable byte[] requestData,
             @Nullable Map<String, String> headers,
             @NonNull HttpMethod type) {
+        return createRequest(url, requestData == null ? null : RequestBody.create(requestData), headers, type);
+    }
+
+    /**
+     * Constructs the ok http request, with a body that is streamed as the request is sent.
+     * @param url         URL endpoint to make the request
+     * @param requestBody Body of the request, streamed from a file or an input stream
+     * @param headers     Header map for th request
+     * @param type        Rest operation type
+     * @return Returns the request
+     */
+    @NonNull
+    public static Request createStreamingRequest(
+            @NonNull URL url,
+            @Nullable StreamingBody requestBody,
+            @Nullable Map<String, String> headers,
+            @NonNull HttpMethod type) {
+        return createRequest(url, requestBody == null ? null : new StreamingRequestBody(requestBody), headers, type);
+    }
+
+    private static Request createRequest(
+            URL url,
+            RequestBody requestBody,
+            Map<String, String> headers,
+            HttpMethod type) {
         Objects.requireNonNull(url);
         Objects.requireNonNull(type);
         Request.Builder requestBuilder = new Request.Builder()
@@ -115,32 +141,20 @@ public final class RestRequestFactory {
                 requestBuilder.get();
                 break;
             case PUT:
-                populateBody(
-                        requestBuilder,
-                        requestData, (builder, data) -> builder.put(RequestBody.create(data))
-                );
+                populateBody(requestBuilder, requestBody, Request.Builder::put);
                 break;
             case POST:
-                populateBody(
-                        requestBuilder,
-                        requestData, (builder, data) -> builder.post(RequestBody.create(data))
-                );
+                populateBody(requestBuilder, requestBody, Request.Builder::post);
                 break;
             case HEAD:
                 requestBuilder.head();
                 break;
             case PATCH:
-                populateBody(
-                        requestBuilder,
-                        requestData, (builder, data) -> builder.patch(RequestBody.create(data))
-                );
+                populateBody(requestBuilder, requestBody, Request.Builder::patch);
                 break;
             case DELETE:
-                if (requestData != null) {
-                    populateBody(
-                            requestBuilder,
-                            requestData, (builder, data) -> builder.delete(RequestBody.create(data))
-                    );
+                if (requestBody != null) {
+                    populateBody(requestBuilder, requestBody, Request.Builder::delete);
                 } else {
                     requestBuilder.delete();
                 }
@@ -156,11 +170,11 @@ public final class RestRequestFactory {
 
     private static void populateBody(
             Request.Builder builder,
-            byte[] data,
+            RequestBody body,
             BodyCreationStrategy strategy
     ) {
-        if (data != null) {
-            strategy.buildRequest(builder, data);
+        if (body != null) {
+            strategy.buildRequest(builder, body);
         }
     }
 
@@ -175,6 +189,6 @@ public final class RestRequestFactory {
      * A strategy to add data to a request.
      */
     interface BodyCreationStrategy {
-        void buildRequest(Request.Builder builder, byte[] data);
+        void buildRequest(Request.Builder builder, RequestBody body);
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.api.rest.StreamingBody;
+
+import java.io.IOException;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Source;
+
+/**
+ * An OkHttp request body that copies a {@link StreamingBody} to the connection as the request
+ * is written, a segment at a time. A body streamed from an input stream can only be written once.
+ */
+final class StreamingRequestBody extends RequestBody {
+    private final StreamingBody body;
+
+    StreamingRequestBody(@NonNull StreamingBody body) {
+        this.body = body;
+    }
+
+    @Nullable
+    @Override
+    public MediaType contentType() {
+        // The content-type header of the request is used instead.
+        return null;
+    }
+
+    @Override
+    public long contentLength() {
+        return body.getContentLength();
+    }
+
+    @Override
+    public boolean isOneShot() {
+        return !body.isRepeatable();
+    }
+
+    @Override
+    public void writeTo(@NonNull BufferedSink sink) throws IOException {
+        try (Source source = Okio.source(body.open())) {
+            sink.writeAll(source);
+        }
+    }
+}
@@ -28,11 +28,17 @@ import com.amplifyframework.api.graphql.QueryType;
 import com.amplifyframework.api.graphql.model.ModelMutation;
 import com.amplifyframework.api.graphql.model.ModelPagination;
 import com.amplifyframework.api.graphql.model.ModelQuery;
+import com.amplifyframework.auth.AuthChannelEventName;
+import com.amplifyframework.core.Amplify;
 import com.amplifyframework.core.Consumer;
+import com.amplifyframework.hub.HubChannel;
+import com.amplifyframework.hub.HubEvent;
 import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+import com.amplifyframework.testmodels.personcar.Person;
 import com.amplifyframework.testutils.Await;
 import com.amplifyframework.testutils.Latch;
 import com.amplifyframework.testutils.Resources;
+import com.amplifyframework.testutils.Sleep;
 import com.amplifyframework.testutils.random.RandomString;
 import com.amplifyframework.util.TypeMaker;
 
@@ -72,6 +78,9 @@ import static org.junit.Assert.assertTrue;
  */
 @RunWith(RobolectricTestRunner.class)
 public final class AWSApiPluginTest {
+    private static final long HUB_DELIVERY_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5);
+    private static final long HUB_DELIVERY_POLL_MS = 50;
+
     private MockWebServer webServer;
     private HttpUrl baseUrl;
     private AWSApiPlugin plugin;
@@ -176,6 +185,120 @@ public final class AWSApiPluginTest {
         assertEquals(expectedBody, actualResponseBody.string());
     }
 
+    /**
+     * The connection statistics of an API count the requests that reused a connection.
+     * @throws IOException On failure interacting with OkHttpClient.
+     */
+    @Test
+    public void connectionReuseIsCounted() throws IOException {
+        OkHttpClient graphQlApiClient = plugin.getEscapeHatch().get("graphQlApi");
+        assertNotNull(graphQlApiClient);
+        webServer.enqueue(new MockResponse().setBody("{}"));
+        webServer.enqueue(new MockResponse().setBody("{}"));
+
+        Request request = new Request.Builder().url(baseUrl).build();
+        graphQlApiClient.newCall(request).execute().close();
+        graphQlApiClient.newCall(request).execute().close();
+
+        assertEquals(new ConnectionStats(1, 1, 0), plugin.getConnectionStats("graphQlApi"));
+        assertNull(plugin.getConnectionStats("unknownApi"));
+    }
+
+    /**
+     * The cache is not keyed by user, so it is emptied when the user changes: a query answered from
+     * the cache before a sign-out is sent to the API after it. The cache is persistent, so that both
+     * the records in memory and those in the database have to be removed.
+     * @throws JSONException On failure to arrange configuration JSON
+     * @throws AmplifyException On failure to configure the plugin, or to build the request
+     */
+    @Test
+    public void cacheIsClearedWhenUserSignsOut() throws JSONException, AmplifyException {
+        AWSApiPlugin cachingPlugin = AWSApiPlugin.builder()
+            .cacheConfiguration(GraphQLCacheConfiguration.builder()
+                .persistent(true)
+                .defaultFetchPolicy(FetchPolicy.CACHE_FIRST)
+                .build())
+            .build();
+        JSONObject configuration = new JSONObject()
+            .put("graphQlApi", new JSONObject()
+                .put("endpointType", "GraphQL")
+                .put("endpoint", baseUrl.url())
+                .put("region", "us-east-1")
+                .put("authorizationType", "API_KEY")
+                .put("apiKey", "FAKE-API-KEY"));
+        cachingPlugin.configure(configuration, ApplicationProvider.getApplicationContext());
+        String personId = RandomString.string();
+        GraphQLRequest<Person> request = AppSyncGraphQLRequestFactory.buildQuery(Person.class, personId);
+        String responseJson = "{\"data\": {\"getPerson\": {\"id\": \"" + personId + "\", " +
+            "\"first_name\": \"Tony\", \"last_name\": \"Swanson\", \"age\": 19, \"dob\": null, " +
+            "\"relationship\": null, \"createdAt\": null, \"updatedAt\": null}}}";
+        webServer.enqueue(new MockResponse().setBody(responseJson));
+        webServer.enqueue(new MockResponse().setBody(responseJson));
+
+        queryPerson(cachingPlugin, request);
+        queryPerson(cachingPlugin, request);
+        assertEquals(1, webServer.getRequestCount());
+
+        Amplify.Hub.publish(HubChannel.AUTH, HubEvent.create(AuthChannelEventName.SIGNED_OUT));
+
+        // The event is delivered asynchronously; until it is, the query is still answered from the cache.
+        long deadline = System.currentTimeMillis() + HUB_DELIVERY_TIMEOUT_MS;
+        do {
+            queryPerson(cachingPlugin, request);
+            Sleep.milliseconds(HUB_DELIVERY_POLL_MS);
+        } while (webServer.getRequestCount() < 2 && System.currentTimeMillis() < deadline);
+        assertEquals(2, webServer.getRequestCount());
+    }
+
+    private static void queryPerson(AWSApiPlugin plugin, GraphQLRequest<Person> request) throws ApiException {
+        GraphQLResponse<Person> response = Await.<GraphQLResponse<Person>, ApiException>result((onResult, onError) ->
+            plugin.query(request, onResult, onError)
+        );
+        assertEquals("Tony", response.getData().getFirstName());
+    }
+
+    /**
+     * A GraphQL API to pre-connect is connected to once the plugin is configured, ahead of any request.
+     * A REST API is not, even if asked to be, since any request to it could reach its integration.
+     * @throws JSONException On failure to arrange configuration JSON
+     * @throws AmplifyException On failure to configure the plugin
+     * @throws InterruptedException If interrupted while waiting for the connection
+     */
+    @Test
+    public void onlyGraphQlApisArePreconnected() throws JSONException, AmplifyException, InterruptedException {
+        webServer.enqueue(new MockResponse());
+        webServer.enqueue(new MockResponse());
+        HttpClientConfiguration preconnect = HttpClientConfiguration.builder()
+            .maxIdleConnections(1)
+            .preconnect(true)
+            .build();
+        AWSApiPlugin preconnectingPlugin = AWSApiPlugin.builder()
+            .httpClientConfiguration("graphQlApi", preconnect)
+            .httpClientConfiguration("restApi", preconnect)
+            .build();
+        JSONObject configuration = new JSONObject()
+            .put("graphQlApi", new JSONObject()
+                .put("endpointType", "GraphQL")
+                .put("endpoint", webServer.url("/graphql").url())
+                .put("region", "us-east-1")
+                .put("authorizationType", "API_KEY")
+                .put("apiKey", "FAKE-API-KEY"))
+            .put("restApi", new JSONObject()
+                .put("endpointType", "REST")
+                .put("endpoint", webServer.url("/prod").url())
+                .put("region", "us-east-1")
+                .put("authorizationType", "AWS_IAM"));
+
+        preconnectingPlugin.configure(configuration, ApplicationProvider.getApplicationContext());
+
+        RecordedRequest recordedRequest = webServer.takeRequest(5, TimeUnit.SECONDS);
+        assertNotNull(recordedRequest);
+        assertEquals("HEAD", recordedRequest.getMethod());
+        assertEquals("/graphql", recordedRequest.getPath());
+        assertNull(recordedRequest.getHeader("Authorization"));
+        assertNull(webServer.takeRequest(1, TimeUnit.SECONDS));
+    }
+
     /**
      * It should be possible to perform a GraphQL query. When the server returns a
      * valid response, content should be returned via the query(...) methods' value consumer.
@@ -54,6 +54,8 @@ import java.util.concurrent.TimeUnit;
 
 import static com.amplifyframework.core.model.ModelPropertyPathKt.includes;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * Tests the {@link AppSyncGraphQLRequestFactory}.
@@ -109,6 +111,29 @@ public final class AppSyncGraphQLRequestFactoryTest {
 
 
 
+    /**
+     * Validates that requests for the same model and operation share a cached document text, and
+     * that it is the same as the text rendered for an equivalent request built without the cache.
+     * @throws AmplifyException On failure to copy a request
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void requestsForSameModelAndOperationShareCachedDocument() throws AmplifyException {
+        AppSyncGraphQLRequest<Object> unfiltered = (AppSyncGraphQLRequest<Object>)
+                AppSyncGraphQLRequestFactory.<Object, Person>buildQuery(Person.class, QueryPredicates.all());
+        AppSyncGraphQLRequest<Object> filtered = (AppSyncGraphQLRequest<Object>)
+                AppSyncGraphQLRequestFactory.<Object, Person>buildQuery(Person.class, Person.AGE.gt(21));
+
+        // Copies do not use the cache, so they render their own document text.
+        assertEquals(unfiltered.newBuilder().build().getQuery(), unfiltered.getQuery());
+        assertEquals(filtered.newBuilder().build().getQuery(), filtered.getQuery());
+        assertNotEquals(unfiltered.getQuery(), filtered.getQuery());
+
+        GraphQLRequest<Object> unfilteredAgain =
+                AppSyncGraphQLRequestFactory.buildPaginatedResultQuery(Person.class, QueryPredicates.all(), 10);
+        assertSame(unfiltered.getQuery(), unfilteredAgain.getQuery());
+    }
+
     /**
      * Validate construction of a GraphQL query from a class and a predicate.
      * @throws JSONException from JSONAssert.assertEquals
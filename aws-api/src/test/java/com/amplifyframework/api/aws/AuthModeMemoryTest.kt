@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws
+
+import androidx.test.core.app.ApplicationProvider
+import com.amplifyframework.auth.AuthChannelEventName
+import com.amplifyframework.core.Amplify
+import com.amplifyframework.core.model.AuthStrategy
+import com.amplifyframework.core.model.Model
+import com.amplifyframework.core.model.ModelOperation
+import com.amplifyframework.core.model.ModelSchema
+import com.amplifyframework.core.model.annotations.AuthRule
+import com.amplifyframework.core.model.annotations.ModelConfig
+import com.amplifyframework.hub.HubChannel
+import com.amplifyframework.hub.HubEvent
+import io.kotest.matchers.shouldBe
+import org.json.JSONObject
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+@RunWith(RobolectricTestRunner::class)
+class AuthModeMemoryTest {
+    private val schema = ModelSchema.fromModelClass(ModelWithTwoAuthModes::class.java)
+    private val memory = AuthModeMemory()
+
+    @Test
+    fun `modes are tried in the order of the strategy at first`() {
+        memory.attemptsFor(schema, ModelOperation.READ).toList() shouldBe STRATEGY_ORDER
+    }
+
+    @Test
+    fun `mode that succeeded is tried first`() {
+        succeedWithLastMode(ModelOperation.READ)
+
+        memory.attemptsFor(schema, ModelOperation.READ).toList() shouldBe STRATEGY_ORDER.reversed()
+    }
+
+    @Test
+    fun `mode is remembered for its operation only`() {
+        succeedWithLastMode(ModelOperation.READ)
+
+        memory.attemptsFor(schema, ModelOperation.CREATE).toList() shouldBe STRATEGY_ORDER
+    }
+
+    @Test
+    fun `modes are forgotten when the user changes`() {
+        succeedWithLastMode(ModelOperation.READ)
+        memory.forget()
+
+        memory.attemptsFor(schema, ModelOperation.READ).toList() shouldBe STRATEGY_ORDER
+    }
+
+    @Test
+    fun `success of request started before the user changed is not remembered`() {
+        val attempts = memory.attemptsFor(schema, ModelOperation.READ)
+        attempts.toList()
+        memory.forget()
+        attempts.succeeded()
+
+        memory.attemptsFor(schema, ModelOperation.READ).toList() shouldBe STRATEGY_ORDER
+    }
+
+    @Test
+    fun `auth event makes the plugin forget, and ignore successes of earlier requests`() {
+        val plugin = AWSApiPlugin.builder().build()
+        plugin.configure(
+            JSONObject().put(
+                "graphQlApi",
+                JSONObject()
+                    .put("endpointType", "GraphQL")
+                    .put("endpoint", "https://abcdefghijklmnopqrstuvwxyz.appsync-api.us-east-1.amazonaws.com/graphql")
+                    .put("region", "us-east-1")
+                    .put("authorizationType", "API_KEY")
+                    .put("apiKey", "FAKE-API-KEY")
+            ),
+            ApplicationProvider.getApplicationContext()
+        )
+        val pluginMemory = plugin.authModeMemory
+        pluginMemory.succeedWithLastMode(ModelOperation.READ)
+        val earlierAttempts = pluginMemory.attemptsFor(schema, ModelOperation.CREATE)
+        earlierAttempts.toList()
+
+        Amplify.Hub.publish(HubChannel.AUTH, HubEvent.create(AuthChannelEventName.SIGNED_OUT))
+
+        // The event is delivered asynchronously.
+        val deadline = System.currentTimeMillis() + HUB_DELIVERY_TIMEOUT_MS
+        while (pluginMemory.attemptsFor(schema, ModelOperation.READ).toList() != STRATEGY_ORDER &&
+            System.currentTimeMillis() < deadline
+        ) {
+            Thread.sleep(HUB_DELIVERY_POLL_MS)
+        }
+        pluginMemory.attemptsFor(schema, ModelOperation.READ).toList() shouldBe STRATEGY_ORDER
+        earlierAttempts.succeeded()
+        pluginMemory.attemptsFor(schema, ModelOperation.CREATE).toList() shouldBe STRATEGY_ORDER
+        plugin.reset()
+    }
+
+    private fun succeedWithLastMode(operation: ModelOperation) = memory.succeedWithLastMode(operation)
+
+    private fun AuthModeMemory.succeedWithLastMode(operation: ModelOperation) {
+        val attempts = attemptsFor(schema, operation)
+        attempts.toList()
+        attempts.succeeded()
+    }
+
+    private fun AuthModeMemory.Attempts.toList(): List<AuthorizationType> {
+        val modes = mutableListOf<AuthorizationType>()
+        while (hasNext()) {
+            modes += next()
+        }
+        return modes
+    }
+
+    @ModelConfig(
+        authRules = [
+            AuthRule(
+                allow = AuthStrategy.OWNER,
+                operations = [ModelOperation.CREATE, ModelOperation.UPDATE, ModelOperation.DELETE, ModelOperation.READ]
+            ), AuthRule(
+                allow = AuthStrategy.PUBLIC,
+                operations = [ModelOperation.CREATE, ModelOperation.UPDATE, ModelOperation.DELETE, ModelOperation.READ]
+            )
+        ]
+    )
+    private class ModelWithTwoAuthModes : Model
+
+    private companion object {
+        val STRATEGY_ORDER = listOf(AuthorizationType.AMAZON_COGNITO_USER_POOLS, AuthorizationType.API_KEY)
+        const val HUB_DELIVERY_TIMEOUT_MS = 5_000L
+        const val HUB_DELIVERY_POLL_MS = 50L
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import com.amplifyframework.api.ApiException;
+import com.amplifyframework.api.graphql.GraphQLRequest;
+import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.api.graphql.MutationType;
+import com.amplifyframework.api.graphql.PaginatedResult;
+import com.amplifyframework.core.model.query.predicate.QueryPredicates;
+import com.amplifyframework.testmodels.personcar.Person;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@link GraphQLResponseCache}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public final class GraphQLResponseCacheTest {
+    private static final String API_NAME = "api";
+    private static final String ID = "9a1bee5c-248f-4746-a7da-58f703ec572d";
+    private static final String OTHER_ID = "aca4a318-181e-445a-beb9-7656f5005c7b";
+
+    private GraphQLResponseCache cache;
+    private GsonGraphQLResponseFactory responseFactory;
+
+    /**
+     * Creates an in-memory cache.
+     */
+    @Before
+    public void setup() {
+        cache = new GraphQLResponseCache(new LruNormalizedCacheStore(10, null), FetchPolicy.CACHE_FIRST);
+        responseFactory = new GsonGraphQLResponseFactory();
+    }
+
+    /**
+     * A get query is answered from the entity written by an earlier get query.
+     * @throws ApiException On failure to decode the cached response
+     */
+    @Test
+    public void getQueryIsAnsweredFromCachedEntity() throws ApiException {
+        GraphQLRequest<Person> request = AppSyncGraphQLRequestFactory.buildQuery(Person.class, ID);
+        assertNull(cache.read(API_NAME, request));
+
+        write(request, response("getPerson", person(ID, "Tony")));
+
+        Person person = decode(request, cache.read(API_NAME, request));
+        assertEquals(ID, person.getId());
+        assertEquals("Tony", person.getFirstName());
+        // Entities are scoped to their API.
+        assertNull(cache.read("otherApi", request));
+    }
+
+    /**
+     * A list query is answered from its query record, with the latest version of each entity.
+     * @throws ApiException On failure to decode the cached response
+     */
+    @Test
+    public void listQueryIsRebuiltFromLatestEntities() throws ApiException {
+        GraphQLRequest<PaginatedResult<Person>> listRequest =
+                AppSyncGraphQLRequestFactory.buildPaginatedResultQuery(Person.class, QueryPredicates.all(), 10);
+        write(listRequest, response("listPersons",
+                "{\"items\": [" + person(ID, "Tony") + ", " + person(OTHER_ID, "Sue") + "], " +
+                        "\"nextToken\": \"token\"}"));
+
+        GraphQLRequest<Person> getRequest = AppSyncGraphQLRequestFactory.buildQuery(Person.class, ID);
+        write(getRequest, response("getPerson", person(ID, "Anthony")));
+
+        PaginatedResult<Person> page = decode(listRequest, cache.read(API_NAME, listRequest));
+        List<String> firstNames = new ArrayList<>();
+        for (Person person : page.getItems()) {
+            firstNames.add(person.getFirstName());
+        }
+        assertEquals(2, firstNames.size());
+        assertEquals("Anthony", firstNames.get(0));
+        assertEquals("Sue", firstNames.get(1));
+        assertNotNull(page.getRequestForNextResult());
+    }
+
+    /**
+     * A mutation updates its entity, and invalidates the list queries of its model type.
+     * @throws ApiException On failure to decode the cached response
+     */
+    @Test
+    public void mutationUpdatesEntityAndInvalidatesListQueries() throws ApiException {
+        GraphQLRequest<PaginatedResult<Person>> listRequest =
+                AppSyncGraphQLRequestFactory.buildPaginatedResultQuery(Person.class, QueryPredicates.all(), 10);
+        write(listRequest, response("listPersons",
+                "{\"items\": [" + person(ID, "Tony") + "], \"nextToken\": null}"));
+        assertNotNull(cache.read(API_NAME, listRequest));
+
+        Person updated = Person.builder().firstName("Anthony").lastName("Swanson").id(ID).build();
+        GraphQLRequest<Person> mutation =
+                AppSyncGraphQLRequestFactory.buildMutation(updated, QueryPredicates.all(), MutationType.UPDATE);
+        write(mutation, response("updatePerson", person(ID, "Anthony")));
+
+        assertNull(cache.read(API_NAME, listRequest));
+        GraphQLRequest<Person> getRequest = AppSyncGraphQLRequestFactory.buildQuery(Person.class, ID);
+        assertEquals("Anthony", decode(getRequest, cache.read(API_NAME, getRequest)).getFirstName());
+    }
+
+    /**
+     * A deletion removes its entity.
+     */
+    @Test
+    public void deletionRemovesEntity() {
+        GraphQLRequest<Person> getRequest = AppSyncGraphQLRequestFactory.buildQuery(Person.class, ID);
+        write(getRequest, response("getPerson", person(ID, "Tony")));
+
+        Person deleted = Person.builder().firstName("Tony").lastName("Swanson").id(ID).build();
+        GraphQLRequest<Person> mutation =
+                AppSyncGraphQLRequestFactory.buildMutation(deleted, QueryPredicates.all(), MutationType.DELETE);
+        write(mutation, response("deletePerson", person(ID, "Tony")));
+
+        assertNull(cache.read(API_NAME, getRequest));
+    }
+
+    /**
+     * Responses with errors are not cached, and entities lacking fields of a query do not answer it.
+     */
+    @Test
+    public void erroneousAndIncompleteResponsesDoNotAnswerQueries() {
+        GraphQLRequest<Person> request = AppSyncGraphQLRequestFactory.buildQuery(Person.class, ID);
+        write(request, "{\"data\": {\"getPerson\": " + person(ID, "Tony") + "}, " +
+                "\"errors\": [{\"message\": \"Unauthorized\"}]}");
+        assertNull(cache.read(API_NAME, request));
+
+        write(request, response("getPerson",
+                "{\"id\": \"" + ID + "\", \"first_name\": \"Tony\"}"));
+        assertNull(cache.read(API_NAME, request));
+    }
+
+    /**
+     * The least recently used records are evicted beyond the maximum number of entries.
+     */
+    @Test
+    public void leastRecentlyUsedEntityIsEvicted() {
+        cache = new GraphQLResponseCache(new LruNormalizedCacheStore(1, null), FetchPolicy.CACHE_FIRST);
+        GraphQLRequest<Person> first = AppSyncGraphQLRequestFactory.buildQuery(Person.class, ID);
+        GraphQLRequest<Person> second = AppSyncGraphQLRequestFactory.buildQuery(Person.class, OTHER_ID);
+        write(first, response("getPerson", person(ID, "Tony")));
+        write(second, response("getPerson", person(OTHER_ID, "Sue")));
+
+        assertNull(cache.read(API_NAME, first));
+        assertNotNull(cache.read(API_NAME, second));
+    }
+
+    /**
+     * A response to a request made before the cache was cleared is not written, as it may be for
+     * the previous user.
+     */
+    @Test
+    public void responseToRequestMadeBeforeClearIsDropped() {
+        GraphQLRequest<Person> request = AppSyncGraphQLRequestFactory.buildQuery(Person.class, ID);
+        int requestGeneration = cache.getGeneration();
+
+        cache.clear();
+        cache.write(API_NAME, request, response("getPerson", person(ID, "Tony")), requestGeneration);
+        assertNull(cache.read(API_NAME, request));
+
+        write(request, response("getPerson", person(ID, "Tony")));
+        assertNotNull(cache.read(API_NAME, request));
+    }
+
+    // Writes a response to a request made just now.
+    private void write(GraphQLRequest<?> request, String responseJson) {
+        cache.write(API_NAME, request, responseJson, cache.getGeneration());
+    }
+
+    private <R> R decode(GraphQLRequest<R> request, String json) throws ApiException {
+        assertNotNull(json);
+        GraphQLResponse<R> response = responseFactory.buildResponse(request, json, API_NAME);
+        return response.getData();
+    }
+
+    private static String response(String queryField, String result) {
+        return "{\"data\": {\"" + queryField + "\": " + result + "}}";
+    }
+
+    private static String person(String id, String firstName) {
+        return "{\"id\": \"" + id + "\", \"first_name\": \"" + firstName + "\", \"last_name\": \"Swanson\", " +
+                "\"age\": 19, \"dob\": null, \"relationship\": null, " +
+                "\"createdAt\": null, \"updatedAt\": null}";
+    }
+}
@@ -30,6 +30,7 @@ import com.amplifyframework.util.GsonFactory;
 import com.amplifyframework.util.TypeMaker;
 
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.Before;
@@ -37,6 +38,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -49,6 +52,8 @@ import java.util.concurrent.TimeUnit;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -274,6 +279,138 @@ public final class GsonGraphQLResponseFactoryTest {
         assertEquals(expectedResponse, response);
     }
 
+    /**
+     * Validates that the Gson used to decode responses is built once per API name and reused,
+     * rather than rebuilt for every response.
+     */
+    @Test
+    public void responseGsonIsReusedPerApiName() {
+        GsonGraphQLResponseFactory factory = new GsonGraphQLResponseFactory(GsonFactory.instance());
+        Gson firstApiGson = factory.getResponseGson("firstApi");
+        assertSame(firstApiGson, factory.getResponseGson("firstApi"));
+        assertNotSame(firstApiGson, factory.getResponseGson("secondApi"));
+        assertSame(factory.getResponseGson(null), factory.getResponseGson(null));
+    }
+
+    /**
+     * Validates that, although the Gson used to decode responses is shared, the request for the
+     * next page of each paginated result is built from the request the response belongs to.
+     * @throws AmplifyException From API configuration
+     */
+    @Test
+    public void sharedResponseGsonBuildsNextPageRequestFromEachRequest() throws AmplifyException {
+        String nextToken = "eyJ2ZXJzaW9uIjoyLCJ0b2tlbiI6IkFRSUNBSGg5OUIvN3BjWU41eE96NDZJMW5GeGM4";
+        String partialResponseJson = Resources.readAsString("partial-gql-response.json");
+        Type responseType = TypeMaker.getParameterizedType(PaginatedResult.class, Todo.class);
+        AppSyncGraphQLRequest<PaginatedResult<Todo>> dummyRequest = buildDummyRequest(responseType);
+
+        for (int limit : new int[] {10, 20}) {
+            AppSyncGraphQLRequest<PaginatedResult<Todo>> request =
+                    dummyRequest.newBuilder().variable("limit", "Int", limit).build();
+            GraphQLResponse<PaginatedResult<Todo>> response =
+                    responseFactory.buildResponse(request, partialResponseJson);
+
+            GraphQLRequest<PaginatedResult<Todo>> expectedRequestForNextResult =
+                    request.newBuilder().variable("nextToken", "String", nextToken).build();
+            assertEquals(expectedRequestForNextResult, response.getData().getRequestForNextResult());
+        }
+    }
+
+    /**
+     * Validates that a response decoded from a stream is the same as the response decoded
+     * from the same JSON read into a String, for data, errors and error extensions.
+     * @throws ApiException From API configuration
+     */
+    @Test
+    public void streamedResponseMatchesResponseDecodedFromString() throws ApiException {
+        GsonGraphQLResponseFactory factory = new GsonGraphQLResponseFactory(GsonFactory.instance());
+        Type responseType = TypeMaker.getParameterizedType(PaginatedResult.class, Todo.class);
+        GraphQLRequest<PaginatedResult<Todo>> request = buildDummyRequest(responseType);
+
+        for (String resource : Arrays.asList(
+                "partial-gql-response.json",
+                "error-extensions-gql-response.json",
+                "null-gql-response.json")) {
+            String responseJson = Resources.readAsString(resource);
+            assertEquals(
+                    factory.buildResponse(request, responseJson, null),
+                    factory.buildResponse(request, new StringReader(responseJson), null, null)
+            );
+        }
+    }
+
+    /**
+     * Validates that, when decoding from a stream with an item consumer, the items of a paginated
+     * result are emitted to the consumer instead of being retained in the result, while the request
+     * for the next page and the errors are still returned.
+     * @throws AmplifyException From API configuration
+     */
+    @Test
+    public void streamedListItemsAreEmittedAsTheyAreDecoded() throws AmplifyException {
+        GsonGraphQLResponseFactory factory = new GsonGraphQLResponseFactory(GsonFactory.instance());
+        String responseJson = Resources.readAsString("partial-gql-response.json");
+        Type responseType = TypeMaker.getParameterizedType(PaginatedResult.class, Todo.class);
+        AppSyncGraphQLRequest<PaginatedResult<Todo>> request = buildDummyRequest(responseType);
+        GraphQLResponse<PaginatedResult<Todo>> expectedResponse = factory.buildResponse(request, responseJson, null);
+
+        List<Object> emittedItems = new ArrayList<>();
+        GraphQLResponse<PaginatedResult<Todo>> response =
+                factory.buildResponse(request, new StringReader(responseJson), null, emittedItems::add);
+
+        assertEquals(expectedResponse.getData().getItems(), emittedItems);
+        assertFalse(response.getData().getItems().iterator().hasNext());
+        assertEquals(
+                expectedResponse.getData().getRequestForNextResult(),
+                response.getData().getRequestForNextResult()
+        );
+        assertEquals(expectedResponse.getErrors(), response.getErrors());
+    }
+
+    /**
+     * Validates that a response nested in a larger document, as the payload of a subscription
+     * message is, is decoded from a reader positioned at it, and that the reader is left positioned
+     * after it.
+     * @throws IOException On failure to read the message
+     * @throws ApiException From API configuration
+     */
+    @Test
+    public void nestedResponseIsDecodedFromReaderPositionedAtIt() throws IOException, ApiException {
+        GsonGraphQLResponseFactory factory = new GsonGraphQLResponseFactory(GsonFactory.instance());
+        Type responseType = TypeMaker.getParameterizedType(PaginatedResult.class, Todo.class);
+        GraphQLRequest<PaginatedResult<Todo>> request = buildDummyRequest(responseType);
+        String responseJson = Resources.readAsString("partial-gql-response.json");
+        String message = "{\"id\": \"1\", \"type\": \"data\", \"payload\": " + responseJson + ", \"after\": true}";
+
+        JsonReader reader = new JsonReader(new StringReader(message));
+        reader.beginObject();
+        assertEquals("id", reader.nextName());
+        reader.skipValue();
+        assertEquals("type", reader.nextName());
+        reader.skipValue();
+        assertEquals("payload", reader.nextName());
+        GraphQLResponse<PaginatedResult<Todo>> response = factory.buildResponse(request, reader, null);
+
+        assertEquals(factory.buildResponse(request, responseJson, null), response);
+        assertEquals("after", reader.nextName());
+        assertTrue(reader.nextBoolean());
+    }
+
+    /**
+     * Validates that an empty or malformed stream throws an ApiException.
+     * @throws ApiException From API configuration
+     */
+    @Test
+    public void emptyOrMalformedStreamThrowsApiException() throws ApiException {
+        GsonGraphQLResponseFactory factory = new GsonGraphQLResponseFactory(GsonFactory.instance());
+        Type responseType = TypeMaker.getParameterizedType(PaginatedResult.class, Todo.class);
+        GraphQLRequest<PaginatedResult<Todo>> request = buildDummyRequest(responseType);
+
+        assertThrows(AppSyncDeserializationException.class, () ->
+                factory.buildResponse(request, new StringReader(""), null, null));
+        assertThrows(AppSyncDeserializationException.class, () ->
+                factory.buildResponse(request, new StringReader("{\"data\": {\"listTodos\": "), null, null));
+    }
+
     /**
      * This tests the GsonErrorDeserializer.  The test JSON response has 4 errors, which are all in
      * different formats, but are expected to be parsed into the same resulting object:
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.api.ApiException;
+import com.amplifyframework.api.graphql.GraphQLOperation;
+import com.amplifyframework.api.graphql.GraphQLRequest;
+import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.api.graphql.model.ModelQuery;
+import com.amplifyframework.core.Consumer;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link InFlightQueries}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public final class InFlightQueriesTest {
+    private static final String KEY = "query";
+
+    private InFlightQueries inFlightQueries;
+    private GraphQLRequest<BlogOwner> request;
+    private List<FakeNetworkOperation> networkOperations;
+
+    /**
+     * Sets up the test.
+     */
+    @Before
+    public void setup() {
+        inFlightQueries = new InFlightQueries();
+        request = ModelQuery.get(BlogOwner.class, "an-id");
+        networkOperations = new ArrayList<>();
+    }
+
+    /**
+     * Identical queries in flight share one network call and one response; a query started after
+     * the response has been delivered makes a new call.
+     */
+    @Test
+    public void identicalQueriesShareOneCall() {
+        List<GraphQLResponse<BlogOwner>> responses = new ArrayList<>();
+        deduplicate(responses::add, failure -> { }).start();
+        deduplicate(responses::add, failure -> { }).start();
+        assertEquals(1, networkOperations.size());
+        assertTrue(networkOperations.get(0).started);
+
+        GraphQLResponse<BlogOwner> response = new GraphQLResponse<>(null, Collections.emptyList());
+        networkOperations.get(0).onResponse.accept(response);
+        assertEquals(2, responses.size());
+        assertSame(response, responses.get(0));
+        assertSame(response, responses.get(1));
+        assertTrue(inFlightQueries.isEmpty());
+
+        deduplicate(responses::add, failure -> { }).start();
+        assertEquals(2, networkOperations.size());
+    }
+
+    /**
+     * A failure is delivered to every query sharing the call.
+     */
+    @Test
+    public void failureIsDeliveredToEveryQuery() {
+        List<ApiException> failures = new ArrayList<>();
+        deduplicate(response -> { }, failures::add).start();
+        deduplicate(response -> { }, failures::add).start();
+
+        networkOperations.get(0).onFailure.accept(new ApiException("Failed.", "Retry."));
+        assertEquals(2, failures.size());
+        assertTrue(inFlightQueries.isEmpty());
+    }
+
+    /**
+     * The shared call is only canceled once every query sharing it has been canceled, and a
+     * canceled query does not receive the response.
+     */
+    @Test
+    public void callIsCanceledWithItsLastQuery() {
+        List<GraphQLResponse<BlogOwner>> firstResponses = new ArrayList<>();
+        List<GraphQLResponse<BlogOwner>> secondResponses = new ArrayList<>();
+        GraphQLOperation<BlogOwner> first = deduplicate(firstResponses::add, failure -> { });
+        GraphQLOperation<BlogOwner> second = deduplicate(secondResponses::add, failure -> { });
+        first.start();
+        second.start();
+
+        first.cancel();
+        assertFalse(networkOperations.get(0).canceled);
+        networkOperations.get(0).onResponse.accept(new GraphQLResponse<>(null, Collections.emptyList()));
+        assertTrue(firstResponses.isEmpty());
+        assertEquals(1, secondResponses.size());
+
+        GraphQLOperation<BlogOwner> third = deduplicate(response -> { }, failure -> { });
+        third.start();
+        third.cancel();
+        assertTrue(networkOperations.get(1).canceled);
+        assertTrue(inFlightQueries.isEmpty());
+    }
+
+    private GraphQLOperation<BlogOwner> deduplicate(
+            Consumer<GraphQLResponse<BlogOwner>> onResponse, Consumer<ApiException> onFailure) {
+        return inFlightQueries.deduplicate(KEY, request, new GsonGraphQLResponseFactory(),
+            (onSharedResponse, onSharedFailure) -> {
+                FakeNetworkOperation operation = new FakeNetworkOperation(onSharedResponse, onSharedFailure);
+                networkOperations.add(operation);
+                return operation;
+            }, onResponse, onFailure);
+    }
+
+    private final class FakeNetworkOperation extends GraphQLOperation<BlogOwner> {
+        private final Consumer<GraphQLResponse<BlogOwner>> onResponse;
+        private final Consumer<ApiException> onFailure;
+        private boolean started;
+        private boolean canceled;
+
+        FakeNetworkOperation(
+                @NonNull Consumer<GraphQLResponse<BlogOwner>> onResponse,
+                @NonNull Consumer<ApiException> onFailure) {
+            super(request, new GsonGraphQLResponseFactory());
+            this.onResponse = onResponse;
+            this.onFailure = onFailure;
+        }
+
+        @Override
+        public void start() {
+            started = true;
+        }
+
+        @Override
+        public void cancel() {
+            canceled = true;
+        }
+    }
+}
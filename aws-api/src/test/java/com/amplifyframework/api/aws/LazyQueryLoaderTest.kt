@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws
+
+import com.amplifyframework.AmplifyException
+import com.amplifyframework.api.ApiCategory
+import com.amplifyframework.api.ApiException
+import com.amplifyframework.api.graphql.GraphQLPathSegment
+import com.amplifyframework.api.graphql.GraphQLRequest
+import com.amplifyframework.api.graphql.GraphQLResponse
+import com.amplifyframework.core.Consumer
+import com.amplifyframework.testmodels.lazy.AmplifyModelProvider
+import com.amplifyframework.testmodels.lazy.Blog
+import com.amplifyframework.testmodels.lazy.Post
+import io.mockk.clearStaticMockk
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.mockkStatic
+import io.mockk.slot
+import io.mockk.verify
+import java.util.concurrent.atomic.AtomicBoolean
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.test.runTest
+import kotlinx.coroutines.withTimeout
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+@RunWith(RobolectricTestRunner::class)
+class LazyQueryLoaderTest {
+
+    private val apiCategory = mockk<ApiCategory>()
+    private lateinit var loader: LazyQueryLoader
+
+    private val firstPostJson = "{\"id\":\"p1\",\"name\":\"First\",\"blog\":{\"id\":\"b1\"}}"
+    private val secondPost = Post.builder().name("Second").blog(Blog.justId("b1")).id("p2").build()
+
+    @Before
+    fun setUp() {
+        mockkStatic(ModelProviderLocator::class)
+        every { ModelProviderLocator.locate() } returns AmplifyModelProvider.getInstance()
+        loader = LazyQueryLoader(windowMs = 50)
+    }
+
+    @After
+    fun tearDown() {
+        clearStaticMockk(ModelProviderLocator::class)
+    }
+
+    @Test
+    fun references_fetched_together_are_loaded_by_one_deduplicated_query() = runTest {
+        // GIVEN
+        val batchSlot = slot<GraphQLRequest<String>>()
+        every { apiCategory.query(capture(batchSlot), any<Consumer<GraphQLResponse<String>>>(), any()) } answers {
+            val data = "{\"q0\":$firstPostJson,\"q1\":{\"id\":\"p2\",\"name\":\"Second\",\"blog\":{\"id\":\"b1\"}}}"
+            secondArg<Consumer<GraphQLResponse<String>>>().accept(GraphQLResponse(data, emptyList()))
+            mockk()
+        }
+
+        // WHEN
+        val posts = listOf("p1", "p2", "p1").map { id ->
+            val reference = ApiLazyModelReference(
+                Post::class.java,
+                mapOf("id" to id),
+                apiCategory = apiCategory,
+                loader = loader
+            )
+            async(Dispatchers.IO) { reference.fetchModel() }
+        }.awaitAll()
+
+        // THEN
+        verify(exactly = 1) { apiCategory.query(any<GraphQLRequest<*>>(), any<Consumer<GraphQLResponse<*>>>(), any()) }
+        assertEquals(mapOf("q0_id" to "p1", "q1_id" to "p2"), batchSlot.captured.variables)
+        assertEquals(listOf("p1", "p2", "p1"), posts.map { it?.id })
+        assertEquals(listOf("First", "Second", "First"), posts.map { it?.name })
+    }
+
+    @Test
+    fun query_with_errors_in_batch_is_sent_again_alone() = runTest {
+        // GIVEN
+        every { apiCategory.query(any<GraphQLRequest<Any>>(), any<Consumer<GraphQLResponse<Any>>>(), any()) } answers {
+            if (firstArg<GraphQLRequest<*>>().responseType == String::class.java) {
+                val error = GraphQLResponse.Error("Not Authorized", null, listOf(GraphQLPathSegment("q1")), null)
+                val data = "{\"q0\":$firstPostJson,\"q1\":null}"
+                secondArg<Consumer<GraphQLResponse<String>>>().accept(GraphQLResponse(data, listOf(error)))
+            } else {
+                secondArg<Consumer<GraphQLResponse<Post>>>().accept(GraphQLResponse(secondPost, emptyList()))
+            }
+            mockk()
+        }
+
+        // WHEN
+        val posts = listOf("p1", "p2").map { id ->
+            val reference = ApiLazyModelReference(
+                Post::class.java,
+                mapOf("id" to id),
+                apiCategory = apiCategory,
+                loader = loader
+            )
+            async(Dispatchers.IO) { reference.fetchModel() }
+        }.awaitAll()
+
+        // THEN
+        verify(exactly = 2) { apiCategory.query(any<GraphQLRequest<*>>(), any<Consumer<GraphQLResponse<*>>>(), any()) }
+        assertEquals("First", posts[0]?.name)
+        assertEquals(secondPost, posts[1])
+    }
+
+    @Test
+    fun unexpected_failure_fails_the_queries_and_later_queries_are_still_loaded() = runTest {
+        // GIVEN
+        val failing = AtomicBoolean(true)
+        every { apiCategory.query(any<GraphQLRequest<Any>>(), any<Consumer<GraphQLResponse<Any>>>(), any()) } answers {
+            if (failing.get()) {
+                throw IllegalStateException("Unexpected failure")
+            }
+            secondArg<Consumer<GraphQLResponse<Post>>>().accept(GraphQLResponse(secondPost, emptyList()))
+            mockk()
+        }
+
+        // WHEN
+        val failures = listOf("p1", "p2").map { id ->
+            val reference = ApiLazyModelReference(
+                Post::class.java,
+                mapOf("id" to id),
+                apiCategory = apiCategory,
+                loader = loader
+            )
+            async(Dispatchers.IO) { runCatching { withTimeout(5_000) { reference.fetchModel() } }.exceptionOrNull() }
+        }.awaitAll()
+        failing.set(false)
+        val reference = ApiLazyModelReference(
+            Post::class.java,
+            mapOf("id" to "p2"),
+            apiCategory = apiCategory,
+            loader = loader
+        )
+        val post = async(Dispatchers.IO) { withTimeout(5_000) { reference.fetchModel() } }.await()
+
+        // THEN
+        failures.forEach { assertTrue(it is AmplifyException && it.cause is ApiException) }
+        assertEquals(secondPost, post)
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws
+
+import com.amplifyframework.api.ApiCategory
+import com.amplifyframework.api.graphql.GraphQLRequest
+import com.amplifyframework.api.graphql.GraphQLResponse
+import com.amplifyframework.api.graphql.PaginatedResult
+import com.amplifyframework.core.Consumer
+import io.kotest.matchers.collections.shouldBeIn
+import io.kotest.matchers.shouldBe
+import io.mockk.every
+import io.mockk.mockk
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.test.runTest
+import kotlinx.coroutines.yield
+import org.junit.Test
+
+class PrefetchingPagerTest {
+    private val pages = listOf(listOf(1, 2, 3, 4), listOf(5, 6, 7, 8), listOf(9, 10))
+
+    // Number of items consumed when each page was fetched.
+    private val consumedAtFetch = mutableListOf<Int>()
+    private var consumed = 0
+
+    private val fetchPage: suspend (Int?) -> FetchedPage<Int, Int> = { cursor ->
+        consumedAtFetch += consumed
+        val index = cursor ?: 0
+        FetchedPage(pages[index], (index + 1).takeIf { it < pages.size })
+    }
+
+    @Test
+    fun `emits the items of every page`() = runTest {
+        val items = prefetchingFlow(PrefetchOptions(), fetchPage).toList()
+
+        items shouldBe (1..10).toList()
+    }
+
+    @Test
+    fun `fetches the next page once the threshold of the current page is crossed`() = runTest {
+        prefetchingFlow(PrefetchOptions(prefetchThreshold = 0.5), fetchPage).collect {
+            consumed++
+            yield()
+        }
+
+        consumedAtFetch.size shouldBe 3
+        consumedAtFetch[0] shouldBe 0
+        consumedAtFetch[1] shouldBeIn listOf(2, 3)
+        consumedAtFetch[2] shouldBeIn listOf(6, 7)
+    }
+
+    @Test
+    fun `stops fetching pages when the consumer stops collecting`() = runTest {
+        prefetchingFlow(PrefetchOptions(prefetchThreshold = 1.0), fetchPage).take(5).collect {
+            consumed++
+            yield()
+        }
+
+        consumedAtFetch shouldBe listOf(0, 4)
+    }
+
+    @Test
+    fun `follows the requests for the next results of a paginated query`() = runTest {
+        val apiCategory = mockk<ApiCategory>()
+        val secondRequest = mockk<GraphQLRequest<PaginatedResult<String>>>()
+        val firstRequest = mockk<GraphQLRequest<PaginatedResult<String>>>()
+        every {
+            apiCategory.query(
+                any<GraphQLRequest<PaginatedResult<String>>>(),
+                any<Consumer<GraphQLResponse<PaginatedResult<String>>>>(),
+                any()
+            )
+        } answers {
+            val result = if (firstArg<Any>() === firstRequest) {
+                PaginatedResult(listOf("a", "b"), secondRequest)
+            } else {
+                PaginatedResult(listOf("c"), null)
+            }
+            secondArg<Consumer<GraphQLResponse<PaginatedResult<String>>>>().accept(GraphQLResponse(result, null))
+            mockk()
+        }
+
+        val items = apiCategory.prefetchingItems(firstRequest).toList()
+
+        items shouldBe listOf("a", "b", "c")
+    }
+}
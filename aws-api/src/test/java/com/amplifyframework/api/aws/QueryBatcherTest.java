@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.api.ApiException;
+import com.amplifyframework.api.graphql.GraphQLOperation;
+import com.amplifyframework.api.graphql.GraphQLPathSegment;
+import com.amplifyframework.api.graphql.GraphQLRequest;
+import com.amplifyframework.api.graphql.GraphQLResponse;
+import com.amplifyframework.core.Consumer;
+import com.amplifyframework.testmodels.personcar.Person;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link QueryBatcher}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public final class QueryBatcherTest {
+    private static final String API_NAME = "api";
+    private static final String KEY = "api\nAPI_KEY";
+    private static final long WINDOW_MS = 50;
+    private static final long TIMEOUT_MS = 5_000;
+    private static final String ID = "9a1bee5c-248f-4746-a7da-58f703ec572d";
+    private static final String OTHER_ID = "aca4a318-181e-445a-beb9-7656f5005c7b";
+
+    private ScheduledExecutorService scheduler;
+    private QueryBatcher batcher;
+    private BlockingQueue<SentBatch> sentBatches;
+
+    /**
+     * Sets up a batcher whose batches are captured, rather than sent.
+     */
+    @Before
+    public void setup() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        batcher = new QueryBatcher(WINDOW_MS, scheduler, new GsonGraphQLResponseFactory());
+        sentBatches = new LinkedBlockingQueue<>();
+    }
+
+    /**
+     * Stops the scheduler of the batcher.
+     */
+    @After
+    public void teardown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Queries started within the window are sent as one aliased document, and each receives its
+     * own data, its own field errors, and the errors of the document as a whole.
+     * @throws InterruptedException If interrupted while awaiting the batch
+     */
+    @Test
+    public void queriesInWindowAreSentTogetherAndSplitApart() throws InterruptedException {
+        List<GraphQLResponse<Person>> firstResponses = new ArrayList<>();
+        List<GraphQLResponse<Person>> secondResponses = new ArrayList<>();
+        batch(AppSyncGraphQLRequestFactory.buildQuery(Person.class, ID), firstResponses::add, failure -> { })
+            .start();
+        batch(AppSyncGraphQLRequestFactory.buildQuery(Person.class, OTHER_ID), secondResponses::add, failure -> { })
+            .start();
+
+        SentBatch sent = sentBatches.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertNotNull(sent);
+        String document = sent.request.getQuery();
+        assertTrue(document.startsWith("query BatchedQueries($q0_id: ID!, $q1_id: ID!) {"));
+        assertTrue(document.contains("q0: getPerson(id: $q0_id)"));
+        assertTrue(document.contains("q1: getPerson(id: $q1_id)"));
+        assertEquals(ID, sent.request.getVariables().get("q0_id"));
+        assertEquals(OTHER_ID, sent.request.getVariables().get("q1_id"));
+
+        sent.onResponseJson.accept("{\"data\": {\"q0\": " + person(ID) + ", \"q1\": null}, \"errors\": [" +
+            "{\"message\": \"Not found\", \"path\": [\"q1\"]}, {\"message\": \"Throttled\"}]}");
+
+        assertEquals(1, firstResponses.size());
+        assertEquals(ID, firstResponses.get(0).getData().getId());
+        assertEquals(1, firstResponses.get(0).getErrors().size());
+        assertEquals("Throttled", firstResponses.get(0).getErrors().get(0).getMessage());
+
+        assertEquals(1, secondResponses.size());
+        assertNull(secondResponses.get(0).getData());
+        List<GraphQLResponse.Error> errors = secondResponses.get(0).getErrors();
+        assertEquals(2, errors.size());
+        assertEquals("Not found", errors.get(0).getMessage());
+        assertEquals(Collections.singletonList(new GraphQLPathSegment("getPerson")), errors.get(0).getPath());
+        assertNull(sentBatches.poll(WINDOW_MS * 2, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * A failure to send the batch is delivered to each of its queries.
+     * @throws InterruptedException If interrupted while awaiting the batch
+     */
+    @Test
+    public void failureIsDeliveredToEveryQuery() throws InterruptedException {
+        List<ApiException> failures = new ArrayList<>();
+        batch(AppSyncGraphQLRequestFactory.buildQuery(Person.class, ID), response -> { }, failures::add).start();
+        batch(AppSyncGraphQLRequestFactory.buildQuery(Person.class, OTHER_ID), response -> { }, failures::add)
+            .start();
+
+        SentBatch sent = sentBatches.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertNotNull(sent);
+        sent.onFailure.accept(new ApiException("Failed.", "Retry."));
+        assertEquals(2, failures.size());
+    }
+
+    /**
+     * A batch whose queries have all been canceled before its window ends is not sent.
+     * @throws InterruptedException If interrupted while awaiting the batch
+     */
+    @Test
+    public void batchOfCanceledQueriesIsNotSent() throws InterruptedException {
+        GraphQLOperation<Person> first =
+            batch(AppSyncGraphQLRequestFactory.buildQuery(Person.class, ID), response -> { }, failure -> { });
+        GraphQLOperation<Person> second =
+            batch(AppSyncGraphQLRequestFactory.buildQuery(Person.class, OTHER_ID), response -> { }, failure -> { });
+        first.start();
+        second.start();
+        first.cancel();
+        second.cancel();
+
+        assertNull(sentBatches.poll(WINDOW_MS * 4, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * A batch is sent as soon as it is full, and later queries start a new batch.
+     * @throws InterruptedException If interrupted while awaiting the batches
+     */
+    @Test
+    public void fullBatchIsSentEarly() throws InterruptedException {
+        batcher = new QueryBatcher(TimeUnit.HOURS.toMillis(1), scheduler, new GsonGraphQLResponseFactory());
+        for (int query = 0; query < QueryBatcher.MAX_BATCH_SIZE + 1; query++) {
+            batch(AppSyncGraphQLRequestFactory.buildQuery(Person.class, ID), response -> { }, failure -> { })
+                .start();
+        }
+
+        SentBatch sent = sentBatches.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertNotNull(sent);
+        assertEquals(QueryBatcher.MAX_BATCH_SIZE, sent.request.getVariables().size());
+        assertNull(sentBatches.poll(WINDOW_MS, TimeUnit.MILLISECONDS));
+    }
+
+    private GraphQLOperation<Person> batch(
+            GraphQLRequest<Person> request,
+            Consumer<GraphQLResponse<Person>> onResponse,
+            Consumer<ApiException> onFailure) {
+        return batcher.batch(KEY, API_NAME, (AppSyncGraphQLRequest<Person>) request,
+            (batchRequest, onResponseJson, onBatchFailure) -> {
+                sentBatches.add(new SentBatch(batchRequest, onResponseJson, onBatchFailure));
+                return new NoOpOperation(batchRequest);
+            }, null, onResponse, onFailure);
+    }
+
+    private static String person(String id) {
+        return "{\"id\": \"" + id + "\", \"first_name\": \"Tony\", \"last_name\": \"Swanson\", " +
+                "\"age\": 19, \"dob\": null, \"relationship\": null, " +
+                "\"createdAt\": null, \"updatedAt\": null}";
+    }
+
+    private static final class SentBatch {
+        private final GraphQLRequest<String> request;
+        private final Consumer<String> onResponseJson;
+        private final Consumer<ApiException> onFailure;
+
+        SentBatch(
+                GraphQLRequest<String> request,
+                Consumer<String> onResponseJson,
+                Consumer<ApiException> onFailure) {
+            this.request = request;
+            this.onResponseJson = onResponseJson;
+            this.onFailure = onFailure;
+        }
+    }
+
+    private static final class NoOpOperation extends GraphQLOperation<String> {
+        NoOpOperation(@NonNull GraphQLRequest<String> request) {
+            super(request, new GsonGraphQLResponseFactory());
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
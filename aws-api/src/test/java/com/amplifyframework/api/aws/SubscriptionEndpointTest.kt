@@ -0,0 +1,444 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws
+
+import com.amplifyframework.api.ApiException
+import com.amplifyframework.api.graphql.GraphQLResponse
+import com.amplifyframework.api.graphql.SimpleGraphQLRequest
+import com.amplifyframework.core.Action
+import com.amplifyframework.core.Consumer
+import com.amplifyframework.core.async.AmplifyExecutors
+import com.amplifyframework.core.async.BoundedExecutor
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeInstanceOf
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.mockkStatic
+import io.mockk.slot
+import io.mockk.unmockkStatic
+import io.mockk.verify
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ScheduledExecutorService
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+import okhttp3.OkHttpClient
+import okhttp3.WebSocket
+import okhttp3.WebSocketListener
+import org.json.JSONObject
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+
+/**
+ * Unit tests for the [SubscriptionEndpoint], against a WebSocket whose messages are
+ * delivered by the test, and timers that are elapsed by the test.
+ */
+@RunWith(RobolectricTestRunner::class)
+class SubscriptionEndpointTest {
+
+    private val listeners = CopyOnWriteArrayList<WebSocketListener>()
+    private val sentMessages = CopyOnWriteArrayList<String>()
+    private val timers = CopyOnWriteArrayList<FakeTimer>()
+
+    private val webSocket = mockk<WebSocket>(relaxed = true) {
+        every { send(any<String>()) } answers {
+            sentMessages += firstArg<String>()
+            true
+        }
+    }
+
+    private val okHttpClient = mockk<OkHttpClient> {
+        every { newWebSocket(any(), any()) } answers {
+            listeners += secondArg<WebSocketListener>()
+            webSocket
+        }
+    }
+
+    private val acknowledgementTimer = mockk<ScheduledExecutorService> {
+        every { schedule(any<Runnable>(), any(), any()) } answers {
+            val timer = FakeTimer(firstArg(), thirdArg<TimeUnit>().toSeconds(secondArg()))
+            timers += timer
+            timer.future
+        }
+    }
+
+    private val authorizer = mockk<SubscriptionAuthorizer> {
+        every { createHeadersForConnection(any()) } returns JSONObject()
+        every { createHeadersForSubscription(any(), any()) } returns JSONObject()
+    }
+
+    private val endpoint = newEndpoint()
+
+    @Test
+    fun `subscription fails if its start_ack is not received in time`() {
+        val subscriber = Subscriber()
+        subscriber.subscribe()
+        acknowledgeConnection()
+
+        elapseTimers(ACKNOWLEDGEMENT_TIMEOUT)
+
+        verify(timeout = CALLBACK_TIMEOUT) {
+            subscriber.onError.accept(withArg { it.shouldBeInstanceOf<AppSyncSubscriptionTimeoutException>() })
+        }
+        verify(exactly = 0) { subscriber.onStart.accept(any()) }
+        endpoint.subscriptionCounts.shouldBeEmpty()
+        verify { webSocket.close(any(), any()) }
+    }
+
+    @Test
+    fun `subscription released before its start_ack is not started`() {
+        val subscriber = Subscriber()
+        subscriber.subscribe()
+        acknowledgeConnection()
+        val id = startedSubscriptionIds().single()
+
+        endpoint.releaseSubscription(id)
+        receive("""{"type":"start_ack","id":"$id"}""")
+        elapseTimers(ACKNOWLEDGEMENT_TIMEOUT)
+
+        verify(exactly = 0) { subscriber.onStart.accept(any()) }
+        verify(exactly = 0) { subscriber.onError.accept(any()) }
+        sentMessages.none { JSONObject(it).getString("type") == "stop" } shouldBe true
+        endpoint.subscriptionCounts.shouldBeEmpty()
+    }
+
+    @Test
+    fun `subscription error before its start_ack is delivered, and stops the timer`() {
+        val subscriber = Subscriber()
+        subscriber.subscribe()
+        acknowledgeConnection()
+        val id = startedSubscriptionIds().single()
+
+        receive("""{"type":"error","id":"$id","payload":{"errors":[{"message":"Unauthorized"}]}}""")
+        elapseTimers(ACKNOWLEDGEMENT_TIMEOUT)
+
+        verify(timeout = CALLBACK_TIMEOUT) {
+            subscriber.onNext.accept(withArg { it.errors.single().message shouldBe "Unauthorized" })
+        }
+        verify(exactly = 0) { subscriber.onStart.accept(any()) }
+        verify(exactly = 0) { subscriber.onError.accept(any()) }
+    }
+
+    @Test
+    fun `connection failure before the start_ack fails the subscription`() {
+        val subscriber = Subscriber()
+        subscriber.subscribe()
+        acknowledgeConnection()
+
+        listeners.single().onFailure(webSocket, RuntimeException("Connection reset"), null)
+
+        verify(timeout = CALLBACK_TIMEOUT, exactly = 1) {
+            subscriber.onError.accept(withArg { it.shouldBeInstanceOf<AppSyncSubscriptionConnectionException>() })
+        }
+        verify(exactly = 0) { subscriber.onStart.accept(any()) }
+        endpoint.subscriptionCounts.shouldBeEmpty()
+    }
+
+    @Test
+    fun `concurrent requests share a connection, and are each started`() {
+        val subscribers = List(SUBSCRIBER_COUNT) { Subscriber() }
+        val ready = CountDownLatch(1)
+        val threads = subscribers.map { subscriber ->
+            Thread {
+                ready.await()
+                subscriber.subscribe()
+            }.apply { start() }
+        }
+        ready.countDown()
+        threads.forEach { it.join() }
+
+        listeners shouldHaveSize 1
+        acknowledgeConnection()
+        val ids = startedSubscriptionIds()
+        ids.toSet() shouldHaveSize SUBSCRIBER_COUNT
+        ids.forEach { receive("""{"type":"start_ack","id":"$it"}""") }
+
+        val startedIds = subscribers.map { subscriber ->
+            val startedId = slot<String>()
+            verify(timeout = CALLBACK_TIMEOUT, exactly = 1) { subscriber.onStart.accept(capture(startedId)) }
+            startedId.captured
+        }
+        startedIds.toSet() shouldBe ids.toSet()
+        endpoint.subscriptionCounts shouldBe listOf(SUBSCRIBER_COUNT)
+    }
+
+    @Test
+    fun `callbacks are not invoked on the thread reading the connection`() {
+        val callbackThreads = CopyOnWriteArrayList<Thread>()
+        val callbacks = CountDownLatch(2)
+        val subscriber = Subscriber(
+            onStarted = {
+                callbackThreads += Thread.currentThread()
+                callbacks.countDown()
+            },
+            onReceived = {
+                callbackThreads += Thread.currentThread()
+                callbacks.countDown()
+            }
+        )
+        subscriber.subscribe()
+        acknowledgeConnection()
+        val id = startedSubscriptionIds().single()
+
+        receive("""{"type":"start_ack","id":"$id"}""")
+        receive("""{"type":"data","id":"$id","payload":{"data":{"onCreateTodo":{"id":"1"}}}}""")
+
+        callbacks.await(CALLBACK_TIMEOUT, TimeUnit.MILLISECONDS) shouldBe true
+        callbackThreads.none { it == Thread.currentThread() } shouldBe true
+    }
+
+    @Test
+    fun `callbacks are invoked on the reading thread when the callback pool is saturated`() {
+        val saturatedPool = BoundedExecutor("saturated", 1, 1)
+        val release = CountDownLatch(1)
+        val running = CountDownLatch(1)
+        saturatedPool.execute {
+            running.countDown()
+            release.await()
+        }
+        running.await()
+        saturatedPool.execute {}
+        mockkStatic(AmplifyExecutors::class)
+        try {
+            every { AmplifyExecutors.get(AmplifyExecutors.API) } returns saturatedPool
+            val saturatedEndpoint = newEndpoint()
+            val receivedIds = CopyOnWriteArrayList<String>()
+            val subscriber = Subscriber(
+                onReceived = { receivedIds += JSONObject(it.data).getJSONObject("onCreateTodo").getString("id") }
+            )
+            subscriber.subscribe(saturatedEndpoint)
+            acknowledgeConnection()
+            val id = startedSubscriptionIds().single()
+
+            receive("""{"type":"start_ack","id":"$id"}""")
+            receive("""{"type":"data","id":"$id","payload":{"data":{"onCreateTodo":{"id":"1"}}}}""")
+            receive("""{"type":"data","id":"$id","payload":{"data":{"onCreateTodo":{"id":"2"}}}}""")
+
+            verify(exactly = 1) { subscriber.onStart.accept(id) }
+            receivedIds shouldBe listOf("1", "2")
+            verify(exactly = 0) { subscriber.onError.accept(any()) }
+            verify(exactly = 0) { webSocket.cancel() }
+            saturatedEndpoint.subscriptionCounts shouldBe listOf(1)
+        } finally {
+            unmockkStatic(AmplifyExecutors::class)
+            release.countDown()
+            saturatedPool.shutdownNow()
+        }
+    }
+
+    @Test
+    fun `connection failure notifies each waiting subscription once`() {
+        val subscribers = List(SUBSCRIBER_COUNT) { Subscriber() }
+        subscribers.forEach { it.subscribe() }
+
+        listeners.single().onFailure(webSocket, RuntimeException("Connection reset"), null)
+        listeners.single().onClosed(webSocket, 1006, "Connection reset")
+
+        subscribers.forEach { subscriber ->
+            verify(timeout = CALLBACK_TIMEOUT, exactly = 1) {
+                subscriber.onError.accept(withArg { it.shouldBeInstanceOf<AppSyncSubscriptionConnectionException>() })
+            }
+            verify(exactly = 0) { subscriber.onStart.accept(any()) }
+        }
+        startedSubscriptionIds().shouldBeEmpty()
+        endpoint.subscriptionCounts.shouldBeEmpty()
+    }
+
+    @Test
+    fun `connection error notifies each waiting subscription once`() {
+        val subscribers = List(SUBSCRIBER_COUNT) { Subscriber() }
+        subscribers.forEach { it.subscribe() }
+
+        receive(
+            """{"type":"connection_error",""" +
+                """"payload":{"errors":[{"errorType":"UnauthorizedException","message":"Unauthorized"}]}}"""
+        )
+        listeners.single().onFailure(webSocket, RuntimeException("Connection closed"), null)
+
+        subscribers.forEach { subscriber ->
+            verify(timeout = CALLBACK_TIMEOUT, exactly = 1) {
+                subscriber.onError.accept(withArg { it.shouldBeInstanceOf<AppSyncSubscriptionConnectionException>() })
+            }
+        }
+        startedSubscriptionIds().shouldBeEmpty()
+        endpoint.subscriptionCounts.shouldBeEmpty()
+    }
+
+    @Test
+    fun `subscription racing the release of the last one on a connection is started`() {
+        repeat(RACE_ITERATIONS) {
+            listeners.clear()
+            sentMessages.clear()
+            val raceEndpoint = newEndpoint()
+            Subscriber().subscribe(raceEndpoint)
+            acknowledgeConnection()
+            val releasedId = startedSubscriptionIds().single()
+            receive("""{"type":"start_ack","id":"$releasedId"}""")
+            val releasedConnection = listeners.single()
+
+            val ready = CountDownLatch(1)
+            val releasing = Thread {
+                ready.await()
+                raceEndpoint.releaseSubscription(releasedId)
+                releasedConnection.onMessage(webSocket, """{"type":"complete","id":"$releasedId"}""")
+            }.apply { start() }
+            val subscribing = Thread {
+                ready.await()
+                Subscriber().subscribe(raceEndpoint)
+            }.apply { start() }
+            ready.countDown()
+            releasing.join()
+            subscribing.join()
+
+            // The new subscription either kept the connection open, or was given a new one.
+            if (listeners.size > 1) {
+                acknowledgeConnection()
+            }
+            startedSubscriptionIds() shouldHaveSize 2
+            raceEndpoint.subscriptionCounts shouldBe listOf(1)
+        }
+    }
+
+    @Test
+    fun `data is decoded when the id precedes the payload`() {
+        val subscriber = startSubscription()
+        val id = startedSubscriptionIds().single()
+
+        receive("""{"id":"$id","type":"data","payload":{"data":{"onCreateTodo":{"id":"1"}}}}""")
+
+        verifyTodoReceived(subscriber, "1")
+    }
+
+    @Test
+    fun `data is decoded when the id follows the payload`() {
+        val subscriber = startSubscription()
+        val id = startedSubscriptionIds().single()
+
+        receive("""{"type":"data","payload":{"data":{"onCreateTodo":{"id":"2"}}},"id":"$id"}""")
+
+        verifyTodoReceived(subscriber, "2")
+    }
+
+    @Test
+    fun `only the exact keep-alive message is recognized as one`() {
+        SubscriptionEndpoint.isKeepAlive("""{"type":"ka"}""") shouldBe true
+        SubscriptionEndpoint.isKeepAlive(""" { "type" : "ka" }""" + "\n") shouldBe true
+        SubscriptionEndpoint.isKeepAlive("""{"type":"complete","id":"ka"}""") shouldBe false
+        SubscriptionEndpoint.isKeepAlive("""{"id":"ka","type":"error"}""") shouldBe false
+        SubscriptionEndpoint.isKeepAlive("""{"type":"ka"}{}""") shouldBe false
+    }
+
+    private fun newEndpoint() = SubscriptionEndpoint(
+        ApiConfiguration.builder()
+            .endpoint("https://abcdefghijklmnopqrstuvwxyz.appsync-api.us-east-1.amazonaws.com/graphql")
+            .region("us-east-1")
+            .authorizationType(AuthorizationType.API_KEY)
+            .build(),
+        GsonGraphQLResponseFactory(),
+        authorizer,
+        null,
+        null,
+        0,
+        okHttpClient,
+        acknowledgementTimer
+    )
+
+    private fun startSubscription(): Subscriber {
+        val subscriber = Subscriber()
+        subscriber.subscribe()
+        acknowledgeConnection()
+        receive("""{"type":"start_ack","id":"${startedSubscriptionIds().single()}"}""")
+        verify(timeout = CALLBACK_TIMEOUT) { subscriber.onStart.accept(any()) }
+        return subscriber
+    }
+
+    private fun verifyTodoReceived(subscriber: Subscriber, todoId: String) {
+        val response = slot<GraphQLResponse<String>>()
+        verify(timeout = CALLBACK_TIMEOUT, exactly = 1) { subscriber.onNext.accept(capture(response)) }
+        response.captured.hasErrors() shouldBe false
+        JSONObject(response.captured.data).getJSONObject("onCreateTodo").getString("id") shouldBe todoId
+    }
+
+    private fun acknowledgeConnection() {
+        val listener = listeners.last()
+        listener.onOpen(webSocket, mockk(relaxed = true))
+        listener.onMessage(webSocket, """{"type":"connection_ack","payload":{"connectionTimeoutMs":300000}}""")
+    }
+
+    private fun receive(message: String) = listeners.last().onMessage(webSocket, message)
+
+    private fun startedSubscriptionIds() = sentMessages
+        .map { JSONObject(it) }
+        .filter { it.getString("type") == "start" }
+        .map { it.getString("id") }
+
+    private fun elapseTimers(seconds: Long) = timers
+        .filter { !it.future.isCancelled && it.delaySeconds <= seconds }
+        .forEach {
+            timers.remove(it)
+            it.fire()
+        }
+
+    private inner class Subscriber(
+        onStarted: (String) -> Unit = {},
+        onReceived: (GraphQLResponse<String>) -> Unit = {}
+    ) {
+        val onStart = mockk<Consumer<String>> {
+            every { accept(any()) } answers { onStarted(firstArg()) }
+        }
+        val onNext = mockk<Consumer<GraphQLResponse<String>>> {
+            every { accept(any()) } answers { onReceived(firstArg()) }
+        }
+        val onError = mockk<Consumer<ApiException>>(relaxed = true)
+        val onComplete = mockk<Action>(relaxed = true)
+
+        fun subscribe(to: SubscriptionEndpoint = endpoint) = to.requestSubscription(
+            SimpleGraphQLRequest<String>(
+                "subscription { onCreateTodo { id } }",
+                String::class.java,
+                GsonVariablesSerializer()
+            ),
+            AuthorizationType.API_KEY,
+            onStart,
+            onNext,
+            onError,
+            onComplete
+        )
+    }
+
+    private class FakeTimer(private val task: Runnable, val delaySeconds: Long) {
+        val future = mockk<ScheduledFuture<*>> {
+            var cancelled = false
+            every { cancel(any()) } answers {
+                cancelled = true
+                true
+            }
+            every { isCancelled } answers { cancelled }
+        }
+
+        fun fire() = task.run()
+    }
+
+    companion object {
+        private const val ACKNOWLEDGEMENT_TIMEOUT = 10L
+        private const val CALLBACK_TIMEOUT = 5_000L
+        private const val SUBSCRIBER_COUNT = 8
+        private const val RACE_ITERATIONS = 50
+    }
+}
@@ -19,6 +19,7 @@ import com.amplifyframework.api.ApiException;
 import com.amplifyframework.api.rest.HttpMethod;
 import com.amplifyframework.api.rest.RestOperationRequest;
 import com.amplifyframework.api.rest.RestResponse;
+import com.amplifyframework.api.rest.StreamingBody;
 import com.amplifyframework.testutils.Await;
 
 import org.json.JSONException;
@@ -29,7 +30,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -38,9 +42,12 @@ import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Okio;
 
 import static java.util.Collections.emptyMap;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -113,6 +120,31 @@ public final class AWSRestOperationTest {
         assertEquals(expected, response.getHeaders());
     }
 
+    /**
+     * A body streamed from an input stream is sent whole, and the body of the response is
+     * available as a stream, rather than as data, when requested.
+     * @throws Exception On failure to make the request or to read the response
+     */
+    @Test
+    public void streamedBodiesAreSentAndReceived() throws Exception {
+        byte[] content = "streamed content".getBytes(StandardCharsets.UTF_8);
+        StreamingBody body = StreamingBody.fromStream(new ByteArrayInputStream(content), content.length);
+        RestOperationRequest request = new RestOperationRequest(HttpMethod.POST, baseUrl.uri().getPath(),
+            null, body, emptyMap(), emptyMap(), true);
+        RestResponse response = Await.<RestResponse, ApiException>result((onResult, onError) -> {
+            AWSRestOperation operation =
+                new AWSRestOperation(request, baseUrl.url().toString(), client, onResult, onError);
+            operation.start();
+        });
+
+        RecordedRequest recordedRequest = server.takeRequest();
+        assertEquals("streamed content", recordedRequest.getBody().readUtf8());
+        assertNull(response.getData().getRawBytes());
+        try (InputStream responseBody = response.getBodyStream()) {
+            assertEquals("{\"message\":\"thanks!\"}", Okio.buffer(Okio.source(responseBody)).readUtf8());
+        }
+    }
+
     /**
      * If the user calls {@link AWSRestOperation#cancel()}, then the operation
      * will not fire any callback. This behavior is consistent with iOS's REST operation.
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws.sigv4;
+
+import com.amplifyframework.api.ApiException;
+import com.amplifyframework.api.aws.auth.FakeJWTToken;
+import com.amplifyframework.auth.CognitoCredentialsProvider;
+import com.amplifyframework.core.Consumer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests the caching of tokens by the {@link DefaultCognitoUserPoolsAuthProvider}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public final class DefaultCognitoUserPoolsAuthProviderTest {
+    private static final long TIMEOUT_SECONDS = 5;
+    private static final int CONCURRENT_CALLERS = 4;
+
+    private CognitoCredentialsProvider credentialsProvider;
+    private AtomicInteger fetchCount;
+
+    /**
+     * Sets up a credentials provider that counts the tokens fetched from it.
+     */
+    @Before
+    public void setup() {
+        credentialsProvider = mock(CognitoCredentialsProvider.class);
+        fetchCount = new AtomicInteger();
+    }
+
+    /**
+     * A token is fetched once, and then used until shortly before it expires.
+     * @throws ApiException On failure to fetch the token
+     */
+    @Test
+    public void validTokenIsFetchedOnce() throws ApiException {
+        String token = tokenExpiringIn(TimeUnit.HOURS.toSeconds(1));
+        provideToken(token);
+        DefaultCognitoUserPoolsAuthProvider provider = new DefaultCognitoUserPoolsAuthProvider(credentialsProvider);
+
+        assertEquals(token, provider.getLatestAuthToken());
+        assertEquals(token, provider.getLatestAuthToken());
+        assertEquals(token, provider.getLatestAuthToken());
+        assertEquals(1, fetchCount.get());
+    }
+
+    /**
+     * A token about to expire is refreshed.
+     * @throws ApiException On failure to fetch the token
+     */
+    @Test
+    public void tokenAboutToExpireIsRefreshed() throws ApiException {
+        provideToken(tokenExpiringIn(10));
+        DefaultCognitoUserPoolsAuthProvider provider = new DefaultCognitoUserPoolsAuthProvider(credentialsProvider);
+
+        provider.getLatestAuthToken();
+        provider.getLatestAuthToken();
+        assertEquals(2, fetchCount.get());
+    }
+
+    /**
+     * Once the cache has been invalidated, as it is by Auth events, a new token is fetched.
+     * @throws ApiException On failure to fetch the token
+     */
+    @Test
+    public void invalidatedTokenIsFetchedAgain() throws ApiException {
+        provideToken(tokenExpiringIn(TimeUnit.HOURS.toSeconds(1)));
+        DefaultCognitoUserPoolsAuthProvider provider = new DefaultCognitoUserPoolsAuthProvider(credentialsProvider);
+
+        provider.getLatestAuthToken();
+        provider.invalidate();
+        provider.getLatestAuthToken();
+        assertEquals(2, fetchCount.get());
+    }
+
+    /**
+     * Concurrent callers without a valid token share a single fetch of it.
+     * @throws Exception On failure to fetch the token
+     */
+    @Test
+    public void concurrentCallersShareOneFetch() throws Exception {
+        String token = tokenExpiringIn(TimeUnit.HOURS.toSeconds(1));
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch fetchAllowed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            fetchCount.incrementAndGet();
+            fetchStarted.countDown();
+            assertTrue(fetchAllowed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            Consumer<String> onResult = invocation.getArgument(0);
+            onResult.accept(token);
+            return null;
+        }).when(credentialsProvider).getAccessToken(any(), any());
+        DefaultCognitoUserPoolsAuthProvider provider = new DefaultCognitoUserPoolsAuthProvider(credentialsProvider);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int caller = 0; caller < CONCURRENT_CALLERS; caller++) {
+                results.add(executor.submit(provider::getLatestAuthToken));
+            }
+            assertTrue(fetchStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            fetchAllowed.countDown();
+            for (Future<String> result : results) {
+                assertEquals(token, result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, fetchCount.get());
+    }
+
+    private void provideToken(String token) {
+        doAnswer(invocation -> {
+            fetchCount.incrementAndGet();
+            Consumer<String> onResult = invocation.getArgument(0);
+            onResult.accept(token);
+            return null;
+        }).when(credentialsProvider).getAccessToken(any(), any());
+    }
+
+    private static String tokenExpiringIn(long seconds) {
+        long expiration = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + seconds;
+        return FakeJWTToken.builder()
+            .putPayload("exp", expiration)
+            .build()
+            .asString();
+    }
+}
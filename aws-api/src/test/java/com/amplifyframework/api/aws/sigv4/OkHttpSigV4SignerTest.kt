@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amplifyframework.api.aws.sigv4
+
+import aws.smithy.kotlin.runtime.InternalApi
+import aws.smithy.kotlin.runtime.auth.awscredentials.Credentials
+import aws.smithy.kotlin.runtime.auth.awssigning.AwsSignedBodyHeader
+import aws.smithy.kotlin.runtime.auth.awssigning.AwsSigningConfig
+import aws.smithy.kotlin.runtime.auth.awssigning.DefaultAwsSigner
+import aws.smithy.kotlin.runtime.http.DeferredHeaders
+import aws.smithy.kotlin.runtime.http.Headers
+import aws.smithy.kotlin.runtime.http.HttpBody
+import aws.smithy.kotlin.runtime.http.HttpMethod
+import aws.smithy.kotlin.runtime.http.request.HttpRequest
+import aws.smithy.kotlin.runtime.net.url.Url
+import aws.smithy.kotlin.runtime.net.url.UrlEncoding
+import aws.smithy.kotlin.runtime.time.Instant
+import java.util.concurrent.TimeUnit
+import kotlinx.coroutines.runBlocking
+import okhttp3.MediaType.Companion.toMediaType
+import okhttp3.Request
+import okhttp3.RequestBody
+import okhttp3.RequestBody.Companion.toRequestBody
+import okio.Buffer
+import okio.BufferedSink
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNull
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+/**
+ * Tests that the [OkHttpSigV4Signer] signs requests as the Smithy signer does.
+ */
+class OkHttpSigV4SignerTest {
+    private val credentials = Credentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY", "session-token")
+    private val signer = OkHttpSigV4Signer(REGION)
+
+    /**
+     * An AppSync request is signed as by the Smithy signer, with the hash of its body in a header.
+     */
+    @Test
+    fun appSyncRequestMatchesSmithySignature() {
+        val request = Request.Builder()
+            .url("https://abc.appsync-api.us-east-1.amazonaws.com/graphql")
+            .header("accept", "application/json, text/javascript")
+            .header("content-type", "application/json; charset=UTF-8")
+            .header("x-amz-meta", "  some   spaced value ")
+            .header("User-Agent", "amplify-android")
+            .post("{\"query\": \"query { listTodos { items { id } } }\"}".toRequestBody(JSON))
+            .build()
+
+        assertSignedAsBySmithy(request, "appsync", AwsSignedBodyHeader.X_AMZ_CONTENT_SHA256, SIGNING_TIME)
+    }
+
+    /**
+     * The path and query of a REST request are canonicalized as by the Smithy signer.
+     */
+    @Test
+    fun restRequestMatchesSmithySignature() {
+        val request = Request.Builder()
+            .url("https://id.execute-api.us-east-1.amazonaws.com/prod/items/a b?z=1&a=2&a=1&flag")
+            .build()
+
+        assertSignedAsBySmithy(request, "execute-api", AwsSignedBodyHeader.NONE, SIGNING_TIME)
+    }
+
+    /**
+     * Requests signed on another day are signed with a newly derived key.
+     */
+    @Test
+    fun requestOnNextDayMatchesSmithySignature() {
+        val request = Request.Builder()
+            .url("https://abc.appsync-api.us-east-1.amazonaws.com/graphql")
+            .post("{}".toRequestBody(JSON))
+            .build()
+
+        assertSignedAsBySmithy(request, "appsync", AwsSignedBodyHeader.X_AMZ_CONTENT_SHA256, SIGNING_TIME)
+        assertSignedAsBySmithy(
+            request,
+            "appsync",
+            AwsSignedBodyHeader.X_AMZ_CONTENT_SHA256,
+            SIGNING_TIME + TimeUnit.DAYS.toMillis(1)
+        )
+    }
+
+    /**
+     * A body that can only be written once is still sent whole, once it has been hashed.
+     */
+    @Test
+    fun oneShotBodyIsKeptForSending() {
+        val content = "{\"query\": \"{ a }\"}"
+        val oneShotBody = object : RequestBody() {
+            override fun contentType() = JSON
+            override fun isOneShot() = true
+            override fun writeTo(sink: BufferedSink) {
+                sink.writeUtf8(content)
+            }
+        }
+        val request = Request.Builder()
+            .url("https://abc.appsync-api.us-east-1.amazonaws.com/graphql")
+            .post(oneShotBody)
+            .build()
+
+        val signed = signer.sign(request, credentials, "appsync", true, signingTime = SIGNING_TIME)
+
+        val sent = Buffer()
+        signed.body!!.writeTo(sent)
+        assertEquals(content, sent.readUtf8())
+        assertEquals(JSON, signed.body!!.contentType())
+    }
+
+    /**
+     * A body that can only be written once is written to a file once, to be signed with its hash, as the
+     * Smithy signer signs the same content, and is then sent from the file.
+     */
+    @Test
+    fun oneShotBodyIsSpooledAndHashedWhenRequested() {
+        val content = "{\"name\": \"item\"}"
+        var writeCount = 0
+        val oneShotBody = object : RequestBody() {
+            override fun contentType() = JSON
+            override fun isOneShot() = true
+            override fun writeTo(sink: BufferedSink) {
+                writeCount++
+                sink.writeUtf8(content)
+            }
+        }
+        val request = Request.Builder()
+            .url("https://id.execute-api.us-east-1.amazonaws.com/prod/items")
+            .put(oneShotBody)
+            .build()
+
+        val signed = signer.sign(
+            request,
+            credentials,
+            "execute-api",
+            false,
+            spoolOneShotPayload = true,
+            signingTime = SIGNING_TIME
+        )
+        val expected = signWithSmithy(
+            request.newBuilder().put(content.toRequestBody(JSON)).build(),
+            "execute-api",
+            AwsSignedBodyHeader.NONE,
+            SIGNING_TIME
+        )
+
+        assertEquals(1, writeCount)
+        assertNull(signed.header("x-amz-content-sha256"))
+        assertEquals(expected.headers["Authorization"], signed.header("Authorization"))
+        assertEquals(JSON, signed.body!!.contentType())
+        assertEquals(content.length.toLong(), signed.body!!.contentLength())
+        assertTrue(signed.body!!.isOneShot())
+
+        val sent = Buffer()
+        signed.body!!.writeTo(sent)
+        assertEquals(content, sent.readUtf8())
+        assertEquals(1, writeCount)
+    }
+
+    private fun assertSignedAsBySmithy(
+        request: Request,
+        service: String,
+        signedBodyHeader: AwsSignedBodyHeader,
+        signingTime: Long
+    ) {
+        val signed = signer.sign(
+            request,
+            credentials,
+            service,
+            signedBodyHeader == AwsSignedBodyHeader.X_AMZ_CONTENT_SHA256,
+            signingTime = signingTime
+        )
+        val expected = signWithSmithy(request, service, signedBodyHeader, signingTime)
+
+        assertEquals(expected.headers["X-Amz-Date"], signed.header("X-Amz-Date"))
+        assertEquals(expected.headers["X-Amz-Content-Sha256"], signed.header("x-amz-content-sha256"))
+        assertEquals(expected.headers["Authorization"], signed.header("Authorization"))
+    }
+
+    @OptIn(InternalApi::class)
+    private fun signWithSmithy(
+        request: Request,
+        service: String,
+        signedBodyHeader: AwsSignedBodyHeader,
+        signingTime: Long
+    ): HttpRequest {
+        val body = Buffer()
+        request.body?.writeTo(body)
+        val smithyRequest = HttpRequest(
+            HttpMethod.parse(request.method),
+            Url.parse(request.url.toUri().toString(), UrlEncoding.All),
+            Headers {
+                request.headers.names().forEach { set(it, request.header(it)!!) }
+                set("Host", request.url.host)
+            },
+            HttpBody.fromBytes(body.readByteArray()),
+            DeferredHeaders.Empty
+        )
+        val config = AwsSigningConfig {
+            region = REGION
+            this.service = service
+            useDoubleUriEncode = true
+            credentials = this@OkHttpSigV4SignerTest.credentials
+            this.signedBodyHeader = signedBodyHeader
+            signingDate = Instant.fromEpochMilliseconds(signingTime)
+        }
+        return runBlocking { DefaultAwsSigner.sign(smithyRequest, config).output }
+    }
+
+    private companion object {
+        const val REGION = "us-east-1"
+        const val SIGNING_TIME = 1_440_938_160_000L
+        val JSON = "application/json; charset=UTF-8".toMediaType()
+    }
+}
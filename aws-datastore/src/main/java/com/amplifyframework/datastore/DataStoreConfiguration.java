@@ -61,9 +61,13 @@ public final class DataStoreConfiguration {
     private final DataStoreConflictHandler conflictHandler;
     private final Integer syncMaxRecords;
     private final Integer syncPageSize;
+    private final Integer syncMinPageSize;
+    private final Integer syncMaxPageSize;
     private final boolean doSyncRetry;
     private final Integer syncMaxConcurrentModels;
     private final Map<String, DataStoreSyncExpression> syncExpressions;
+    private final Map<String, Integer> syncPriorities;
+    private final DataStoreMetricsSink metricsSink;
     private final Long syncIntervalInMinutes;
     private final Long maxTimeLapseForObserveQuery;
     private final Integer observeQueryMaxRecords;
@@ -74,8 +78,12 @@ public final class DataStoreConfiguration {
         this.conflictHandler = builder.conflictHandler;
         this.syncMaxRecords = builder.syncMaxRecords;
         this.syncPageSize = builder.syncPageSize;
+        this.syncMinPageSize = builder.syncMinPageSize;
+        this.syncMaxPageSize = builder.syncMaxPageSize;
         this.syncIntervalInMinutes = builder.syncIntervalInMinutes;
         this.syncExpressions = builder.syncExpressions;
+        this.syncPriorities = builder.syncPriorities;
+        this.metricsSink = builder.metricsSink;
         this.doSyncRetry = builder.doSyncRetry;
         this.syncMaxConcurrentModels = builder.syncMaxConcurrentModels != null ?
                 builder.syncMaxConcurrentModels : DEFAULT_SYNC_MAX_CONCURRENT_MODELS;
@@ -204,6 +212,36 @@ public final class DataStoreConfiguration {
         return this.syncPageSize;
     }
 
+    /**
+     * Gets the smallest number of items that may be requested in a page, from AppSync, when
+     * adaptive sync page sizing is enabled.
+     * @return Lower bound of the adaptive sync page size, or null if adaptive sizing is disabled
+     */
+    @Nullable
+    public Integer getSyncMinPageSize() {
+        return this.syncMinPageSize;
+    }
+
+    /**
+     * Gets the largest number of items that may be requested in a page, from AppSync, when
+     * adaptive sync page sizing is enabled.
+     * @return Upper bound of the adaptive sync page size, or null if adaptive sizing is disabled
+     */
+    @Nullable
+    public Integer getSyncMaxPageSize() {
+        return this.syncMaxPageSize;
+    }
+
+    /**
+     * Whether the sync page size is tuned per model from the observed cost of fetching and
+     * merging previous pages, within the bounds of {@link #getSyncMinPageSize()} and
+     * {@link #getSyncMaxPageSize()}. When disabled, every page requests {@link #getSyncPageSize()} items.
+     * @return True if adaptive sync page sizing is enabled
+     */
+    public boolean isAdaptiveSyncPageSizeEnabled() {
+        return syncMinPageSize != null && syncMaxPageSize != null;
+    }
+
     /**
      * Gets the boolean for enabling retry on sync failure
      * a sync operation.
@@ -250,6 +288,26 @@ public final class DataStoreConfiguration {
         return this.syncExpressions;
     }
 
+    /**
+     * Returns the Map of model names to sync priorities. During the initial sync, models with a
+     * higher priority are synced before models with a lower priority, so that they become
+     * available sooner. Models that are not in the Map have a priority of 0.
+     * @return the Map of model names to sync priorities.
+     */
+    @NonNull
+    public Map<String, Integer> getSyncPriorities() {
+        return this.syncPriorities;
+    }
+
+    /**
+     * Gets the sink that receives the telemetry of the sync engine, if one was configured.
+     * @return The metrics sink, or null if sync engine metrics are only published to Hub.
+     */
+    @Nullable
+    public DataStoreMetricsSink getMetricsSink() {
+        return this.metricsSink;
+    }
+
     @Override
     public boolean equals(@Nullable Object thatObject) {
         if (this == thatObject) {
@@ -271,12 +329,24 @@ public final class DataStoreConfiguration {
         if (!ObjectsCompat.equals(getSyncPageSize(), that.getSyncPageSize())) {
             return false;
         }
+        if (!ObjectsCompat.equals(getSyncMinPageSize(), that.getSyncMinPageSize())) {
+            return false;
+        }
+        if (!ObjectsCompat.equals(getSyncMaxPageSize(), that.getSyncMaxPageSize())) {
+            return false;
+        }
         if (!ObjectsCompat.equals(getSyncIntervalInMinutes(), that.getSyncIntervalInMinutes())) {
             return false;
         }
         if (!ObjectsCompat.equals(getSyncExpressions(), that.getSyncExpressions())) {
             return false;
         }
+        if (!ObjectsCompat.equals(getSyncPriorities(), that.getSyncPriorities())) {
+            return false;
+        }
+        if (!ObjectsCompat.equals(getMetricsSink(), that.getMetricsSink())) {
+            return false;
+        }
         if (!ObjectsCompat.equals(getDoSyncRetry(), that.getDoSyncRetry())) {
             return false;
         }
@@ -301,8 +371,12 @@ public final class DataStoreConfiguration {
         result = 31 * result + (getConflictHandler() != null ? getConflictHandler().hashCode() : 0);
         result = 31 * result + (getSyncMaxRecords() != null ? getSyncMaxRecords().hashCode() : 0);
         result = 31 * result + (getSyncPageSize() != null ? getSyncPageSize().hashCode() : 0);
+        result = 31 * result + (getSyncMinPageSize() != null ? getSyncMinPageSize().hashCode() : 0);
+        result = 31 * result + (getSyncMaxPageSize() != null ? getSyncMaxPageSize().hashCode() : 0);
         result = 31 * result + (getSyncIntervalInMinutes() != null ? getSyncIntervalInMinutes().hashCode() : 0);
         result = 31 * result + (getSyncExpressions() != null ? getSyncExpressions().hashCode() : 0);
+        result = 31 * result + (getSyncPriorities() != null ? getSyncPriorities().hashCode() : 0);
+        result = 31 * result + (getMetricsSink() != null ? getMetricsSink().hashCode() : 0);
         result = 31 * result + getDoSyncRetry().hashCode();
         result = 31 * result + (getObserveQueryMaxRecords() != null ? getObserveQueryMaxRecords().hashCode() : 0);
         result = 31 * result + getMaxTimeLapseForObserveQuery().hashCode();
@@ -318,8 +392,12 @@ public final class DataStoreConfiguration {
             ", conflictHandler=" + conflictHandler +
             ", syncMaxRecords=" + syncMaxRecords +
             ", syncPageSize=" + syncPageSize +
+            ", syncMinPageSize=" + syncMinPageSize +
+            ", syncMaxPageSize=" + syncMaxPageSize +
             ", syncIntervalInMinutes=" + syncIntervalInMinutes +
             ", syncExpressions=" + syncExpressions +
+            ", syncPriorities=" + syncPriorities +
+            ", metricsSink=" + metricsSink +
             ", doSyncRetry=" + doSyncRetry +
             ", maxTimeRelapseForObserveQuery=" + maxTimeLapseForObserveQuery +
             ", observeQueryMaxRecords=" + observeQueryMaxRecords +
@@ -357,9 +435,13 @@ public final class DataStoreConfiguration {
         private Long syncIntervalInMinutes;
         private Integer syncMaxRecords;
         private Integer syncPageSize;
+        private Integer syncMinPageSize;
+        private Integer syncMaxPageSize;
         private boolean doSyncRetry;
         private Integer syncMaxConcurrentModels;
         private Map<String, DataStoreSyncExpression> syncExpressions;
+        private Map<String, Integer> syncPriorities;
+        private DataStoreMetricsSink metricsSink;
         private boolean ensureDefaults;
         private JSONObject pluginJson;
         private DataStoreConfiguration userProvidedConfiguration;
@@ -371,6 +453,7 @@ public final class DataStoreConfiguration {
             this.errorHandler = DefaultDataStoreErrorHandler.instance();
             this.conflictHandler = DataStoreConflictHandler.alwaysApplyRemote();
             this.syncExpressions = new HashMap<>();
+            this.syncPriorities = new HashMap<>();
             this.ensureDefaults = false;
         }
 
@@ -480,6 +563,23 @@ public final class DataStoreConfiguration {
             return Builder.this;
         }
 
+        /**
+         * Enables adaptive sync page sizing. Instead of requesting {@link #syncPageSize(Integer)} items
+         * in every page, the page size is tuned per model from the observed latency of fetching pages
+         * and the time spent merging them into local storage, and is kept within the provided bounds.
+         * The first page of each model requests the configured sync page size, clamped to these bounds.
+         * @param syncMinPageSize Smallest number of items to request in a page
+         * @param syncMaxPageSize Largest number of items to request in a page
+         * @return Current builder
+         */
+        @NonNull
+        public Builder adaptiveSyncPageSize(@IntRange(from = 1) int syncMinPageSize,
+                                            @IntRange(from = 1) int syncMaxPageSize) {
+            this.syncMinPageSize = syncMinPageSize;
+            this.syncMaxPageSize = syncMaxPageSize;
+            return Builder.this;
+        }
+
         /**
          * Sets the max concurrency limit for model syncing. Default is 1
          * NOTE: If any sync models have associations, this value will be unused and the default (1)
@@ -549,6 +649,51 @@ public final class DataStoreConfiguration {
             return Builder.this;
         }
 
+        /**
+         * Sets the sync priority of a particular model. During the initial sync, models with a higher
+         * priority are synced first, and a {@link DataStoreChannelEventName#MODEL_SYNCED} event is published
+         * as soon as each model has been synced, so that an app can start using its most important models
+         * without waiting for the whole sync to complete. Models that a prioritized model belongs to are
+         * synced before it, so the priority of a model is inherited by the models it depends on.
+         * Models without a configured priority have a priority of 0.
+         * @param modelClass the model class for which the priority applies
+         * @param priority the sync priority of the model; higher values are synced earlier
+         * @return Current builder
+         */
+        @NonNull
+        public Builder syncPriority(@NonNull Class<? extends Model> modelClass, int priority) {
+            this.syncPriorities.put(Objects.requireNonNull(modelClass).getSimpleName(), priority);
+            return Builder.this;
+        }
+
+        /**
+         * Sets the sync priority of a particular model. During the initial sync, models with a higher
+         * priority are synced first, and a {@link DataStoreChannelEventName#MODEL_SYNCED} event is published
+         * as soon as each model has been synced. Models without a configured priority have a priority of 0.
+         * @param modelName the name of the model for which the priority applies
+         * @param priority the sync priority of the model; higher values are synced earlier
+         * @return Current builder
+         */
+        @NonNull
+        public Builder syncPriority(@NonNull String modelName, int priority) {
+            this.syncPriorities.put(Objects.requireNonNull(modelName), priority);
+            return Builder.this;
+        }
+
+        /**
+         * Sets a sink that receives the telemetry of the sync engine: for each synced model, the pages
+         * fetched, network, deserialize and merge times, and merge batch sizes; the latency of mutations
+         * published from the outbox; and the lag of subscription events. The same metrics are always
+         * published to Hub, whether or not a sink is set.
+         * @param metricsSink A sink for sync engine metrics
+         * @return Current builder
+         */
+        @NonNull
+        public Builder metricsSink(@NonNull DataStoreMetricsSink metricsSink) {
+            this.metricsSink = Objects.requireNonNull(metricsSink);
+            return Builder.this;
+        }
+
         private void populateSettingsFromJson() throws DataStoreException {
             if (pluginJson == null) {
                 return;
@@ -600,7 +745,11 @@ public final class DataStoreConfiguration {
                 syncIntervalInMinutes);
             syncMaxRecords = getValueOrDefault(userProvidedConfiguration.getSyncMaxRecords(), syncMaxRecords);
             syncPageSize = getValueOrDefault(userProvidedConfiguration.getSyncPageSize(), syncPageSize);
+            syncMinPageSize = getValueOrDefault(userProvidedConfiguration.getSyncMinPageSize(), syncMinPageSize);
+            syncMaxPageSize = getValueOrDefault(userProvidedConfiguration.getSyncMaxPageSize(), syncMaxPageSize);
             syncExpressions = userProvidedConfiguration.getSyncExpressions();
+            syncPriorities = userProvidedConfiguration.getSyncPriorities();
+            metricsSink = userProvidedConfiguration.getMetricsSink();
             doSyncRetry = getValueOrDefault(userProvidedConfiguration.getDoSyncRetry(), doSyncRetry);
             syncMaxConcurrentModels = getValueOrDefault(
                     userProvidedConfiguration.getSyncMaxConcurrentModels(),
@@ -630,6 +779,13 @@ public final class DataStoreConfiguration {
         public DataStoreConfiguration build() throws DataStoreException {
             populateSettingsFromJson();
             applyUserProvidedConfiguration();
+            if (syncMinPageSize != null && syncMaxPageSize != null &&
+                    (syncMinPageSize < 1 || syncMinPageSize > syncMaxPageSize)) {
+                throw new DataStoreException(
+                    "Invalid adaptive sync page size bounds: [" + syncMinPageSize + ", " + syncMaxPageSize + "].",
+                    "Provide a minimum page size of at least 1, which is not larger than the maximum page size."
+                );
+            }
             if (ensureDefaults) {
                 errorHandler = getValueOrDefault(
                     errorHandler,
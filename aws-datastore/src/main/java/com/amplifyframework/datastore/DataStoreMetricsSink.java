@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.datastore.events.ModelSyncMetricsEvent;
+import com.amplifyframework.datastore.events.OutboxDrainMetricsEvent;
+import com.amplifyframework.datastore.events.SubscriptionLagMetricsEvent;
+
+/**
+ * Receives the telemetry of the DataStore sync engine. The same metrics are published to Hub,
+ * on the {@link com.amplifyframework.hub.HubChannel#DATASTORE} channel; a sink is a convenient
+ * way to forward them to an analytics or monitoring backend.
+ *
+ * Methods are invoked on the sync engine's background threads, so implementations should return
+ * quickly and must be thread-safe. Override only the methods of interest.
+ */
+public interface DataStoreMetricsSink {
+    /**
+     * Called when the sync of a model completes.
+     * @param metrics Breakdown of where the sync of the model spent its time
+     */
+    default void onModelSyncMetrics(@NonNull ModelSyncMetricsEvent metrics) {}
+
+    /**
+     * Called when the mutation outbox has been drained.
+     * @param metrics Latencies of the mutations published since the previous call
+     */
+    default void onOutboxDrainMetrics(@NonNull OutboxDrainMetricsEvent metrics) {}
+
+    /**
+     * Called periodically while subscription events are received.
+     * @param metrics Lag of the subscription events received since the previous call
+     */
+    default void onSubscriptionLagMetrics(@NonNull SubscriptionLagMetricsEvent metrics) {}
+}
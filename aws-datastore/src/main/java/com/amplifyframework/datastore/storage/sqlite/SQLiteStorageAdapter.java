@@ -28,6 +28,7 @@ import com.amplifyframework.annotations.InternalApiWarning;
 import com.amplifyframework.core.Action;
 import com.amplifyframework.core.Amplify;
 import com.amplifyframework.core.Consumer;
+import com.amplifyframework.core.async.AmplifyExecutors;
 import com.amplifyframework.core.async.Cancelable;
 import com.amplifyframework.core.category.CategoryType;
 import com.amplifyframework.core.model.CustomTypeField;
@@ -76,7 +77,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import io.reactivex.rxjava3.core.Completable;
@@ -227,8 +227,12 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         Objects.requireNonNull(onSuccess);
         Objects.requireNonNull(onError);
         // Create a thread pool large enough to take advantage of parallelization, but small enough to avoid
-        // OutOfMemoryError and CursorWindowAllocationException issues.
-        this.threadPool = Executors.newFixedThreadPool(dataStoreConfiguration.getLocalStorageThreadPoolSize());
+        // OutOfMemoryError and CursorWindowAllocationException issues. Its queue is unbounded, since the
+        // storage operations must not run on the thread that submits them. It is created through AmplifyExecutors,
+        // so that its limits can be set, and its usage observed, along with the other pools of Amplify; it is
+        // shut down when the adapter is terminated or cleared.
+        this.threadPool = AmplifyExecutors.create(AmplifyExecutors.DATASTORE_STORAGE,
+            dataStoreConfiguration.getLocalStorageThreadPoolSize(), Integer.MAX_VALUE);
         this.context = context;
         this.dataStoreConfiguration = dataStoreConfiguration;
         threadPool.submit(() -> {
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.syncengine;
+
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Tunes the number of items requested per sync page, for a single model, from the observed
+ * cost of fetching pages and of merging their items into local storage.
+ *
+ * During hydration, fetching the next page overlaps with merging the current one, so the slower
+ * of the two stages bounds throughput. The sizer keeps a smoothed estimate of the per-item cost of
+ * each stage, and picks the page size for which the slower stage takes about
+ * {@link #TARGET_PAGE_DURATION_MS}: large enough to amortize the request round trip, small enough
+ * to bound the memory held by a page. The page size never changes by more than a factor of
+ * {@link #MAX_GROWTH_FACTOR} between two pages, and always stays within the configured bounds.
+ */
+final class AdaptiveSyncPageSizer {
+    @VisibleForTesting
+    static final long TARGET_PAGE_DURATION_MS = 2_000;
+    @VisibleForTesting
+    static final int MAX_GROWTH_FACTOR = 2;
+    // Weight given to the newest sample when updating the per-item cost estimates.
+    private static final double SMOOTHING_FACTOR = 0.5;
+
+    private final int minPageSize;
+    private final int maxPageSize;
+    private int currentPageSize;
+    private double networkMsPerItem;
+    private double mergeMsPerItem;
+
+    /**
+     * Constructs a new AdaptiveSyncPageSizer.
+     * @param initialPageSize Page size to request before any page has been observed
+     * @param minPageSize Smallest page size that will be requested
+     * @param maxPageSize Largest page size that will be requested
+     */
+    AdaptiveSyncPageSizer(int initialPageSize, int minPageSize, int maxPageSize) {
+        if (minPageSize < 1 || minPageSize > maxPageSize) {
+            throw new IllegalArgumentException(
+                "Invalid page size bounds: [" + minPageSize + ", " + maxPageSize + "].");
+        }
+        this.minPageSize = minPageSize;
+        this.maxPageSize = maxPageSize;
+        this.currentPageSize = clamp(initialPageSize);
+        this.networkMsPerItem = -1;
+        this.mergeMsPerItem = -1;
+    }
+
+    /**
+     * Records the time it took to fetch a page.
+     * @param itemCount Number of items contained in the page
+     * @param durationMs Time from sending the request until the page was decoded
+     */
+    synchronized void onPageFetched(int itemCount, long durationMs) {
+        if (itemCount > 0) {
+            networkMsPerItem = smooth(networkMsPerItem, (double) durationMs / itemCount);
+        }
+    }
+
+    /**
+     * Records the time it took to merge a batch of items into local storage.
+     * @param itemCount Number of items contained in the batch
+     * @param durationMs Time spent merging the batch
+     */
+    synchronized void onBatchMerged(int itemCount, long durationMs) {
+        if (itemCount > 0) {
+            mergeMsPerItem = smooth(mergeMsPerItem, (double) durationMs / itemCount);
+        }
+    }
+
+    /**
+     * Computes the number of items to request in the next page, from the observations so far.
+     * @return Number of items to request in the next page
+     */
+    synchronized int nextPageSize() {
+        double bottleneckMsPerItem = Math.max(networkMsPerItem, mergeMsPerItem);
+        long desiredPageSize;
+        if (bottleneckMsPerItem <= 0) {
+            // Nothing measurable yet; pages are cheap, so grow as fast as allowed.
+            desiredPageSize = (long) currentPageSize * MAX_GROWTH_FACTOR;
+        } else {
+            desiredPageSize = Math.round(TARGET_PAGE_DURATION_MS / bottleneckMsPerItem);
+        }
+        long lowest = Math.max(1, currentPageSize / MAX_GROWTH_FACTOR);
+        long highest = (long) currentPageSize * MAX_GROWTH_FACTOR;
+        desiredPageSize = Math.min(Math.max(desiredPageSize, lowest), highest);
+        currentPageSize = clamp(desiredPageSize);
+        return currentPageSize;
+    }
+
+    /**
+     * Gets the number of items requested by the most recent page.
+     * @return Current page size
+     */
+    synchronized int getCurrentPageSize() {
+        return currentPageSize;
+    }
+
+    /**
+     * Gets the largest page size this sizer will ever request.
+     * @return Upper bound of the page size
+     */
+    int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    private int clamp(long pageSize) {
+        return (int) Math.min(Math.max(pageSize, minPageSize), maxPageSize);
+    }
+
+    private static double smooth(double estimate, double sample) {
+        if (estimate < 0) {
+            return sample;
+        }
+        return SMOOTHING_FACTOR * sample + (1 - SMOOTHING_FACTOR) * estimate;
+    }
+}
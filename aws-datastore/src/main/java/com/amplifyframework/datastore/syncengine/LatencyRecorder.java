@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.syncengine;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.amplifyframework.datastore.events.LatencyPercentiles;
+
+import java.util.Arrays;
+
+/**
+ * Collects latency samples, and summarizes them as percentiles.
+ *
+ * At most {@link #MAX_SAMPLES} samples are retained between two summaries; beyond that, the newest
+ * samples replace the oldest, so that memory stays bounded however long a summary is delayed.
+ */
+final class LatencyRecorder {
+    @VisibleForTesting
+    static final int MAX_SAMPLES = 1_024;
+    private static final int P50 = 50;
+    private static final int P90 = 90;
+    private static final int P99 = 99;
+    private static final int HUNDRED_PERCENT = 100;
+
+    private final long[] samples;
+    private int sampleCount;
+    private int nextIndex;
+
+    LatencyRecorder() {
+        this.samples = new long[MAX_SAMPLES];
+    }
+
+    /**
+     * Records a latency sample.
+     * @param latencyMs Latency, in milliseconds
+     * @return Number of samples retained since the last summary
+     */
+    synchronized int record(long latencyMs) {
+        samples[nextIndex] = Math.max(0, latencyMs);
+        nextIndex = (nextIndex + 1) % MAX_SAMPLES;
+        sampleCount = Math.min(sampleCount + 1, MAX_SAMPLES);
+        return sampleCount;
+    }
+
+    /**
+     * Summarizes the samples recorded since the last summary, and starts over.
+     * @return Percentiles of the recorded samples, or null if there were none
+     */
+    @Nullable
+    synchronized LatencyPercentiles drain() {
+        if (sampleCount == 0) {
+            return null;
+        }
+        long[] sorted = Arrays.copyOf(samples, sampleCount);
+        Arrays.sort(sorted);
+        sampleCount = 0;
+        nextIndex = 0;
+        return new LatencyPercentiles(
+            sorted.length,
+            percentile(sorted, P50),
+            percentile(sorted, P90),
+            percentile(sorted, P99),
+            sorted[sorted.length - 1]
+        );
+    }
+
+    // Nearest-rank percentile of a sorted, non-empty array.
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / (double) HUNDRED_PERCENT * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
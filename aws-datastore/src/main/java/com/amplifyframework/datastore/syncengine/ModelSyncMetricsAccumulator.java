@@ -15,20 +15,30 @@
 
 package com.amplifyframework.datastore.syncengine;
 
+import com.amplifyframework.datastore.events.ModelSyncMetricsEvent;
 import com.amplifyframework.datastore.events.ModelSyncedEvent;
 import com.amplifyframework.datastore.storage.StorageItemChange;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Class that encapsulates the logic of keeping track of sync metrics
- * by operation type for a given model.
+ * by operation type for a given model, along with where the sync spent its time.
  */
 final class ModelSyncMetricsAccumulator {
     private final Map<StorageItemChange.Type, AtomicInteger> syncMetrics;
     private final String modelClassName;
+    private final AtomicInteger pagesFetched;
+    private final AtomicInteger itemsReceived;
+    private final AtomicLong networkTimeMs;
+    private final AtomicLong deserializeTimeNanos;
+    private final AtomicLong mergeTimeMs;
+    private final AtomicInteger mergeBatchCount;
+    private final AtomicInteger maxMergeBatchSize;
 
     /**
      * Constructor that sets up an observer to watch for mutations
@@ -41,6 +51,13 @@ final class ModelSyncMetricsAccumulator {
         syncMetrics.put(StorageItemChange.Type.UPDATE, new AtomicInteger(0));
         syncMetrics.put(StorageItemChange.Type.DELETE, new AtomicInteger(0));
         this.modelClassName = modelClassName;
+        this.pagesFetched = new AtomicInteger(0);
+        this.itemsReceived = new AtomicInteger(0);
+        this.networkTimeMs = new AtomicLong(0);
+        this.deserializeTimeNanos = new AtomicLong(0);
+        this.mergeTimeMs = new AtomicLong(0);
+        this.mergeBatchCount = new AtomicInteger(0);
+        this.maxMergeBatchSize = new AtomicInteger(0);
     }
 
     /**
@@ -63,4 +80,53 @@ final class ModelSyncMetricsAccumulator {
     public void increment(StorageItemChange.Type changeType) {
         syncMetrics.get(changeType).incrementAndGet();
     }
+
+    /**
+     * Creates an instance of {@link ModelSyncMetricsEvent} using the existing metrics.
+     * @param syncType The sync type (BASE or DELTA) to be emitted with the event.
+     * @return An instance of {@link ModelSyncMetricsEvent}.
+     */
+    public ModelSyncMetricsEvent toModelSyncMetricsEvent(SyncType syncType) {
+        return ModelSyncMetricsEvent.builder()
+            .model(modelClassName)
+            .isFullSync(SyncType.BASE.equals(syncType))
+            .pagesFetched(pagesFetched.get())
+            .itemsReceived(itemsReceived.get())
+            .networkTimeMs(networkTimeMs.get())
+            .deserializeTimeMs(TimeUnit.NANOSECONDS.toMillis(deserializeTimeNanos.get()))
+            .mergeTimeMs(mergeTimeMs.get())
+            .mergeBatchCount(mergeBatchCount.get())
+            .maxMergeBatchSize(maxMergeBatchSize.get())
+            .build();
+    }
+
+    /**
+     * Records a page fetched from the backend.
+     * @param itemCount Number of items in the page.
+     * @param durationMs Time from sending the request until the page was decoded.
+     */
+    public void onPageFetched(int itemCount, long durationMs) {
+        pagesFetched.incrementAndGet();
+        itemsReceived.addAndGet(itemCount);
+        networkTimeMs.addAndGet(durationMs);
+    }
+
+    /**
+     * Records the time spent converting a received item into its model.
+     * @param durationNanos Time spent, in nanoseconds.
+     */
+    public void onItemDeserialized(long durationNanos) {
+        deserializeTimeNanos.addAndGet(durationNanos);
+    }
+
+    /**
+     * Records a batch of items merged into local storage.
+     * @param itemCount Number of items in the batch.
+     * @param durationMs Time spent merging the batch.
+     */
+    public void onBatchMerged(int itemCount, long durationMs) {
+        mergeBatchCount.incrementAndGet();
+        mergeTimeMs.addAndGet(durationMs);
+        maxMergeBatchSize.accumulateAndGet(itemCount, Math::max);
+    }
 }
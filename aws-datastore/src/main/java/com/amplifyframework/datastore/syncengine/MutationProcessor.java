@@ -35,6 +35,7 @@ import com.amplifyframework.datastore.events.OutboxStatusEvent;
 import com.amplifyframework.hub.HubChannel;
 import com.amplifyframework.hub.HubEvent;
 import com.amplifyframework.logging.Logger;
+import com.amplifyframework.util.Time;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -63,6 +64,7 @@ final class MutationProcessor {
     private final ConflictResolver conflictResolver;
     private final CompositeDisposable ongoingOperationsDisposable;
     private final RetryHandler retryHandler;
+    private final SyncEngineMetrics syncEngineMetrics;
 
     private MutationProcessor(Builder builder) {
         this.merger = Objects.requireNonNull(builder.merger);
@@ -73,6 +75,8 @@ final class MutationProcessor {
         this.dataStoreConfiguration = Objects.requireNonNull(builder.dataStoreConfiguration);
         this.conflictResolver = new ConflictResolver(this.dataStoreConfiguration, this.appSync);
         this.retryHandler = Objects.requireNonNull(builder.retryHandler);
+        this.syncEngineMetrics = builder.syncEngineMetrics != null ?
+            builder.syncEngineMetrics : new SyncEngineMetrics(this.dataStoreConfiguration);
         this.ongoingOperationsDisposable = new CompositeDisposable();
     }
 
@@ -149,6 +153,8 @@ final class MutationProcessor {
                                 .andThen(merger.merge(modelWithMetadata))
                                 .doOnComplete(() -> {
                                     String modelName = mutationOutboxItem.getModelSchema().getName();
+                                    syncEngineMetrics.onMutationPublished(
+                                        Time.now() - mutationOutboxItem.getMutationId().toEpochMillis());
                                     announceMutationProcessed(modelName, modelWithMetadata);
                                 })
                 )
@@ -246,9 +252,12 @@ final class MutationProcessor {
      * Publish current outbox status to hub.
      */
     private void publishCurrentOutboxStatus() {
-        HubEvent<OutboxStatusEvent> hubEvent =
-            new OutboxStatusEvent(mutationOutbox.peek() == null).toHubEvent();
+        boolean isEmpty = mutationOutbox.peek() == null;
+        HubEvent<OutboxStatusEvent> hubEvent = new OutboxStatusEvent(isEmpty).toHubEvent();
         Amplify.Hub.publish(HubChannel.DATASTORE, hubEvent);
+        if (isEmpty) {
+            syncEngineMetrics.onOutboxDrained();
+        }
     }
 
     /**
@@ -425,6 +434,7 @@ final class MutationProcessor {
         private AppSync appSync;
         private DataStoreConfigurationProvider dataStoreConfiguration;
         private RetryHandler retryHandler;
+        private SyncEngineMetrics syncEngineMetrics;
 
         @NonNull
         @Override
@@ -476,6 +486,13 @@ final class MutationProcessor {
             return Builder.this;
         }
 
+        @NonNull
+        @Override
+        public BuilderSteps.BuildStep syncEngineMetrics(@NonNull SyncEngineMetrics syncEngineMetrics) {
+            this.syncEngineMetrics = Objects.requireNonNull(syncEngineMetrics);
+            return Builder.this;
+        }
+
         @NonNull
         @Override
         public MutationProcessor build() {
@@ -521,6 +538,9 @@ final class MutationProcessor {
         }
 
         interface BuildStep {
+            @NonNull
+            BuildStep syncEngineMetrics(@NonNull SyncEngineMetrics syncEngineMetrics);
+
             @NonNull
             MutationProcessor build();
         }
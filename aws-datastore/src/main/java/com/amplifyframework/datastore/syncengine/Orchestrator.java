@@ -114,6 +114,7 @@ public final class Orchestrator {
         Merger merger = new Merger(mutationOutbox, versionRepository, localStorageAdapter);
         SyncTimeRegistry syncTimeRegistry = new SyncTimeRegistry(localStorageAdapter);
         this.queryPredicateProvider = new QueryPredicateProvider(dataStoreConfigurationProvider);
+        SyncEngineMetrics syncEngineMetrics = new SyncEngineMetrics(dataStoreConfigurationProvider);
 
         this.mutationProcessor = MutationProcessor.builder()
             .merger(merger)
@@ -123,6 +124,7 @@ public final class Orchestrator {
             .appSync(appSync)
             .dataStoreConfigurationProvider(dataStoreConfigurationProvider)
             .retryHandler(new RetryHandler())
+            .syncEngineMetrics(syncEngineMetrics)
             .build();
         this.syncProcessor = SyncProcessor.builder()
             .modelProvider(modelProvider)
@@ -134,6 +136,7 @@ public final class Orchestrator {
             .queryPredicateProvider(queryPredicateProvider)
             .retryHandler(new RetryHandler())
                 .isSyncRetryEnabled(isSyncRetryEnabled)
+            .syncEngineMetrics(syncEngineMetrics)
             .build();
         this.subscriptionProcessor = SubscriptionProcessor.builder()
                 .appSync(appSync)
@@ -142,6 +145,7 @@ public final class Orchestrator {
                 .merger(merger)
                 .queryPredicateProvider(queryPredicateProvider)
                 .onFailure(this::onApiSyncFailure)
+                .syncEngineMetrics(syncEngineMetrics)
                 .build();
         this.storageObserver = new StorageObserver(localStorageAdapter, mutationOutbox);
         this.currentState = new AtomicReference<>(State.STOPPED);
@@ -33,6 +33,7 @@ import com.amplifyframework.core.model.ModelSchema;
 import com.amplifyframework.core.model.SchemaRegistry;
 import com.amplifyframework.core.model.SerializedModel;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
+import com.amplifyframework.core.model.temporal.Temporal;
 import com.amplifyframework.datastore.AmplifyDisposables;
 import com.amplifyframework.datastore.DataStoreChannelEventName;
 import com.amplifyframework.datastore.DataStoreException;
@@ -46,6 +47,7 @@ import com.amplifyframework.hub.HubChannel;
 import com.amplifyframework.hub.HubEvent;
 import com.amplifyframework.logging.Logger;
 import com.amplifyframework.util.Empty;
+import com.amplifyframework.util.Time;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -81,6 +83,7 @@ final class SubscriptionProcessor {
     private final Consumer<Throwable> onFailure;
     private final CompositeDisposable ongoingOperationsDisposable;
     private final long adjustedTimeoutSeconds;
+    private final SyncEngineMetrics syncEngineMetrics;
     private UnicastSubject<SubscriptionEvent<? extends Model>> buffer;
 
     /**
@@ -94,6 +97,8 @@ final class SubscriptionProcessor {
         this.queryPredicateProvider = builder.queryPredicateProvider;
         this.onFailure = builder.onFailure;
         this.schemaRegistry = builder.schemaRegistry;
+        this.syncEngineMetrics = builder.syncEngineMetrics != null ?
+            builder.syncEngineMetrics : new SyncEngineMetrics(null);
 
         this.ongoingOperationsDisposable = new CompositeDisposable();
 
@@ -237,6 +242,7 @@ final class SubscriptionProcessor {
         .subscribeOn(Schedulers.io())
         .observeOn(Schedulers.io())
         .map(SubscriptionProcessor::unwrapResponse)
+        .doOnNext(this::recordLag)
         .filter(modelWithMetadata -> {
             QueryPredicate predicate = queryPredicateProvider.getPredicate(modelSchema.getName());
             return predicate.evaluate(modelWithMetadata.getModel());
@@ -249,6 +255,14 @@ final class SubscriptionProcessor {
         );
     }
 
+    private void recordLag(ModelWithMetadata<? extends Model> modelWithMetadata) {
+        Temporal.Timestamp lastChangedAt = modelWithMetadata.getSyncMetadata().getLastChangedAt();
+        if (lastChangedAt != null) {
+            // _lastChangedAt is sent in milliseconds, and is kept as is by the timestamp, despite its name.
+            syncEngineMetrics.onSubscriptionEventReceived(Time.now() - lastChangedAt.getSecondsSinceEpoch());
+        }
+    }
+
     /**
      * Start draining mutations out of the mutation buffer.
      * This should be called after {@link #startSubscriptions()}.
@@ -288,6 +302,7 @@ final class SubscriptionProcessor {
     synchronized void stopAllSubscriptionActivity() {
         LOG.info("Stopping subscription processor.");
         ongoingOperationsDisposable.clear();
+        syncEngineMetrics.flushSubscriptionLag();
         LOG.info("Stopped subscription processor.");
     }
 
@@ -361,6 +376,7 @@ final class SubscriptionProcessor {
         private QueryPredicateProvider queryPredicateProvider;
         private Consumer<Throwable> onFailure;
         private SchemaRegistry schemaRegistry;
+        private SyncEngineMetrics syncEngineMetrics;
 
         @NonNull
         @Override
@@ -397,6 +413,13 @@ final class SubscriptionProcessor {
             return Builder.this;
         }
 
+        @NonNull
+        @Override
+        public BuildStep syncEngineMetrics(@NonNull SyncEngineMetrics syncEngineMetrics) {
+            this.syncEngineMetrics = Objects.requireNonNull(syncEngineMetrics);
+            return Builder.this;
+        }
+
         @NonNull
         @Override
         public SubscriptionProcessor build() {
@@ -442,6 +465,9 @@ final class SubscriptionProcessor {
     }
 
     interface BuildStep {
+        @NonNull
+        BuildStep syncEngineMetrics(@NonNull SyncEngineMetrics syncEngineMetrics);
+
         @NonNull
         SubscriptionProcessor build();
     }
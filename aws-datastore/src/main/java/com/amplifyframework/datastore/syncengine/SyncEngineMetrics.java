@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.syncengine;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.amplifyframework.core.Amplify;
+import com.amplifyframework.core.category.CategoryType;
+import com.amplifyframework.datastore.DataStoreConfigurationProvider;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.datastore.DataStoreMetricsSink;
+import com.amplifyframework.datastore.events.LatencyPercentiles;
+import com.amplifyframework.datastore.events.ModelSyncMetricsEvent;
+import com.amplifyframework.datastore.events.OutboxDrainMetricsEvent;
+import com.amplifyframework.datastore.events.SubscriptionLagMetricsEvent;
+import com.amplifyframework.hub.HubChannel;
+import com.amplifyframework.logging.Logger;
+
+/**
+ * Reports the telemetry of the sync engine. Every metric is published to Hub, and handed to the
+ * {@link DataStoreMetricsSink} of the DataStore configuration, if there is one.
+ *
+ * Outbox latencies are summarized each time the outbox is drained. Subscription lags are summarized
+ * every {@link #SUBSCRIPTION_LAG_REPORT_INTERVAL} events, and when subscriptions are stopped.
+ */
+final class SyncEngineMetrics {
+    private static final Logger LOG = Amplify.Logging.logger(CategoryType.DATASTORE, "amplify:aws-datastore");
+    @VisibleForTesting
+    static final int SUBSCRIPTION_LAG_REPORT_INTERVAL = 100;
+
+    private final DataStoreConfigurationProvider configurationProvider;
+    private final LatencyRecorder outboxDrainLatency;
+    private final LatencyRecorder subscriptionLag;
+
+    /**
+     * Constructs a new SyncEngineMetrics.
+     * @param configurationProvider Provides the metrics sink, if any; when null, metrics are only published to Hub
+     */
+    SyncEngineMetrics(@Nullable DataStoreConfigurationProvider configurationProvider) {
+        this.configurationProvider = configurationProvider;
+        this.outboxDrainLatency = new LatencyRecorder();
+        this.subscriptionLag = new LatencyRecorder();
+    }
+
+    /**
+     * Reports the metrics of a completed model sync.
+     * @param metrics Metrics of the model sync
+     */
+    void onModelSynced(@NonNull ModelSyncMetricsEvent metrics) {
+        Amplify.Hub.publish(HubChannel.DATASTORE, metrics.toHubEvent());
+        DataStoreMetricsSink sink = getSink();
+        if (sink != null) {
+            try {
+                sink.onModelSyncMetrics(metrics);
+            } catch (RuntimeException error) {
+                LOG.warn("Error invoking the metrics sink", error);
+            }
+        }
+    }
+
+    /**
+     * Records the time a mutation spent in the outbox, until it was accepted by the backend.
+     * @param latencyMs Time from enqueueing the mutation until it was published, in milliseconds
+     */
+    void onMutationPublished(long latencyMs) {
+        outboxDrainLatency.record(latencyMs);
+    }
+
+    /**
+     * Reports the latencies of the mutations published since the outbox was last drained.
+     */
+    void onOutboxDrained() {
+        LatencyPercentiles latency = outboxDrainLatency.drain();
+        if (latency == null) {
+            return;
+        }
+        OutboxDrainMetricsEvent metrics = new OutboxDrainMetricsEvent(latency);
+        Amplify.Hub.publish(HubChannel.DATASTORE, metrics.toHubEvent());
+        DataStoreMetricsSink sink = getSink();
+        if (sink != null) {
+            try {
+                sink.onOutboxDrainMetrics(metrics);
+            } catch (RuntimeException error) {
+                LOG.warn("Error invoking the metrics sink", error);
+            }
+        }
+    }
+
+    /**
+     * Records the lag of a subscription event.
+     * @param lagMs Time from the change on the backend until it was received, in milliseconds
+     */
+    void onSubscriptionEventReceived(long lagMs) {
+        if (subscriptionLag.record(lagMs) >= SUBSCRIPTION_LAG_REPORT_INTERVAL) {
+            flushSubscriptionLag();
+        }
+    }
+
+    /**
+     * Reports the lag of the subscription events received since the last report.
+     */
+    void flushSubscriptionLag() {
+        LatencyPercentiles lag = subscriptionLag.drain();
+        if (lag == null) {
+            return;
+        }
+        SubscriptionLagMetricsEvent metrics = new SubscriptionLagMetricsEvent(lag);
+        Amplify.Hub.publish(HubChannel.DATASTORE, metrics.toHubEvent());
+        DataStoreMetricsSink sink = getSink();
+        if (sink != null) {
+            try {
+                sink.onSubscriptionLagMetrics(metrics);
+            } catch (RuntimeException error) {
+                LOG.warn("Error invoking the metrics sink", error);
+            }
+        }
+    }
+
+    @Nullable
+    private DataStoreMetricsSink getSink() {
+        if (configurationProvider == null) {
+            return null;
+        }
+        try {
+            return configurationProvider.getConfiguration().getMetricsSink();
+        } catch (DataStoreException exception) {
+            return null;
+        }
+    }
+}
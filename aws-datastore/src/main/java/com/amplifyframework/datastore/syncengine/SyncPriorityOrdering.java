@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.syncengine;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.core.model.ModelAssociation;
+import com.amplifyframework.core.model.ModelSchema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Re-orders a topologically sorted list of ModelSchema so that models with a higher sync
+ * priority come first.
+ *
+ * A model can only be synced after the models it belongs to, so each model passes its priority
+ * on to the models it depends on. The effective priority of a model is therefore the highest
+ * priority among itself and all of the models that depend on it. The schema are then stably sorted
+ * by descending effective priority, which keeps every model after its dependencies, and keeps the
+ * topological order among models of equal priority.
+ *
+ * For example, if a Post belongs to a Blog, and Post has been given priority 10:
+ *   input := [Blog, Author, Post]
+ * then the prioritized ordering is:
+ *   output := [Blog, Post, Author]
+ */
+final class SyncPriorityOrdering {
+    private SyncPriorityOrdering() {}
+
+    /**
+     * Sorts topologically ordered model schema by their effective sync priority.
+     * @param topologicallySorted Model schema, sorted so that each model comes after its dependencies
+     * @param priorities Sync priority by model name; models not in the map have a priority of 0
+     * @return A new list holding the same model schema, highest effective priority first
+     */
+    @NonNull
+    static List<ModelSchema> prioritize(
+            @NonNull List<ModelSchema> topologicallySorted,
+            @NonNull Map<String, Integer> priorities) {
+        Objects.requireNonNull(topologicallySorted);
+        Objects.requireNonNull(priorities);
+        List<ModelSchema> result = new ArrayList<>(topologicallySorted);
+        if (priorities.isEmpty()) {
+            return result;
+        }
+
+        Map<String, Integer> effectivePriorities = new HashMap<>();
+        for (ModelSchema schema : topologicallySorted) {
+            effectivePriorities.put(schema.getName(), priorityOf(priorities, schema.getName()));
+        }
+        // Walk dependents before their dependencies, so that priorities flow down whole lineages.
+        for (int index = topologicallySorted.size() - 1; index >= 0; index--) {
+            ModelSchema schema = topologicallySorted.get(index);
+            int priority = effectivePriorities.get(schema.getName());
+            for (ModelAssociation association : schema.getAssociations().values()) {
+                Integer dependencyPriority = effectivePriorities.get(association.getAssociatedType());
+                if (association.isOwner() && dependencyPriority != null && dependencyPriority < priority) {
+                    effectivePriorities.put(association.getAssociatedType(), priority);
+                }
+            }
+        }
+
+        // Collections.sort is stable, so equal priorities keep their topological order.
+        Collections.sort(result, (one, two) -> Integer.compare(
+            effectivePriorities.get(two.getName()),
+            effectivePriorities.get(one.getName())
+        ));
+        return result;
+    }
+
+    private static int priorityOf(Map<String, Integer> priorities, String modelName) {
+        Integer priority = priorities.get(modelName);
+        return priority != null ? priority : 0;
+    }
+}
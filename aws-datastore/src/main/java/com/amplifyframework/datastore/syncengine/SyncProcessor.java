@@ -16,9 +16,13 @@
 package com.amplifyframework.datastore.syncengine;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
+import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.ApiException;
 import com.amplifyframework.api.ApiException.ApiAuthException;
+import com.amplifyframework.api.aws.AppSyncGraphQLRequest;
 import com.amplifyframework.api.graphql.GraphQLRequest;
 import com.amplifyframework.api.graphql.GraphQLResponse;
 import com.amplifyframework.api.graphql.PaginatedResult;
@@ -35,6 +39,7 @@ import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.core.model.query.predicate.QueryPredicates;
 import com.amplifyframework.datastore.AmplifyDisposables;
 import com.amplifyframework.datastore.DataStoreChannelEventName;
+import com.amplifyframework.datastore.DataStoreConfiguration;
 import com.amplifyframework.datastore.DataStoreConfigurationProvider;
 import com.amplifyframework.datastore.DataStoreErrorHandler;
 import com.amplifyframework.datastore.DataStoreException;
@@ -51,7 +56,9 @@ import com.amplifyframework.util.Time;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -72,6 +79,15 @@ import io.reactivex.rxjava3.schedulers.Schedulers;
 final class SyncProcessor {
     private static final Logger LOG = Amplify.Logging.logger(CategoryType.DATASTORE, "amplify:aws-datastore");
 
+    /**
+     * The maximum number of items that are handed to the {@link Merger} at once. Pages returned by
+     * AppSync may contain up to syncPageSize items; these are split into batches of at most this many
+     * items so that the state built up while merging (version lookups, pending mutation lookups and
+     * the storage operations of a single transaction) stays bounded regardless of the page size.
+     */
+    @VisibleForTesting
+    static final int MERGE_BATCH_SIZE = 250;
+
     private final ModelProvider modelProvider;
     private final SchemaRegistry schemaRegistry;
     private final SyncTimeRegistry syncTimeRegistry;
@@ -80,6 +96,7 @@ final class SyncProcessor {
     private final DataStoreConfigurationProvider dataStoreConfigurationProvider;
     private final QueryPredicateProvider queryPredicateProvider;
     private final RetryHandler requestRetry;
+    private final SyncEngineMetrics syncEngineMetrics;
 
     /**
      * The `isSyncRetryEnabled` value is being passed down all the way from the `AWSDataStorePlugin` or the
@@ -97,6 +114,8 @@ final class SyncProcessor {
         this.queryPredicateProvider = builder.queryPredicateProvider;
         this.requestRetry = builder.requestRetry;
         this.isSyncRetryEnabled = builder.isSyncRetryEnabled;
+        this.syncEngineMetrics = builder.syncEngineMetrics != null ?
+            builder.syncEngineMetrics : new SyncEngineMetrics(builder.dataStoreConfigurationProvider);
         if (!this.isSyncRetryEnabled) {
             LOG.warn("Disabling sync retries will be deprecated in a future version.");
         }
@@ -124,6 +143,23 @@ final class SyncProcessor {
         TopologicalOrdering ordering =
             TopologicalOrdering.forRegisteredModels(schemaRegistry, modelProvider);
         Collections.sort(modelSchemas, ordering::compare);
+
+        int syncMaxConcurrentModels;
+        Map<String, Integer> syncPriorities;
+        try {
+            DataStoreConfiguration configuration = dataStoreConfigurationProvider.getConfiguration();
+            syncMaxConcurrentModels = configuration.getSyncMaxConcurrentModels();
+            syncPriorities = configuration.getSyncPriorities();
+        } catch (DataStoreException exception) {
+            syncMaxConcurrentModels = 1;
+            syncPriorities = null;
+        }
+
+        // Then move the models with the highest sync priority to the front, so that they're
+        // hydrated, and announced via MODEL_SYNCED, before the others.
+        if (syncPriorities != null) {
+            modelSchemas = SyncPriorityOrdering.prioritize(modelSchemas, syncPriorities);
+        }
         ArrayList<String> toBeSyncedModelArray = new ArrayList<>();
         boolean canSyncConcurrently = true;
         for (ModelSchema schema : modelSchemas) {
@@ -138,17 +174,9 @@ final class SyncProcessor {
             }
         }
 
-        int syncMaxConcurrentModels;
-        try {
-            syncMaxConcurrentModels = dataStoreConfigurationProvider
-                    .getConfiguration()
-                    .getSyncMaxConcurrentModels();
-        } catch (DataStoreException exception) {
-            syncMaxConcurrentModels = 1;
-        }
-
         Completable syncCompletable;
         if (canSyncConcurrently && syncMaxConcurrentModels > 1) {
+            // Tasks are subscribed in order, so the highest priority models claim the first slots.
             syncCompletable = Completable.mergeDelayError(
                     Flowable.fromIterable(hydrationTasks),
                     syncMaxConcurrentModels
@@ -186,10 +214,14 @@ final class SyncProcessor {
             .map(this::filterOutOldSyncTimes)
             // And for each, perform a sync. The network response will contain an Iterable<ModelWithMetadata<T>>
             .flatMap(lastSyncTime -> {
+                DataStoreConfiguration configuration = dataStoreConfigurationProvider.getConfiguration();
+                AdaptiveSyncPageSizer pageSizer = createPageSizer(configuration);
                 // Sync all the pages
-                return syncModel(schema, lastSyncTime)
+                return syncModel(schema, lastSyncTime, metricsAccumulator, pageSizer)
                     // Switch to a new thread so that subsequent API fetches will happen in parallel with DB writes.
-                    .observeOn(Schedulers.io())
+                    // Buffer no more than one page worth of batches, so that exactly one page is prefetched
+                    // while the current one is being merged.
+                    .observeOn(Schedulers.io(), false, mergeBatchesPerPage(configuration, pageSizer))
                     // Ignore ApiAuthExceptions so that we can continue to sync down other models
                     .materialize()
                     .filter(notification ->
@@ -197,18 +229,19 @@ final class SyncProcessor {
                         !(ErrorInspector.contains(notification.getError(), ApiAuthException.class))
                     )
                     .dematerialize(notification -> notification)
-                    .concatMapCompletable(items -> merger.merge(items, metricsAccumulator::increment))
+                    .concatMapCompletable(items -> mergeBatch(items, metricsAccumulator, pageSizer), 1)
                     .toSingle(() -> lastSyncTime.exists() ? SyncType.DELTA : SyncType.BASE);
             })
             .flatMapCompletable(syncType -> {
                 Completable syncTimeSaveCompletable = SyncType.DELTA.equals(syncType) ?
                     syncTimeRegistry.saveLastDeltaSync(schema.getName(), SyncTime.now(), currentSyncExpression) :
                     syncTimeRegistry.saveLastBaseSync(schema.getName(), SyncTime.now(), currentSyncExpression);
-                return syncTimeSaveCompletable.andThen(Completable.fromAction(() ->
+                return syncTimeSaveCompletable.andThen(Completable.fromAction(() -> {
                     Amplify.Hub.publish(
                         HubChannel.DATASTORE, metricsAccumulator.toModelSyncedEvent(syncType).toHubEvent()
-                    )
-                ));
+                    );
+                    syncEngineMetrics.onModelSynced(metricsAccumulator.toModelSyncMetricsEvent(syncType));
+                }));
             })
             .doOnError(failureToSync -> {
                 LOG.warn("Initial cloud sync failed for " + schema.getName() + ".", failureToSync);
@@ -224,6 +257,57 @@ final class SyncProcessor {
             );
     }
 
+    /**
+     * Creates the page sizer for a single model's sync, if adaptive sync page sizing is enabled.
+     * @param configuration Current DataStore configuration
+     * @return A page sizer, or null if every page should request the configured sync page size
+     */
+    @Nullable
+    private static AdaptiveSyncPageSizer createPageSizer(DataStoreConfiguration configuration) {
+        if (!configuration.isAdaptiveSyncPageSizeEnabled()) {
+            return null;
+        }
+        Integer syncPageSize = configuration.getSyncPageSize();
+        int minPageSize = configuration.getSyncMinPageSize();
+        return new AdaptiveSyncPageSizer(
+            syncPageSize != null ? syncPageSize : minPageSize,
+            minPageSize,
+            configuration.getSyncMaxPageSize()
+        );
+    }
+
+    /**
+     * Computes how many merge batches make up the largest page that may be requested.
+     * @param configuration Current DataStore configuration
+     * @param pageSizer Page sizer of the model being synced, if adaptive sync page sizing is enabled
+     * @return Number of merge batches in one page, at least 1
+     */
+    private static int mergeBatchesPerPage(DataStoreConfiguration configuration,
+                                           @Nullable AdaptiveSyncPageSizer pageSizer) {
+        Integer pageSize = pageSizer != null ? Integer.valueOf(pageSizer.getMaxPageSize()) :
+            configuration.getSyncPageSize();
+        if (pageSize == null || pageSize <= 0) {
+            return 1;
+        }
+        return Math.max(1, (pageSize + MERGE_BATCH_SIZE - 1) / MERGE_BATCH_SIZE);
+    }
+
+    private <T extends Model> Completable mergeBatch(List<ModelWithMetadata<T>> items,
+                                                     ModelSyncMetricsAccumulator metricsAccumulator,
+                                                     @Nullable AdaptiveSyncPageSizer pageSizer) {
+        return Completable.defer(() -> {
+            long startNanos = System.nanoTime();
+            return merger.merge(items, metricsAccumulator::increment)
+                .doOnComplete(() -> {
+                    long durationMs = millisSince(startNanos);
+                    metricsAccumulator.onBatchMerged(items.size(), durationMs);
+                    if (pageSizer != null) {
+                        pageSizer.onBatchMerged(items.size(), durationMs);
+                    }
+                });
+        });
+    }
+
     /**
      * If a sync time is older than (now) - (the base sync interval), regard the provided sync time
      * as "too old", and return {@link SyncTime#never()}, instead. In all other cases,
@@ -259,14 +343,19 @@ final class SyncProcessor {
      *
      * @param schema The schema of the model to sync
      * @param syncTime The time of a last successful sync.
+     * @param metricsAccumulator Accumulates the time spent fetching and deserializing pages.
+     * @param pageSizer Tunes the size of each page, if adaptive sync page sizing is enabled.
      * @param <T> The type of model to sync.
-     * @return a stream of all ModelWithMetadata&lt;T&gt; objects from all pages for the provided model.
+     * @return a stream of batches of ModelWithMetadata&lt;T&gt; objects, covering all pages for the provided model.
+     *         Each batch holds at most {@link #MERGE_BATCH_SIZE} items.
      * @throws DataStoreException if dataStoreConfigurationProvider.getConfiguration() fails
      */
-    private <T extends Model> Flowable<List<ModelWithMetadata<T>>> syncModel(ModelSchema schema, SyncTime syncTime)
-            throws DataStoreException {
+    private <T extends Model> Flowable<List<ModelWithMetadata<T>>> syncModel(
+            ModelSchema schema, SyncTime syncTime, ModelSyncMetricsAccumulator metricsAccumulator,
+            @Nullable AdaptiveSyncPageSizer pageSizer) throws DataStoreException {
         final Long lastSyncTimeAsLong = syncTime.exists() ? syncTime.toLong() : null;
-        final Integer syncPageSize = dataStoreConfigurationProvider.getConfiguration().getSyncPageSize();
+        final Integer syncPageSize = pageSizer != null ? Integer.valueOf(pageSizer.getCurrentPageSize()) :
+            dataStoreConfigurationProvider.getConfiguration().getSyncPageSize();
         final Integer syncMaxRecords = dataStoreConfigurationProvider.getConfiguration().getSyncMaxRecords();
         AtomicReference<Integer> recordsFetched = new AtomicReference<>(0);
         QueryPredicate predicate = queryPredicateProvider.getPredicate(schema.getName());
@@ -276,11 +365,19 @@ final class SyncProcessor {
                         appSync.buildSyncRequest(schema, lastSyncTimeAsLong, syncPageSize, predicate));
 
         return processor.concatMap(request -> {
-            if (isSyncRetryEnabled) {
-                return syncPageWithRetry(request).toFlowable();
-            } else {
-                return syncPage(request).toFlowable();
-            }
+            Single<GraphQLResponse<PaginatedResult<ModelWithMetadata<T>>>> page =
+                isSyncRetryEnabled ? syncPageWithRetry(request) : syncPage(request);
+            return Single.defer(() -> {
+                long startNanos = System.nanoTime();
+                return page.doOnSuccess(response -> {
+                    int itemCount = countItems(response.getData());
+                    long durationMs = millisSince(startNanos);
+                    metricsAccumulator.onPageFetched(itemCount, durationMs);
+                    if (pageSizer != null) {
+                        pageSizer.onPageFetched(itemCount, durationMs);
+                    }
+                });
+            }).toFlowable();
         })
                 .doOnNext(paginatedResult -> {
                     if (paginatedResult.hasErrors()) {
@@ -303,20 +400,60 @@ final class SyncProcessor {
                     }
 
                     if (paginatedResult.getData().hasNextResult()) {
-                        processor.onNext(paginatedResult.getData().getRequestForNextResult());
+                        processor.onNext(withNextPageSize(
+                            paginatedResult.getData().getRequestForNextResult(), pageSizer));
                     } else {
                         processor.onComplete();
                     }
                 })
-                // If it's a SerializedModel, add the ModelSchema, since it isn't added during deserialization.
-                .map(paginatedResult -> Flowable.fromIterable(paginatedResult.getData())
-                        .map(modelWithMetadata -> hydrateSchemaIfNeeded(modelWithMetadata, schema))
-                        .toList()
-                        .blockingGet()
+                // Emit each page as a sequence of bounded batches, rather than as one list holding the whole page.
+                .concatMap(paginatedResult -> Flowable.fromIterable(paginatedResult.getData())
+                        // If it's a SerializedModel, add the ModelSchema, since it isn't added during deserialization.
+                        .map(modelWithMetadata -> {
+                            long startNanos = System.nanoTime();
+                            ModelWithMetadata<T> hydrated = hydrateSchemaIfNeeded(modelWithMetadata, schema);
+                            metricsAccumulator.onItemDeserialized(System.nanoTime() - startNanos);
+                            return hydrated;
+                        })
+                        .buffer(MERGE_BATCH_SIZE)
                 )
                 .takeUntil(items -> recordsFetched.accumulateAndGet(items.size(), Integer::sum) >= syncMaxRecords);
     }
 
+    /**
+     * Applies the page size chosen by the page sizer to the request for the next page.
+     * @param request Request for the next page, as built from the nextToken of the current page
+     * @param pageSizer Page sizer of the model being synced, if adaptive sync page sizing is enabled
+     * @param <T> The type of model to sync.
+     * @return The request for the next page, with its limit set to the adaptive page size
+     * @throws AmplifyException If the request cannot be rebuilt
+     */
+    @SuppressWarnings("unchecked") // Cast to the request type of the current page
+    private static <T extends Model> GraphQLRequest<PaginatedResult<ModelWithMetadata<T>>> withNextPageSize(
+            GraphQLRequest<PaginatedResult<ModelWithMetadata<T>>> request,
+            @Nullable AdaptiveSyncPageSizer pageSizer) throws AmplifyException {
+        if (pageSizer == null || !(request instanceof AppSyncGraphQLRequest)) {
+            return request;
+        }
+        return ((AppSyncGraphQLRequest<PaginatedResult<ModelWithMetadata<T>>>) request).newBuilder()
+            .variable("limit", "Int", pageSizer.nextPageSize())
+            .build();
+    }
+
+    private static int countItems(@Nullable Iterable<?> items) {
+        int count = 0;
+        if (items != null) {
+            for (Object ignored : items) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
     @SuppressWarnings("unchecked") // Cast to T
     private <T extends Model> ModelWithMetadata<T> hydrateSchemaIfNeeded(ModelWithMetadata<T> original,
                                                                          ModelSchema schema) {
@@ -391,6 +528,7 @@ final class SyncProcessor {
         private QueryPredicateProvider queryPredicateProvider;
         private RetryHandler requestRetry;
         private boolean isSyncRetryEnabled;
+        private SyncEngineMetrics syncEngineMetrics;
 
         @NonNull
         @Override
@@ -449,6 +587,13 @@ final class SyncProcessor {
             return Builder.this;
         }
 
+        @NonNull
+        @Override
+        public BuildStep syncEngineMetrics(@NonNull SyncEngineMetrics syncEngineMetrics) {
+            this.syncEngineMetrics = Objects.requireNonNull(syncEngineMetrics);
+            return Builder.this;
+        }
+
         @NonNull
         @Override
         public SyncProcessor build() {
@@ -510,6 +655,9 @@ final class SyncProcessor {
     }
 
     interface BuildStep {
+        @NonNull
+        BuildStep syncEngineMetrics(@NonNull SyncEngineMetrics syncEngineMetrics);
+
         @NonNull
         SyncProcessor build();
     }
@@ -34,6 +34,10 @@ import java.util.UUID;
  * @see <a href="https://www.ietf.org/rfc/rfc4122.txt">RFC 4122</a>
  */
 final class TimeBasedUuid implements Comparable<TimeBasedUuid> {
+    // Offset between the UUID epoch (1582-10-15) and the Unix epoch, in 100-nanosecond intervals.
+    private static final long UUID_EPOCH_OFFSET = 0x01B21DD213814000L;
+    private static final long INTERVALS_PER_MILLISECOND = 10_000;
+
     private final UUID delegate;
 
     private TimeBasedUuid(UUID delegate) {
@@ -57,6 +61,14 @@ final class TimeBasedUuid implements Comparable<TimeBasedUuid> {
         return new TimeBasedUuid(delegate);
     }
 
+    /**
+     * Gets the time at which this UUID was created.
+     * @return Milliseconds since the Unix epoch
+     */
+    long toEpochMillis() {
+        return (delegate.timestamp() - UUID_EPOCH_OFFSET) / INTERVALS_PER_MILLISECOND;
+    }
+
     private static void validateVersion(UUID delegate) {
         if (1 != delegate.version()) {
             throw new IllegalStateException("Found UUID that is not a V1, time-based, UUID.");
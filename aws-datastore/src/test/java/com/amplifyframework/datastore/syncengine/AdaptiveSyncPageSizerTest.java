@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.syncengine;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link AdaptiveSyncPageSizer}.
+ */
+public final class AdaptiveSyncPageSizerTest {
+    /**
+     * The initial page size is kept within the configured bounds.
+     */
+    @Test
+    public void initialPageSizeIsClampedToBounds() {
+        assertEquals(1_000, new AdaptiveSyncPageSizer(5_000, 100, 1_000).getCurrentPageSize());
+        assertEquals(100, new AdaptiveSyncPageSizer(10, 100, 1_000).getCurrentPageSize());
+    }
+
+    /**
+     * When pages are too cheap to measure, the page size grows by the maximum growth factor,
+     * up to the upper bound.
+     */
+    @Test
+    public void pageSizeGrowsWhenPagesAreCheap() {
+        AdaptiveSyncPageSizer sizer = new AdaptiveSyncPageSizer(100, 100, 300);
+        sizer.onPageFetched(100, 0);
+        assertEquals(200, sizer.nextPageSize());
+        assertEquals(300, sizer.nextPageSize());
+        assertEquals(300, sizer.nextPageSize());
+    }
+
+    /**
+     * When merging is the bottleneck, the page size shrinks, but by no more than the maximum
+     * growth factor per page, and never below the lower bound.
+     */
+    @Test
+    public void pageSizeShrinksWhenMergeIsSlow() {
+        AdaptiveSyncPageSizer sizer = new AdaptiveSyncPageSizer(1_000, 300, 1_000);
+        sizer.onPageFetched(1_000, 100);
+        // 10ms per item; the target duration allows for 200 items.
+        sizer.onBatchMerged(1_000, 10_000);
+        assertEquals(500, sizer.nextPageSize());
+        assertEquals(300, sizer.nextPageSize());
+    }
+
+    /**
+     * The page size converges on the size for which the slower stage takes the target duration.
+     */
+    @Test
+    public void pageSizeConvergesOnTargetDuration() {
+        AdaptiveSyncPageSizer sizer = new AdaptiveSyncPageSizer(1_000, 1, 100_000);
+        long msPerItem = 4;
+        int pageSize = sizer.getCurrentPageSize();
+        for (int page = 0; page < 10; page++) {
+            sizer.onPageFetched(pageSize, pageSize * msPerItem);
+            sizer.onBatchMerged(pageSize, pageSize);
+            pageSize = sizer.nextPageSize();
+        }
+        assertEquals(AdaptiveSyncPageSizer.TARGET_PAGE_DURATION_MS / msPerItem, pageSize);
+    }
+
+    /**
+     * Inverted bounds are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void invertedBoundsAreRejected() {
+        new AdaptiveSyncPageSizer(100, 1_000, 100);
+    }
+}
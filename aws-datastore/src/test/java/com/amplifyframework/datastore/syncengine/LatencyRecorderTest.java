@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.syncengine;
+
+import com.amplifyframework.datastore.events.LatencyPercentiles;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@link LatencyRecorder}.
+ */
+public final class LatencyRecorderTest {
+    /**
+     * Nothing is summarized when no sample was recorded.
+     */
+    @Test
+    public void drainWithoutSamplesReturnsNull() {
+        assertNull(new LatencyRecorder().drain());
+    }
+
+    /**
+     * Percentiles are computed with the nearest-rank method, and draining starts over.
+     */
+    @Test
+    public void drainSummarizesAndResets() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (long latency = 100; latency >= 1; latency--) {
+            recorder.record(latency);
+        }
+
+        assertEquals(new LatencyPercentiles(100, 50, 90, 99, 100), recorder.drain());
+        assertNull(recorder.drain());
+    }
+
+    /**
+     * Only the newest samples are retained once the maximum number of samples is reached.
+     */
+    @Test
+    public void oldestSamplesAreReplacedWhenFull() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int index = 0; index < LatencyRecorder.MAX_SAMPLES; index++) {
+            recorder.record(1_000);
+        }
+        for (int index = 0; index < LatencyRecorder.MAX_SAMPLES; index++) {
+            assertEquals(LatencyRecorder.MAX_SAMPLES, recorder.record(1));
+        }
+
+        LatencyPercentiles percentiles = recorder.drain();
+        assertEquals(LatencyRecorder.MAX_SAMPLES, percentiles.getSampleCount());
+        assertEquals(1, percentiles.getMaxMs());
+    }
+}
@@ -37,6 +37,7 @@ import com.amplifyframework.datastore.appsync.ModelWithMetadata;
 import com.amplifyframework.testmodels.commentsblog.AmplifyModelProvider;
 import com.amplifyframework.testmodels.commentsblog.BlogOwner;
 import com.amplifyframework.testutils.random.RandomString;
+import com.amplifyframework.util.Time;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -59,9 +60,11 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -70,6 +73,7 @@ import static org.mockito.Mockito.verify;
 @RunWith(RobolectricTestRunner.class)
 public final class SubscriptionProcessorTest {
     private static final long OPERATION_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(1);
+    private static final long SUBSCRIPTION_LAG_MS = TimeUnit.SECONDS.toMillis(5);
 
     private List<ModelSchema> modelSchemas;
     private AppSync appSync;
@@ -77,6 +81,7 @@ public final class SubscriptionProcessorTest {
     private SubscriptionProcessor subscriptionProcessor;
     private SchemaRegistry schemaRegistry;
     private Consumer<Throwable> onFailure;
+    private SyncEngineMetrics syncEngineMetrics;
 
     /**
      * Sets up an {@link SubscriptionProcessor} and associated test dependencies.
@@ -92,6 +97,7 @@ public final class SubscriptionProcessorTest {
         this.appSync = mock(AppSync.class);
         this.merger = mock(Merger.class);
         this.onFailure = (Consumer<Throwable>) mock(Consumer.class);
+        this.syncEngineMetrics = mock(SyncEngineMetrics.class);
         DataStoreConfiguration dataStoreConfiguration = DataStoreConfiguration.builder()
                 .syncExpression(BlogOwner.class, () -> BlogOwner.NAME.beginsWith("John"))
                 .build();
@@ -104,6 +110,7 @@ public final class SubscriptionProcessorTest {
                 .merger(merger)
                 .queryPredicateProvider(queryPredicateProvider)
                 .onFailure(onFailure)
+                .syncEngineMetrics(syncEngineMetrics)
                 .build();
     }
 
@@ -211,6 +218,33 @@ public final class SubscriptionProcessorTest {
         verify(onFailure, never()).accept(any());
     }
 
+    /**
+     * The lag of a subscription event is the time since its last change on the backend. The
+     * _lastChangedAt of the event is in milliseconds, as AppSync sends it.
+     * @throws DataStoreException On failure to arrange mocking
+     */
+    @Test
+    public void subscriptionLagIsMeasuredFromLastChange() throws DataStoreException {
+        arrangeStartedSubscriptions(appSync, modelSchemas, SubscriptionType.values());
+        BlogOwner model = BlogOwner.builder()
+            .name("John Lag")
+            .build();
+        // Timestamps are deserialized from the milliseconds sent by AppSync as though they were seconds.
+        Temporal.Timestamp lastChangedAt = new Temporal.Timestamp(Time.now() - SUBSCRIPTION_LAG_MS, TimeUnit.SECONDS);
+        ModelMetadata modelMetadata = new ModelMetadata(model.getPrimaryKeyString(), false, 1, lastChangedAt);
+        GraphQLResponse<ModelWithMetadata<BlogOwner>> response =
+            new GraphQLResponse<>(new ModelWithMetadata<>(model, modelMetadata), null);
+        arrangeDataEmittingSubscription(appSync,
+                schemaRegistry.getModelSchemaForModelInstance(model),
+                SubscriptionType.ON_CREATE,
+                response);
+
+        subscriptionProcessor.startSubscriptions();
+
+        verify(syncEngineMetrics, timeout(OPERATION_TIMEOUT_MS)).onSubscriptionEventReceived(
+            longThat(lagMs -> lagMs >= SUBSCRIPTION_LAG_MS && lagMs < SUBSCRIPTION_LAG_MS + OPERATION_TIMEOUT_MS));
+    }
+
     /**
      * Return whether a response with a BlogOwner with the given name gets merged with the merger.
      * @param name name of the BlogOwner returned in the subscription
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.syncengine;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.testmodels.commentsblog.Author;
+import com.amplifyframework.testmodels.commentsblog.Blog;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+import com.amplifyframework.testmodels.commentsblog.Comment;
+import com.amplifyframework.testmodels.commentsblog.Post;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the {@link SyncPriorityOrdering} utility.
+ */
+public final class SyncPriorityOrderingTest {
+    private ModelSchema authorSchema;
+    private ModelSchema blogOwnerSchema;
+    private ModelSchema blogSchema;
+    private ModelSchema postSchema;
+    private ModelSchema commentSchema;
+    private List<ModelSchema> topologicalOrder;
+
+    /**
+     * Builds the schema for the comments blog models, in a valid topological order.
+     * @throws AmplifyException On failure to build a model schema
+     */
+    @Before
+    public void setup() throws AmplifyException {
+        authorSchema = ModelSchema.fromModelClass(Author.class);
+        blogOwnerSchema = ModelSchema.fromModelClass(BlogOwner.class);
+        blogSchema = ModelSchema.fromModelClass(Blog.class);
+        postSchema = ModelSchema.fromModelClass(Post.class);
+        commentSchema = ModelSchema.fromModelClass(Comment.class);
+        topologicalOrder = Arrays.asList(authorSchema, blogOwnerSchema, blogSchema, postSchema, commentSchema);
+    }
+
+    /**
+     * Without any priorities, the topological order is kept as-is.
+     */
+    @Test
+    public void orderIsUnchangedWithoutPriorities() {
+        assertEquals(topologicalOrder, SyncPriorityOrdering.prioritize(topologicalOrder, Collections.emptyMap()));
+    }
+
+    /**
+     * A prioritized model with no dependencies moves to the front.
+     */
+    @Test
+    public void prioritizedModelComesFirst() {
+        Map<String, Integer> priorities = new HashMap<>();
+        priorities.put("BlogOwner", 10);
+
+        assertEquals(
+            Arrays.asList(blogOwnerSchema, authorSchema, blogSchema, postSchema, commentSchema),
+            SyncPriorityOrdering.prioritize(topologicalOrder, priorities)
+        );
+    }
+
+    /**
+     * A prioritized model is preceded by the models it depends on, which inherit its priority.
+     */
+    @Test
+    public void dependenciesInheritPriority() {
+        Map<String, Integer> priorities = new HashMap<>();
+        priorities.put("Blog", 10);
+
+        assertEquals(
+            Arrays.asList(blogOwnerSchema, blogSchema, authorSchema, postSchema, commentSchema),
+            SyncPriorityOrdering.prioritize(topologicalOrder, priorities)
+        );
+    }
+
+    /**
+     * A model that depends on a higher priority model still comes after it.
+     */
+    @Test
+    public void dependentsNeverPrecedeTheirDependencies() {
+        Map<String, Integer> priorities = new HashMap<>();
+        priorities.put("Comment", 10);
+        priorities.put("Author", 5);
+
+        assertEquals(
+            Arrays.asList(authorSchema, blogOwnerSchema, blogSchema, postSchema, commentSchema),
+            SyncPriorityOrdering.prioritize(topologicalOrder, priorities)
+        );
+    }
+}
@@ -69,6 +69,7 @@ import org.robolectric.RobolectricTestRunner;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -925,6 +926,39 @@ public final class SyncProcessorTest {
         syncAndExpect(1000, 10000);
     }
 
+    /**
+     * Validate that a single page holding more items than {@link SyncProcessor#MERGE_BATCH_SIZE} is merged
+     * completely, even though it is handed to the merger in several batches.
+     * @throws AmplifyException On failure to query items in storage
+     * @throws InterruptedException If interrupted while awaiting terminal result in test observer
+     */
+    @Test
+    public void pageLargerThanMergeBatchIsFullyMerged() throws AmplifyException, InterruptedException {
+        initSyncProcessor(SYNC_MAX_RECORDS);
+        int itemCount = SyncProcessor.MERGE_BATCH_SIZE * 2 + 1;
+        List<ModelWithMetadata<BlogOwner>> responseItems = new ArrayList<>();
+        for (int index = 0; index < itemCount; index++) {
+            responseItems.add(randomBlogOwnerWithMetadata());
+        }
+        HubAccumulator modelSyncedAccumulator =
+            createAccumulator(forEvent(DataStoreChannelEventName.MODEL_SYNCED), modelCount - 1).start();
+        AppSyncMocking.sync(appSync)
+            .mockSuccessResponse(BlogOwner.class, null, null, responseItems, Collections.emptyList());
+
+        TestObserver<Void> hydrationObserver = syncProcessor.hydrate().test();
+        assertTrue(hydrationObserver.await(OP_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        hydrationObserver.assertNoErrors();
+        hydrationObserver.assertComplete();
+
+        assertEquals(itemCount, storageAdapter.query(BlogOwner.class).size());
+        for (HubEvent<?> event : modelSyncedAccumulator.await((int) OP_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+            ModelSyncedEvent eventData = (ModelSyncedEvent) event.getData();
+            if ("BlogOwner".equals(eventData.getModel())) {
+                assertEquals(itemCount, eventData.getAdded());
+            }
+        }
+    }
+
     private void syncAndExpect(int numPages, int maxSyncRecords) throws AmplifyException, InterruptedException {
         initSyncProcessor(maxSyncRecords);
         // Arrange a subscription to the storage adapter. We're going to watch for changes.
@@ -32,27 +32,51 @@ public final class RestOperationRequest {
     private final HttpMethod httpMethod;
     private final String path;
     private final byte[] data;
+    private final StreamingBody streamingBody;
     private final Map<String, String> headers;
     private final Map<String, String> queryParameters;
+    private final boolean responseBodyStreamed;
 
     /**
      * Constructs a request object for RestOperation.
      * @param httpMethod The rest operation type
      * @param path Path against which the request is made.
      * @param data Data for the rest option
+     * @param streamingBody Body streamed as the request is sent, used instead of data if not null
      * @param headers Header map for the request
      * @param queryParameters Query parameters for the request.
+     * @param responseBodyStreamed Whether the body of the response is streamed rather than read into data
      */
     public RestOperationRequest(HttpMethod httpMethod,
                                 String path,
                                 byte[] data,
+                                StreamingBody streamingBody,
                                 Map<String, String> headers,
-                                Map<String, String> queryParameters) {
+                                Map<String, String> queryParameters,
+                                boolean responseBodyStreamed) {
         this.httpMethod = httpMethod;
         this.path = path;
         this.headers = headers == null ? Collections.emptyMap() : Immutable.of(headers);
         this.data = data == null ? null : Arrays.copyOf(data, data.length);
+        this.streamingBody = streamingBody;
         this.queryParameters = queryParameters == null ? Collections.emptyMap() : Immutable.of(queryParameters);
+        this.responseBodyStreamed = responseBodyStreamed;
+    }
+
+    /**
+     * Constructs a request object for RestOperation.
+     * @param httpMethod The rest operation type
+     * @param path Path against which the request is made.
+     * @param data Data for the rest option
+     * @param headers Header map for the request
+     * @param queryParameters Query parameters for the request.
+     */
+    public RestOperationRequest(HttpMethod httpMethod,
+                                String path,
+                                byte[] data,
+                                Map<String, String> headers,
+                                Map<String, String> queryParameters) {
+        this(httpMethod, path, data, null, headers, queryParameters, false);
     }
 
     /**
@@ -101,6 +125,23 @@ public final class RestOperationRequest {
         return data;
     }
 
+    /**
+     * Returns the body streamed as the request is sent, if present.
+     * @return Streamed body for the request.
+     */
+    @Nullable
+    public StreamingBody getStreamingBody() {
+        return streamingBody;
+    }
+
+    /**
+     * Checks whether the body of the response is streamed, rather than read into its data.
+     * @return True if the body of the response is available as a stream
+     */
+    public boolean isResponseBodyStreamed() {
+        return responseBodyStreamed;
+    }
+
     /**
      * Returns the headers if present.
      * @return Header map, null if not present
@@ -116,8 +157,10 @@ public final class RestOperationRequest {
             "httpMethod=" + httpMethod +
             ", path='" + path + '\'' +
             ", data=" + Arrays.toString(data) +
+            ", streamingBody=" + streamingBody +
             ", headers=" + headers +
             ", queryParameters=" + queryParameters +
+            ", responseBodyStreamed=" + responseBodyStreamed +
             '}';
     }
 
@@ -139,6 +182,12 @@ public final class RestOperationRequest {
         if (!ObjectsCompat.equals(this.getData(), that.getData())) {
             return false;
         }
+        if (!ObjectsCompat.equals(this.getStreamingBody(), that.getStreamingBody())) {
+            return false;
+        }
+        if (this.isResponseBodyStreamed() != that.isResponseBodyStreamed()) {
+            return false;
+        }
         if (!ObjectsCompat.equals(this.getHeaders(), that.getHeaders())) {
             return false;
         }
@@ -150,6 +199,8 @@ public final class RestOperationRequest {
         int result = getHttpMethod() != null ? getHttpMethod().hashCode() : 0;
         result = 31 * result + (getPath() != null ? getPath().hashCode() : 0);
         result = 31 * result + Arrays.hashCode(getData());
+        result = 31 * result + (getStreamingBody() != null ? getStreamingBody().hashCode() : 0);
+        result = 31 * result + (isResponseBodyStreamed() ? 1 : 0);
         result = 31 * result + (getHeaders() != null ? getHeaders().hashCode() : 0);
         result = 31 * result + (getQueryParameters() != null ? getQueryParameters().hashCode() : 0);
         return result;
@@ -32,24 +32,32 @@ import java.util.Map;
 public final class RestOptions {
     private final String path;
     private final byte[] data;
+    private final StreamingBody streamingBody;
     private final Map<String, String> headers;
     private final Map<String, String> queryParameters;
+    private final boolean responseBodyStreamed;
 
     /**
      * Construct a REST request.
      * @param path Path for the endpoint to make the request
      * @param data Data for the rest option
+     * @param streamingBody Body streamed as the request is sent, instead of data. This value is nullable
      * @param headers Headers for the request.
      * @param queryParameters Query parameters for the request. This value is nullable
+     * @param responseBodyStreamed Whether the body of the response is streamed rather than read into data
      */
     private RestOptions(String path,
                        byte[] data,
+                       StreamingBody streamingBody,
                        Map<String, String> headers,
-                       Map<String, String> queryParameters) {
+                       Map<String, String> queryParameters,
+                       boolean responseBodyStreamed) {
         this.path = path;
         this.data = data == null ? null : Arrays.copyOf(data, data.length);
+        this.streamingBody = streamingBody;
         this.headers = headers == null ? Collections.emptyMap() : Immutable.of(headers);
         this.queryParameters = queryParameters == null ? Collections.emptyMap() : Immutable.of(queryParameters);
+        this.responseBodyStreamed = responseBodyStreamed;
     }
 
     /**
@@ -76,6 +84,15 @@ public final class RestOptions {
         return data;
     }
 
+    /**
+     * Returns the body streamed as the request is sent, if present.
+     * @return Streamed body for the request.
+     */
+    @Nullable
+    public StreamingBody getStreamingBody() {
+        return streamingBody;
+    }
+
     /**
      * Returns the header map if present.
      * @return Map of header key values
@@ -92,6 +109,22 @@ public final class RestOptions {
         return data != null;
     }
 
+    /**
+     * Checks if the options contains a streamed body.
+     * @return True if the streamed body is not null.
+     */
+    public boolean hasStreamingBody() {
+        return streamingBody != null;
+    }
+
+    /**
+     * Checks whether the body of the response is streamed, rather than read into its data.
+     * @return True if the body of the response is available as a stream
+     */
+    public boolean isResponseBodyStreamed() {
+        return responseBodyStreamed;
+    }
+
     /**
      * Gets a builder instance.
      * @return A builder instance
@@ -115,6 +148,12 @@ public final class RestOptions {
         if (!ObjectsCompat.equals(this.getData(), that.getData())) {
             return false;
         }
+        if (!ObjectsCompat.equals(this.getStreamingBody(), that.getStreamingBody())) {
+            return false;
+        }
+        if (this.isResponseBodyStreamed() != that.isResponseBodyStreamed()) {
+            return false;
+        }
         if (!ObjectsCompat.equals(this.getHeaders(), that.getHeaders())) {
             return false;
         }
@@ -125,6 +164,8 @@ public final class RestOptions {
     public int hashCode() {
         int result = getPath() != null ? getPath().hashCode() : 0;
         result = 31 * result + Arrays.hashCode(getData());
+        result = 31 * result + (getStreamingBody() != null ? getStreamingBody().hashCode() : 0);
+        result = 31 * result + (isResponseBodyStreamed() ? 1 : 0);
         result = 31 * result + (getHeaders() != null ? getHeaders().hashCode() : 0);
         result = 31 * result + (getQueryParameters() != null ? getQueryParameters().hashCode() : 0);
         return result;
@@ -136,8 +177,10 @@ public final class RestOptions {
         return "RestOptions{" +
             "path='" + path + '\'' +
             ", data=" + Arrays.toString(data) +
+            ", streamingBody=" + streamingBody +
             ", headers=" + headers +
             ", queryParameters=" + queryParameters +
+            ", responseBodyStreamed=" + responseBodyStreamed +
             '}';
     }
 
@@ -151,8 +194,10 @@ public final class RestOptions {
 
         private String path;
         private byte[] data;
+        private StreamingBody streamingBody;
         private Map<String, String> queryParameters;
         private Map<String, String> headers;
+        private boolean responseBodyStreamed;
 
         Builder() { }
 
@@ -176,6 +221,28 @@ public final class RestOptions {
             return this;
         }
 
+        /**
+         * Configures a body for the request that is streamed as it is sent, rather than held in memory.
+         * It is used instead of a body given as a byte array.
+         * @param streamingBody Body of the request, streamed from a file or an input stream.
+         * @return Current Builder instance, for fluent method chaining
+         */
+        public Builder addStreamingBody(final StreamingBody streamingBody) {
+            this.streamingBody = streamingBody;
+            return this;
+        }
+
+        /**
+         * Configures whether the body of the response is streamed, rather than read into its data.
+         * A streamed body is read from {@link RestResponse#getBodyStream()}, which must then be closed.
+         * @param responseBodyStreamed True to stream the body of the response.
+         * @return Current Builder instance, for fluent method chaining
+         */
+        public Builder streamResponseBody(final boolean responseBodyStreamed) {
+            this.responseBodyStreamed = responseBodyStreamed;
+            return this;
+        }
+
         /**
          * Configures the query parameters for the request.
          * @param queryParameters Query parameters for the request.
@@ -224,8 +291,10 @@ public final class RestOptions {
             return new RestOptions(
                     this.path,
                     this.data,
+                    this.streamingBody,
                     this.headers,
-                    this.queryParameters);
+                    this.queryParameters,
+                    this.responseBodyStreamed);
         }
     }
 }
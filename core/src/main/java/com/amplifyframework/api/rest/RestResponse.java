@@ -25,8 +25,10 @@ import com.amplifyframework.util.Range;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Response from rest request.
@@ -35,6 +37,7 @@ public final class RestResponse {
     private final Data data;
     private final Code code;
     private final Map<String, String> headers;
+    private final InputStream bodyStream;
 
     /**
      * Constructs a response for the rest operation with empty data.
@@ -52,9 +55,28 @@ public final class RestResponse {
      * @param headers Map of HTTP headers of the response
      */
     public RestResponse(int statusCode, Map<String, String> headers, byte[] data) {
+        this(statusCode, headers, data, null);
+    }
+
+    private RestResponse(int statusCode, Map<String, String> headers, byte[] data, InputStream bodyStream) {
         this.data = new Data(data);
         this.headers = headers;
         this.code = new Code(statusCode);
+        this.bodyStream = bodyStream;
+    }
+
+    /**
+     * Constructs a response for the rest operation, whose body is streamed rather than read into its data.
+     * @param statusCode Status code of the response
+     * @param headers Map of HTTP headers of the response
+     * @param bodyStream Stream of the body of the response
+     * @return A response with a streamed body, and empty data
+     */
+    @NonNull
+    public static RestResponse withBodyStream(int statusCode,
+                                              Map<String, String> headers,
+                                              @NonNull InputStream bodyStream) {
+        return new RestResponse(statusCode, headers, null, Objects.requireNonNull(bodyStream));
     }
 
     /**
@@ -65,6 +87,17 @@ public final class RestResponse {
         return data;
     }
 
+    /**
+     * Get the stream of the body of the response, if it was requested to be streamed with
+     * {@link RestOptions.Builder#streamResponseBody(boolean)}. The stream must be closed once read,
+     * to release the connection.
+     * @return Stream of the body, or null if the body was read into the data of the response.
+     */
+    @Nullable
+    public InputStream getBodyStream() {
+        return bodyStream;
+    }
+
     /**
      * Get the http status code of the response.
      * @return Valid status code. If the returned code is invalid, it returns -1.
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.rest;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * Body of a REST request that is streamed from a file or an input stream as it is sent,
+ * rather than being held in memory as a whole.
+ */
+public final class StreamingBody {
+    private final File file;
+    private final InputStream stream;
+    private final long contentLength;
+
+    private StreamingBody(@Nullable File file, @Nullable InputStream stream, long contentLength) {
+        this.file = file;
+        this.stream = stream;
+        this.contentLength = contentLength;
+    }
+
+    /**
+     * Creates a body streamed from a file. The file is read when the request is sent, and may be
+     * read again to sign the request, or to send it again.
+     * @param file File with the content of the body
+     * @return A body streamed from the file
+     */
+    @NonNull
+    public static StreamingBody fromFile(@NonNull File file) {
+        Objects.requireNonNull(file);
+        return new StreamingBody(file, null, file.length());
+    }
+
+    /**
+     * Creates a body streamed from an input stream. The stream is read once, when the request is
+     * sent, and then closed.
+     * @param stream Stream of the content of the body
+     * @param contentLength Number of bytes in the stream, or -1 if not known
+     * @return A body streamed from the input stream
+     */
+    @NonNull
+    public static StreamingBody fromStream(@NonNull InputStream stream, long contentLength) {
+        Objects.requireNonNull(stream);
+        return new StreamingBody(null, stream, contentLength);
+    }
+
+    /**
+     * Returns the length of the content.
+     * @return Number of bytes in the body, or -1 if not known
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    /**
+     * Checks whether the content can be read more than once.
+     * @return True if the body is streamed from a file
+     */
+    public boolean isRepeatable() {
+        return file != null;
+    }
+
+    /**
+     * Opens the content for reading. A body streamed from a file opens it again on every call,
+     * whereas a body streamed from an input stream always returns that stream.
+     * @return Stream of the content, which the caller closes
+     * @throws IOException If the file cannot be opened
+     */
+    @NonNull
+    public InputStream open() throws IOException {
+        return file != null ? new FileInputStream(file) : stream;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object thatObject) {
+        if (this == thatObject) {
+            return true;
+        }
+        if (thatObject == null || getClass() != thatObject.getClass()) {
+            return false;
+        }
+        StreamingBody that = (StreamingBody) thatObject;
+        return contentLength == that.contentLength &&
+            ObjectsCompat.equals(file, that.file) &&
+            ObjectsCompat.equals(stream, that.stream);
+    }
+
+    @Override
+    public int hashCode() {
+        return ObjectsCompat.hash(file, stream, contentLength);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "StreamingBody{" +
+            "file=" + file +
+            ", stream=" + stream +
+            ", contentLength=" + contentLength +
+            '}';
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amplifyframework.core.async;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The thread pools shared by the categories and plugins of Amplify, so that the threads they use
+ * are bounded and observable for the whole process rather than for each plugin on its own.
+ *
+ * A pool is created on first use, with the limits set for its name by
+ * {@link #setLimits(String, int, int)}, or else with 64 threads and an unbounded queue. The
+ * unbounded queue is the intended default: there is no queue limit unless one is set, so that no
+ * task is ever rejected, nor run on the thread that submits it. A pool with a bounded queue rejects
+ * the tasks that do not fit in it, unless it is set by {@link #setLimits(String, int, int, boolean)}
+ * to run them on the thread that submits them, since that thread may be the main thread, or hold
+ * what the task waits for. Shared pools, and the shared scheduler, are never shut down.
+ *
+ * A component that needs a pool of its own, which it shuts down once done with it, such as the
+ * storage of DataStore, creates it with {@link #create(String, int, int)}, so that its limits can
+ * be set the same way, and its usage is reported along with that of the shared pools.
+ */
+public final class AmplifyExecutors {
+    /**
+     * Name of the pool on which Hub events are dispatched to subscribers.
+     */
+    public static final String HUB = "hub";
+
+    /**
+     * Name of the pool on which the API category runs requests and subscriptions.
+     */
+    public static final String API = "api";
+
+    /**
+     * Name of the pool on which DataStore runs the operations of its local storage. It is created
+     * by each storage adapter, rather than shared.
+     */
+    public static final String DATASTORE_STORAGE = "datastore-storage";
+
+    private static final int DEFAULT_MAX_THREADS = 64;
+    private static final int UNBOUNDED_QUEUE_CAPACITY = Integer.MAX_VALUE;
+    private static final String SCHEDULER_THREAD_NAME = "amplify-scheduler";
+    private static final long SCHEDULER_KEEP_ALIVE_SECONDS = 60;
+
+    private static final Map<String, BoundedExecutor> EXECUTORS = new HashMap<>();
+    private static final Map<String, BoundedExecutor> CREATED_EXECUTORS = new HashMap<>();
+    private static final Map<String, Limits> LIMITS = new HashMap<>();
+    private static ScheduledThreadPoolExecutor scheduler;
+
+    private AmplifyExecutors() {
+        throw new UnsupportedOperationException("No instances allowed.");
+    }
+
+    /**
+     * Gets the shared pool with the given name, creating it on first use.
+     * @param name Name of the pool
+     * @return The shared pool
+     */
+    @NonNull
+    public static synchronized BoundedExecutor get(@NonNull String name) {
+        Objects.requireNonNull(name);
+        BoundedExecutor executor = EXECUTORS.get(name);
+        if (executor == null) {
+            Limits limits = LIMITS.get(name);
+            executor = limits != null
+                ? new BoundedExecutor(name, limits.maxThreads, limits.queueCapacity, limits.runOnCallerWhenSaturated)
+                : new BoundedExecutor(name, DEFAULT_MAX_THREADS, UNBOUNDED_QUEUE_CAPACITY);
+            EXECUTORS.put(name, executor);
+        }
+        return executor;
+    }
+
+    /**
+     * Creates a pool for a single component, which shuts it down once done with it. The pool has
+     * the limits set for its name by {@link #setLimits(String, int, int)}, if any, or else the given
+     * ones. Its usage is reported by {@link #getStats()} until it is shut down, or until another
+     * pool is created with its name.
+     * @param name Name of the pool
+     * @param maxThreads Maximum number of threads running tasks at once, unless limits are set
+     * @param queueCapacity Maximum number of tasks waiting for a thread, unless limits are set
+     * @return A new pool
+     * @throws IllegalArgumentException If the name is that of a shared pool in use
+     */
+    @NonNull
+    public static synchronized BoundedExecutor create(@NonNull String name, int maxThreads, int queueCapacity) {
+        Objects.requireNonNull(name);
+        if (EXECUTORS.containsKey(name)) {
+            throw new IllegalArgumentException("The " + name + " executor is shared, so it cannot be created.");
+        }
+        Limits limits = LIMITS.get(name);
+        BoundedExecutor executor = limits != null
+            ? new BoundedExecutor(name, limits.maxThreads, limits.queueCapacity, limits.runOnCallerWhenSaturated)
+            : new BoundedExecutor(name, maxThreads, queueCapacity);
+        CREATED_EXECUTORS.put(name, executor);
+        return executor;
+    }
+
+    /**
+     * Sets the limits of the pool with the given name. Limits of a shared pool must be set before
+     * it is first used, that is before Amplify is configured; limits of a created pool apply to the
+     * pools created after they are set. Shared pools default to 64 threads and an unbounded queue.
+     * Once its queue is full, the pool rejects tasks.
+     * @param name Name of the pool
+     * @param maxThreads Maximum number of threads running tasks at once
+     * @param queueCapacity Maximum number of tasks waiting for a thread
+     * @throws IllegalStateException If the shared pool is already in use
+     */
+    public static void setLimits(@NonNull String name, int maxThreads, int queueCapacity) {
+        setLimits(name, maxThreads, queueCapacity, false);
+    }
+
+    /**
+     * Sets the limits of the pool with the given name, and whether it runs the tasks that
+     * do not fit in its queue on the thread that submits them, rather than rejecting them. That
+     * thread may be the main thread, or hold what the task waits for, so only set it for pools
+     * whose submitters are known to be able to run their tasks. Limits of a shared pool must be
+     * set before it is first used, that is before Amplify is configured.
+     * @param name Name of the pool
+     * @param maxThreads Maximum number of threads running tasks at once
+     * @param queueCapacity Maximum number of tasks waiting for a thread
+     * @param runOnCallerWhenSaturated Whether a task that does not fit in the queue is run on the
+     *                                 thread that submits it
+     * @throws IllegalStateException If the shared pool is already in use
+     */
+    public static synchronized void setLimits(
+            @NonNull String name, int maxThreads, int queueCapacity, boolean runOnCallerWhenSaturated) {
+        Objects.requireNonNull(name);
+        if (EXECUTORS.containsKey(name)) {
+            throw new IllegalStateException("The " + name + " executor is already in use, so its limits " +
+                "can no longer be changed. Set them before configuring Amplify.");
+        }
+        if (maxThreads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Limits must be positive, but were " + maxThreads +
+                " threads and a queue of " + queueCapacity + " tasks.");
+        }
+        LIMITS.put(name, new Limits(maxThreads, queueCapacity, runOnCallerWhenSaturated));
+    }
+
+    /**
+     * Gets the shared scheduler, creating it on first use. It runs delayed tasks on a single
+     * daemon thread, which stops after being idle for a minute, so its tasks should be short,
+     * handing any longer work to a pool.
+     * @return The shared scheduler
+     */
+    @NonNull
+    public static synchronized ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, SCHEDULER_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setKeepAliveTime(SCHEDULER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+            scheduler.allowCoreThreadTimeOut(true);
+            scheduler.setRemoveOnCancelPolicy(true);
+        }
+        return scheduler;
+    }
+
+    /**
+     * Gets a snapshot of the usage of each of the shared pools in use, and of the created pools
+     * that have not been shut down.
+     * @return Usage of the pools
+     */
+    @NonNull
+    public static synchronized List<ExecutorStats> getStats() {
+        List<ExecutorStats> stats = new ArrayList<>();
+        for (BoundedExecutor executor : EXECUTORS.values()) {
+            stats.add(executor.getStats());
+        }
+        Iterator<BoundedExecutor> created = CREATED_EXECUTORS.values().iterator();
+        while (created.hasNext()) {
+            BoundedExecutor executor = created.next();
+            if (executor.isShutdown()) {
+                created.remove();
+            } else {
+                stats.add(executor.getStats());
+            }
+        }
+        return stats;
+    }
+
+    private static final class Limits {
+        private final int maxThreads;
+        private final int queueCapacity;
+        private final boolean runOnCallerWhenSaturated;
+
+        Limits(int maxThreads, int queueCapacity, boolean runOnCallerWhenSaturated) {
+            this.maxThreads = maxThreads;
+            this.queueCapacity = queueCapacity;
+            this.runOnCallerWhenSaturated = runOnCallerWhenSaturated;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.core.async;
+
+import androidx.annotation.NonNull;
+
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread pool with a bounded number of threads and a bounded queue, whose threads are named
+ * after the pool and which keeps track of how long its tasks wait and run.
+ *
+ * Threads are started as tasks arrive, up to the maximum, and stop after being idle for a
+ * minute. Once all of the threads are busy, tasks wait in the queue. When the queue is full too,
+ * a task is rejected with a {@link RejectedExecutionException}, unless the pool is made to run it
+ * on the thread that submitted it, which slows the submitter down to the pace of the pool instead.
+ * Only pools whose submitters can afford to run a task, and which do not hold anything the task
+ * waits for, should run tasks on the submitter: it may be the main thread.
+ */
+public final class BoundedExecutor extends ThreadPoolExecutor {
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final String name;
+    private final int queueCapacity;
+    private final boolean runOnCallerWhenSaturated;
+    private final AtomicLong finishedTasks = new AtomicLong();
+    private final AtomicLong callerRunTasks = new AtomicLong();
+    private final AtomicLong rejectedTasks = new AtomicLong();
+    private final AtomicLong totalQueueTimeNanos = new AtomicLong();
+    private final AtomicLong totalRunTimeNanos = new AtomicLong();
+    private final AtomicLong maxQueueTimeNanos = new AtomicLong();
+
+    /**
+     * Constructs a new BoundedExecutor, which rejects the tasks that do not fit in its queue.
+     * @param name Name of the pool, used to name its threads
+     * @param maxThreads Maximum number of threads running tasks at once
+     * @param queueCapacity Maximum number of tasks waiting for a thread
+     */
+    public BoundedExecutor(@NonNull String name, int maxThreads, int queueCapacity) {
+        this(name, maxThreads, queueCapacity, false);
+    }
+
+    /**
+     * Constructs a new BoundedExecutor.
+     * @param name Name of the pool, used to name its threads
+     * @param maxThreads Maximum number of threads running tasks at once
+     * @param queueCapacity Maximum number of tasks waiting for a thread
+     * @param runOnCallerWhenSaturated Whether a task that does not fit in the queue is run on the thread
+     *                                 that submits it, rather than rejected
+     */
+    public BoundedExecutor(
+            @NonNull String name, int maxThreads, int queueCapacity, boolean runOnCallerWhenSaturated) {
+        super(checkPositive("maxThreads", maxThreads), maxThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(checkPositive("queueCapacity", queueCapacity)),
+            new NamedThreadFactory(Objects.requireNonNull(name)), new SaturationHandler());
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        this.runOnCallerWhenSaturated = runOnCallerWhenSaturated;
+        allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Gets the name of the pool.
+     * @return Name of the pool
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        super.execute(new TimedTask(Objects.requireNonNull(command)));
+    }
+
+    /**
+     * Gets the maximum number of tasks that can wait for a thread.
+     * @return Capacity of the queue
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Gets a snapshot of the usage of the pool.
+     * @return Usage of the pool
+     */
+    @NonNull
+    public ExecutorStats getStats() {
+        return new ExecutorStats(this);
+    }
+
+    long finishedTasks() {
+        return finishedTasks.get();
+    }
+
+    long callerRunTasks() {
+        return callerRunTasks.get();
+    }
+
+    long rejectedTasks() {
+        return rejectedTasks.get();
+    }
+
+    long totalQueueTimeNanos() {
+        return totalQueueTimeNanos.get();
+    }
+
+    long maxQueueTimeNanos() {
+        return maxQueueTimeNanos.get();
+    }
+
+    long totalRunTimeNanos() {
+        return totalRunTimeNanos.get();
+    }
+
+    private static int checkPositive(String parameter, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(parameter + " must be positive, but was " + value);
+        }
+        return value;
+    }
+
+    // Records how long a task waited for a thread, and how long it ran.
+    private final class TimedTask implements Runnable {
+        private final Runnable task;
+        private final long submittedAt;
+
+        TimedTask(Runnable task) {
+            this.task = task;
+            this.submittedAt = System.nanoTime();
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            long queueTime = startedAt - submittedAt;
+            totalQueueTimeNanos.addAndGet(queueTime);
+            maxQueueTimeNanos.accumulateAndGet(queueTime, Math::max);
+            try {
+                task.run();
+            } finally {
+                totalRunTimeNanos.addAndGet(System.nanoTime() - startedAt);
+                finishedTasks.incrementAndGet();
+            }
+        }
+    }
+
+    // Rejects a task that does not fit in the queue, or runs it on the submitting thread if the pool is made
+    // to, unless the pool is shut down.
+    private static final class SaturationHandler implements RejectedExecutionHandler {
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            BoundedExecutor boundedExecutor = (BoundedExecutor) executor;
+            if (boundedExecutor.isShutdown()) {
+                throw new RejectedExecutionException("Executor " + boundedExecutor.name + " is shut down.");
+            }
+            if (!boundedExecutor.runOnCallerWhenSaturated) {
+                boundedExecutor.rejectedTasks.incrementAndGet();
+                throw new RejectedExecutionException("Executor " + boundedExecutor.name + " is saturated: " +
+                    "its " + boundedExecutor.getMaximumPoolSize() + " threads are busy and its queue of " +
+                    boundedExecutor.queueCapacity + " tasks is full.");
+            }
+            boundedExecutor.callerRunTasks.incrementAndGet();
+            task.run();
+        }
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        NamedThreadFactory(String poolName) {
+            this.prefix = "amplify-" + poolName + "-";
+        }
+
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            return new Thread(runnable, prefix + threadCount.incrementAndGet());
+        }
+    }
+}
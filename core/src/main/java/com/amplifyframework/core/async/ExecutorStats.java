@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amplifyframework.core.async;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A snapshot of the usage of a {@link BoundedExecutor}: how many threads it runs, how many tasks
+ * are waiting for one, and how long its tasks have waited and run on average.
+ */
+public final class ExecutorStats {
+    private final String name;
+    private final int poolSize;
+    private final int activeCount;
+    private final int maxThreads;
+    private final int queueDepth;
+    private final int queueCapacity;
+    private final long finishedTasks;
+    private final long callerRunTasks;
+    private final long rejectedTasks;
+    private final double averageQueueTimeMs;
+    private final long maxQueueTimeMs;
+    private final double averageRunTimeMs;
+
+    ExecutorStats(@NonNull BoundedExecutor executor) {
+        this.name = executor.getName();
+        this.poolSize = executor.getPoolSize();
+        this.activeCount = executor.getActiveCount();
+        this.maxThreads = executor.getMaximumPoolSize();
+        this.queueDepth = executor.getQueue().size();
+        this.queueCapacity = executor.getQueueCapacity();
+        this.finishedTasks = executor.finishedTasks();
+        this.callerRunTasks = executor.callerRunTasks();
+        this.rejectedTasks = executor.rejectedTasks();
+        this.averageQueueTimeMs = averageMs(executor.totalQueueTimeNanos(), finishedTasks);
+        this.maxQueueTimeMs = TimeUnit.NANOSECONDS.toMillis(executor.maxQueueTimeNanos());
+        this.averageRunTimeMs = averageMs(executor.totalRunTimeNanos(), finishedTasks);
+    }
+
+    private static double averageMs(long totalNanos, long count) {
+        return count == 0 ? 0 : (double) totalNanos / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Gets the name of the pool.
+     * @return Name of the pool
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of threads in the pool, busy or idle.
+     * @return Number of threads
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Gets the number of threads running a task.
+     * @return Number of busy threads
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * Gets the maximum number of threads of the pool.
+     * @return Maximum number of threads
+     */
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * Gets the number of tasks waiting for a thread.
+     * @return Number of queued tasks
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Gets the maximum number of tasks that can wait for a thread.
+     * @return Capacity of the queue
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Gets the number of tasks that have finished running.
+     * @return Number of finished tasks
+     */
+    public long getFinishedTasks() {
+        return finishedTasks;
+    }
+
+    /**
+     * Gets the number of tasks that were run on the submitting thread, because the queue was full.
+     * @return Number of tasks run by their submitter
+     */
+    public long getCallerRunTasks() {
+        return callerRunTasks;
+    }
+
+    /**
+     * Gets the number of tasks that were rejected, because the queue was full.
+     * @return Number of rejected tasks
+     */
+    public long getRejectedTasks() {
+        return rejectedTasks;
+    }
+
+    /**
+     * Gets how long the finished tasks waited for a thread, on average.
+     * @return Average queue time, in milliseconds
+     */
+    public double getAverageQueueTimeMs() {
+        return averageQueueTimeMs;
+    }
+
+    /**
+     * Gets the longest time a task waited for a thread.
+     * @return Maximum queue time, in milliseconds
+     */
+    public long getMaxQueueTimeMs() {
+        return maxQueueTimeMs;
+    }
+
+    /**
+     * Gets how long the finished tasks ran, on average.
+     * @return Average run time, in milliseconds
+     */
+    public double getAverageRunTimeMs() {
+        return averageRunTimeMs;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object thatObject) {
+        if (this == thatObject) {
+            return true;
+        }
+        if (thatObject == null || getClass() != thatObject.getClass()) {
+            return false;
+        }
+        ExecutorStats that = (ExecutorStats) thatObject;
+        return poolSize == that.poolSize &&
+            activeCount == that.activeCount &&
+            maxThreads == that.maxThreads &&
+            queueDepth == that.queueDepth &&
+            queueCapacity == that.queueCapacity &&
+            finishedTasks == that.finishedTasks &&
+            callerRunTasks == that.callerRunTasks &&
+            rejectedTasks == that.rejectedTasks &&
+            Double.compare(averageQueueTimeMs, that.averageQueueTimeMs) == 0 &&
+            maxQueueTimeMs == that.maxQueueTimeMs &&
+            Double.compare(averageRunTimeMs, that.averageRunTimeMs) == 0 &&
+            ObjectsCompat.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return ObjectsCompat.hash(name, poolSize, activeCount, maxThreads, queueDepth, queueCapacity,
+            finishedTasks, callerRunTasks, rejectedTasks, averageQueueTimeMs, maxQueueTimeMs, averageRunTimeMs);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "ExecutorStats{" +
+            "name='" + name + '\'' +
+            ", poolSize=" + poolSize +
+            ", activeCount=" + activeCount +
+            ", maxThreads=" + maxThreads +
+            ", queueDepth=" + queueDepth +
+            ", queueCapacity=" + queueCapacity +
+            ", finishedTasks=" + finishedTasks +
+            ", callerRunTasks=" + callerRunTasks +
+            ", rejectedTasks=" + rejectedTasks +
+            ", averageQueueTimeMs=" + averageQueueTimeMs +
+            ", maxQueueTimeMs=" + maxQueueTimeMs +
+            ", averageRunTimeMs=" + averageRunTimeMs +
+            '}';
+    }
+}
@@ -86,14 +86,34 @@ public enum DataStoreChannelEventName {
     /**
      * The sync process for one of the models has completed. This
      * event is emitted with metrics related to the latest sync
-     * for the model.
+     * for the model. It is emitted as soon as that model is ready to
+     * be queried, without waiting for the other models; models with a
+     * higher sync priority are synced, and announced, first.
      */
     MODEL_SYNCED("modelSynced"),
 
     /**
      * Non applicable data was received from the backend.
      */
-    NON_APPLICABLE_DATA_RECEIVED("nonApplicableDataReceived");
+    NON_APPLICABLE_DATA_RECEIVED("nonApplicableDataReceived"),
+
+    /**
+     * The sync process for one of the models has completed. This event is
+     * emitted with a breakdown of where that sync spent its time.
+     */
+    MODEL_SYNC_METRICS("modelSyncMetrics"),
+
+    /**
+     * The mutation outbox has been drained. This event is emitted with the
+     * latencies of the mutations that were published since the last one.
+     */
+    OUTBOX_DRAIN_METRICS("outboxDrainMetrics"),
+
+    /**
+     * Emitted periodically while subscription events are received, with the
+     * lag of the events received since the last one.
+     */
+    SUBSCRIPTION_LAG_METRICS("subscriptionLagMetrics");
 
     private final String hubEventName;
 
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.events;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * A summary of a set of latency samples, in milliseconds.
+ */
+public final class LatencyPercentiles {
+    private final int sampleCount;
+    private final long p50Ms;
+    private final long p90Ms;
+    private final long p99Ms;
+    private final long maxMs;
+
+    /**
+     * Constructs a LatencyPercentiles object.
+     * @param sampleCount Number of samples that were summarized.
+     * @param p50Ms Median latency, in milliseconds.
+     * @param p90Ms 90th percentile latency, in milliseconds.
+     * @param p99Ms 99th percentile latency, in milliseconds.
+     * @param maxMs Highest latency, in milliseconds.
+     */
+    public LatencyPercentiles(int sampleCount, long p50Ms, long p90Ms, long p99Ms, long maxMs) {
+        this.sampleCount = sampleCount;
+        this.p50Ms = p50Ms;
+        this.p90Ms = p90Ms;
+        this.p99Ms = p99Ms;
+        this.maxMs = maxMs;
+    }
+
+    /**
+     * Getter for the number of samples.
+     * @return Number of samples that were summarized.
+     */
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Getter for the median latency.
+     * @return Median latency, in milliseconds.
+     */
+    public long getP50Ms() {
+        return p50Ms;
+    }
+
+    /**
+     * Getter for the 90th percentile latency.
+     * @return 90th percentile latency, in milliseconds.
+     */
+    public long getP90Ms() {
+        return p90Ms;
+    }
+
+    /**
+     * Getter for the 99th percentile latency.
+     * @return 99th percentile latency, in milliseconds.
+     */
+    public long getP99Ms() {
+        return p99Ms;
+    }
+
+    /**
+     * Getter for the highest latency.
+     * @return Highest latency, in milliseconds.
+     */
+    public long getMaxMs() {
+        return maxMs;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "LatencyPercentiles{" +
+            "sampleCount=" + sampleCount +
+            ", p50Ms=" + p50Ms +
+            ", p90Ms=" + p90Ms +
+            ", p99Ms=" + p99Ms +
+            ", maxMs=" + maxMs +
+            '}';
+    }
+
+    @Override
+    public int hashCode() {
+        int result = sampleCount;
+        result = 31 * result + Long.valueOf(p50Ms).hashCode();
+        result = 31 * result + Long.valueOf(p90Ms).hashCode();
+        result = 31 * result + Long.valueOf(p99Ms).hashCode();
+        result = 31 * result + Long.valueOf(maxMs).hashCode();
+        return result;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object thatObject) {
+        if (this == thatObject) {
+            return true;
+        }
+        if (thatObject == null || getClass() != thatObject.getClass()) {
+            return false;
+        }
+
+        LatencyPercentiles that = (LatencyPercentiles) thatObject;
+
+        return sampleCount == that.sampleCount &&
+            p50Ms == that.p50Ms &&
+            p90Ms == that.p90Ms &&
+            p99Ms == that.p99Ms &&
+            maxMs == that.maxMs;
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.events;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+
+import com.amplifyframework.datastore.DataStoreChannelEventName;
+import com.amplifyframework.hub.HubEvent;
+
+import java.util.Objects;
+
+/**
+ * Hub event payload emitted when the sync of a given model completes, describing where the sync spent its time.
+ *
+ * The network time of a page is measured from sending its request until its response has been decoded, so it
+ * includes decoding the JSON response. The deserialize time covers the conversion of the decoded items into the
+ * model's schema, and the merge time covers writing the items into local storage.
+ */
+public final class ModelSyncMetricsEvent implements HubEvent.Data<ModelSyncMetricsEvent> {
+    private final String model;
+    private final boolean isFullSync;
+    private final int pagesFetched;
+    private final int itemsReceived;
+    private final long networkTimeMs;
+    private final long deserializeTimeMs;
+    private final long mergeTimeMs;
+    private final int mergeBatchCount;
+    private final int maxMergeBatchSize;
+
+    private ModelSyncMetricsEvent(Builder builder) {
+        this.model = builder.model;
+        this.isFullSync = builder.isFullSync;
+        this.pagesFetched = builder.pagesFetched;
+        this.itemsReceived = builder.itemsReceived;
+        this.networkTimeMs = builder.networkTimeMs;
+        this.deserializeTimeMs = builder.deserializeTimeMs;
+        this.mergeTimeMs = builder.mergeTimeMs;
+        this.mergeBatchCount = builder.mergeBatchCount;
+        this.maxMergeBatchSize = builder.maxMergeBatchSize;
+    }
+
+    /**
+     * Returns a new builder of {@link ModelSyncMetricsEvent}.
+     * @return A new builder
+     */
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Getter for the model name.
+     * @return The model name (ex. Post).
+     */
+    @NonNull
+    public String getModel() {
+        return model;
+    }
+
+    /**
+     * Getter for the isFullSync property.
+     * @return True if it's a full sync, false if it's a delta sync.
+     */
+    public boolean isFullSync() {
+        return isFullSync;
+    }
+
+    /**
+     * Getter for the number of pages fetched.
+     * @return Number of pages fetched from the backend.
+     */
+    public int getPagesFetched() {
+        return pagesFetched;
+    }
+
+    /**
+     * Getter for the number of items received.
+     * @return Number of items received from the backend, across all pages.
+     */
+    public int getItemsReceived() {
+        return itemsReceived;
+    }
+
+    /**
+     * Getter for the network time.
+     * @return Total time spent fetching and decoding pages, in milliseconds.
+     */
+    public long getNetworkTimeMs() {
+        return networkTimeMs;
+    }
+
+    /**
+     * Getter for the deserialize time.
+     * @return Total time spent converting received items into models, in milliseconds.
+     */
+    public long getDeserializeTimeMs() {
+        return deserializeTimeMs;
+    }
+
+    /**
+     * Getter for the merge time.
+     * @return Total time spent merging items into local storage, in milliseconds.
+     */
+    public long getMergeTimeMs() {
+        return mergeTimeMs;
+    }
+
+    /**
+     * Getter for the number of merge batches.
+     * @return Number of batches (each merged in one local storage transaction).
+     */
+    public int getMergeBatchCount() {
+        return mergeBatchCount;
+    }
+
+    /**
+     * Getter for the size of the largest merge batch.
+     * @return Number of items in the largest merge batch.
+     */
+    public int getMaxMergeBatchSize() {
+        return maxMergeBatchSize;
+    }
+
+    @Override
+    public HubEvent<ModelSyncMetricsEvent> toHubEvent() {
+        return HubEvent.create(DataStoreChannelEventName.MODEL_SYNC_METRICS, this);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "ModelSyncMetricsEvent{" +
+            "model=" + model +
+            ", isFullSync=" + isFullSync +
+            ", pagesFetched=" + pagesFetched +
+            ", itemsReceived=" + itemsReceived +
+            ", networkTimeMs=" + networkTimeMs +
+            ", deserializeTimeMs=" + deserializeTimeMs +
+            ", mergeTimeMs=" + mergeTimeMs +
+            ", mergeBatchCount=" + mergeBatchCount +
+            ", maxMergeBatchSize=" + maxMergeBatchSize +
+            '}';
+    }
+
+    @Override
+    public int hashCode() {
+        int result = model.hashCode();
+        result = 31 * result + Boolean.valueOf(isFullSync).hashCode();
+        result = 31 * result + pagesFetched;
+        result = 31 * result + itemsReceived;
+        result = 31 * result + Long.valueOf(networkTimeMs).hashCode();
+        result = 31 * result + Long.valueOf(deserializeTimeMs).hashCode();
+        result = 31 * result + Long.valueOf(mergeTimeMs).hashCode();
+        result = 31 * result + mergeBatchCount;
+        result = 31 * result + maxMergeBatchSize;
+        return result;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object thatObject) {
+        if (this == thatObject) {
+            return true;
+        }
+        if (thatObject == null || getClass() != thatObject.getClass()) {
+            return false;
+        }
+
+        ModelSyncMetricsEvent that = (ModelSyncMetricsEvent) thatObject;
+
+        return ObjectsCompat.equals(model, that.model) &&
+            isFullSync == that.isFullSync &&
+            pagesFetched == that.pagesFetched &&
+            itemsReceived == that.itemsReceived &&
+            networkTimeMs == that.networkTimeMs &&
+            deserializeTimeMs == that.deserializeTimeMs &&
+            mergeTimeMs == that.mergeTimeMs &&
+            mergeBatchCount == that.mergeBatchCount &&
+            maxMergeBatchSize == that.maxMergeBatchSize;
+    }
+
+    /**
+     * Builds instances of {@link ModelSyncMetricsEvent}.
+     */
+    public static final class Builder {
+        private String model;
+        private boolean isFullSync;
+        private int pagesFetched;
+        private int itemsReceived;
+        private long networkTimeMs;
+        private long deserializeTimeMs;
+        private long mergeTimeMs;
+        private int mergeBatchCount;
+        private int maxMergeBatchSize;
+
+        private Builder() {}
+
+        /**
+         * Sets the name of the model.
+         * @param model The model name (ex. Post)
+         * @return Current builder
+         */
+        @NonNull
+        public Builder model(@NonNull String model) {
+            this.model = Objects.requireNonNull(model);
+            return this;
+        }
+
+        /**
+         * Sets whether the sync was a full sync.
+         * @param isFullSync True for a full sync, false for a delta sync
+         * @return Current builder
+         */
+        @NonNull
+        public Builder isFullSync(boolean isFullSync) {
+            this.isFullSync = isFullSync;
+            return this;
+        }
+
+        /**
+         * Sets the number of pages fetched.
+         * @param pagesFetched Number of pages fetched from the backend
+         * @return Current builder
+         */
+        @NonNull
+        public Builder pagesFetched(int pagesFetched) {
+            this.pagesFetched = pagesFetched;
+            return this;
+        }
+
+        /**
+         * Sets the number of items received.
+         * @param itemsReceived Number of items received from the backend
+         * @return Current builder
+         */
+        @NonNull
+        public Builder itemsReceived(int itemsReceived) {
+            this.itemsReceived = itemsReceived;
+            return this;
+        }
+
+        /**
+         * Sets the network time.
+         * @param networkTimeMs Total time spent fetching and decoding pages, in milliseconds
+         * @return Current builder
+         */
+        @NonNull
+        public Builder networkTimeMs(long networkTimeMs) {
+            this.networkTimeMs = networkTimeMs;
+            return this;
+        }
+
+        /**
+         * Sets the deserialize time.
+         * @param deserializeTimeMs Total time spent converting received items into models, in milliseconds
+         * @return Current builder
+         */
+        @NonNull
+        public Builder deserializeTimeMs(long deserializeTimeMs) {
+            this.deserializeTimeMs = deserializeTimeMs;
+            return this;
+        }
+
+        /**
+         * Sets the merge time.
+         * @param mergeTimeMs Total time spent merging items into local storage, in milliseconds
+         * @return Current builder
+         */
+        @NonNull
+        public Builder mergeTimeMs(long mergeTimeMs) {
+            this.mergeTimeMs = mergeTimeMs;
+            return this;
+        }
+
+        /**
+         * Sets the number of merge batches.
+         * @param mergeBatchCount Number of batches merged into local storage
+         * @return Current builder
+         */
+        @NonNull
+        public Builder mergeBatchCount(int mergeBatchCount) {
+            this.mergeBatchCount = mergeBatchCount;
+            return this;
+        }
+
+        /**
+         * Sets the size of the largest merge batch.
+         * @param maxMergeBatchSize Number of items in the largest merge batch
+         * @return Current builder
+         */
+        @NonNull
+        public Builder maxMergeBatchSize(int maxMergeBatchSize) {
+            this.maxMergeBatchSize = maxMergeBatchSize;
+            return this;
+        }
+
+        /**
+         * Builds a {@link ModelSyncMetricsEvent}.
+         * @return A ModelSyncMetricsEvent
+         */
+        @NonNull
+        public ModelSyncMetricsEvent build() {
+            Objects.requireNonNull(model);
+            return new ModelSyncMetricsEvent(this);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.events;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+
+import com.amplifyframework.datastore.DataStoreChannelEventName;
+import com.amplifyframework.hub.HubEvent;
+
+import java.util.Objects;
+
+/**
+ * Hub event payload emitted when the mutation outbox has been drained. It summarizes how long
+ * the mutations published since the previous such event waited, from the moment they were enqueued
+ * until they were accepted by the backend.
+ */
+public final class OutboxDrainMetricsEvent implements HubEvent.Data<OutboxDrainMetricsEvent> {
+    private final LatencyPercentiles latency;
+
+    /**
+     * Constructs a OutboxDrainMetricsEvent object.
+     * @param latency Time from enqueueing a mutation until it was accepted by the backend.
+     */
+    public OutboxDrainMetricsEvent(@NonNull LatencyPercentiles latency) {
+        this.latency = Objects.requireNonNull(latency);
+    }
+
+    /**
+     * Getter for the outbox drain latency.
+     * @return Time from enqueueing a mutation until it was accepted by the backend.
+     */
+    @NonNull
+    public LatencyPercentiles getLatency() {
+        return latency;
+    }
+
+    @Override
+    public HubEvent<OutboxDrainMetricsEvent> toHubEvent() {
+        return HubEvent.create(DataStoreChannelEventName.OUTBOX_DRAIN_METRICS, this);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "OutboxDrainMetricsEvent{" +
+            "latency=" + latency +
+            '}';
+    }
+
+    @Override
+    public int hashCode() {
+        return latency.hashCode();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object thatObject) {
+        if (this == thatObject) {
+            return true;
+        }
+        if (thatObject == null || getClass() != thatObject.getClass()) {
+            return false;
+        }
+
+        OutboxDrainMetricsEvent that = (OutboxDrainMetricsEvent) thatObject;
+
+        return ObjectsCompat.equals(latency, that.latency);
+    }
+}
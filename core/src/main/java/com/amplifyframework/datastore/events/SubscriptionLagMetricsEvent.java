@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.events;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+
+import com.amplifyframework.datastore.DataStoreChannelEventName;
+import com.amplifyframework.hub.HubEvent;
+
+import java.util.Objects;
+
+/**
+ * Hub event payload emitted periodically while DataStore receives subscription events. It summarizes the
+ * lag of the events received since the previous such event: the time from the backend's last change to a
+ * model until the change was received by this device. The lag is measured against the device clock, so it
+ * also includes any clock skew between the device and the backend. Change times have a precision of one
+ * second.
+ */
+public final class SubscriptionLagMetricsEvent implements HubEvent.Data<SubscriptionLagMetricsEvent> {
+    private final LatencyPercentiles lag;
+
+    /**
+     * Constructs a SubscriptionLagMetricsEvent object.
+     * @param lag Time from a change on the backend until the change was received.
+     */
+    public SubscriptionLagMetricsEvent(@NonNull LatencyPercentiles lag) {
+        this.lag = Objects.requireNonNull(lag);
+    }
+
+    /**
+     * Getter for the subscription event lag.
+     * @return Time from a change on the backend until the change was received.
+     */
+    @NonNull
+    public LatencyPercentiles getLag() {
+        return lag;
+    }
+
+    @Override
+    public HubEvent<SubscriptionLagMetricsEvent> toHubEvent() {
+        return HubEvent.create(DataStoreChannelEventName.SUBSCRIPTION_LAG_METRICS, this);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "SubscriptionLagMetricsEvent{" +
+            "lag=" + lag +
+            '}';
+    }
+
+    @Override
+    public int hashCode() {
+        return lag.hashCode();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object thatObject) {
+        if (this == thatObject) {
+            return true;
+        }
+        if (thatObject == null || getClass() != thatObject.getClass()) {
+            return false;
+        }
+
+        SubscriptionLagMetricsEvent that = (SubscriptionLagMetricsEvent) thatObject;
+
+        return ObjectsCompat.equals(lag, that.lag);
+    }
+}
@@ -21,6 +21,7 @@ import androidx.annotation.Nullable;
 import androidx.core.util.ObjectsCompat;
 
 import com.amplifyframework.core.BuildConfig;
+import com.amplifyframework.core.async.AmplifyExecutors;
 
 import org.json.JSONObject;
 
@@ -29,11 +30,10 @@ import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * An implementation of the {@link HubPlugin} which dispatches messages via
- * an {@link ExecutorService}.
+ * the shared {@link AmplifyExecutors#HUB} {@link ExecutorService}.
  */
 public final class AWSHubPlugin extends HubPlugin<Void> {
     private final Set<Subscription> subscriptions;
@@ -45,7 +45,7 @@ public final class AWSHubPlugin extends HubPlugin<Void> {
     @SuppressWarnings("WeakerAccess") // This is a public API
     public AWSHubPlugin() {
         this.subscriptions = new HashSet<>();
-        this.executorService = Executors.newCachedThreadPool();
+        this.executorService = AmplifyExecutors.get(AmplifyExecutors.HUB);
     }
 
     @Override
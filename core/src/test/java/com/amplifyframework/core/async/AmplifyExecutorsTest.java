@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amplifyframework.core.async;
+
+import com.amplifyframework.testutils.Latch;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link AmplifyExecutors}.
+ */
+public final class AmplifyExecutorsTest {
+    /**
+     * The shared scheduler runs delayed tasks on a daemon thread, so that it does not keep the process alive.
+     */
+    @Test
+    public void schedulerRunsTasksOnDaemonThread() {
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        CountDownLatch ran = new CountDownLatch(1);
+        AmplifyExecutors.getScheduler().schedule(() -> {
+            runner.set(Thread.currentThread());
+            ran.countDown();
+        }, 1, TimeUnit.MILLISECONDS);
+        Latch.await(ran);
+
+        assertSame(AmplifyExecutors.getScheduler(), AmplifyExecutors.getScheduler());
+        assertEquals("amplify-scheduler", runner.get().getName());
+        assertTrue(runner.get().isDaemon());
+    }
+
+    /**
+     * A shared pool whose limits are not set has an unbounded queue, so that it never runs a task on the
+     * thread that submits it, nor rejects it.
+     */
+    @Test
+    public void poolWithoutLimitsHasUnboundedQueue() {
+        BoundedExecutor executor = AmplifyExecutors.get("amplify-executors-test");
+
+        assertEquals(Integer.MAX_VALUE, executor.getQueueCapacity());
+    }
+
+    /**
+     * A created pool takes the limits set for its name, and is reported along with the shared pools until
+     * it is shut down.
+     */
+    @Test
+    public void createdPoolHasSetLimitsAndIsReportedUntilShutDown() {
+        String name = "amplify-executors-test-created";
+        AmplifyExecutors.setLimits(name, 2, 3);
+        BoundedExecutor executor = AmplifyExecutors.create(name, 1, Integer.MAX_VALUE);
+
+        assertEquals(2, executor.getMaximumPoolSize());
+        assertEquals(3, executor.getQueueCapacity());
+        assertTrue(reportedPoolNames().contains(name));
+
+        executor.shutdown();
+        assertFalse(reportedPoolNames().contains(name));
+    }
+
+    private static List<String> reportedPoolNames() {
+        List<String> names = new ArrayList<>();
+        for (ExecutorStats stats : AmplifyExecutors.getStats()) {
+            names.add(stats.getName());
+        }
+        return names;
+    }
+}
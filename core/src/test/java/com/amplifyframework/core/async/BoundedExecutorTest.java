@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amplifyframework.core.async;
+
+import com.amplifyframework.testutils.Latch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests the {@link BoundedExecutor}.
+ */
+public final class BoundedExecutorTest {
+    private BoundedExecutor executor;
+
+    /**
+     * Creates a pool of a single thread and a single queued task, to test.
+     */
+    @Before
+    public void setup() {
+        executor = new BoundedExecutor("test", 1, 1);
+    }
+
+    /**
+     * Shuts down the pool.
+     */
+    @After
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Tasks are run on threads named after the pool, and are counted once finished.
+     */
+    @Test
+    public void tasksRunOnNamedThreadsAndAreCounted() {
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        executor.execute(() -> {
+            threadName.set(Thread.currentThread().getName());
+            finished.countDown();
+        });
+        Latch.await(finished);
+
+        assertEquals("amplify-test-1", threadName.get());
+        ExecutorStats stats = executor.getStats();
+        assertEquals("test", stats.getName());
+        assertEquals(1, stats.getMaxThreads());
+        assertEquals(1, stats.getQueueCapacity());
+        assertEquals(0, stats.getCallerRunTasks());
+    }
+
+    /**
+     * Once the thread is busy and the queue is full, a task is rejected, rather than run on the thread that
+     * submits it.
+     */
+    @Test
+    public void taskIsRejectedWhenSaturated() {
+        CountDownLatch release = new CountDownLatch(1);
+        saturate(executor, release);
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(Thread::yield));
+
+        ExecutorStats stats = executor.getStats();
+        assertEquals(1, stats.getActiveCount());
+        assertEquals(1, stats.getQueueDepth());
+        assertEquals(1, stats.getRejectedTasks());
+        assertEquals(0, stats.getCallerRunTasks());
+        release.countDown();
+    }
+
+    /**
+     * Once the thread is busy and the queue is full, a pool made to run tasks on their submitter runs a
+     * task on the thread that submits it.
+     */
+    @Test
+    public void taskIsRunByCallerWhenSaturatedIfAsked() {
+        BoundedExecutor callerRunsExecutor = new BoundedExecutor("caller-runs", 1, 1, true);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            saturate(callerRunsExecutor, release);
+
+            AtomicReference<Thread> runner = new AtomicReference<>();
+            callerRunsExecutor.execute(() -> runner.set(Thread.currentThread()));
+
+            assertEquals(Thread.currentThread(), runner.get());
+            ExecutorStats stats = callerRunsExecutor.getStats();
+            assertEquals(1, stats.getActiveCount());
+            assertEquals(1, stats.getQueueDepth());
+            assertEquals(1, stats.getCallerRunTasks());
+            assertEquals(0, stats.getRejectedTasks());
+        } finally {
+            release.countDown();
+            callerRunsExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * A pool that is shut down rejects tasks, rather than running them on the caller.
+     */
+    @Test
+    public void shutDownPoolRejectsTasks() {
+        executor.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(Thread::yield));
+    }
+
+    // Keeps the single thread of the pool busy until released, and fills its queue of a single task.
+    private static void saturate(BoundedExecutor pool, CountDownLatch release) {
+        CountDownLatch started = new CountDownLatch(1);
+        pool.execute(() -> {
+            started.countDown();
+            Latch.await(release);
+        });
+        Latch.await(started);
+        pool.execute(Thread::yield);
+    }
+}